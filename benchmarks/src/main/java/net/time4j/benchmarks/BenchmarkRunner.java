@@ -0,0 +1,62 @@
+package net.time4j.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * <p>Starts all benchmarks with allocation profiling. </p>
+ *
+ * <p>Usage after {@code mvn -P benchmarks package}: </p>
+ *
+ * <pre>
+ *  java -jar benchmarks/target/benchmarks.jar [JMH-options] [regex]
+ * </pre>
+ *
+ * <p>The standard JMH options are supported. In addition the GC profiler
+ * is always active so that the normalized allocation rate
+ * {@code gc.alloc.rate.norm} (bytes per operation) is reported for every
+ * benchmark. The results are written as JSON to {@code jmh-result.json}
+ * in the current directory and can be compared with a later baseline. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+public class BenchmarkRunner {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BenchmarkRunner() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Runs the benchmarks. </p>
+     *
+     * @param   args    JMH command line options
+     * @throws  CommandLineOptionException if the options are invalid
+     * @throws  RunnerException if any benchmark fails
+     */
+    public static void main(String[] args)
+        throws CommandLineOptionException, RunnerException {
+
+        Options options =
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json")
+                .build();
+        new Runner(options).run();
+
+    }
+
+}
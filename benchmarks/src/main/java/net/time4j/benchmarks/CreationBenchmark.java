@@ -0,0 +1,124 @@
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SystemClock;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Creation and arithmetic of the basic temporal types and the
+ * system clock. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CreationBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    // nicht final, damit der JIT-Compiler keine Konstanten faltet
+    private int year = 2015;
+    private int month = 3;
+    private int day = 31;
+    private long posixTime = 1427760000L;
+
+    private PlainDate date = PlainDate.of(2015, 3, 31);
+    private PlainTimestamp timestamp = PlainTimestamp.of(2015, 3, 31, 17, 45);
+    private Moment moment = Moment.of(1427760000L, TimeScale.POSIX);
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public PlainDate dateOf() {
+
+        return PlainDate.of(this.year, this.month, this.day);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp timestampOf() {
+
+        return PlainTimestamp.of(this.year, this.month, this.day, 17, 45);
+
+    }
+
+    @Benchmark
+    public Moment momentOfPosix() {
+
+        return Moment.of(this.posixTime, TimeScale.POSIX);
+
+    }
+
+    @Benchmark
+    public Moment momentOfUTC() {
+
+        return Moment.of(this.posixTime, TimeScale.UTC);
+
+    }
+
+    @Benchmark
+    public PlainDate datePlusDays() {
+
+        return this.date.plus(45, CalendarUnit.DAYS);
+
+    }
+
+    @Benchmark
+    public PlainDate datePlusMonths() {
+
+        return this.date.plus(11, CalendarUnit.MONTHS);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp timestampPlusMinutes() {
+
+        return this.timestamp.plus(1000, ClockUnit.MINUTES);
+
+    }
+
+    @Benchmark
+    public Moment momentPlusSeconds() {
+
+        return this.moment.plus(86400, TimeUnit.SECONDS);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp momentToUTCTimestamp() {
+
+        return this.moment.toZonalTimestamp(ZonalOffset.UTC);
+
+    }
+
+    @Benchmark
+    public Moment systemClock() {
+
+        return SystemClock.INSTANCE.currentTime();
+
+    }
+
+}
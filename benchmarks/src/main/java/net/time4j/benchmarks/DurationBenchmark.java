@@ -0,0 +1,117 @@
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.IsoUnit;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.TimeMetric;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Normalization of durations and duration metrics. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DurationBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private Duration<IsoUnit> mixed;
+    private Duration<ClockUnit> clock;
+    private PlainTimestamp start;
+    private PlainTimestamp end;
+    private TimeMetric<IsoUnit, Duration<IsoUnit>> metric;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.mixed =
+            Duration.ofPositive()
+                .years(1).months(14).days(40)
+                .hours(30).minutes(90).seconds(3700).millis(1500)
+                .build();
+        this.clock = Duration.ofClockUnits(30, 90, 3700);
+        this.start = PlainTimestamp.of(2012, 2, 29, 17, 45, 30);
+        this.end = PlainTimestamp.of(2015, 3, 31, 8, 15);
+        this.metric =
+            Duration.in(
+                Timezone.of(ZonalOffset.UTC),
+                CalendarUnit.YEARS,
+                CalendarUnit.MONTHS,
+                CalendarUnit.DAYS,
+                ClockUnit.HOURS,
+                ClockUnit.MINUTES,
+                ClockUnit.SECONDS);
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> normalizeMixed() {
+
+        return this.mixed.with(Duration.STD_PERIOD);
+
+    }
+
+    @Benchmark
+    public Duration<ClockUnit> normalizeClock() {
+
+        return this.clock.with(Duration.STD_CLOCK_PERIOD);
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> approximate() {
+
+        return this.mixed.with(Duration.approximateMinutes(15));
+
+    }
+
+    @Benchmark
+    public Duration<CalendarUnit> metricYearsMonthsDays() {
+
+        return Duration.inYearsMonthsDays().between(
+            this.start.getCalendarDate(),
+            this.end.getCalendarDate());
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> metricMixed() {
+
+        return this.metric.between(this.start, this.end);
+
+    }
+
+    @Benchmark
+    public String printISO() {
+
+        return this.mixed.toStringISO();
+
+    }
+
+}
@@ -0,0 +1,163 @@
+package net.time4j.benchmarks;
+
+import net.time4j.Iso8601Format;
+import net.time4j.Moment;
+import net.time4j.PatternType;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.ChronoFormatter;
+import net.time4j.tz.ZonalOffset;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Printing and parsing with ISO-8601-formatters and with pattern
+ * based formatters. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private ChronoFormatter<PlainTimestamp> timestampPattern;
+    private ChronoFormatter<Moment> momentPattern;
+
+    private PlainDate date;
+    private PlainTimestamp timestamp;
+    private Moment moment;
+
+    private String isoDate;
+    private String isoTimestamp;
+    private String isoMoment;
+    private String patternTimestamp;
+    private String patternMoment;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.timestampPattern =
+            PlainTimestamp.formatter(
+                "dd.MM.uuuu HH:mm:ss", PatternType.CLDR, Locale.GERMANY);
+        this.momentPattern =
+            Moment.formatter(
+                "EEE, d MMM uuuu HH:mm:ss XXX",
+                PatternType.CLDR,
+                Locale.ENGLISH,
+                ZonalOffset.UTC);
+
+        this.date = PlainDate.of(2015, 3, 31);
+        this.timestamp = this.date.atTime(17, 45, 30);
+        this.moment = this.timestamp.atUTC();
+
+        this.isoDate = Iso8601Format.EXTENDED_CALENDAR_DATE.format(this.date);
+        this.isoTimestamp =
+            Iso8601Format.EXTENDED_DATE_TIME.format(this.timestamp);
+        this.isoMoment =
+            Iso8601Format.EXTENDED_DATE_TIME_OFFSET.format(this.moment);
+        this.patternTimestamp = this.timestampPattern.format(this.timestamp);
+        this.patternMoment = this.momentPattern.format(this.moment);
+
+    }
+
+    @Benchmark
+    public String printIsoDate() {
+
+        return Iso8601Format.EXTENDED_CALENDAR_DATE.format(this.date);
+
+    }
+
+    @Benchmark
+    public String printIsoTimestamp() {
+
+        return Iso8601Format.EXTENDED_DATE_TIME.format(this.timestamp);
+
+    }
+
+    @Benchmark
+    public String printIsoMoment() {
+
+        return Iso8601Format.EXTENDED_DATE_TIME_OFFSET.format(this.moment);
+
+    }
+
+    @Benchmark
+    public String printPatternTimestamp() {
+
+        return this.timestampPattern.format(this.timestamp);
+
+    }
+
+    @Benchmark
+    public String printPatternMoment() {
+
+        return this.momentPattern.format(this.moment);
+
+    }
+
+    @Benchmark
+    public String toStringTimestamp() {
+
+        return this.timestamp.toString();
+
+    }
+
+    @Benchmark
+    public PlainDate parseIsoDate() throws ParseException {
+
+        return Iso8601Format.EXTENDED_CALENDAR_DATE.parse(this.isoDate);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseIsoTimestamp() throws ParseException {
+
+        return Iso8601Format.EXTENDED_DATE_TIME.parse(this.isoTimestamp);
+
+    }
+
+    @Benchmark
+    public Moment parseIsoMoment() throws ParseException {
+
+        return Iso8601Format.EXTENDED_DATE_TIME_OFFSET.parse(this.isoMoment);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parsePatternTimestamp() throws ParseException {
+
+        return this.timestampPattern.parse(this.patternTimestamp);
+
+    }
+
+    @Benchmark
+    public Moment parsePatternMoment() throws ParseException {
+
+        return this.momentPattern.parse(this.patternMoment);
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package net.time4j.benchmarks;
+
+import net.time4j.base.GregorianMath;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Conversions between calendar dates and day numbers. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GregorianMathBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private int year = 2015;
+    private int month = 3;
+    private int day = 31;
+    private long mjd = 57112L;
+    private long packed = GregorianMath.toPackedDate(57112L);
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public long toMJD() {
+
+        return GregorianMath.toMJD(this.year, this.month, this.day);
+
+    }
+
+    @Benchmark
+    public long toPackedDate() {
+
+        return GregorianMath.toPackedDate(this.mjd);
+
+    }
+
+    @Benchmark
+    public int readPackedDate() {
+
+        return (
+            GregorianMath.readYear(this.packed)
+            + GregorianMath.readMonth(this.packed)
+            + GregorianMath.readDayOfMonth(this.packed));
+
+    }
+
+    @Benchmark
+    public int dayOfWeek() {
+
+        return GregorianMath.getDayOfWeek(this.year, this.month, this.day);
+
+    }
+
+    @Benchmark
+    public int lengthOfMonth() {
+
+        return GregorianMath.getLengthOfMonth(this.year, this.month);
+
+    }
+
+}
@@ -0,0 +1,123 @@
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.range.ChronoInterval;
+import net.time4j.range.DateInterval;
+import net.time4j.range.IntervalCollection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Operations on interval collections of calendar dates. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntervalBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"10", "1000"})
+    private int count;
+
+    private List<ChronoInterval<PlainDate>> intervals;
+    private IntervalCollection<PlainDate> collection;
+    private IntervalCollection<PlainDate> other;
+    private DateInterval window;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.intervals = new ArrayList<ChronoInterval<PlainDate>>();
+        List<ChronoInterval<PlainDate>> shifted =
+            new ArrayList<ChronoInterval<PlainDate>>();
+        PlainDate start = PlainDate.of(2000, 1, 1);
+
+        // teilweise überlappende Intervalle mit Lücken dazwischen
+        for (int i = 0; i < this.count; i++) {
+            PlainDate a = start.plus(i * 10L, CalendarUnit.DAYS);
+            PlainDate b = a.plus(6 + (i % 7), CalendarUnit.DAYS);
+            this.intervals.add(DateInterval.between(a, b));
+            shifted.add(
+                DateInterval.between(
+                    a.plus(3, CalendarUnit.DAYS),
+                    b.plus(3, CalendarUnit.DAYS)));
+        }
+
+        this.collection =
+            IntervalCollection.onDateAxis().plus(this.intervals);
+        this.other = IntervalCollection.onDateAxis().plus(shifted);
+        this.window =
+            DateInterval.between(
+                start.plus(this.count * 2L, CalendarUnit.DAYS),
+                start.plus(this.count * 8L, CalendarUnit.DAYS));
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> build() {
+
+        return IntervalCollection.onDateAxis().plus(this.intervals);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> gaps() {
+
+        return this.collection.withGaps();
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> blocks() {
+
+        return this.collection.withBlocks();
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> intersection() {
+
+        return this.collection.withIntersection();
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> complement() {
+
+        return this.collection.withComplement(this.window);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> union() {
+
+        return this.collection.union(this.other);
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package net.time4j.benchmarks;
+
+import net.time4j.scale.LeapSeconds;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Conversions between the POSIX and the UTC time scale. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LeapSecondBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    // POSIX-Zeiten vor der ersten Schaltsekunde (1970), mitten in der
+    // Tabelle (1982) und nach allen Schaltsekunden bis 2014
+    @Param({"15000000", "400000000", "1400000000"})
+    private long unixTime;
+
+    private LeapSeconds ls;
+    private long utc;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.ls = LeapSeconds.getInstance();
+        this.utc = this.ls.enhance(this.unixTime);
+
+    }
+
+    @Benchmark
+    public long enhance() {
+
+        return this.ls.enhance(this.unixTime);
+
+    }
+
+    @Benchmark
+    public long strip() {
+
+        return this.ls.strip(this.utc);
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.BenchmarkZones;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Offset calculations for platform timezones, historized timezones
+ * and fixed offsets. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimezoneBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"platform", "historized", "fixed"})
+    private String kind;
+
+    private Timezone tz;
+    private Moment moment;
+    private PlainTimestamp timestamp;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        if (this.kind.equals("platform")) {
+            this.tz = Timezone.of("Europe/Berlin");
+        } else if (this.kind.equals("historized")) {
+            this.tz = BenchmarkZones.europeanUnion("Benchmark/Berlin");
+        } else {
+            this.tz = Timezone.of(ZonalOffset.ofTotalSeconds(3600));
+        }
+
+        // sicherstellen, daß wirklich die gewünschte Zonenart gemessen wird
+        if ((this.tz.getHistory() == null) != this.kind.equals("platform")) {
+            throw new IllegalStateException(
+                "Unexpected zone for " + this.kind + ": " + this.tz.getID()
+                + " (" + Timezone.getProviderInfo() + ")");
+        }
+
+        this.moment = Moment.of(1427760000L, TimeScale.POSIX);
+        this.timestamp = PlainTimestamp.of(2015, 3, 31, 17, 45);
+
+    }
+
+    @Benchmark
+    public ZonalOffset offsetOfMoment() {
+
+        return this.tz.getOffset(this.moment);
+
+    }
+
+    @Benchmark
+    public ZonalOffset offsetOfLocalTimestamp() {
+
+        return this.tz.getOffset(
+            this.timestamp.getCalendarDate(),
+            this.timestamp.getWallTime());
+
+    }
+
+    @Benchmark
+    public Moment localToGlobal() {
+
+        return this.timestamp.in(this.tz);
+
+    }
+
+}
@@ -0,0 +1,265 @@
+package net.time4j.tz;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.UnixTime;
+import net.time4j.base.WallTime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * <p>Creates historized timezones for benchmarks without any
+ * {@code ZoneProvider}. </p>
+ *
+ * <p>The core module itself only contains platform timezones. This class
+ * lives in the package {@code net.time4j.tz} in order to get access to
+ * the package-private constructor of {@code HistorizedTimezone}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+public final class BenchmarkZones {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BenchmarkZones() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields a historized timezone with the rules of the European Union
+     * (standard offset {@code +01:00}) for the years 1980-2037. </p>
+     *
+     * @param   id      canonical timezone id
+     * @return  historized timezone
+     */
+    public static Timezone europeanUnion(final String id) {
+
+        List<ZonalTransition> transitions = new ArrayList<ZonalTransition>();
+
+        for (int year = 1980; year <= 2037; year++) {
+            transitions.add(
+                new ZonalTransition(
+                    lastSunday(year, 3) + 3600, 3600, 7200, 3600));
+            transitions.add(
+                new ZonalTransition(
+                    lastSunday(year, 10) + 3600, 7200, 3600, 0));
+        }
+
+        TZID tzid =
+            new TZID() {
+                @Override
+                public String canonical() {
+                    return id;
+                }
+            };
+
+        return new HistorizedTimezone(
+            tzid,
+            new ArrayHistory(
+                transitions.toArray(new ZonalTransition[transitions.size()])));
+
+    }
+
+    // Mitternacht UTC des letzten Sonntags im Monat als POSIX-Zeit
+    private static long lastSunday(
+        int year,
+        int month
+    ) {
+
+        int dom = GregorianMath.getLengthOfMonth(year, month);
+        int dow = GregorianMath.getDayOfWeek(year, month, dom); // So = 7
+        dom -= (dow % 7);
+        return (GregorianMath.toMJD(year, month, dom) - 40587) * 86400;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class ArrayHistory
+        implements TransitionHistory {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int MIN_OFFSET = 3600;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ZonalTransition[] transitions;
+        private final long[] posixTimes;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        ArrayHistory(ZonalTransition[] transitions) {
+            super();
+
+            this.transitions = transitions;
+            this.posixTimes = new long[transitions.length];
+
+            for (int i = 0; i < transitions.length; i++) {
+                this.posixTimes[i] = transitions[i].getPosixTime();
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public ZonalOffset getInitialOffset() {
+
+            return ZonalOffset.ofTotalSeconds(
+                this.transitions[0].getPreviousOffset());
+
+        }
+
+        @Override
+        public ZonalTransition getStartTransition(UnixTime ut) {
+
+            int index = this.floorIndex(ut.getPosixTime());
+            return ((index < 0) ? null : this.transitions[index]);
+
+        }
+
+        @Override
+        public ZonalTransition getConflictTransition(
+            GregorianDate localDate,
+            WallTime localTime
+        ) {
+
+            long local = toLocalSeconds(localDate, localTime);
+
+            // alle Offsets sind mindestens +01:00, also kommt nur der
+            // letzte Übergang vor dem lokalen Zeitpunkt in Frage
+            int index = this.floorIndex(local - MIN_OFFSET);
+
+            if (index >= 0) {
+                ZonalTransition t = this.transitions[index];
+                long start =
+                    t.getPosixTime()
+                    + Math.min(t.getPreviousOffset(), t.getTotalOffset());
+                long end =
+                    t.getPosixTime()
+                    + Math.max(t.getPreviousOffset(), t.getTotalOffset());
+
+                if ((local >= start) && (local < end)) {
+                    return t;
+                }
+            }
+
+            return null;
+
+        }
+
+        @Override
+        public List<ZonalOffset> getValidOffsets(
+            GregorianDate localDate,
+            WallTime localTime
+        ) {
+
+            ZonalTransition conflict =
+                this.getConflictTransition(localDate, localTime);
+
+            if (conflict == null) {
+                long local = toLocalSeconds(localDate, localTime);
+                int index = this.floorIndex(local - MIN_OFFSET);
+                int offset = (
+                    (index < 0)
+                    ? this.transitions[0].getPreviousOffset()
+                    : this.transitions[index].getTotalOffset());
+
+                return Collections.singletonList(
+                    ZonalOffset.ofTotalSeconds(offset));
+            } else if (conflict.isGap()) {
+                return Collections.emptyList();
+            }
+
+            return Arrays.asList(
+                ZonalOffset.ofTotalSeconds(conflict.getTotalOffset()),
+                ZonalOffset.ofTotalSeconds(conflict.getPreviousOffset()));
+
+        }
+
+        @Override
+        public List<ZonalTransition> getStdTransitions() {
+
+            return Arrays.asList(this.transitions);
+
+        }
+
+        @Override
+        public List<ZonalTransition> getTransitions(
+            UnixTime startInclusive,
+            UnixTime endExclusive
+        ) {
+
+            List<ZonalTransition> result = new ArrayList<ZonalTransition>();
+            long start = startInclusive.getPosixTime();
+            int index = this.floorIndex(start - 1) + 1;
+
+            while (
+                (index < this.transitions.length)
+                && (this.posixTimes[index] < endExclusive.getPosixTime())
+            ) {
+                result.add(this.transitions[index]);
+                index++;
+            }
+
+            return result;
+
+        }
+
+        @Override
+        public boolean isEmpty() {
+
+            return false;
+
+        }
+
+        @Deprecated
+        @Override
+        public List<ZonalTransition> getStdTransitionsBefore(UnixTime ut) {
+
+            return Collections.emptyList();
+
+        }
+
+        @Deprecated
+        @Override
+        public List<ZonalTransition> getStdTransitionsAfter(UnixTime ut) {
+
+            return Collections.emptyList();
+
+        }
+
+        // Index des letzten Übergangs mit posixTime <= t oder -1
+        private int floorIndex(long t) {
+
+            int index = Arrays.binarySearch(this.posixTimes, t);
+            return ((index >= 0) ? index : -index - 2);
+
+        }
+
+        private static long toLocalSeconds(
+            GregorianDate date,
+            WallTime time
+        ) {
+
+            long days = GregorianMath.toMJD(date) - 40587;
+
+            return (
+                days * 86400
+                + time.getHour() * 3600
+                + time.getMinute() * 60
+                + time.getSecond());
+
+        }
+
+    }
+
+}
@@ -46,6 +46,7 @@ import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
@@ -164,6 +165,15 @@ public final class Duration<U extends IsoUnit>
     private static final long MRD = 1000000000L;
     private static final long MIO = 1000000L;
 
+    // kompakte Darstellung: ein Betrag je Standardeinheit in absteigender
+    // Länge, zuerst alle Kalendereinheiten, danach alle Uhrzeiteinheiten
+    private static final int CLOCK_SLOT = 8;
+    private static final IsoUnit[] COMPACT_UNITS = {
+        MILLENNIA, CENTURIES, DECADES, YEARS, QUARTERS, MONTHS, WEEKS, DAYS,
+        HOURS, MINUTES, SECONDS, MILLIS, MICROS, NANOS
+    };
+    private static final int NANOS_SLOT = COMPACT_UNITS.length - 1;
+
     @SuppressWarnings("rawtypes")
     private static final Duration ZERO = new Duration();
 
@@ -290,7 +300,11 @@ public final class Duration<U extends IsoUnit>
 
     //~ Instanzvariablen --------------------------------------------------
 
-    private transient final List<Item<U>> items;
+    // Standardeinheiten kompakt oder null, wenn nur die Liste gilt
+    private transient final long[] amounts;
+    // racy single-check: die Liste wird erst bei Bedarf aus den kompakten
+    // Beträgen erzeugt und ist über final-Felder sicher publiziert
+    private transient List<Item<U>> items;
     private transient final boolean negative;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -317,6 +331,39 @@ public final class Duration<U extends IsoUnit>
             this.items = Collections.unmodifiableList(items);
         }
 
+        this.amounts = null;
+        this.negative = (empty ? false : negative);
+
+    }
+
+    // kompakte Zeitspanne (Beträge nicht negativ, Array wird übernommen)
+    private Duration(
+        long[] amounts,
+        boolean negative
+    ) {
+        super();
+
+        boolean empty = true;
+
+        for (int i = 0; i < amounts.length; i++) {
+            long amount = amounts[i];
+
+            if (amount < 0) {
+                throw new IllegalArgumentException(
+                    "Temporal amount must be positive or zero: " + amount);
+            } else if (amount != 0) {
+                empty = false;
+            }
+        }
+
+        if (empty) {
+            this.amounts = null;
+            this.items = Collections.emptyList();
+        } else {
+            this.amounts = amounts;
+            this.items = null;
+        }
+
         this.negative = (empty ? false : negative);
 
     }
@@ -328,6 +375,7 @@ public final class Duration<U extends IsoUnit>
     ) {
         super();
 
+        this.amounts = duration.amounts;
         this.items = duration.items;
         this.negative = (inverse ? !duration.negative : duration.negative);
 
@@ -337,6 +385,7 @@ public final class Duration<U extends IsoUnit>
     private Duration() {
         super();
 
+        this.amounts = null;
         this.items = Collections.emptyList();
         this.negative = false;
 
@@ -437,6 +486,14 @@ public final class Duration<U extends IsoUnit>
 	        }
         }
 
+        int slot = slotOf(u);
+
+        if (slot >= 0) {
+            long[] amounts = new long[COMPACT_UNITS.length];
+            amounts[slot] = value;
+            return new Duration<U>(amounts, (amount < 0));
+        }
+
         List<Item<U>> items = new ArrayList<Item<U>>(1);
         items.add(Item.of(value, u));
         return new Duration<U>(items, (amount < 0));
@@ -764,7 +821,25 @@ public final class Duration<U extends IsoUnit>
     @Override
     public List<Item<U>> getTotalLength() {
 
-        return this.items;
+        List<Item<U>> list = this.items;
+
+        if (list == null) {
+            List<Item<U>> temp = new ArrayList<Item<U>>(this.count());
+
+            for (int i = 0; i < COMPACT_UNITS.length; i++) {
+                long amount = this.amounts[i];
+
+                if (amount != 0) {
+                    U unit = cast(COMPACT_UNITS[i]);
+                    temp.add(Item.of(amount, unit));
+                }
+            }
+
+            list = Collections.unmodifiableList(temp);
+            this.items = list;
+        }
+
+        return list;
 
     }
 
@@ -775,6 +850,13 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    @Override
+    public boolean isEmpty() {
+
+        return ((this.amounts == null) && super.isEmpty());
+
+    }
+
     /**
      * <p>Queries if this duration contains given time unit. </p>
      *
@@ -807,8 +889,20 @@ public final class Duration<U extends IsoUnit>
 
         boolean fractional = isFractionUnit(unit);
 
-        for (int i = 0, n = this.items.size(); i < n; i++) {
-            Item<U> item = this.items.get(i);
+        if (this.amounts != null) {
+            int slot = slotOf(unit);
+
+            if (slot >= 0) {
+                return (this.amounts[slot] > 0);
+            } else {
+                return (fractional && (this.amounts[NANOS_SLOT] > 0));
+            }
+        }
+
+        List<Item<U>> list = this.getTotalLength();
+
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Item<U> item = list.get(i);
             U u = item.getUnit();
 
             if (
@@ -859,8 +953,28 @@ public final class Duration<U extends IsoUnit>
 
         boolean fractional = isFractionUnit(unit);
 
-        for (int i = 0, n = this.items.size(); i < n; i++) {
-            Item<U> item = this.items.get(i);
+        if (this.amounts != null) {
+            int slot = slotOf(unit);
+
+            if (slot >= 0) {
+                return this.amounts[slot];
+            } else if (fractional) {
+                long factor = 1;
+
+                for (int j = unit.getSymbol() - '0'; j < 9; j++) {
+                    factor *= 10;
+                }
+
+                return this.amounts[NANOS_SLOT] / factor;
+            }
+
+            return 0;
+        }
+
+        List<Item<U>> list = this.getTotalLength();
+
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Item<U> item = list.get(i);
             U u = item.getUnit();
 
             if (u.equals(unit)) {
@@ -1009,7 +1123,6 @@ public final class Duration<U extends IsoUnit>
         }
 
         // Millis und Micros ersetzen
-        List<Item<U>> temp = new ArrayList<Item<U>>(this.getTotalLength());
         Item<U> item = replaceFraction(amount, unit);
 
         if (item != null) {
@@ -1017,6 +1130,56 @@ public final class Duration<U extends IsoUnit>
             unit = item.getUnit();
         }
 
+        int slot = slotOf(unit);
+
+        if (
+            (slot >= 0)
+            && ((this.amounts != null) || this.getTotalLength().isEmpty())
+        ) {
+            long[] sums = (
+                (this.amounts == null)
+                ? new long[COMPACT_UNITS.length]
+                : this.amounts.clone());
+
+            if (sums[slot] == 0) { // Einheit nicht vorhanden
+                if (
+                    (this.amounts == null)
+                    || (this.isNegative() == negatedValue)
+                ) {
+                    sums[slot] = amount;
+                    return new Duration<U>(sums, negatedValue);
+                }
+            } else {
+                long sum =
+                    MathUtils.safeAdd(
+                        MathUtils.safeMultiply(
+                            sums[slot],
+                            (this.isNegative() ? -1 : 1)
+                        ),
+                        MathUtils.safeMultiply(
+                            amount,
+                            (negatedValue ? -1 : 1)
+                        )
+                    );
+
+                if (sum == 0) {
+                    sums[slot] = 0;
+                    return new Duration<U>(sums, this.isNegative());
+                } else if (
+                    (this.count() == 1)
+                    || (this.isNegative() == (sum < 0))
+                ) {
+                    sums[slot] = ((sum < 0) ? MathUtils.safeNegate(sum) : sum);
+                    return new Duration<U>(sums, (sum < 0));
+                }
+            }
+
+            // mixed signs possible => last try
+            return this.plus(Duration.of(originalAmount, originalUnit));
+        }
+
+        List<Item<U>> temp = new ArrayList<Item<U>>(this.getTotalLength());
+
         if (this.isEmpty()) {
             temp.add((item == null) ? Item.of(amount, unit) : item);
             return new Duration<U>(temp, negatedValue);
@@ -1390,8 +1553,23 @@ public final class Duration<U extends IsoUnit>
             return new Duration<U>(this, true);
         }
 
-        List<Item<U>> newItems = new ArrayList<Item<U>>(this.count());
         int scalar = Math.abs(factor);
+        boolean negative = (
+            (factor < 0)
+            ? !this.isNegative()
+            : this.isNegative());
+
+        if (this.amounts != null) {
+            long[] products = new long[COMPACT_UNITS.length];
+
+            for (int i = 0; i < products.length; i++) {
+                products[i] = MathUtils.safeMultiply(this.amounts[i], scalar);
+            }
+
+            return new Duration<U>(products, negative);
+        }
+
+        List<Item<U>> newItems = new ArrayList<Item<U>>(this.count());
 
         for (int i = 0, n = this.count(); i < n; i++) {
             Item<U> item = this.getTotalLength().get(i);
@@ -1403,10 +1581,7 @@ public final class Duration<U extends IsoUnit>
             );
         }
 
-        return new Duration<U>(
-            newItems,
-            ((factor < 0) ? !this.isNegative() : this.isNegative())
-        );
+        return new Duration<U>(newItems, negative);
 
     }
 
@@ -1655,10 +1830,14 @@ public final class Duration<U extends IsoUnit>
             return true;
         } else if (obj instanceof Duration) {
             Duration<?> that = Duration.class.cast(obj);
-            return (
-                (this.negative == that.negative)
-                && this.getTotalLength().equals(that.getTotalLength())
-            );
+
+            if (this.negative != that.negative) {
+                return false;
+            } else if ((this.amounts != null) && (that.amounts != null)) {
+                return Arrays.equals(this.amounts, that.amounts);
+            }
+
+            return this.getTotalLength().equals(that.getTotalLength());
         } else {
             return false;
         }
@@ -2196,10 +2375,91 @@ public final class Duration<U extends IsoUnit>
 
     private int count() {
 
+        if (this.amounts != null) {
+            int n = 0;
+
+            for (int i = 0; i < this.amounts.length; i++) {
+                if (this.amounts[i] != 0) {
+                    n++;
+                }
+            }
+
+            return n;
+        }
+
         return this.getTotalLength().size();
 
     }
 
+    // Index der Einheit in der kompakten Darstellung oder -1
+    private static int slotOf(Object unit) {
+
+        if (unit instanceof CalendarUnit) {
+            return CalendarUnit.class.cast(unit).ordinal();
+        } else if (
+            (unit instanceof ClockUnit)
+            && (unit != MILLIS)
+            && (unit != MICROS)
+        ) {
+            return CLOCK_SLOT + ClockUnit.class.cast(unit).ordinal();
+        }
+
+        return -1;
+
+    }
+
+    /**
+     * <p>Liefert die kompakten Betr&auml;ge einer Standardzeitspanne. </p>
+     *
+     * <p>Das Array ist nach absteigender L&auml;nge der Einheiten sortiert
+     * (siehe {@link #getCompactUnit(int)}) und darf nicht ver&auml;ndert
+     * werden. </p>
+     *
+     * @param   timespan    any time span
+     * @return  non-negative amounts or {@code null} if not compact
+     */
+    static long[] getCompactAmounts(TimeSpan<?> timespan) {
+
+        if (timespan instanceof Duration) {
+            return Duration.class.cast(timespan).amounts;
+        }
+
+        return null;
+
+    }
+
+    /**
+     * <p>Liefert die Einheit zum angegebenen Index der kompakten
+     * Darstellung. </p>
+     *
+     * @param   slot        index in compact amounts
+     * @return  standard unit
+     */
+    static IsoUnit getCompactUnit(int slot) {
+
+        return COMPACT_UNITS[slot];
+
+    }
+
+    /**
+     * <p>Erzeugt eine kompakte Zeitspanne ohne Millisekunden und
+     * Mikrosekunden. </p>
+     *
+     * @param   amounts     non-negative amounts in order of compact units
+     *                      (will be adopted without copy)
+     * @param   negative    negative duration indicated?
+     * @return  new duration
+     * @throws  IllegalArgumentException if any amount is negative
+     */
+    static Duration<IsoUnit> ofCompact(
+        long[] amounts,
+        boolean negative
+    ) {
+
+        return new Duration<IsoUnit>(amounts, negative);
+
+    }
+
     // wildcard capture
     private static <U> boolean isEmpty(TimeSpan<U> timespan) {
 
@@ -2222,21 +2482,11 @@ public final class Duration<U extends IsoUnit>
         boolean negative
     ) {
 
-        List<Item<CalendarUnit>> items = new ArrayList<Item<CalendarUnit>>(3);
-
-        if (years != 0) {
-            items.add(Item.of(years, YEARS));
-        }
-
-        if (months != 0) {
-            items.add(Item.of(months, MONTHS));
-        }
-
-        if (days != 0) {
-            items.add(Item.of(days, DAYS));
-        }
-
-        return new Duration<CalendarUnit>(items, negative);
+        long[] amounts = new long[COMPACT_UNITS.length];
+        amounts[slotOf(YEARS)] = years;
+        amounts[slotOf(MONTHS)] = months;
+        amounts[slotOf(DAYS)] = days;
+        return new Duration<CalendarUnit>(amounts, negative);
 
     }
 
@@ -2248,25 +2498,12 @@ public final class Duration<U extends IsoUnit>
         boolean negative
     ) {
 
-        List<Item<ClockUnit>> items = new ArrayList<Item<ClockUnit>>(4);
-
-        if (hours != 0) {
-            items.add(Item.of(hours, HOURS));
-        }
-
-        if (minutes != 0) {
-            items.add(Item.of(minutes, MINUTES));
-        }
-
-        if (seconds != 0) {
-            items.add(Item.of(seconds, SECONDS));
-        }
-
-        if (nanos != 0) {
-            items.add(Item.of(nanos, NANOS));
-        }
-
-        return new Duration<ClockUnit>(items, negative);
+        long[] amounts = new long[COMPACT_UNITS.length];
+        amounts[slotOf(HOURS)] = hours;
+        amounts[slotOf(MINUTES)] = minutes;
+        amounts[slotOf(SECONDS)] = seconds;
+        amounts[NANOS_SLOT] = nanos;
+        return new Duration<ClockUnit>(amounts, negative);
 
     }
 
@@ -2279,7 +2516,8 @@ public final class Duration<U extends IsoUnit>
             return ofZero();
         }
 
-        List<Item<U>> temp = new ArrayList<Item<U>>(map.size());
+        long[] amounts = new long[COMPACT_UNITS.length];
+        List<Item<U>> temp = null;
         long nanos = 0;
 
         for (Map.Entry<U, Long> entry : map.entrySet()) {
@@ -2300,16 +2538,27 @@ public final class Duration<U extends IsoUnit>
                         MathUtils.safeMultiply(amount, 1000));
             } else if (key == NANOS) {
                 nanos = MathUtils.safeAdd(nanos, amount);
+            } else if (slotOf(key) >= 0) {
+                amounts[slotOf(key)] = amount;
             } else {
+                if (temp == null) {
+                    temp = new ArrayList<Item<U>>(map.size());
+                }
                 temp.add(Item.of(amount, key));
             }
         }
 
-        if (nanos != 0) {
-            U key = cast(NANOS);
-            temp.add(Item.of(nanos, key));
-        } else if (temp.isEmpty()) {
-            return ofZero();
+        amounts[NANOS_SLOT] = nanos;
+
+        if (temp == null) {
+            return new Duration<U>(amounts, negative);
+        }
+
+        for (int i = 0; i < COMPACT_UNITS.length; i++) {
+            if (amounts[i] != 0) {
+                U unit = cast(COMPACT_UNITS[i]);
+                temp.add(Item.of(amounts[i], unit));
+            }
         }
 
         return new Duration<U>(temp, negative);
@@ -2403,6 +2652,12 @@ public final class Duration<U extends IsoUnit>
             }
         }
 
+        long[] other = getCompactAmounts(timespan);
+
+        if ((duration.amounts != null) && (other != null)) {
+            return mergeCompact(duration, other, timespan.isNegative());
+        }
+
         Map<U, Long> map = new HashMap<U, Long>();
 
         for (int i = 0, n = duration.count(); i < n; i++) {
@@ -2486,6 +2741,49 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    // wie merge(), aber ohne Map und Item-Listen
+    private static <U extends IsoUnit> Duration<U> mergeCompact(
+        Duration<U> duration,
+        long[] other,
+        boolean tsign
+    ) {
+
+        long[] sums = new long[COMPACT_UNITS.length];
+        boolean mixed = (duration.isNegative() != tsign);
+        boolean negative = tsign;
+        boolean firstScan = true;
+
+        for (int i = 0; i < sums.length; i++) {
+            long a = duration.amounts[i];
+            long b = other[i];
+
+            if ((a == 0) && (b == 0)) {
+                continue; // Einheit nicht vorhanden
+            }
+
+            long sum =
+                MathUtils.safeAdd(
+                    MathUtils.safeMultiply(a, (duration.isNegative() ? -1 : 1)),
+                    MathUtils.safeMultiply(b, (tsign ? -1 : 1))
+                );
+
+            if (mixed) {
+                boolean nsign = (sum < 0);
+                if (firstScan) {
+                    negative = nsign;
+                    firstScan = false;
+                } else if (negative != nsign) {
+                    return null; // mixed signs
+                }
+            }
+
+            sums[i] = ((sum < 0) ? MathUtils.safeNegate(sum) : sum);
+        }
+
+        return new Duration<U>(sums, negative);
+
+    }
+
     private static <U extends IsoUnit> boolean summarize(
         TimeSpan<? extends U> timespan,
         long[] sums
@@ -3408,10 +3706,14 @@ public final class Duration<U extends IsoUnit>
                 throw new IllegalStateException("Not set any amount and unit.");
             }
 
-            return new Duration<IsoUnit>(
-                this.items,
-                this.negative
-            );
+            long[] amounts = new long[COMPACT_UNITS.length];
+
+            for (int i = 0, n = this.items.size(); i < n; i++) {
+                Item<IsoUnit> item = this.items.get(i);
+                amounts[slotOf(item.getUnit())] = item.getAmount();
+            }
+
+            return new Duration<IsoUnit>(amounts, this.negative);
 
         }
 
@@ -4917,17 +5219,30 @@ public final class Duration<U extends IsoUnit>
         public Duration<IsoUnit>
         normalize(TimeSpan<? extends IsoUnit> timespan) {
 
-            int count = timespan.getTotalLength().size();
-            List<Item<IsoUnit>> items =
-                new ArrayList<Item<IsoUnit>>(count);
+            long[] compact = getCompactAmounts(timespan);
+            int count = (
+                (compact == null)
+                ? timespan.getTotalLength().size()
+                : compact.length);
+            List<Item<IsoUnit>> items = null;
             long years = 0, months = 0, weeks = 0, days = 0;
             long hours = 0, minutes = 0, seconds = 0, nanos = 0;
 
             for (int i = 0; i < count; i++) {
-                Item<? extends IsoUnit> item =
-                    timespan.getTotalLength().get(i);
-                long amount = item.getAmount();
-                IsoUnit unit = item.getUnit();
+                long amount;
+                IsoUnit unit;
+
+                if (compact == null) {
+                    Item<? extends IsoUnit> item =
+                        timespan.getTotalLength().get(i);
+                    amount = item.getAmount();
+                    unit = item.getUnit();
+                } else if (compact[i] == 0) {
+                    continue;
+                } else {
+                    amount = compact[i];
+                    unit = COMPACT_UNITS[i];
+                }
 
                 if (unit instanceof CalendarUnit) {
                     switch ((CalendarUnit.class.cast(unit))) {
@@ -5008,6 +5323,9 @@ public final class Duration<U extends IsoUnit>
                                 unit.toString());
                     }
                 } else {
+                    if (items == null) {
+                        items = new ArrayList<Item<IsoUnit>>(count);
+                    }
                     items.add(Item.of(amount, unit));
                 }
             }
@@ -5025,52 +5343,34 @@ public final class Duration<U extends IsoUnit>
                 days = MathUtils.safeAdd(days, hours / 24);
             }
 
-            IsoUnit unit;
+            long[] amounts = new long[COMPACT_UNITS.length];
 
             if ((years | months | days) != 0) {
-                long y = MathUtils.safeAdd(years, months / 12);
-                long m = months % 12;
-                long d =
+                amounts[slotOf(YEARS)] =
+                    MathUtils.safeAdd(years, months / 12);
+                amounts[slotOf(MONTHS)] = months % 12;
+                amounts[slotOf(DAYS)] =
                     MathUtils.safeAdd(
                         MathUtils.safeMultiply(weeks, 7),
                         days
                     );
-
-                if (y != 0) {
-                    unit = YEARS;
-                    items.add(Item.of(y, unit));
-                }
-                if (m != 0) {
-                    unit = MONTHS;
-                    items.add(Item.of(m, unit));
-                }
-                if (d != 0) {
-                    unit = DAYS;
-                    items.add(Item.of(d, unit));
-                }
-            } else if (weeks != 0) {
-                unit = WEEKS;
-                items.add(Item.of(weeks, unit));
-            }
-
-            if (h != 0) {
-                unit = HOURS;
-                items.add(Item.of(h, unit));
+            } else {
+                amounts[slotOf(WEEKS)] = weeks;
             }
 
-            if (n != 0) {
-                unit = MINUTES;
-                items.add(Item.of(n, unit));
-            }
+            amounts[slotOf(HOURS)] = h;
+            amounts[slotOf(MINUTES)] = n;
+            amounts[slotOf(SECONDS)] = s;
+            amounts[NANOS_SLOT] = f;
 
-            if (s != 0) {
-                unit = SECONDS;
-                items.add(Item.of(s, unit));
+            if (items == null) {
+                return new Duration<IsoUnit>(amounts, timespan.isNegative());
             }
 
-            if (f != 0) {
-                unit = NANOS;
-                items.add(Item.of(f, unit));
+            for (int i = 0; i < amounts.length; i++) {
+                if (amounts[i] != 0) {
+                    items.add(Item.of(amounts[i], COMPACT_UNITS[i]));
+                }
             }
 
             return new Duration<IsoUnit>(
@@ -5091,14 +5391,28 @@ public final class Duration<U extends IsoUnit>
         public Duration<CalendarUnit>
         normalize(TimeSpan<? extends CalendarUnit> timespan) {
 
-            int count = timespan.getTotalLength().size();
+            long[] compact = getCompactAmounts(timespan);
+            int count = (
+                (compact == null)
+                ? timespan.getTotalLength().size()
+                : CLOCK_SLOT);
             long years = 0, months = 0, weeks = 0, days = 0;
 
             for (int i = 0; i < count; i++) {
-                Item<? extends CalendarUnit> item =
-                    timespan.getTotalLength().get(i);
-                long amount = item.getAmount();
-                CalendarUnit unit = item.getUnit();
+                long amount;
+                CalendarUnit unit;
+
+                if (compact == null) {
+                    Item<? extends CalendarUnit> item =
+                        timespan.getTotalLength().get(i);
+                    amount = item.getAmount();
+                    unit = item.getUnit();
+                } else if (compact[i] == 0) {
+                    continue;
+                } else {
+                    amount = compact[i];
+                    unit = CalendarUnit.class.cast(COMPACT_UNITS[i]);
+                }
 
                 switch (unit) {
                     case MILLENNIA:
@@ -5180,14 +5494,28 @@ public final class Duration<U extends IsoUnit>
         public Duration<ClockUnit>
         normalize(TimeSpan<? extends ClockUnit> timespan) {
 
-            int count = timespan.getTotalLength().size();
+            long[] compact = getCompactAmounts(timespan);
+            int count = (
+                (compact == null)
+                ? timespan.getTotalLength().size()
+                : COMPACT_UNITS.length);
             long hours = 0, minutes = 0, seconds = 0, nanos = 0;
 
-            for (int i = 0; i < count; i++) {
-                Item<? extends ClockUnit> item =
-                    timespan.getTotalLength().get(i);
-                long amount = item.getAmount();
-                ClockUnit unit = item.getUnit();
+            for (int i = ((compact == null) ? 0 : CLOCK_SLOT); i < count; i++) {
+                long amount;
+                ClockUnit unit;
+
+                if (compact == null) {
+                    Item<? extends ClockUnit> item =
+                        timespan.getTotalLength().get(i);
+                    amount = item.getAmount();
+                    unit = item.getUnit();
+                } else if (compact[i] == 0) {
+                    continue;
+                } else {
+                    amount = compact[i];
+                    unit = ClockUnit.class.cast(COMPACT_UNITS[i]);
+                }
 
                 switch (unit) {
                     case HOURS:
@@ -5248,15 +5576,85 @@ public final class Duration<U extends IsoUnit>
     private static class Metric<U extends IsoUnit>
         extends AbstractMetric<U, Duration<U>> {
 
+        //~ Instanzvariablen ----------------------------------------------
+
+        // aufsteigende Indizes der kompakten Darstellung oder null
+        private final int[] slots;
+
         //~ Konstruktoren -------------------------------------------------
 
         private Metric(U... units) {
             super((units.length > 1), units);
 
+            int[] indices = new int[units.length];
+
+            for (int i = 0; i < units.length; i++) {
+                indices[i] = slotOf(units[i]);
+                if (indices[i] < 0) {
+                    indices = null;
+                    break;
+                }
+            }
+
+            if (indices != null) {
+                Arrays.sort(indices);
+            }
+
+            this.slots = indices;
+
         }
 
         //~ Methoden ------------------------------------------------------
 
+        @Override
+        public <T extends TimePoint<? super U, T>> Duration<U> between(
+            T start,
+            T end
+        ) {
+
+            if (
+                (this.slots != null)
+                && ((start instanceof PlainTimestamp)
+                    || ((start instanceof PlainDate)
+                        && (this.slots[this.slots.length - 1] < CLOCK_SLOT)))
+            ) {
+                int cmp = start.compareTo(end);
+
+                if (cmp == 0) {
+                    return ofZero();
+                }
+
+                T t1 = ((cmp > 0) ? end : start);
+                T t2 = ((cmp > 0) ? start : end);
+                long[] amounts = new long[COMPACT_UNITS.length];
+
+                if (t1 instanceof PlainTimestamp) {
+                    PlainTimestamp ts1 = PlainTimestamp.class.cast(t1);
+                    PlainTimestamp ts2 = PlainTimestamp.class.cast(t2);
+                    IsoArithmetic.between(
+                        this.slots,
+                        ts1.getCalendarDate(),
+                        IsoArithmetic.toNanoOfDay(ts1.getWallTime()),
+                        ts2.getCalendarDate(),
+                        IsoArithmetic.toNanoOfDay(ts2.getWallTime()),
+                        amounts);
+                } else {
+                    IsoArithmetic.between(
+                        this.slots,
+                        PlainDate.class.cast(t1),
+                        -1,
+                        PlainDate.class.cast(t2),
+                        -1,
+                        amounts);
+                }
+
+                return new Duration<U>(amounts, (cmp > 0));
+            }
+
+            return super.between(start, end);
+
+        }
+
         @Override
         protected Duration<U> createEmptyTimeSpan() {
 
@@ -0,0 +1,605 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IsoArithmetic.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.TimeSpan;
+
+import java.util.List;
+
+
+/**
+ * <p>Schnelle Addition einer kompletten ISO-Dauer zu einem Datum oder
+ * Zeitstempel in einem Schritt. </p>
+ *
+ * <p>Das Ergebnis ist dasselbe wie beim
+ * <a href="engine/AbstractDuration.html#algorithm">Standardalgorithmus</a>,
+ * der alle Dauerelemente einzeln mit Zwischenobjekten addiert: Bei einer
+ * positiven Dauer werden zuerst die Monate und dann die Tage und
+ * Uhrzeiteinheiten addiert, bei einer negativen Dauer in umgekehrter
+ * Reihenfolge. Die monatsbasierten Einheiten werden wie im
+ * Standardalgorithmus zu Monaten zusammengefasst, alle anderen Einheiten
+ * sind linear und werden als Epochentage und Nanosekunden des Tages
+ * gerechnet. Nur das Endergebnis wird als Objekt erzeugt. </p>
+ *
+ * <p>Nur Instanzen von {@code Duration} mit den Standardeinheiten
+ * {@code CalendarUnit} und {@code ClockUnit} werden unterst&uuml;tzt,
+ * sonst liefern die Methoden {@code null} als Zeichen daf&uuml;r, dass
+ * der Standardalgorithmus benutzt werden muss. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+final class IsoArithmetic {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // garantiert, dass der Standardalgorithmus alle Monatseinheiten bündelt
+    private static final long MAX_MONTHLY_AMOUNT = Integer.MAX_VALUE / 12000;
+
+    private static final long NANOS_PER_DAY = 86400L * 1000000000L;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IsoArithmetic() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Addiert oder subtrahiert die angegebene Zeitspanne. </p>
+     *
+     * @param   date        calendar date
+     * @param   timeSpan    time span to be added
+     * @param   inverse     subtraction instead of addition?
+     * @return  result or {@code null} if not applicable
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    static PlainDate add(
+        PlainDate date,
+        TimeSpan<? extends IsoDateUnit> timeSpan,
+        boolean inverse
+    ) {
+
+        long[] amounts = collect(timeSpan, false);
+
+        if (amounts == null) {
+            return null;
+        }
+
+        if ((amounts[0] == 0) && (amounts[1] == 0)) {
+            return date;
+        }
+
+        boolean negative = (timeSpan.isNegative() != inverse);
+
+        try {
+            return toDate(
+                addTo(
+                    toPacked(date),
+                    amounts[0],
+                    amounts[1],
+                    negative));
+        } catch (IllegalArgumentException iae) {
+            throw overflow(iae);
+        }
+
+    }
+
+    /**
+     * <p>Addiert oder subtrahiert die angegebene Zeitspanne. </p>
+     *
+     * @param   timestamp   local timestamp
+     * @param   timeSpan    time span to be added
+     * @param   inverse     subtraction instead of addition?
+     * @return  result or {@code null} if not applicable
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    static PlainTimestamp add(
+        PlainTimestamp timestamp,
+        TimeSpan<? extends IsoUnit> timeSpan,
+        boolean inverse
+    ) {
+
+        long[] amounts = collect(timeSpan, true);
+
+        if (amounts == null) {
+            return null;
+        }
+
+        boolean negative = (timeSpan.isNegative() != inverse);
+        PlainTime time = timestamp.getWallTime();
+
+        long nanoOfDay = toNanoOfDay(time);
+        long days = amounts[1];
+
+        if (negative) {
+            nanoOfDay -= amounts[3];
+        } else {
+            nanoOfDay += amounts[3];
+        }
+
+        long overflow = nanoOfDay / NANOS_PER_DAY;
+        nanoOfDay %= NANOS_PER_DAY;
+
+        if (nanoOfDay < 0) {
+            overflow--;
+            nanoOfDay += NANOS_PER_DAY;
+        }
+
+        days = MathUtils.safeAdd(days, amounts[2]);
+        days = (
+            negative
+            ? MathUtils.safeSubtract(days, overflow)
+            : MathUtils.safeAdd(days, overflow));
+
+        if ((amounts[0] == 0) && (days == 0) && (amounts[3] == 0)) {
+            return timestamp;
+        }
+
+        try {
+            long packed =
+                addTo(
+                    toPacked(timestamp.getCalendarDate()),
+                    amounts[0],
+                    days,
+                    negative);
+            int nano = (int) (nanoOfDay % 1000000000L);
+            int secs = (int) (nanoOfDay / 1000000000L);
+
+            return PlainTimestamp.of(
+                toDate(packed),
+                PlainTime.of(secs / 3600, (secs / 60) % 60, secs % 60, nano));
+        } catch (IllegalArgumentException iae) {
+            throw overflow(iae);
+        }
+
+    }
+
+    /**
+     * <p>Berechnet die Betr&auml;ge einer Standardmetrik zwischen zwei
+     * Zeitpunkten nach dem gleichen Algorithmus wie
+     * {@code AbstractMetric.between()}, aber direkt auf den primitiven
+     * Feldern und ohne Zwischenobjekte. </p>
+     *
+     * <p>Zuerst werden konvertierbare Einheiten zusammengefasst und der
+     * Startzeitpunkt schrittweise um die jeweiligen Differenzen verschoben,
+     * danach werden &Uuml;bertr&auml;ge in die n&auml;chstgr&ouml;&szlig;ere
+     * Einheit normalisiert. </p>
+     *
+     * @param   slots       ascending indices of standard units without
+     *                      millis and micros (see
+     *                      {@link Duration#getCompactUnit(int)})
+     * @param   startDate   calendar date of start
+     * @param   startNanos  nano of day of start or {@code -1} if there is
+     *                      no wall time
+     * @param   endDate     calendar date of end (not before start)
+     * @param   endNanos    nano of day of end or {@code -1} if there is
+     *                      no wall time
+     * @param   amounts     compact amounts to be filled
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    static void between(
+        int[] slots,
+        PlainDate startDate,
+        long startNanos,
+        PlainDate endDate,
+        long endNanos,
+        long[] amounts
+    ) {
+
+        boolean withTime = (startNanos >= 0);
+        long packed = toPacked(startDate);
+        long mjd = GregorianMath.toMJD(startDate);
+        long nanos = startNanos;
+        long endPacked = toPacked(endDate);
+        long endMJD = GregorianMath.toMJD(endDate);
+        int index = 0;
+
+        while (index < slots.length) {
+            IsoUnit unit = Duration.getCompactUnit(slots[index]);
+            int slot = slots[index];
+
+            // konvertierbare Einheiten zusammenfassen
+            int k = index + 1;
+            long factor = 1;
+
+            while (k < slots.length) {
+                IsoUnit next = Duration.getCompactUnit(slots[k]);
+                factor *= Math.round(unit.getLength() / next.getLength());
+
+                if ((factor < 1000000) && isConvertible(unit, next)) {
+                    unit = next;
+                    slot = slots[k];
+                } else {
+                    break;
+                }
+
+                k++;
+            }
+
+            index = k;
+
+            // Differenz in einer Einheit berechnen und Start verschieben
+            long amount;
+
+            if (unit instanceof ClockUnit) {
+                long length = nanosOf((ClockUnit) unit);
+                long days = endMJD - mjd;
+
+                if (length >= 1000000000L) {
+                    long secs =
+                        days * 86400
+                        + (endNanos / 1000000000L - nanos / 1000000000L);
+                    if (nanos % 1000000000L > endNanos % 1000000000L) {
+                        secs--;
+                    }
+                    amount = secs / (length / 1000000000L);
+                    nanos +=
+                        ((amount * (length / 1000000000L)) % 86400)
+                        * 1000000000L;
+                    days = amount * (length / 1000000000L) / 86400;
+                } else {
+                    amount =
+                        MathUtils.safeAdd(
+                            MathUtils.safeMultiply(days, NANOS_PER_DAY),
+                            endNanos - nanos);
+                    nanos += amount % NANOS_PER_DAY;
+                    days = amount / NANOS_PER_DAY;
+                }
+
+                if (nanos >= NANOS_PER_DAY) {
+                    nanos -= NANOS_PER_DAY;
+                    days++;
+                }
+
+                if (days != 0) {
+                    mjd += days;
+                    packed = GregorianMath.toPackedDate(mjd);
+                }
+            } else {
+                CalendarUnit cu = (CalendarUnit) unit;
+
+                if (cu.compareTo(CalendarUnit.WEEKS) < 0) {
+                    long length = monthsOf(cu);
+                    amount = monthDelta(packed, endPacked) / length;
+                    long next = packed;
+
+                    if (amount != 0) {
+                        next =
+                            GregorianMath.addMonths(packed, amount * length);
+                        if (
+                            withTime
+                            && (next == endPacked)
+                            && (nanos > endNanos)
+                        ) {
+                            amount--;
+                            next =
+                            GregorianMath.addMonths(packed, amount * length);
+                        }
+                    }
+
+                    if (next != packed) {
+                        packed = next;
+                        mjd =
+                            GregorianMath.toMJD(
+                                GregorianMath.readYear(packed),
+                                GregorianMath.readMonth(packed),
+                                GregorianMath.readDayOfMonth(packed));
+                    }
+                } else {
+                    long length = ((cu == CalendarUnit.WEEKS) ? 7 : 1);
+                    amount = (endMJD - mjd) / length;
+
+                    if (
+                        (amount != 0)
+                        && withTime
+                        && (mjd + amount * length == endMJD)
+                        && (nanos > endNanos)
+                    ) {
+                        amount--;
+                    }
+
+                    if (amount != 0) {
+                        mjd += amount * length;
+                        packed = GregorianMath.toPackedDate(mjd);
+                    }
+                }
+            }
+
+            amounts[slot] = amount;
+        }
+
+        // Überträge normalisieren
+        for (int i = slots.length - 1; i > 0; i--) {
+            IsoUnit current = Duration.getCompactUnit(slots[i]);
+            IsoUnit next = Duration.getCompactUnit(slots[i - 1]);
+            long factor = Math.round(next.getLength() / current.getLength());
+
+            if ((factor < 1000000) && isConvertible(next, current)) {
+                long overflow = amounts[slots[i]] / factor;
+
+                if (overflow > 0) {
+                    amounts[slots[i]] %= factor;
+                    amounts[slots[i - 1]] =
+                        MathUtils.safeAdd(amounts[slots[i - 1]], overflow);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * <p>Liefert die Nanosekunde des Tages. </p>
+     *
+     * @param   time    wall time
+     * @return  nano of day
+     */
+    static long toNanoOfDay(PlainTime time) {
+
+        return (
+            time.getHour() * 3600L * 1000000000L
+            + time.getMinute() * 60L * 1000000000L
+            + time.getSecond() * 1000000000L
+            + time.getNanosecond());
+
+    }
+
+    // wie TimeAxis.isConvertible() für PlainDate und PlainTimestamp
+    private static boolean isConvertible(
+        IsoUnit unit1,
+        IsoUnit unit2
+    ) {
+
+        if ((unit1 instanceof ClockUnit) || (unit2 instanceof ClockUnit)) {
+            return (
+                (unit1 instanceof ClockUnit)
+                && (unit2 instanceof ClockUnit));
+        }
+
+        CalendarUnit cu1 = (CalendarUnit) unit1;
+        CalendarUnit cu2 = (CalendarUnit) unit2;
+        return (
+            (cu1.compareTo(CalendarUnit.WEEKS) < 0)
+            == (cu2.compareTo(CalendarUnit.WEEKS) < 0));
+
+    }
+
+    // Monatsdifferenz unter Berücksichtigung des Tags im Monat (end >= start)
+    private static long monthDelta(
+        long packedStart,
+        long packedEnd
+    ) {
+
+        long delta =
+            (GregorianMath.readYear(packedEnd) * 12L
+                + GregorianMath.readMonth(packedEnd))
+            - (GregorianMath.readYear(packedStart) * 12L
+                + GregorianMath.readMonth(packedStart));
+
+        if (
+            (delta > 0)
+            && (GregorianMath.readDayOfMonth(packedEnd)
+                < GregorianMath.readDayOfMonth(packedStart))
+        ) {
+            delta--;
+        }
+
+        return delta;
+
+    }
+
+    // [0] = Monate, [1] = Tage, [2] = Tagesüberträge und [3] = Nanosekunden
+    // der Uhrzeiteinheiten (alle Beträge ohne Vorzeichen)
+    private static long[] collect(
+        TimeSpan<?> timeSpan,
+        boolean withClock
+    ) {
+
+        if (!(timeSpan instanceof Duration)) {
+            return null;
+        }
+
+        // kompakte Standardzeitspannen ohne Item-Liste auswerten
+        long[] compact = Duration.getCompactAmounts(timeSpan);
+        List<? extends TimeSpan.Item<?>> items = (
+            (compact == null)
+            ? timeSpan.getTotalLength()
+            : null);
+        long months = 0;
+        long days = 0;
+        long carry = 0;
+        long nanos = 0;
+
+        for (
+            int i = 0, n = ((compact == null) ? items.size() : compact.length);
+            i < n;
+            i++
+        ) {
+            Object unit;
+            long amount;
+
+            if (compact == null) {
+                TimeSpan.Item<?> item = items.get(i);
+                unit = item.getUnit();
+                amount = item.getAmount();
+            } else if (compact[i] == 0) {
+                continue;
+            } else {
+                unit = Duration.getCompactUnit(i);
+                amount = compact[i];
+            }
+
+            if (unit instanceof CalendarUnit) {
+                CalendarUnit cu = (CalendarUnit) unit;
+
+                if (cu.compareTo(CalendarUnit.WEEKS) < 0) {
+                    if (amount >= MAX_MONTHLY_AMOUNT) {
+                        return null; // Standardalgorithmus bündelt nicht immer
+                    }
+                    months += amount * monthsOf(cu);
+                } else if (cu == CalendarUnit.WEEKS) {
+                    days =
+                        MathUtils.safeAdd(
+                            days,
+                            MathUtils.safeMultiply(amount, 7));
+                } else if (cu == CalendarUnit.DAYS) {
+                    days = MathUtils.safeAdd(days, amount);
+                } else {
+                    return null;
+                }
+            } else if (withClock && (unit instanceof ClockUnit)) {
+                long length = nanosOf((ClockUnit) unit);
+                long perDay = NANOS_PER_DAY / length;
+                carry = MathUtils.safeAdd(carry, amount / perDay);
+                nanos += (amount % perDay) * length;
+            } else {
+                return null;
+            }
+        }
+
+        return new long[] {months, days, carry, nanos};
+
+    }
+
+    private static long monthsOf(CalendarUnit unit) {
+
+        switch (unit) {
+            case MILLENNIA:
+                return 12000;
+            case CENTURIES:
+                return 1200;
+            case DECADES:
+                return 120;
+            case YEARS:
+                return 12;
+            case QUARTERS:
+                return 3;
+            case MONTHS:
+                return 1;
+            default:
+                throw new UnsupportedOperationException(unit.name());
+        }
+
+    }
+
+    // Monate zuerst bei positiver Dauer, zuletzt bei negativer Dauer
+    private static long addTo(
+        long packedDate,
+        long months,
+        long days,
+        boolean negative
+    ) {
+
+        long packed = packedDate;
+
+        if (negative) {
+            packed = addDays(packed, MathUtils.safeNegate(days));
+            packed =
+                GregorianMath.addMonths(
+                    packed,
+                    MathUtils.safeNegate(months));
+        } else {
+            packed = GregorianMath.addMonths(packed, months);
+            packed = addDays(packed, days);
+        }
+
+        return packed;
+
+    }
+
+    private static long addDays(
+        long packedDate,
+        long days
+    ) {
+
+        if (days == 0) {
+            return packedDate;
+        }
+
+        long mjd =
+            GregorianMath.toMJD(
+                GregorianMath.readYear(packedDate),
+                GregorianMath.readMonth(packedDate),
+                GregorianMath.readDayOfMonth(packedDate));
+        return GregorianMath.toPackedDate(MathUtils.safeAdd(mjd, days));
+
+    }
+
+    private static long toPacked(PlainDate date) {
+
+        return pack(date.getYear(), date.getMonth(), date.getDayOfMonth());
+
+    }
+
+    private static long pack(
+        int year,
+        int month,
+        int dom
+    ) {
+
+        return ((((long) year) << 32) | (month << 16) | dom);
+
+    }
+
+    private static PlainDate toDate(long packedDate) {
+
+        return PlainDate.of(
+            GregorianMath.readYear(packedDate),
+            GregorianMath.readMonth(packedDate),
+            GregorianMath.readDayOfMonth(packedDate));
+
+    }
+
+    private static long nanosOf(ClockUnit unit) {
+
+        switch (unit) {
+            case HOURS:
+                return 3600L * 1000000000L;
+            case MINUTES:
+                return 60L * 1000000000L;
+            case SECONDS:
+                return 1000000000L;
+            case MILLIS:
+                return 1000000L;
+            case MICROS:
+                return 1000L;
+            case NANOS:
+                return 1L;
+            default:
+                throw new UnsupportedOperationException(unit.name());
+        }
+
+    }
+
+    private static ArithmeticException overflow(IllegalArgumentException iae) {
+
+        ArithmeticException ex =
+            new ArithmeticException("Result beyond boundaries of time axis.");
+        ex.initCause(iae);
+        return ex;
+
+    }
+
+}
@@ -0,0 +1,627 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IsoWriter.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+
+import java.io.IOException;
+
+
+/**
+ * <p>Writes the canonical ISO-8601-representations of moments, timestamps
+ * and calendar dates directly into character arrays or buffers. </p>
+ *
+ * <p>The output is always the same as of the {@code toString()}-methods
+ * of {@link Moment}, {@link PlainTimestamp} and {@link PlainDate} which
+ * use the same engine. Moments are decomposed arithmetically from their
+ * POSIX seconds, and all numbers are written by help of two-digit lookup
+ * tables, so no intermediate temporal objects or strings are created. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <immutable>
+ */
+/*[deutsch]
+ * <p>Schreibt die kanonischen ISO-8601-Darstellungen von Momenten,
+ * Zeitstempeln und Kalenderdaten direkt in Zeichen-Arrays oder
+ * Puffer. </p>
+ *
+ * <p>Die Ausgabe ist immer dieselbe wie die der {@code toString()}-Methoden
+ * von {@link Moment}, {@link PlainTimestamp} und {@link PlainDate}, die
+ * dieselbe Maschinerie verwenden. Momente werden arithmetisch aus ihren
+ * POSIX-Sekunden zerlegt, und alle Zahlen werden mit Hilfe von
+ * zweistelligen Nachschlagetabellen geschrieben, so da&szlig; keine
+ * tempor&auml;ren Datums- oder Zeitobjekte oder Zeichenketten entstehen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <immutable>
+ */
+public final class IsoWriter {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * <p>Maximum count of characters written by any method of this
+     * class. </p>
+     */
+    /*[deutsch]
+     * <p>Maximale Anzahl der von irgendeiner Methode dieser Klasse
+     * geschriebenen Zeichen. </p>
+     */
+    public static final int MAX_LENGTH = 36;
+
+    private static final char[] TENS = new char[100];
+    private static final char[] ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            TENS[i] = (char) ('0' + i / 10);
+            ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
+    private static final long MIN_POSIX =
+        Moment.axis().getMinimum().getPosixTime();
+    private static final long MAX_POSIX =
+        Moment.axis().getMaximum().getPosixTime();
+    private static final int MRD = 1000000000;
+    private static final int MIO = 1000000;
+    private static final int KILO = 1000;
+    private static final long UNIX_MJD = 40587;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IsoWriter() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Writes given moment in the format of {@link Moment#toString()}
+     * into given character array. </p>
+     *
+     * @param   moment  moment to be written
+     * @param   buffer  character array with at least {@link #MAX_LENGTH}
+     *                  free positions after given offset
+     * @param   offset  start position in buffer
+     * @return  position after the last written character
+     * @throws  IndexOutOfBoundsException if the buffer is too small
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen Moment im Format von
+     * {@link Moment#toString()} in das Zeichen-Array. </p>
+     *
+     * @param   moment  moment to be written
+     * @param   buffer  character array with at least {@link #MAX_LENGTH}
+     *                  free positions after given offset
+     * @param   offset  start position in buffer
+     * @return  position after the last written character
+     * @throws  IndexOutOfBoundsException if the buffer is too small
+     */
+    public static int write(
+        Moment moment,
+        char[] buffer,
+        int offset
+    ) {
+
+        return writeMoment(
+            moment.getPosixTime(),
+            moment.getNanosecond(),
+            moment.isLeapSecond(),
+            buffer,
+            offset);
+
+    }
+
+    /**
+     * <p>Writes given moment in the format of {@link Moment#toString()}
+     * into given buffer. </p>
+     *
+     * @param   moment  moment to be written
+     * @param   buffer  text output buffer
+     * @throws  IOException if writing to buffer fails
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen Moment im Format von
+     * {@link Moment#toString()} in den Puffer. </p>
+     *
+     * @param   moment  moment to be written
+     * @param   buffer  text output buffer
+     * @throws  IOException if writing to buffer fails
+     */
+    public static void write(
+        Moment moment,
+        Appendable buffer
+    ) throws IOException {
+
+        char[] chars = new char[MAX_LENGTH];
+        append(chars, write(moment, chars, 0), buffer);
+
+    }
+
+    /**
+     * <p>Writes a moment given as POSIX time in the format of
+     * {@link Moment#toString()} into given character array. </p>
+     *
+     * <p>Suitable for primitive columns without creating any
+     * {@code Moment}-objects. Leap seconds cannot be expressed as
+     * POSIX time. </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds since UNIX epoch
+     * @param   nanosecond  nanosecond fraction of second
+     * @param   buffer      character array with at least
+     *                      {@link #MAX_LENGTH} free positions after
+     *                      given offset
+     * @param   offset      start position in buffer
+     * @return  position after the last written character
+     * @throws  IllegalArgumentException if any argument is out of range
+     * @throws  IndexOutOfBoundsException if the buffer is too small
+     */
+    /*[deutsch]
+     * <p>Schreibt einen als POSIX-Zeit angegebenen Moment im Format von
+     * {@link Moment#toString()} in das Zeichen-Array. </p>
+     *
+     * <p>Geeignet f&uuml;r primitive Spalten, ohne {@code Moment}-Objekte
+     * zu erzeugen. Schaltsekunden k&ouml;nnen nicht als POSIX-Zeit
+     * ausgedr&uuml;ckt werden. </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds since UNIX epoch
+     * @param   nanosecond  nanosecond fraction of second
+     * @param   buffer      character array with at least
+     *                      {@link #MAX_LENGTH} free positions after
+     *                      given offset
+     * @param   offset      start position in buffer
+     * @return  position after the last written character
+     * @throws  IllegalArgumentException if any argument is out of range
+     * @throws  IndexOutOfBoundsException if the buffer is too small
+     */
+    public static int writeMoment(
+        long posixTime,
+        int nanosecond,
+        char[] buffer,
+        int offset
+    ) {
+
+        if ((posixTime < MIN_POSIX) || (posixTime > MAX_POSIX)) {
+            throw new IllegalArgumentException(
+                "POSIX time out of range: " + posixTime);
+        } else if ((nanosecond < 0) || (nanosecond >= MRD)) {
+            throw new IllegalArgumentException(
+                "Nanosecond out of range: " + nanosecond);
+        }
+
+        return writeMoment(posixTime, nanosecond, false, buffer, offset);
+
+    }
+
+    /**
+     * <p>Writes given timestamp in the format of
+     * {@link PlainTimestamp#toString()} into given character array. </p>
+     *
+     * @param   timestamp   timestamp to be written
+     * @param   buffer      character array with at least
+     *                      {@link #MAX_LENGTH} free positions after
+     *                      given offset
+     * @param   offset      start position in buffer
+     * @return  position after the last written character
+     * @throws  IndexOutOfBoundsException if the buffer is too small
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen Zeitstempel im Format von
+     * {@link PlainTimestamp#toString()} in das Zeichen-Array. </p>
+     *
+     * @param   timestamp   timestamp to be written
+     * @param   buffer      character array with at least
+     *                      {@link #MAX_LENGTH} free positions after
+     *                      given offset
+     * @param   offset      start position in buffer
+     * @return  position after the last written character
+     * @throws  IndexOutOfBoundsException if the buffer is too small
+     */
+    public static int write(
+        PlainTimestamp timestamp,
+        char[] buffer,
+        int offset
+    ) {
+
+        int pos = write(timestamp.getCalendarDate(), buffer, offset);
+        return writeTime(timestamp.getWallTime(), buffer, pos);
+
+    }
+
+    /**
+     * <p>Writes given timestamp in the format of
+     * {@link PlainTimestamp#toString()} into given buffer. </p>
+     *
+     * @param   timestamp   timestamp to be written
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing to buffer fails
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen Zeitstempel im Format von
+     * {@link PlainTimestamp#toString()} in den Puffer. </p>
+     *
+     * @param   timestamp   timestamp to be written
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing to buffer fails
+     */
+    public static void write(
+        PlainTimestamp timestamp,
+        Appendable buffer
+    ) throws IOException {
+
+        char[] chars = new char[MAX_LENGTH];
+        append(chars, write(timestamp, chars, 0), buffer);
+
+    }
+
+    /**
+     * <p>Writes given calendar date in the format of
+     * {@link PlainDate#toString()} into given character array. </p>
+     *
+     * @param   date    calendar date to be written
+     * @param   buffer  character array with at least {@link #MAX_LENGTH}
+     *                  free positions after given offset
+     * @param   offset  start position in buffer
+     * @return  position after the last written character
+     * @throws  IndexOutOfBoundsException if the buffer is too small
+     */
+    /*[deutsch]
+     * <p>Schreibt das angegebene Kalenderdatum im Format von
+     * {@link PlainDate#toString()} in das Zeichen-Array. </p>
+     *
+     * @param   date    calendar date to be written
+     * @param   buffer  character array with at least {@link #MAX_LENGTH}
+     *                  free positions after given offset
+     * @param   offset  start position in buffer
+     * @return  position after the last written character
+     * @throws  IndexOutOfBoundsException if the buffer is too small
+     */
+    public static int write(
+        PlainDate date,
+        char[] buffer,
+        int offset
+    ) {
+
+        return writeDate(
+            date.getYear(),
+            date.getMonth(),
+            date.getDayOfMonth(),
+            buffer,
+            offset);
+
+    }
+
+    /**
+     * <p>Writes given calendar date in the format of
+     * {@link PlainDate#toString()} into given buffer. </p>
+     *
+     * @param   date    calendar date to be written
+     * @param   buffer  text output buffer
+     * @throws  IOException if writing to buffer fails
+     */
+    /*[deutsch]
+     * <p>Schreibt das angegebene Kalenderdatum im Format von
+     * {@link PlainDate#toString()} in den Puffer. </p>
+     *
+     * @param   date    calendar date to be written
+     * @param   buffer  text output buffer
+     * @throws  IOException if writing to buffer fails
+     */
+    public static void write(
+        PlainDate date,
+        Appendable buffer
+    ) throws IOException {
+
+        char[] chars = new char[MAX_LENGTH];
+        append(chars, write(date, chars, 0), buffer);
+
+    }
+
+    /**
+     * <p>Schreibt einen Moment im Format von {@code Moment.toString()},
+     * also mit immer vollst&auml;ndiger Uhrzeit und neunstelligem
+     * Sekundenbruchteil, falls nicht 0. </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds since UNIX epoch
+     * @param   nano        nanosecond fraction of second
+     * @param   leapSecond  shall the second be printed as 60?
+     * @param   buffer      character array
+     * @param   offset      start position in buffer
+     * @return  position after the last written character
+     */
+    static int writeMoment(
+        long posixTime,
+        int nano,
+        boolean leapSecond,
+        char[] buffer,
+        int offset
+    ) {
+
+        long packed =
+            GregorianMath.toPackedDate(
+                MathUtils.floorDivide(posixTime, 86400) + UNIX_MJD);
+        int timeOfDay = MathUtils.floorModulo(posixTime, 86400);
+        int minutes = timeOfDay / 60;
+        int second = timeOfDay % 60;
+
+        if (leapSecond) {
+            second++; // positive Schaltsekunde => 60
+        }
+
+        int pos =
+            writeDate(
+                GregorianMath.readYear(packed),
+                GregorianMath.readMonth(packed),
+                GregorianMath.readDayOfMonth(packed),
+                buffer,
+                offset);
+
+        buffer[pos++] = 'T';
+        pos = write2Digits(minutes / 60, buffer, pos);
+        buffer[pos++] = ':';
+        pos = write2Digits(minutes % 60, buffer, pos);
+        buffer[pos++] = ':';
+        pos = write2Digits(second, buffer, pos);
+
+        if (nano > 0) {
+            buffer[pos++] = ',';
+            pos = writeFraction(nano, 9, buffer, pos);
+        }
+
+        buffer[pos++] = 'Z';
+        return pos;
+
+    }
+
+    /**
+     * <p>Schreibt einen lokalen Zeitstempel, der als POSIX-Zeit in der
+     * UTC-Zeitzone angegeben ist, im Format von
+     * {@code PlainTimestamp.toString()}. </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds since UNIX epoch
+     * @param   nano        nanosecond fraction of second
+     * @param   buffer      character array
+     * @param   offset      start position in buffer
+     * @return  position after the last written character
+     */
+    static int writeTimestamp(
+        long posixTime,
+        int nano,
+        char[] buffer,
+        int offset
+    ) {
+
+        long packed =
+            GregorianMath.toPackedDate(
+                MathUtils.floorDivide(posixTime, 86400) + UNIX_MJD);
+        int timeOfDay = MathUtils.floorModulo(posixTime, 86400);
+        int minutes = timeOfDay / 60;
+
+        int pos =
+            writeDate(
+                GregorianMath.readYear(packed),
+                GregorianMath.readMonth(packed),
+                GregorianMath.readDayOfMonth(packed),
+                buffer,
+                offset);
+
+        return writeTime(
+            minutes / 60,
+            minutes % 60,
+            timeOfDay % 60,
+            nano,
+            buffer,
+            pos);
+
+    }
+
+    /**
+     * <p>Schreibt eine Uhrzeit im Format von
+     * {@code PlainTime.toString()}. </p>
+     *
+     * @param   time    wall time
+     * @param   buffer  character array
+     * @param   offset  start position in buffer
+     * @return  position after the last written character
+     */
+    static int writeTime(
+        PlainTime time,
+        char[] buffer,
+        int offset
+    ) {
+
+        return writeTime(
+            time.getHour(),
+            time.getMinute(),
+            time.getSecond(),
+            time.getNanosecond(),
+            buffer,
+            offset);
+
+    }
+
+    private static int writeDate(
+        int year,
+        int month,
+        int dayOfMonth,
+        char[] buffer,
+        int offset
+    ) {
+
+        int pos = offset;
+        int value = year;
+
+        if (value < 0) {
+            buffer[pos++] = '-';
+            value = MathUtils.safeNegate(year);
+        }
+
+        if (value >= 10000) {
+            if (year > 0) {
+                buffer[pos++] = '+';
+            }
+            pos = writeNumber(value, buffer, pos);
+        } else {
+            pos = write2Digits(value / 100, buffer, pos);
+            pos = write2Digits(value % 100, buffer, pos);
+        }
+
+        buffer[pos++] = '-';
+        pos = write2Digits(month, buffer, pos);
+        buffer[pos++] = '-';
+        return write2Digits(dayOfMonth, buffer, pos);
+
+    }
+
+    private static int writeTime(
+        int hour,
+        int minute,
+        int second,
+        int nano,
+        char[] buffer,
+        int offset
+    ) {
+
+        int pos = offset;
+        buffer[pos++] = 'T';
+        pos = write2Digits(hour, buffer, pos);
+
+        if ((minute | second | nano) != 0) {
+            buffer[pos++] = ':';
+            pos = write2Digits(minute, buffer, pos);
+
+            if ((second | nano) != 0) {
+                buffer[pos++] = ':';
+                pos = write2Digits(second, buffer, pos);
+
+                if (nano != 0) {
+                    buffer[pos++] = PlainTime.ISO_DECIMAL_SEPARATOR;
+                    int len;
+                    if ((nano % MIO) == 0) {
+                        len = 3;
+                    } else if ((nano % KILO) == 0) {
+                        len = 6;
+                    } else {
+                        len = 9;
+                    }
+                    pos = writeFraction(nano, len, buffer, pos);
+                }
+            }
+        }
+
+        return pos;
+
+    }
+
+    // die ersten Stellen eines neunstelligen Sekundenbruchteils
+    private static int writeFraction(
+        int nano,
+        int len,
+        char[] buffer,
+        int offset
+    ) {
+
+        int value = nano;
+
+        for (int i = len; i < 9; i++) {
+            value /= 10;
+        }
+
+        int pos = offset + len;
+
+        for (int i = len; i > 1; i -= 2) {
+            int pair = value % 100;
+            value /= 100;
+            buffer[--pos] = ONES[pair];
+            buffer[--pos] = TENS[pair];
+        }
+
+        if (pos > offset) {
+            buffer[--pos] = (char) ('0' + value);
+        }
+
+        return offset + len;
+
+    }
+
+    private static int write2Digits(
+        int value,
+        char[] buffer,
+        int offset
+    ) {
+
+        buffer[offset] = TENS[value];
+        buffer[offset + 1] = ONES[value];
+        return offset + 2;
+
+    }
+
+    private static int writeNumber(
+        int value,
+        char[] buffer,
+        int offset
+    ) {
+
+        int digits = 1;
+
+        for (int n = value; n >= 10; n /= 10) {
+            digits++;
+        }
+
+        int pos = offset + digits;
+        int rest = value;
+
+        while (rest >= 100) {
+            int pair = rest % 100;
+            rest /= 100;
+            buffer[--pos] = ONES[pair];
+            buffer[--pos] = TENS[pair];
+        }
+
+        if (rest >= 10) {
+            buffer[--pos] = ONES[rest];
+            buffer[--pos] = TENS[rest];
+        } else {
+            buffer[--pos] = (char) ('0' + rest);
+        }
+
+        return offset + digits;
+
+    }
+
+    private static void append(
+        char[] chars,
+        int end,
+        Appendable buffer
+    ) throws IOException {
+
+        for (int i = 0; i < end; i++) {
+            buffer.append(chars[i]);
+        }
+
+    }
+
+}
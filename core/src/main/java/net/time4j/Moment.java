@@ -56,13 +56,14 @@ import net.time4j.tz.Timezone;
 import net.time4j.tz.TransitionStrategy;
 import net.time4j.tz.ZonalOffset;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InvalidObjectException;
-import java.io.ObjectInput;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutput;
 import java.io.ObjectStreamException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.text.DateFormat;
 import java.util.Arrays;
 import java.util.Collections;
@@ -199,37 +200,11 @@ public final class Moment
     private static final Moment MIN = new Moment(MIN_LIMIT, 0, POSIX);
     private static final Moment MAX = new Moment(MAX_LIMIT, MRD - 1, POSIX);
 
-    private static final ChronoFormatter<Moment> FORMATTER_RFC_1123;
     private static final Moment START_LS_CHECK =
         new Moment(86400 + POSIX_UTC_DELTA, 0, POSIX);
-    private static final Set<ChronoElement<?>> HIGH_TIME_ELEMENTS;
-    private static final Map<ChronoElement<?>, Integer> LOW_TIME_ELEMENTS;
     private static final Map<TimeUnit, Double> UNIT_LENGTHS;
 
     static {
-        Set<ChronoElement<?>> high = new HashSet<ChronoElement<?>>();
-        high.add(ISO_HOUR);
-        high.add(DIGITAL_HOUR_OF_DAY);
-        high.add(DIGITAL_HOUR_OF_AMPM);
-        high.add(CLOCK_HOUR_OF_DAY);
-        high.add(CLOCK_HOUR_OF_AMPM);
-        high.add(AM_PM_OF_DAY);
-        high.add(MINUTE_OF_HOUR);
-        high.add(MINUTE_OF_DAY);
-        HIGH_TIME_ELEMENTS = Collections.unmodifiableSet(high);
-
-        Map<ChronoElement<?>, Integer> low =
-            new HashMap<ChronoElement<?>, Integer>();
-        low.put(SECOND_OF_MINUTE, Integer.valueOf(1));
-        low.put(SECOND_OF_DAY, Integer.valueOf(1));
-        low.put(MILLI_OF_SECOND, Integer.valueOf(1000));
-        low.put(MILLI_OF_DAY, Integer.valueOf(1000));
-        low.put(MICRO_OF_SECOND, Integer.valueOf(MIO));
-        low.put(MICRO_OF_DAY, Integer.valueOf(MIO));
-        low.put(NANO_OF_SECOND, Integer.valueOf(MRD));
-        low.put(NANO_OF_DAY, Integer.valueOf(MRD));
-        LOW_TIME_ELEMENTS = Collections.unmodifiableMap(low);
-
         Map<TimeUnit, Double> unitLengths =
             new EnumMap<TimeUnit, Double>(TimeUnit.class);
         unitLengths.put(TimeUnit.DAYS, 86400.0);
@@ -267,39 +242,6 @@ public final class Moment
             TimeUnit.NANOSECONDS);
 
         ENGINE = builder.withTimeLine(new GlobalTimeLine()).build();
-
-        FORMATTER_RFC_1123 =
-            ChronoFormatter.setUp(Moment.class, Locale.ENGLISH)
-            .startSection(Attributes.PARSE_CASE_INSENSITIVE, Boolean.TRUE)
-            .startOptionalSection()
-            .startSection(Attributes.TEXT_WIDTH, TextWidth.ABBREVIATED)
-            .addText(PlainDate.DAY_OF_WEEK)
-            .endSection()
-            .addLiteral(", ")
-            .endSection()
-            .addInteger(PlainDate.DAY_OF_MONTH, 1, 2)
-            .addLiteral(' ')
-            .startSection(Attributes.TEXT_WIDTH, TextWidth.ABBREVIATED)
-            .addText(PlainDate.MONTH_OF_YEAR)
-            .endSection()
-            .addLiteral(' ')
-            .addFixedInteger(PlainDate.YEAR, 4)
-            .addLiteral(' ')
-            .addFixedInteger(PlainTime.DIGITAL_HOUR_OF_DAY, 2)
-            .addLiteral(':')
-            .addFixedInteger(PlainTime.MINUTE_OF_HOUR, 2)
-            .startOptionalSection()
-            .addLiteral(':')
-            .addFixedInteger(PlainTime.SECOND_OF_MINUTE, 2)
-            .endSection()
-            .addLiteral(' ')
-            .addTimezoneOffset(
-                DisplayMode.MEDIUM,
-                false,
-                Arrays.asList("GMT", "UT", "Z"))
-            .endSection()
-            .build()
-            .withTimezone(ZonalOffset.UTC);
     }
 
     /**
@@ -1331,7 +1273,7 @@ public final class Moment
      */
     public static ChronoFormatter<Moment> formatterRFC1123() {
 
-        return FORMATTER_RFC_1123;
+        return RFC1123.FORMATTER;
 
     }
 
@@ -1406,46 +1348,15 @@ public final class Moment
     @Override
     public String toString() {
 
-        // Datum berechnen
-        PlainDate date = this.getDateUTC();
-
-        // Uhrzeit berechnen
-        int timeOfDay = getTimeOfDay(this);
-        int minutes = timeOfDay / 60;
-        int hour = minutes / 60;
-        int minute = minutes % 60;
-        int second = timeOfDay % 60;
-
-        // LS-Korrektur (negative LS => 59!!!, positive LS => 60)
-        second += LeapSeconds.getInstance().getShift(this.getEpochTime());
-
-        StringBuilder sb = new StringBuilder(50);
-
-        // Datum formatieren
-        sb.append(date);
-
-        // Separator
-        sb.append('T');
-
-        // Uhrzeit formatieren
-        format(hour, 2, sb);
-        sb.append(':');
-        format(minute, 2, sb);
-        sb.append(':');
-        format(second, 2, sb);
-
-        // Fraktionaler Sekundenteil
-        int nano = this.getNanosecond();
-
-        if (nano > 0) {
-            sb.append(',');
-            format(nano, 9, sb);
-        }
-
-        // UTC-Symbol anhängen
-        sb.append('Z');
-
-        return sb.toString();
+        char[] buffer = new char[IsoWriter.MAX_LENGTH];
+        int end =
+            IsoWriter.writeMoment(
+                this.posixTime,
+                this.getNanosecond(),
+                this.isLeapSecond(),
+                buffer,
+                0);
+        return new String(buffer, 0, end);
 
     }
 
@@ -1511,44 +1422,52 @@ public final class Moment
      */
     public String toString(TimeScale scale) {
 
-        StringBuilder sb = new StringBuilder(50);
-        sb.append(scale.name());
-        sb.append('-');
+        char[] buffer = new char[IsoWriter.MAX_LENGTH];
+        int end;
 
         switch (scale) {
             case POSIX:
-                sb.append(PlainTimestamp.from(this, ZonalOffset.UTC));
-                sb.append('Z');
+                end =
+                    IsoWriter.writeTimestamp(
+                        this.posixTime,
+                        this.getNanosecond(),
+                        buffer,
+                        0);
+                buffer[end++] = 'Z';
                 break;
             case UTC:
-                sb.append(this.toString());
+                end = IsoWriter.write(this, buffer, 0);
                 break;
             case TAI:
-                Moment tai =
-                    new Moment(
-                        this.getNanosecond(),
+                end =
+                    IsoWriter.writeTimestamp(
                         MathUtils.safeAdd(
                             this.getElapsedTime(TAI),
-                            POSIX_UTC_DELTA)
-                        );
-                sb.append(PlainTimestamp.from(tai, ZonalOffset.UTC));
-                sb.append('Z');
+                            POSIX_UTC_DELTA),
+                        this.getNanosecond(),
+                        buffer,
+                        0);
+                buffer[end++] = 'Z';
                 break;
             case GPS:
-                Moment gps =
-                    new Moment(
-                        this.getNanosecond(),
+                end =
+                    IsoWriter.writeTimestamp(
                         MathUtils.safeAdd(
                             this.getElapsedTime(GPS),
-                            POSIX_GPS_DELTA)
-                        );
-                sb.append(PlainTimestamp.from(gps, ZonalOffset.UTC));
-                sb.append('Z');
+                            POSIX_GPS_DELTA),
+                        this.getNanosecond(),
+                        buffer,
+                        0);
+                buffer[end++] = 'Z';
                 break;
             default:
                 throw new UnsupportedOperationException(scale.name());
         }
 
+        StringBuilder sb = new StringBuilder(scale.name().length() + end + 1);
+        sb.append(scale.name());
+        sb.append('-');
+        sb.append(buffer, 0, end);
         return sb.toString();
 
     }
@@ -1705,27 +1624,6 @@ public final class Moment
 
     }
 
-    private static void format(
-        int value,
-        int max,
-        StringBuilder sb
-    )  {
-
-        int n = 1;
-
-        for (int i = 0; i < max - 1; i++) {
-            n *= 10;
-        }
-
-        while ((value < n) && (n >= 10)) {
-            sb.append('0');
-            n = n / 10;
-        }
-
-        sb.append(String.valueOf(value));
-
-    }
-
     // Anzahl der POSIX-Sekunden des Tages
     private static int getTimeOfDay(Moment context) {
 
@@ -1830,27 +1728,33 @@ public final class Moment
      * @param   out         output stream
      * @throws  IOException
      */
-    void writeTimestamp(ObjectOutput out)
+    void writeTimestamp(DataOutput out)
         throws IOException {
 
-        int header = SPX.MOMENT_TYPE;
-        header <<= 4;
-
-        if (this.isPositiveLS()) {
-            header |= 1;
-        }
-
         int fp = this.getNanosecond();
+        out.writeByte(this.getTimestampHeader());
+        out.writeLong(this.posixTime);
 
         if (fp > 0) {
-            header |= 2;
+            out.writeInt(fp);
         }
 
-        out.writeByte(header);
-        out.writeLong(this.posixTime);
+    }
+
+    /**
+     * <p>Schreibt das gleiche Format wie {@link #writeTimestamp(DataOutput)}
+     * in einen Puffer. </p>
+     *
+     * @param   buffer      target buffer
+     */
+    void writeTimestamp(ByteBuffer buffer) {
+
+        int fp = this.getNanosecond();
+        buffer.put((byte) this.getTimestampHeader());
+        buffer.putLong(this.posixTime);
 
         if (fp > 0) {
-            out.writeInt(fp);
+            buffer.putInt(fp);
         }
 
     }
@@ -1860,17 +1764,72 @@ public final class Moment
      *
      * @param   in          input stream
      * @param   positiveLS  positive leap second indicated?
+     * @param   hasNanos    nanosecond fraction indicated?
      * @return  deserialized instance
      * @throws  IOException
      */
     static Moment readTimestamp(
-        ObjectInput in,
+        DataInput in,
         boolean positiveLS,
         boolean hasNanos
     ) throws IOException {
 
         long unixTime = in.readLong();
         int nano = (hasNanos ? in.readInt() : 0);
+        return create(unixTime, nano, positiveLS);
+
+    }
+
+    /**
+     * <p>Liest das gleiche Format wie
+     * {@link #readTimestamp(DataInput, boolean, boolean)} aus einem
+     * Puffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @param   positiveLS  positive leap second indicated?
+     * @param   hasNanos    nanosecond fraction indicated?
+     * @return  deserialized instance
+     * @throws  IllegalArgumentException if the data are inconsistent
+     */
+    static Moment readTimestamp(
+        ByteBuffer buffer,
+        boolean positiveLS,
+        boolean hasNanos
+    ) {
+
+        long unixTime = buffer.getLong();
+        int nano = (hasNanos ? buffer.getInt() : 0);
+
+        try {
+            return create(unixTime, nano, positiveLS);
+        } catch (InvalidObjectException ioe) {
+            throw new IllegalArgumentException(ioe.getMessage());
+        }
+
+    }
+
+    private int getTimestampHeader() {
+
+        int header = SPX.MOMENT_TYPE;
+        header <<= 4;
+
+        if (this.isPositiveLS()) {
+            header |= 1;
+        }
+
+        if (this.getNanosecond() > 0) {
+            header |= 2;
+        }
+
+        return header;
+
+    }
+
+    private static Moment create(
+        long unixTime,
+        int nano,
+        boolean positiveLS
+    ) throws InvalidObjectException {
 
         if (unixTime == 0) {
             if (positiveLS) {
@@ -2039,12 +1998,12 @@ public final class Moment
                             "Leap second invalid in context: " + moment);
                     }
                 } else if (
-                    LOW_TIME_ELEMENTS.containsKey(this.element)
+                    TimeElements.LOW.containsKey(this.element)
                     && ((this.type == ElementOperator.OP_DECREMENT)
                         || (this.type == ElementOperator.OP_INCREMENT)
                         || (this.type == ElementOperator.OP_LENIENT))
                 ) {
-                    int step = LOW_TIME_ELEMENTS.get(this.element).intValue();
+                    int step = TimeElements.LOW.get(this.element).intValue();
                     long amount = 1;
 
                     if (this.type == ElementOperator.OP_DECREMENT) {
@@ -2096,7 +2055,7 @@ public final class Moment
 
             if (
                 this.element.isDateElement()
-                || HIGH_TIME_ELEMENTS.contains(this.element)
+                || TimeElements.HIGH.contains(this.element)
             ) {
                 if (
                     moment.isLeapSecond()
@@ -2773,4 +2732,79 @@ public final class Moment
 
     }
 
+    // erst bei der ersten Anpassung geladen, nicht schon mit Moment
+    private static class TimeElements {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final Set<ChronoElement<?>> HIGH;
+        private static final Map<ChronoElement<?>, Integer> LOW;
+
+        static {
+            Set<ChronoElement<?>> high = new HashSet<ChronoElement<?>>();
+            high.add(ISO_HOUR);
+            high.add(DIGITAL_HOUR_OF_DAY);
+            high.add(DIGITAL_HOUR_OF_AMPM);
+            high.add(CLOCK_HOUR_OF_DAY);
+            high.add(CLOCK_HOUR_OF_AMPM);
+            high.add(AM_PM_OF_DAY);
+            high.add(MINUTE_OF_HOUR);
+            high.add(MINUTE_OF_DAY);
+            HIGH = Collections.unmodifiableSet(high);
+
+            Map<ChronoElement<?>, Integer> low =
+                new HashMap<ChronoElement<?>, Integer>();
+            low.put(SECOND_OF_MINUTE, Integer.valueOf(1));
+            low.put(SECOND_OF_DAY, Integer.valueOf(1));
+            low.put(MILLI_OF_SECOND, Integer.valueOf(1000));
+            low.put(MILLI_OF_DAY, Integer.valueOf(1000));
+            low.put(MICRO_OF_SECOND, Integer.valueOf(MIO));
+            low.put(MICRO_OF_DAY, Integer.valueOf(MIO));
+            low.put(NANO_OF_SECOND, Integer.valueOf(MRD));
+            low.put(NANO_OF_DAY, Integer.valueOf(MRD));
+            LOW = Collections.unmodifiableMap(low);
+        }
+
+    }
+
+    // erst beim ersten Zugriff gebaut, nicht schon mit Moment
+    private static class RFC1123 {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final ChronoFormatter<Moment> FORMATTER =
+            ChronoFormatter.setUp(Moment.class, Locale.ENGLISH)
+            .startSection(Attributes.PARSE_CASE_INSENSITIVE, Boolean.TRUE)
+            .startOptionalSection()
+            .startSection(Attributes.TEXT_WIDTH, TextWidth.ABBREVIATED)
+            .addText(PlainDate.DAY_OF_WEEK)
+            .endSection()
+            .addLiteral(", ")
+            .endSection()
+            .addInteger(PlainDate.DAY_OF_MONTH, 1, 2)
+            .addLiteral(' ')
+            .startSection(Attributes.TEXT_WIDTH, TextWidth.ABBREVIATED)
+            .addText(PlainDate.MONTH_OF_YEAR)
+            .endSection()
+            .addLiteral(' ')
+            .addFixedInteger(PlainDate.YEAR, 4)
+            .addLiteral(' ')
+            .addFixedInteger(PlainTime.DIGITAL_HOUR_OF_DAY, 2)
+            .addLiteral(':')
+            .addFixedInteger(PlainTime.MINUTE_OF_HOUR, 2)
+            .startOptionalSection()
+            .addLiteral(':')
+            .addFixedInteger(PlainTime.SECOND_OF_MINUTE, 2)
+            .endSection()
+            .addLiteral(' ')
+            .addTimezoneOffset(
+                DisplayMode.MEDIUM,
+                false,
+                Arrays.asList("GMT", "UT", "Z"))
+            .endSection()
+            .build()
+            .withTimezone(ZonalOffset.UTC);
+
+    }
+
 }
@@ -97,6 +97,12 @@ import java.util.Set;
  * <p>Furthermore, all elements of class {@link Weekmodel} and class
  * {@link EpochDays} are supported. </p>
  *
+ * <p>The system property &quot;net.time4j.cache.plaindate.days&quot;
+ * can be set to a positive count of days. Then the factory methods and
+ * all parsers share the instances of dates within a rolling window of
+ * that size around the current UTC date. By default, no dates are
+ * cached. </p>
+ *
  * @author      Meno Hochschild
  * @concurrency <immutable>
  */
@@ -129,6 +135,12 @@ import java.util.Set;
  * <p>Dar&uuml;berhinaus sind alle Elemente der Klasse {@link Weekmodel}
  * und der Klasse {@link EpochDays} nutzbar. </p>
  *
+ * <p>Die System-Property &quot;net.time4j.cache.plaindate.days&quot;
+ * kann auf eine positive Anzahl von Tagen gesetzt werden. Dann teilen
+ * sich die Fabrikmethoden und alle Parser die Datumsinstanzen innerhalb
+ * eines rollierenden Fensters dieser Gr&ouml;&szlig;e um das aktuelle
+ * UTC-Datum herum. Standardm&auml;&szlig;ig wird nichts gecacht. </p>
+ *
  * @author      Meno Hochschild
  * @concurrency <immutable>
  */
@@ -147,6 +159,17 @@ public final class PlainDate
     static final PlainDate MAX =
         new PlainDate(GregorianMath.MAX_YEAR, 12, 31);
 
+    // optionaler Cache für Tage um das aktuelle Datum herum (Anzahl der Tage)
+    private static final Interning CACHE;
+
+    static {
+        int window = Integer.getInteger("net.time4j.cache.plaindate.days", 0);
+        CACHE = (
+            (window > 0)
+            ? new Interning(window, Interning.todayUTC())
+            : null);
+    }
+
     /** Entspricht dem Jahr {@code -999999999}. */
     static final Integer MIN_YEAR =
         Integer.valueOf(GregorianMath.MIN_YEAR);
@@ -631,27 +654,10 @@ public final class PlainDate
     // Dient der Serialisierungsunterstützung.
     private static final long serialVersionUID = -6698431452072325688L;
 
-    private static final Map<String, Object> ELEMENTS;
     private static final CalendarSystem<PlainDate> TRANSFORMER;
     private static final TimeAxis<IsoDateUnit, PlainDate> ENGINE;
 
     static {
-        Map<String, Object> constants = new HashMap<String, Object>();
-        fill(constants, CALENDAR_DATE);
-        fill(constants, YEAR);
-        fill(constants, YEAR_OF_WEEKDATE);
-        fill(constants, QUARTER_OF_YEAR);
-        fill(constants, MONTH_OF_YEAR);
-        fill(constants, MONTH_AS_NUMBER);
-        fill(constants, DAY_OF_MONTH);
-        fill(constants, DAY_OF_WEEK);
-        fill(constants, DAY_OF_YEAR);
-        fill(constants, DAY_OF_QUARTER);
-        fill(constants, WEEKDAY_IN_MONTH);
-        fill(constants, ERA);
-        fill(constants, YEAR_OF_ERA);
-        ELEMENTS = Collections.unmodifiableMap(constants);
-
         TRANSFORMER = new Transformer();
 
         TimeAxis.Builder<IsoDateUnit, PlainDate> builder =
@@ -765,8 +771,11 @@ public final class PlainDate
         int dayOfMonth
     ) {
 
-        // TODO: konfigurierbaren Cache einbauen?
-        return new PlainDate(year, month, dayOfMonth);
+        if (CACHE == null) {
+            return new PlainDate(year, month, dayOfMonth);
+        }
+
+        return CACHE.get(year, month, dayOfMonth);
 
     }
 
@@ -1328,11 +1337,76 @@ public final class PlainDate
     @Override
     public String toString() {
 
-        StringBuilder sb = new StringBuilder(32);
-        formatYear(sb, this.year);
-        format2Digits(sb, this.month);
-        format2Digits(sb, this.dayOfMonth);
-        return sb.toString();
+        char[] buffer = new char[IsoWriter.MAX_LENGTH];
+        return new String(buffer, 0, IsoWriter.write(this, buffer, 0));
+
+    }
+
+    /**
+     * <p>Adds given time span to this date. </p>
+     *
+     * <p>Durations in the standard units {@code CalendarUnit}
+     * are added in one step without intermediate objects. The result is
+     * the same as of the standard algorithm. </p>
+     *
+     * @param   timeSpan    time span to be added to this instance
+     * @return  result of addition as changed copy, this instance
+     *          remains unaffected
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Addiert die angegebene Zeitspanne zu diesem Datum. </p>
+     *
+     * <p>Dauern in den Standardeinheiten {@code CalendarUnit}
+     * werden in einem Schritt ohne Zwischenobjekte addiert. Das Ergebnis ist
+     * dasselbe wie beim Standardalgorithmus. </p>
+     *
+     * @param   timeSpan    time span to be added to this instance
+     * @return  result of addition as changed copy, this instance
+     *          remains unaffected
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   2.2
+     */
+    @Override
+    public PlainDate plus(TimeSpan<? extends IsoDateUnit> timeSpan) {
+
+        PlainDate result = IsoArithmetic.add(this, timeSpan, false);
+        return ((result == null) ? super.plus(timeSpan) : result);
+
+    }
+
+    /**
+     * <p>Subtracts given time span from this date. </p>
+     *
+     * <p>Durations in the standard units {@code CalendarUnit}
+     * are subtracted in one step without intermediate objects. The result
+     * is the same as of the standard algorithm. </p>
+     *
+     * @param   timeSpan    time span to be subtracted from this instance
+     * @return  result of subtraction as changed copy, this instance
+     *          remains unaffected
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Subtrahiert die angegebene Zeitspanne von diesem Datum. </p>
+     *
+     * <p>Dauern in den Standardeinheiten {@code CalendarUnit}
+     * werden in einem Schritt ohne Zwischenobjekte subtrahiert. Das Ergebnis
+     * ist dasselbe wie beim Standardalgorithmus. </p>
+     *
+     * @param   timeSpan    time span to be subtracted from this instance
+     * @return  result of subtraction as changed copy, this instance
+     *          remains unaffected
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   2.2
+     */
+    @Override
+    public PlainDate minus(TimeSpan<? extends IsoDateUnit> timeSpan) {
+
+        PlainDate result = IsoArithmetic.add(this, timeSpan, true);
+        return ((result == null) ? super.minus(timeSpan) : result);
 
     }
 
@@ -1506,7 +1580,7 @@ public final class PlainDate
     // optional
     static Object lookupElement(String elementName) {
 
-        return ELEMENTS.get(elementName);
+        return Elements.BY_NAME.get(elementName);
 
     }
 
@@ -1967,6 +2041,164 @@ public final class PlainDate
 
     //~ Innere Klassen ----------------------------------------------------
 
+    // Namenstabelle der Elemente erst bei Bedarf (Serialisierung) anlegen
+    private static class Elements {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final Map<String, Object> BY_NAME;
+
+        static {
+            Map<String, Object> constants = new HashMap<String, Object>();
+            fill(constants, CALENDAR_DATE);
+            fill(constants, YEAR);
+            fill(constants, YEAR_OF_WEEKDATE);
+            fill(constants, QUARTER_OF_YEAR);
+            fill(constants, MONTH_OF_YEAR);
+            fill(constants, MONTH_AS_NUMBER);
+            fill(constants, DAY_OF_MONTH);
+            fill(constants, DAY_OF_WEEK);
+            fill(constants, DAY_OF_YEAR);
+            fill(constants, DAY_OF_QUARTER);
+            fill(constants, WEEKDAY_IN_MONTH);
+            fill(constants, ERA);
+            fill(constants, YEAR_OF_ERA);
+            BY_NAME = Collections.unmodifiableMap(constants);
+        }
+
+    }
+
+    /**
+     * <p>Teilt Datumsobjekte innerhalb eines rollierenden Fensters um das
+     * aktuelle UTC-Datum herum. </p>
+     *
+     * <p>Das Fenster wird bei Bedarf gef&uuml;llt. Fragt eine Anwendung
+     * nach einem Datum hinter dem Fenster und ist das aktuelle Datum
+     * inzwischen um mehr als ein Viertel der Fensterbreite
+     * fortgeschritten, wird das Fenster neu zentriert. Das Schreiben in
+     * das Array ist ein harmloser Wettlauf, weil {@code PlainDate} nur
+     * finale Felder hat. </p>
+     */
+    static class Interning {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int window;
+        private volatile Window current;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        /**
+         * <p>Erzeugt einen Cache mit der angegebenen Fensterbreite um das
+         * angegebene Startdatum herum. </p>
+         *
+         * @param   window  count of days around today
+         * @param   today   modified julian date of today
+         */
+        Interning(
+            int window,
+            long today
+        ) {
+            super();
+
+            this.window = window;
+            this.current = new Window(today - window / 2, window);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Liefert ein geteiltes oder neues Datum. </p>
+         *
+         * @param   year        proleptic iso year
+         * @param   month       gregorian month
+         * @param   dayOfMonth  day of month
+         * @return  cached or new calendar date
+         * @throws  IllegalArgumentException if any argument is out of range
+         */
+        PlainDate get(
+            int year,
+            int month,
+            int dayOfMonth
+        ) {
+
+            GregorianMath.checkDate(year, month, dayOfMonth);
+
+            Window w = this.current;
+            long index = GregorianMath.toMJD(year, month, dayOfMonth) - w.start;
+
+            if ((index >= 0) && (index < w.dates.length)) {
+                int i = (int) index;
+                PlainDate date = w.dates[i];
+
+                if (date == null) {
+                    date = new PlainDate(year, month, dayOfMonth);
+                    w.dates[i] = date;
+                }
+
+                return date;
+            } else if (index >= w.dates.length) {
+                long start = this.today() - this.window / 2;
+
+                if (start - w.start > this.window / 4) {
+                    this.current = new Window(start, this.window);
+                }
+            }
+
+            return new PlainDate(year, month, dayOfMonth);
+
+        }
+
+        /**
+         * <p>Liefert das aktuelle UTC-Datum als modifiziertes
+         * julianisches Datum. </p>
+         *
+         * @return  modified julian date of today
+         */
+        long today() {
+
+            return todayUTC();
+
+        }
+
+        /**
+         * <p>Ermittelt das aktuelle UTC-Datum der Systemuhr als
+         * modifiziertes julianisches Datum. </p>
+         *
+         * @return  modified julian date of today
+         */
+        static long todayUTC() {
+
+            return MathUtils.floorDivide(System.currentTimeMillis(), 86400000)
+                + 40587;
+
+        }
+
+    }
+
+    private static class Window {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long start;
+        private final PlainDate[] dates;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Window(
+            long start,
+            int window
+        ) {
+            super();
+
+            this.start = start;
+            this.dates = new PlainDate[window];
+
+        }
+
+    }
+
     private static class Merger
         implements ChronoMerger<PlainDate> {
 
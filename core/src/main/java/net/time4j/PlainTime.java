@@ -169,11 +169,16 @@ public final class PlainTime
         new BigDecimal("59.999999999999999");
 
     private static final PlainTime[] HOURS = new PlainTime[25];
+    // volle Minuten des Tages, bei Bedarf gefüllt (harmloser Wettlauf)
+    private static final PlainTime[] MINUTES = new PlainTime[1440];
     private static final long serialVersionUID = 2780881537313863339L;
 
     static {
         for (int i = 0; i <= 24; i++) {
             HOURS[i] = new PlainTime(i, 0, 0, 0);
+            if (i < 24) {
+                MINUTES[i * 60] = HOURS[i];
+            }
         }
     }
 
@@ -881,35 +886,6 @@ public final class PlainTime
     public static final ChronoElement<ClockUnit> PRECISION =
         PrecisionElement.PRECISION;
 
-    // Dient der Serialisierungsunterstützung.
-    private static final Map<String, Object> ELEMENTS;
-
-    static {
-        Map<String, Object> constants = new HashMap<String, Object>();
-        fill(constants, WALL_TIME);
-        fill(constants, AM_PM_OF_DAY);
-        fill(constants, CLOCK_HOUR_OF_AMPM);
-        fill(constants, CLOCK_HOUR_OF_DAY);
-        fill(constants, DIGITAL_HOUR_OF_AMPM);
-        fill(constants, DIGITAL_HOUR_OF_DAY);
-        fill(constants, ISO_HOUR);
-        fill(constants, MINUTE_OF_HOUR);
-        fill(constants, MINUTE_OF_DAY);
-        fill(constants, SECOND_OF_MINUTE);
-        fill(constants, SECOND_OF_DAY);
-        fill(constants, MILLI_OF_SECOND);
-        fill(constants, MICRO_OF_SECOND);
-        fill(constants, NANO_OF_SECOND);
-        fill(constants, MILLI_OF_DAY);
-        fill(constants, MICRO_OF_DAY);
-        fill(constants, NANO_OF_DAY);
-        fill(constants, DECIMAL_HOUR);
-        fill(constants, DECIMAL_MINUTE);
-        fill(constants, DECIMAL_SECOND);
-        fill(constants, PRECISION);
-        ELEMENTS = Collections.unmodifiableMap(constants);
-    }
-
     private static final ElementRule<PlainTime, BigDecimal> H_DECIMAL_RULE =
         new BigDecimalElementRule(DECIMAL_HOUR, DECIMAL_24_0);
     private static final ElementRule<PlainTime, BigDecimal> M_DECIMAL_RULE =
@@ -1161,7 +1137,7 @@ public final class PlainTime
             return PlainTime.of(hour);
         }
 
-        return new PlainTime(hour, minute, 0, 0);
+        return PlainTime.ofMinute(hour, minute);
 
     }
 
@@ -1193,6 +1169,8 @@ public final class PlainTime
 
         if ((minute | second) == 0) {
             return PlainTime.of(hour);
+        } else if (second == 0) {
+            return PlainTime.ofMinute(hour, minute);
         }
 
         return new PlainTime(hour, minute, second, 0);
@@ -1239,6 +1217,8 @@ public final class PlainTime
 
         if ((minute | second | nanosecond) == 0) {
             return PlainTime.of(hour);
+        } else if ((second | nanosecond) == 0) {
+            return PlainTime.ofMinute(hour, minute);
         }
 
         return new PlainTime(hour, minute, second, nanosecond);
@@ -1641,45 +1621,8 @@ public final class PlainTime
     @Override
     public String toString() {
 
-        StringBuilder sb = new StringBuilder(19);
-
-        sb.append('T');
-        append2Digits(this.hour, sb);
-
-        if ((this.minute | this.second | this.nano) != 0) {
-            sb.append(':');
-            append2Digits(this.minute, sb);
-
-            if ((this.second | this.nano) != 0) {
-                sb.append(':');
-                append2Digits(this.second, sb);
-
-                if (this.nano != 0) {
-                    sb.append(ISO_DECIMAL_SEPARATOR);
-                    String num = Integer.toString(this.nano);
-                    int len;
-                    if ((this.nano % MIO) == 0) {
-                        len = 3;
-                    } else if ((this.nano % KILO) == 0) {
-                        len = 6;
-                    } else {
-                        len = 9;
-                    }
-                    for (int i = num.length(); i < 9; i++) {
-                        sb.append('0');
-                    }
-                    for (
-                        int i = 0, n = Math.min(len, num.length());
-                        i < n;
-                        i++
-                    ) {
-                        sb.append(num.charAt(i));
-                    }
-                }
-            }
-        }
-
-        return sb.toString();
+        char[] buffer = new char[IsoWriter.MAX_LENGTH];
+        return new String(buffer, 0, IsoWriter.writeTime(this, buffer, 0));
 
     }
 
@@ -1768,7 +1711,7 @@ public final class PlainTime
     // optional
     static Object lookupElement(String elementName) {
 
-        return ELEMENTS.get(elementName);
+        return Elements.BY_NAME.get(elementName);
 
     }
 
@@ -1813,16 +1756,27 @@ public final class PlainTime
 
     }
 
-    private static void append2Digits(
-        int element,
-        StringBuilder sb
+    private static PlainTime ofMinute(
+        int hour,
+        int minute
     ) {
 
-        if (element < 10) {
-            sb.append('0');
+        if (
+            (hour >= 0) && (hour < 24)
+            && (minute >= 0) && (minute < 60)
+        ) {
+            int index = hour * 60 + minute;
+            PlainTime time = MINUTES[index];
+
+            if (time == null) {
+                time = new PlainTime(hour, minute, 0, 0);
+                MINUTES[index] = time;
+            }
+
+            return time;
         }
 
-        sb.append(element);
+        return new PlainTime(hour, minute, 0, 0); // Ausnahme
 
     }
 
@@ -2028,6 +1982,41 @@ public final class PlainTime
 
     //~ Innere Klassen ----------------------------------------------------
 
+    // Namenstabelle der Elemente erst bei Bedarf (Serialisierung) anlegen
+    private static class Elements {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final Map<String, Object> BY_NAME;
+
+        static {
+            Map<String, Object> constants = new HashMap<String, Object>();
+            fill(constants, WALL_TIME);
+            fill(constants, AM_PM_OF_DAY);
+            fill(constants, CLOCK_HOUR_OF_AMPM);
+            fill(constants, CLOCK_HOUR_OF_DAY);
+            fill(constants, DIGITAL_HOUR_OF_AMPM);
+            fill(constants, DIGITAL_HOUR_OF_DAY);
+            fill(constants, ISO_HOUR);
+            fill(constants, MINUTE_OF_HOUR);
+            fill(constants, MINUTE_OF_DAY);
+            fill(constants, SECOND_OF_MINUTE);
+            fill(constants, SECOND_OF_DAY);
+            fill(constants, MILLI_OF_SECOND);
+            fill(constants, MICRO_OF_SECOND);
+            fill(constants, NANO_OF_SECOND);
+            fill(constants, MILLI_OF_DAY);
+            fill(constants, MICRO_OF_DAY);
+            fill(constants, NANO_OF_DAY);
+            fill(constants, DECIMAL_HOUR);
+            fill(constants, DECIMAL_MINUTE);
+            fill(constants, DECIMAL_SECOND);
+            fill(constants, PRECISION);
+            BY_NAME = Collections.unmodifiableMap(constants);
+        }
+
+    }
+
     private static class ClockUnitRule
         implements UnitRule<PlainTime> {
 
@@ -748,7 +748,8 @@ public final class PlainTimestamp
     @Override
     public String toString() {
 
-        return this.date.toString() + this.time.toString();
+        char[] buffer = new char[IsoWriter.MAX_LENGTH];
+        return new String(buffer, 0, IsoWriter.write(this, buffer, 0));
 
     }
 
@@ -1042,6 +1043,75 @@ public final class PlainTimestamp
 
     }
 
+    /**
+     * <p>Adds given time span to this timestamp. </p>
+     *
+     * <p>Durations in the standard units {@code CalendarUnit} and
+     * {@code ClockUnit} are added in one step without intermediate objects.
+     * The result is the same as of the standard algorithm. </p>
+     *
+     * @param   timeSpan    time span to be added to this instance
+     * @return  result of addition as changed copy, this instance
+     *          remains unaffected
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Addiert die angegebene Zeitspanne zu diesem Zeitstempel. </p>
+     *
+     * <p>Dauern in den Standardeinheiten {@code CalendarUnit} und
+     * {@code ClockUnit} werden in einem Schritt ohne Zwischenobjekte addiert.
+     * Das Ergebnis ist dasselbe wie beim Standardalgorithmus. </p>
+     *
+     * @param   timeSpan    time span to be added to this instance
+     * @return  result of addition as changed copy, this instance
+     *          remains unaffected
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   2.2
+     */
+    @Override
+    public PlainTimestamp plus(TimeSpan<? extends IsoUnit> timeSpan) {
+
+        PlainTimestamp result = IsoArithmetic.add(this, timeSpan, false);
+        return ((result == null) ? super.plus(timeSpan) : result);
+
+    }
+
+    /**
+     * <p>Subtracts given time span from this timestamp. </p>
+     *
+     * <p>Durations in the standard units {@code CalendarUnit} and
+     * {@code ClockUnit} are subtracted in one step without intermediate
+     * objects. The result is the same as of the standard algorithm. </p>
+     *
+     * @param   timeSpan    time span to be subtracted from this instance
+     * @return  result of subtraction as changed copy, this instance
+     *          remains unaffected
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Subtrahiert die angegebene Zeitspanne von diesem Zeitstempel. </p>
+     *
+     * <p>Dauern in den Standardeinheiten {@code CalendarUnit} und
+     * {@code ClockUnit} werden in einem Schritt ohne Zwischenobjekte
+     * subtrahiert. Das Ergebnis ist dasselbe wie beim
+     * Standardalgorithmus. </p>
+     *
+     * @param   timeSpan    time span to be subtracted from this instance
+     * @return  result of subtraction as changed copy, this instance
+     *          remains unaffected
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   2.2
+     */
+    @Override
+    public PlainTimestamp minus(TimeSpan<? extends IsoUnit> timeSpan) {
+
+        PlainTimestamp result = IsoArithmetic.add(this, timeSpan, true);
+        return ((result == null) ? super.minus(timeSpan) : result);
+
+    }
+
     /**
      * <p>Normalized given timespan using years, months, days and
      * all clock units. </p>
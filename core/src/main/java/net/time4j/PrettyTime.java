@@ -26,20 +26,14 @@ import net.time4j.base.TimeSource;
 import net.time4j.base.UnixTime;
 import net.time4j.engine.TimeSpan;
 import net.time4j.format.NumberSymbolProvider;
-import net.time4j.format.NumberType;
-import net.time4j.format.PluralCategory;
-import net.time4j.format.PluralRules;
 import net.time4j.format.TextWidth;
-import net.time4j.format.UnitPatterns;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
 
-import java.text.MessageFormat;
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Locale;
 import java.util.ServiceLoader;
 import java.util.Set;
@@ -138,7 +132,7 @@ public final class PrettyTime {
 
     //~ Instanzvariablen --------------------------------------------------
 
-    private final PluralRules rules;
+    private final UnitTemplates templates;
     private final Locale locale;
     private final TimeSource<?> refClock;
     private final char zeroDigit;
@@ -165,7 +159,8 @@ public final class PrettyTime {
         }
 
         // throws NPE if language == null
-        this.rules = PluralRules.of(loc, NumberType.CARDINALS);
+        this.templates =
+            UnitTemplates.of(loc, NUMBER_SYMBOLS.getZeroDigit(loc));
         this.locale = loc;
         this.refClock = refClock;
         this.zeroDigit = zeroDigit;
@@ -529,48 +524,14 @@ public final class PrettyTime {
         TextWidth width
     ) {
 
-        UnitPatterns p = UnitPatterns.of(this.locale);
-        String pattern;
+        int index = this.indexOf(unit);
 
-        switch (unit) {
-            case MILLENNIA:
-                amount = MathUtils.safeMultiply(amount, 1000);
-                pattern = p.getYears(width, this.getCategory(amount));
-                break;
-            case CENTURIES:
-                amount = MathUtils.safeMultiply(amount, 100);
-                pattern = p.getYears(width, this.getCategory(amount));
-                break;
-            case DECADES:
-                amount = MathUtils.safeMultiply(amount, 10);
-                pattern = p.getYears(width, this.getCategory(amount));
-                break;
-            case YEARS:
-                pattern = p.getYears(width, this.getCategory(amount));
-                break;
-            case QUARTERS:
-                amount = MathUtils.safeMultiply(amount, 3);
-                pattern = p.getMonths(width, this.getCategory(amount));
-                break;
-            case MONTHS:
-                pattern = p.getMonths(width, this.getCategory(amount));
-                break;
-            case WEEKS:
-                if (this.weekToDays) {
-                    amount = MathUtils.safeMultiply(amount, 7);
-                    pattern = p.getDays(width, this.getCategory(amount));
-                } else {
-                    pattern = p.getWeeks(width, this.getCategory(amount));
-                }
-                break;
-            case DAYS:
-                pattern = p.getDays(width, this.getCategory(amount));
-                break;
-            default:
-                throw new UnsupportedOperationException(unit.name());
-        }
-
-        return this.format(pattern, amount);
+        return this.templates.print(
+            this.normalize(amount, unit),
+            index,
+            width.ordinal(),
+            this.zeroDigit,
+            this.minusSign);
 
     }
 
@@ -600,33 +561,12 @@ public final class PrettyTime {
         TextWidth width
     ) {
 
-        UnitPatterns p = UnitPatterns.of(this.locale);
-        String pattern;
-
-        switch (unit) {
-            case HOURS:
-                pattern = p.getHours(width, this.getCategory(amount));
-                break;
-            case MINUTES:
-                pattern = p.getMinutes(width, this.getCategory(amount));
-                break;
-            case SECONDS:
-                pattern = p.getSeconds(width, this.getCategory(amount));
-                break;
-            case MILLIS:
-                pattern = p.getMillis(width, this.getCategory(amount));
-                break;
-            case MICROS:
-                pattern = p.getMicros(width, this.getCategory(amount));
-                break;
-            case NANOS:
-                pattern = p.getNanos(width, this.getCategory(amount));
-                break;
-            default:
-                throw new UnsupportedOperationException(unit.name());
-        }
-
-        return this.format(pattern, amount);
+        return this.templates.print(
+            amount,
+            indexOf(unit),
+            width.ordinal(),
+            this.zeroDigit,
+            this.minusSign);
 
     }
 
@@ -734,56 +674,71 @@ public final class PrettyTime {
         int maxLength
     ) {
 
-        if (maxLength < 1) {
-            throw new IllegalArgumentException(
-                "Max length is invalid: " + maxLength);
+        String[] parts = new String[8];
+        int count = this.collect(duration, width, printZero, maxLength, parts);
+
+        // special case of only one item
+        if (count == 1) {
+            return parts[0];
         }
 
-        // special case of empty duration
-        if (duration.isEmpty()) {
-            if (this.emptyUnit.isCalendrical()) {
-                CalendarUnit unit = CalendarUnit.class.cast(this.emptyUnit);
-                return this.print(0, unit, width);
-            } else {
-                ClockUnit unit = ClockUnit.class.cast(this.emptyUnit);
-                return this.print(0, unit, width);
-            }
+        // multiple items >= 2
+        StringBuilder sb = new StringBuilder(count * 16);
+
+        try {
+            this.templates.printList(parts, count, width, this.locale, sb);
+        } catch (IOException ioe) {
+            throw new IllegalStateException(ioe); // cannot happen
         }
 
-        // fill values-array from duration
-        boolean negative = duration.isNegative();
-        long[] values = new long[8];
-        pushDuration(values, duration, this.refClock, this.weekToDays);
+        return sb.toString();
 
-        // format duration items
-        List<Object> parts = new ArrayList<Object>();
-        int count = 0;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            if (
-                (count < maxLength)
-                && (!this.weekToDays || (i != 2))
-                && ((printZero && (count > 0)) || (values[i] > 0))
-            ) {
-                IsoUnit unit = ((i == 7) ? NANOS : STD_UNITS[i]);
-                parts.add(this.format(values[i], unit, negative, width));
-                count++;
-            }
-        }
+    /**
+     * <p>Formats the total given duration and writes the text into given
+     * buffer. </p>
+     *
+     * <p>Equivalent to {@link #print(Duration, TextWidth)} but avoids
+     * intermediate string objects where possible. </p>
+     *
+     * @param   duration    object representing a duration which might contain
+     *                      several units and quantities
+     * @param   width       text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing into buffer fails
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Formatiert die gesamte angegebene Dauer und schreibt den Text in
+     * den angegebenen Puffer. </p>
+     *
+     * <p>Entspricht {@link #print(Duration, TextWidth)}, vermeidet aber
+     * soweit m&ouml;glich String-Zwischenobjekte. </p>
+     *
+     * @param   duration    object representing a duration which might contain
+     *                      several units and quantities
+     * @param   width       text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing into buffer fails
+     * @since   2.2
+     */
+    public void print(
+        Duration<?> duration,
+        TextWidth width,
+        Appendable buffer
+    ) throws IOException {
 
-        // duration is not empty here
-        assert (count > 0);
+        String[] parts = new String[8];
+        int count =
+            this.collect(duration, width, false, Integer.MAX_VALUE, parts);
 
-        // special case of only one item
         if (count == 1) {
-            return parts.get(0).toString();
+            buffer.append(parts[0]);
+        } else {
+            this.templates.printList(parts, count, width, this.locale, buffer);
         }
 
-        // multiple items >= 2
-        return MessageFormat.format(
-            UnitPatterns.of(this.locale).getListPattern(width, count),
-            parts.toArray(new Object[count]));
-
     }
 
     /**
@@ -844,11 +799,89 @@ public final class PrettyTime {
 
     }
 
+    /**
+     * <p>Formats given time point relative to the current time of
+     * {@link #getReferenceClock()} and writes the text into given
+     * buffer. </p>
+     *
+     * <p>Equivalent to {@link #printRelative(UnixTime, TZID)} but
+     * avoids intermediate string objects where possible. </p>
+     *
+     * @param   moment      relative time point
+     * @param   tzid        time zone id for translating to a local duration
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing into buffer fails
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Zeitpunkt relativ zur aktuellen Zeit
+     * der Referenzuhr {@link #getReferenceClock()} und schreibt den Text
+     * in den angegebenen Puffer. </p>
+     *
+     * <p>Entspricht {@link #printRelative(UnixTime, TZID)}, vermeidet
+     * aber soweit m&ouml;glich String-Zwischenobjekte. </p>
+     *
+     * @param   moment      relative time point
+     * @param   tzid        time zone id for translating to a local duration
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing into buffer fails
+     * @since   2.2
+     */
+    public void printRelative(
+        UnixTime moment,
+        TZID tzid,
+        Appendable buffer
+    ) throws IOException {
+
+        Duration<IsoUnit> duration =
+            this.getRelativeDuration(moment, Timezone.of(tzid));
+
+        if (duration.isEmpty()) {
+            buffer.append(this.templates.getNowWord());
+        } else {
+            TimeSpan.Item<IsoUnit> item = duration.getTotalLength().get(0);
+            this.templates.print(
+                item.getAmount(),
+                indexOf(item.getUnit()),
+                (duration.isNegative()
+                    ? UnitTemplates.PAST
+                    : UnitTemplates.FUTURE),
+                this.zeroDigit,
+                this.minusSign,
+                buffer);
+        }
+
+    }
+
     private String print(
         UnixTime ut,
         Timezone tz
     ) {
 
+        Duration<IsoUnit> duration = this.getRelativeDuration(ut, tz);
+
+        if (duration.isEmpty()) {
+            return this.templates.getNowWord();
+        }
+
+        TimeSpan.Item<IsoUnit> item = duration.getTotalLength().get(0);
+
+        return this.templates.print(
+            item.getAmount(),
+            indexOf(item.getUnit()),
+            (duration.isNegative()
+                ? UnitTemplates.PAST
+                : UnitTemplates.FUTURE),
+            this.zeroDigit,
+            this.minusSign);
+
+    }
+
+    private Duration<IsoUnit> getRelativeDuration(
+        UnixTime ut,
+        Timezone tz
+    ) {
+
         UnixTime ref = this.getReferenceClock().currentTime();
 
         PlainTimestamp start =
@@ -861,127 +894,151 @@ public final class PrettyTime {
                 tz.getOffset(ut));
 
         IsoUnit[] units = (this.weekToDays ? TSP_UNITS : STD_UNITS);
-        Duration<IsoUnit> duration =
-            Duration.in(tz, units).between(start, end);
+        return Duration.in(tz, units).between(start, end);
 
-        if (duration.isEmpty()) {
-            return UnitPatterns.of(this.locale).getNowWord();
-        }
+    }
 
-        TimeSpan.Item<IsoUnit> item = duration.getTotalLength().get(0);
-        long amount = item.getAmount();
-        IsoUnit unit = item.getUnit();
-        String pattern;
+    private int collect(
+        Duration<?> duration,
+        TextWidth width,
+        boolean printZero,
+        int maxLength,
+        String[] parts
+    ) {
 
-        if (duration.isNegative()) {
-            if (unit.isCalendrical()) {
-                pattern = this.getPastPattern(amount, (CalendarUnit) unit);
+        if (maxLength < 1) {
+            throw new IllegalArgumentException(
+                "Max length is invalid: " + maxLength);
+        }
+
+        // special case of empty duration
+        if (duration.isEmpty()) {
+            if (this.emptyUnit.isCalendrical()) {
+                CalendarUnit unit = CalendarUnit.class.cast(this.emptyUnit);
+                parts[0] = this.print(0, unit, width);
             } else {
-                pattern = this.getPastPattern(amount, (ClockUnit) unit);
+                ClockUnit unit = ClockUnit.class.cast(this.emptyUnit);
+                parts[0] = this.print(0, unit, width);
             }
-        } else {
-            if (unit.isCalendrical()) {
-                pattern = this.getFuturePattern(amount, (CalendarUnit) unit);
-            } else {
-                pattern = this.getFuturePattern(amount, (ClockUnit) unit);
+            return 1;
+        }
+
+        // fill values-array from duration
+        boolean negative = duration.isNegative();
+        long[] values = new long[8];
+        pushDuration(values, duration, this.refClock, this.weekToDays);
+
+        // format duration items
+        int count = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            if (
+                (count < maxLength)
+                && (!this.weekToDays || (i != 2))
+                && ((printZero && (count > 0)) || (values[i] > 0))
+            ) {
+                IsoUnit unit = ((i == 7) ? NANOS : STD_UNITS[i]);
+                parts[count] = this.format(values[i], unit, negative, width);
+                count++;
             }
         }
 
-        return this.format(pattern, amount);
+        // duration is not empty here
+        assert (count > 0);
+        return count;
 
     }
 
-    private String getPastPattern(
-        long amount,
-        CalendarUnit unit
-    ) {
-
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
-        PluralCategory category = this.getCategory(amount);
+    private int indexOf(CalendarUnit unit) {
 
         switch (unit) {
+            case MILLENNIA:
+            case CENTURIES:
+            case DECADES:
             case YEARS:
-                return patterns.getYearsInPast(category);
+                return UnitTemplates.YEARS;
+            case QUARTERS:
             case MONTHS:
-                return patterns.getMonthsInPast(category);
+                return UnitTemplates.MONTHS;
             case WEEKS:
-                return patterns.getWeeksInPast(category);
+                return (
+                    this.weekToDays
+                    ? UnitTemplates.DAYS
+                    : UnitTemplates.WEEKS);
             case DAYS:
-                return patterns.getDaysInPast(category);
+                return UnitTemplates.DAYS;
             default:
                 throw new UnsupportedOperationException(unit.name());
         }
 
     }
 
-    private String getFuturePattern(
+    private long normalize(
         long amount,
         CalendarUnit unit
     ) {
 
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
-        PluralCategory category = this.getCategory(amount);
-
         switch (unit) {
-            case YEARS:
-                return patterns.getYearsInFuture(category);
-            case MONTHS:
-                return patterns.getMonthsInFuture(category);
+            case MILLENNIA:
+                return MathUtils.safeMultiply(amount, 1000);
+            case CENTURIES:
+                return MathUtils.safeMultiply(amount, 100);
+            case DECADES:
+                return MathUtils.safeMultiply(amount, 10);
+            case QUARTERS:
+                return MathUtils.safeMultiply(amount, 3);
             case WEEKS:
-                return patterns.getWeeksInFuture(category);
-            case DAYS:
-                return patterns.getDaysInFuture(category);
+                return (
+                    this.weekToDays
+                    ? MathUtils.safeMultiply(amount, 7)
+                    : amount);
             default:
-                throw new UnsupportedOperationException(unit.name());
+                return amount;
         }
 
     }
 
-    private String getPastPattern(
-        long amount,
-        ClockUnit unit
-    ) {
-
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
-        PluralCategory category = this.getCategory(amount);
+    private static int indexOf(ClockUnit unit) {
 
         switch (unit) {
             case HOURS:
-                return patterns.getHoursInPast(category);
+                return UnitTemplates.HOURS;
             case MINUTES:
-                return patterns.getMinutesInPast(category);
+                return UnitTemplates.MINUTES;
             case SECONDS:
-                return patterns.getSecondsInPast(category);
+                return UnitTemplates.SECONDS;
+            case MILLIS:
+                return UnitTemplates.MILLIS;
+            case MICROS:
+                return UnitTemplates.MICROS;
+            case NANOS:
+                return UnitTemplates.NANOS;
             default:
                 throw new UnsupportedOperationException(unit.name());
         }
 
     }
 
-    private String getFuturePattern(
-        long amount,
-        ClockUnit unit
-    ) {
-
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
-        PluralCategory category = this.getCategory(amount);
-
-        switch (unit) {
-            case HOURS:
-                return patterns.getHoursInFuture(category);
-            case MINUTES:
-                return patterns.getMinutesInFuture(category);
-            case SECONDS:
-                return patterns.getSecondsInFuture(category);
-            default:
-                throw new UnsupportedOperationException(unit.name());
+    // nur Einheiten der relativen Zeitausgabe (ohne Umrechnung)
+    private static int indexOf(IsoUnit unit) {
+
+        if (unit == YEARS) {
+            return UnitTemplates.YEARS;
+        } else if (unit == MONTHS) {
+            return UnitTemplates.MONTHS;
+        } else if (unit == WEEKS) {
+            return UnitTemplates.WEEKS;
+        } else if (unit == DAYS) {
+            return UnitTemplates.DAYS;
+        } else if (unit == HOURS) {
+            return UnitTemplates.HOURS;
+        } else if (unit == MINUTES) {
+            return UnitTemplates.MINUTES;
+        } else if (unit == SECONDS) {
+            return UnitTemplates.SECONDS;
         }
 
-    }
-
-    private PluralCategory getCategory(long amount) {
-
-        return this.rules.getCategory(Math.abs(amount));
+        throw new UnsupportedOperationException(unit.toString());
 
     }
 
@@ -1148,48 +1205,4 @@ public final class PrettyTime {
 
     }
 
-    private String format(
-        String pattern,
-        long amount
-    ) {
-
-        for (int i = 0, n = pattern.length(); i < n; i++) {
-            if (
-                (i < n - 2)
-                && (pattern.charAt(i) == '{')
-                && (pattern.charAt(i + 1) == '0')
-                && (pattern.charAt(i + 2) == '}')
-            ) {
-                StringBuilder sb = new StringBuilder(pattern);
-                sb.replace(i, i + 3, this.format(amount));
-                return sb.toString();
-            }
-        }
-
-        return pattern;
-
-    }
-
-    private String format(long amount) {
-
-        String num = String.valueOf(Math.abs(amount));
-        char zero = this.zeroDigit;
-        StringBuilder sb = new StringBuilder();
-
-        if (amount < 0) {
-            sb.append(this.minusSign);
-        }
-
-        for (int i = 0, n = num.length(); i < n; i++) {
-            char c = num.charAt(i);
-            if (zero != '0') {
-                c = (char) (c + zero - '0');
-            }
-            sb.append(c);
-        }
-
-        return sb.toString();
-
-    }
-
 }
@@ -22,7 +22,6 @@
 package net.time4j;
 
 import net.time4j.engine.TimeSpan;
-import net.time4j.scale.TimeScale;
 
 import java.io.Externalizable;
 import java.io.IOException;
@@ -210,43 +209,7 @@ final class SPX
     private void writeDate(ObjectOutput out)
         throws IOException {
 
-        PlainDate date = (PlainDate) this.obj;
-        int year = date.getYear();
-
-        // Bit 0-3 => type (4)
-        // Bit 4-7 => month (4)
-        // Bit 8 => unused
-        // Bit 9-10 => year-range (2)
-        // Bit 11-15 => day-of-month (5)
-        // byte - short - int => year
-
-        int range;
-
-        if (year >= 1850 && year <= 2100) {
-            range = 1;
-        } else if (Math.abs(year) < 10000) {
-            range = 2;
-        } else {
-            range = 3;
-        }
-
-        int header = DATE_TYPE;
-        header <<= 4;
-        header |= date.getMonth();
-        out.writeByte(header);
-
-        int header2 = range;
-        header2 <<= 5;
-        header2 |= date.getDayOfMonth();
-        out.writeByte(header2);
-
-        if (range == 1) {
-            out.writeByte(year - 1850 - 128);
-        } else if (range == 2) {
-            out.writeShort(year);
-        } else {
-            out.writeInt(year);
-        }
+        TemporalCodec.write((PlainDate) this.obj, out);
 
     }
 
@@ -255,83 +218,21 @@ final class SPX
         byte header
     ) throws IOException {
 
-        int month = header & 0xF;
-        int header2 = in.readByte();
-        int range = (header2 >> 5) & 3;
-        int day = header2 & 31;
-        int year;
-
-        switch (range) {
-            case 1:
-                year = in.readByte() + 1850 + 128;
-                break;
-            case 2:
-                year = in.readShort();
-                break;
-            case 3:
-                year = in.readInt();
-                break;
-            default:
-                throw new StreamCorruptedException("Unknown year range.");
-        }
-
-        return PlainDate.of(year, Month.valueOf(month), day);
+        return TemporalCodec.readDate(in, header);
 
     }
 
     private void writeTime(ObjectOutput out)
         throws IOException {
 
-        PlainTime time = (PlainTime) this.obj;
-        out.writeByte(TIME_TYPE << 4);
-
-        if (time.getNanosecond() == 0) {
-            if (time.getSecond() == 0) {
-                if (time.getMinute() == 0) {
-                    out.writeByte(~time.getHour());
-                } else {
-                    out.writeByte(time.getHour());
-                    out.writeByte(~time.getMinute());
-                }
-            } else {
-                out.writeByte(time.getHour());
-                out.writeByte(time.getMinute());
-                out.writeByte(~time.getSecond());
-            }
-        } else {
-            out.writeByte(time.getHour());
-            out.writeByte(time.getMinute());
-            out.writeByte(time.getSecond());
-            out.writeInt(time.getNanosecond());
-        }
+        TemporalCodec.write((PlainTime) this.obj, out);
 
     }
 
     private Object readTime(ObjectInput in)
         throws IOException {
 
-        int minute = 0, second = 0, nano = 0;
-        int hour = in.readByte();
-
-        if (hour < 0) {
-            return PlainTime.of(~hour);
-        } else {
-            minute = in.readByte();
-
-            if (minute < 0) {
-                minute = ~minute;
-            } else {
-                second = in.readByte();
-
-                if (second < 0) {
-                    second = ~second;
-                } else {
-                    nano = in.readInt();
-                }
-            }
-
-            return PlainTime.of(hour, minute, second, nano);
-        }
+        return TemporalCodec.readWallTime(in);
 
     }
 
@@ -512,41 +413,16 @@ final class SPX
     private void writeMachineTime(ObjectOutput out)
         throws IOException {
 
-        MachineTime<?> mt = MachineTime.class.cast(this.obj);
-        int header = MACHINE_TIME_TYPE;
-        header <<= 4;
-
-        if (mt.getScale() == TimeScale.UTC) {
-            header |= 1;
-        }
-
-        if (mt.getFraction() == 0) {
-            out.writeByte(header);
-            out.writeLong(mt.getSeconds());
-        } else {
-            header |= 2;
-            out.writeByte(header);
-            out.writeLong(mt.getSeconds());
-            out.writeInt(mt.getFraction());
-        }
+        TemporalCodec.write(MachineTime.class.cast(this.obj), out);
 
     }
 
     private Object readMachineTime(
         ObjectInput in,
         byte header
-    ) throws IOException, ClassNotFoundException {
-
-        TimeScale scale = (
-            ((header & 0x1) == 1) ? TimeScale.UTC : TimeScale.POSIX);
-        long secs = in.readLong();
-        int fraction = (((header & 0x2) == 2) ? in.readInt() : 0);
+    ) throws IOException {
 
-        if (scale == TimeScale.UTC) {
-            return MachineTime.ofSIUnits(secs, fraction);
-        } else {
-            return MachineTime.ofPosixUnits(secs, fraction);
-        }
+        return TemporalCodec.readMachineTime(in, header);
 
     }
 
@@ -26,6 +26,10 @@ import net.time4j.base.TimeSource;
 import net.time4j.scale.TimeScale;
 import net.time4j.tz.TZID;
 
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicReference;
+
 
 /**
  * <p>Represents a clock which is based on the clock of the underlying
@@ -36,6 +40,17 @@ import net.time4j.tz.TZID;
  * {@link System#nanoTime()} (if property is set to &quot;true&quot;)
  * or {@link System#currentTimeMillis()} (default). </p>
  *
+ * <p>In the mode based on {@code System.nanoTime()} the system property
+ * &quot;net.time4j.systemclock.recalibration&quot; can specify a period
+ * in seconds after which the clock is recalibrated again against
+ * {@code System.currentTimeMillis()} in a background thread. So the
+ * clock follows adjustments of the operating system (for example by
+ * NTP). Small deviations are gradually corrected over the following
+ * period with at most 500 microseconds per second, so the clock never runs
+ * backwards. Only deviations of more than one second (for example if the
+ * system clock was set manually) are adopted immediately as a step which
+ * can also go backwards. </p>
+ *
  * @author  Meno Hochschild
  */
 /*[deutsch]
@@ -47,6 +62,18 @@ import net.time4j.tz.TZID;
  * {@link System#nanoTime()} (wenn Property auf &quot;true&quot; gesetzt)
  * oder {@link System#currentTimeMillis()} (Standard) basiert. </p>
  *
+ * <p>Im auf {@code System.nanoTime()} basierenden Modus kann mit der
+ * System-Property &quot;net.time4j.systemclock.recalibration&quot; eine
+ * Periode in Sekunden angegeben werden, nach der die Uhr in einem
+ * Hintergrund-Thread erneut mit {@code System.currentTimeMillis()}
+ * abgeglichen wird. So folgt die Uhr Anpassungen des Betriebssystems
+ * (zum Beispiel durch NTP). Kleine Abweichungen werden gleichm&auml;&szlig;ig
+ * &uuml;ber die folgende Periode mit h&ouml;chstens 500 Mikrosekunden pro
+ * Sekunde korrigiert, so da&szlig; die Uhr niemals r&uuml;ckw&auml;rts
+ * l&auml;uft. Nur Abweichungen von mehr als einer Sekunde (zum Beispiel
+ * nach manuellem Stellen der Systemuhr) werden sofort als Sprung
+ * &uuml;bernommen, der auch r&uuml;ckw&auml;rts gehen kann. </p>
+ *
  * @author  Meno Hochschild
  */
 public final class SystemClock
@@ -56,34 +83,36 @@ public final class SystemClock
 
     private static final int MIO = 1000000;
     private static final int MRD = MIO * 1000;
-    private static final long CALIBRATED_OFFSET;
+    private static final int MAX_SLEW = 2000; // 500 ppm
     private static final boolean HIGH_PRECISION;
+    private static final int RECALIBRATION;
+
+    // veröffentlichte aktuelle Kalibrierung von nanoTime gegen UTC
+    private static final AtomicReference<Calibration> CALIBRATION =
+        new AtomicReference<Calibration>();
 
     static {
         HIGH_PRECISION = Boolean.getBoolean("net.time4j.systemclock.nanoTime");
 
         if (HIGH_PRECISION) {
-            long millis = System.currentTimeMillis();
-            long nanos = 0;
-
-            for (int i = 0; i < 10; i++) {
-                nanos = System.nanoTime();
-                long next = System.currentTimeMillis();
-                if (millis == next) {
-                    break; // nun ist sicher, daß nanos zu millis synchron ist
-                } else {
-                    millis = next;
-                }
-            }
-
-            CALIBRATED_OFFSET = (
-                MathUtils.safeSubtract(
-                    MathUtils.safeMultiply(millis, MIO),
-                    nanos
-                )
-            );
+            CALIBRATION.set(
+                new Calibration(System.nanoTime(), calibrate(), 0, 0));
+            RECALIBRATION =
+                Math.max(
+                    0,
+                    Integer.getInteger(
+                        "net.time4j.systemclock.recalibration",
+                        0
+                    ).intValue()
+                );
         } else {
-            CALIBRATED_OFFSET = 0;
+            RECALIBRATION = 0;
+        }
+
+        if (RECALIBRATION > 0) {
+            Timer timer = new Timer("Time4J-SystemClock", true);
+            long period = RECALIBRATION * 1000L;
+            timer.schedule(new Recalibration(), period, period);
         }
     }
 
@@ -235,6 +264,65 @@ public final class SystemClock
 
     }
 
+    /**
+     * <p>Berechnet die neue Differenz zwischen {@code System.nanoTime()}
+     * und der UTC-Zeit in Nanosekunden. </p>
+     *
+     * <p>Abweichungen bis zu einer Sekunde werden nur schrittweise mit
+     * h&ouml;chstens 500 ppm der Periode korrigiert. </p>
+     *
+     * @param   current     currently published offset
+     * @param   measured    newly measured offset
+     * @param   period      recalibration period in seconds
+     * @return  offset to be published
+     */
+    static long adjust(
+        long current,
+        long measured,
+        int period
+    ) {
+
+        long delta = MathUtils.safeSubtract(measured, current);
+
+        if ((delta > MRD) || (delta < -MRD)) {
+            return measured; // z.B. manuelles Stellen der Systemuhr
+        }
+
+        long maxStep = (period * (long) MRD) / MAX_SLEW;
+
+        if (delta > maxStep) {
+            delta = maxStep;
+        } else if (delta < -maxStep) {
+            delta = -maxStep;
+        }
+
+        return current + delta;
+
+    }
+
+    // Differenz zwischen System.nanoTime() und der UTC-Zeit in Nanosekunden
+    private static long calibrate() {
+
+        long millis = System.currentTimeMillis();
+        long nanos = 0;
+
+        for (int i = 0; i < 10; i++) {
+            nanos = System.nanoTime();
+            long next = System.currentTimeMillis();
+            if (millis == next) {
+                break; // nun ist sicher, daß nanos zu millis synchron ist
+            } else {
+                millis = next;
+            }
+        }
+
+        return MathUtils.safeSubtract(
+            MathUtils.safeMultiply(millis, MIO),
+            nanos
+        );
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     private static enum Clock {
@@ -268,10 +356,10 @@ public final class SystemClock
                 return getNanos() / 1000;
             }
             private long getNanos() {
+                long nanoTime = System.nanoTime();
                 return MathUtils.safeAdd(
-                    System.nanoTime(),
-                    CALIBRATED_OFFSET
-                );
+                    nanoTime,
+                    CALIBRATION.get().getOffset(nanoTime));
             }
         };
 
@@ -283,4 +371,123 @@ public final class SystemClock
 
     }
 
+    /**
+     * <p>Unver&auml;nderliche Kalibrierung, die eine Korrektur des Offsets
+     * linear &uuml;ber eine Dauer verteilt. </p>
+     *
+     * <p>Weil die Korrektur h&ouml;chstens 500 ppm der Dauer betr&auml;gt,
+     * steigt {@code nanoTime + getOffset(nanoTime)} immer streng monoton.
+     * Eine neue Kalibrierung beginnt mit dem Offset, den die vorherige zu
+     * diesem Zeitpunkt liefert, so da&szlig; die Uhr ohne Sprung
+     * weiterl&auml;uft. </p>
+     */
+    static final class Calibration {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long start;
+        private final long base;
+        private final long delta;
+        private final long duration;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        /**
+         * <p>Erzeugt eine neue Kalibrierung. </p>
+         *
+         * @param   start       nanoTime when the correction begins
+         * @param   base        offset at begin of correction
+         * @param   delta       total correction of offset
+         * @param   duration    nanoseconds over which delta is distributed
+         */
+        Calibration(
+            long start,
+            long base,
+            long delta,
+            long duration
+        ) {
+            super();
+
+            this.start = start;
+            this.base = base;
+            this.delta = delta;
+            this.duration = duration;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Liefert den Offset zwischen {@code System.nanoTime()} und der
+         * UTC-Zeit in Nanosekunden. </p>
+         *
+         * @param   nanoTime    value of {@code System.nanoTime()}
+         * @return  offset in nanoseconds
+         */
+        long getOffset(long nanoTime) {
+
+            long elapsed = nanoTime - this.start;
+
+            if ((this.delta == 0) || (elapsed >= this.duration)) {
+                return this.base + this.delta;
+            }
+
+            double ratio = ((double) elapsed) / this.duration;
+            return this.base + (long) (this.delta * ratio);
+
+        }
+
+        /**
+         * <p>Bestimmt die Folgekalibrierung nach einer neuen Messung. </p>
+         *
+         * @param   nanoTime    value of {@code System.nanoTime()}
+         * @param   measured    newly measured offset
+         * @param   period      recalibration period in seconds
+         * @return  new calibration starting at given nanoTime
+         */
+        Calibration next(
+            long nanoTime,
+            long measured,
+            int period
+        ) {
+
+            long current = this.getOffset(nanoTime);
+            long target = adjust(current, measured, period);
+
+            if (target == measured) {
+                long diff = MathUtils.safeSubtract(measured, current);
+
+                if ((diff > MRD) || (diff < -MRD)) {
+                    // Sprung bewußt übernehmen
+                    return new Calibration(nanoTime, measured, 0, 0);
+                }
+            }
+
+            return new Calibration(
+                nanoTime,
+                current,
+                target - current,
+                period * (long) MRD);
+
+        }
+
+    }
+
+    private static class Recalibration
+        extends TimerTask {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void run() {
+
+            long measured = calibrate();
+            long nanoTime = System.nanoTime();
+            CALIBRATION.set(
+                CALIBRATION.get().next(nanoTime, measured, RECALIBRATION));
+
+        }
+
+    }
+
 }
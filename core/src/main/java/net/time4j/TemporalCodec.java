@@ -0,0 +1,1296 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TemporalCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.engine.TimeSpan.Item;
+import net.time4j.scale.TimeScale;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.time4j.SPX.DATE_TYPE;
+import static net.time4j.SPX.DURATION_TYPE;
+import static net.time4j.SPX.MACHINE_TIME_TYPE;
+import static net.time4j.SPX.MOMENT_TYPE;
+import static net.time4j.SPX.TIMESTAMP_TYPE;
+import static net.time4j.SPX.TIME_TYPE;
+
+
+/**
+ * <p>Compact binary codec for the basic temporal types which writes
+ * directly to a {@code DataOutput} or a {@code ByteBuffer} without the
+ * overhead of java serialization. </p>
+ *
+ * <p>Every value starts with a header byte whose upper four bits denote
+ * the type. The layouts of {@code PlainDate}, {@code PlainTime},
+ * {@code Moment} and {@code MachineTime} are identical to the
+ * bit-compressed data of the serialization form. Other types use a
+ * denser layout: </p>
+ *
+ * <ul>
+ *  <li>{@code PlainDate} - 3 bytes for years 1850-2100, otherwise 4 or
+ *  6 bytes</li>
+ *  <li>{@code PlainTime} - 2 bytes for full hours, at most 8 bytes</li>
+ *  <li>{@code PlainTimestamp} - the date followed by the wall time
+ *  without its header byte, 4 up to 13 bytes</li>
+ *  <li>{@code Moment} - 9 bytes or 13 bytes with nanoseconds</li>
+ *  <li>{@code MachineTime} - 9 bytes or 13 bytes with nanoseconds</li>
+ *  <li>{@code Duration} - header byte with sign, a bit mask of the used
+ *  units as short and then one int (or long if any amount is too big)
+ *  per unit</li>
+ * </ul>
+ *
+ * <p>Durations are only supported if they exclusively consist of the
+ * enum units {@link CalendarUnit} and {@link ClockUnit}. The methods
+ * for {@code ByteBuffer} use the byte order of given buffer and signal
+ * too small buffers by the usual runtime exceptions of NIO. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <immutable>
+ */
+/*[deutsch]
+ * <p>Kompakter Bin&auml;rcodec f&uuml;r die grundlegenden Zeittypen, der
+ * direkt in einen {@code DataOutput} oder einen {@code ByteBuffer} schreibt,
+ * ohne den Aufwand der Java-Serialisierung. </p>
+ *
+ * <p>Jeder Wert beginnt mit einem Kopfbyte, dessen obere vier Bits den Typ
+ * bezeichnen. Die Formate von {@code PlainDate}, {@code PlainTime},
+ * {@code Moment} und {@code MachineTime} sind mit den bit-komprimierten
+ * Daten der Serialisierungsform identisch. Andere Typen verwenden ein
+ * dichteres Format: </p>
+ *
+ * <ul>
+ *  <li>{@code PlainDate} - 3 Bytes f&uuml;r die Jahre 1850-2100, sonst 4
+ *  oder 6 Bytes</li>
+ *  <li>{@code PlainTime} - 2 Bytes f&uuml;r volle Stunden, maximal
+ *  8 Bytes</li>
+ *  <li>{@code PlainTimestamp} - das Datum gefolgt von der Uhrzeit ohne
+ *  deren Kopfbyte, 4 bis 13 Bytes</li>
+ *  <li>{@code Moment} - 9 Bytes oder 13 Bytes mit Nanosekunden</li>
+ *  <li>{@code MachineTime} - 9 Bytes oder 13 Bytes mit Nanosekunden</li>
+ *  <li>{@code Duration} - Kopfbyte mit Vorzeichen, eine Bitmaske der
+ *  verwendeten Einheiten als short und dann ein int (oder long, wenn
+ *  ein Betrag zu gro&szlig; ist) pro Einheit</li>
+ * </ul>
+ *
+ * <p>Zeitspannen werden nur unterst&uuml;tzt, wenn sie ausschlie&szlig;lich
+ * aus den Enum-Einheiten {@link CalendarUnit} und {@link ClockUnit}
+ * bestehen. Die Methoden f&uuml;r {@code ByteBuffer} verwenden die
+ * Byte-Reihenfolge des angegebenen Puffers und melden zu kleine Puffer
+ * mit den &uuml;blichen Laufzeitausnahmen von NIO. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <immutable>
+ */
+public final class TemporalCodec {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // gleiche Reihenfolge der Einheiten wie in der kompakten Darstellung
+    // von Duration: zuerst alle Kalendereinheiten, dann alle Uhrzeiteinheiten
+    private static final int CLOCK_INDEX = CalendarUnit.DAYS.ordinal() + 1;
+    private static final int UNIT_COUNT =
+        CLOCK_INDEX + ClockUnit.NANOS.ordinal() + 1;
+    private static final int FRACTION_MASK =
+        (1 << (CLOCK_INDEX + ClockUnit.MILLIS.ordinal()))
+        | (1 << (CLOCK_INDEX + ClockUnit.MICROS.ordinal()));
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private TemporalCodec() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Writes given calendar date. </p>
+     *
+     * @param   date        calendar date to be written
+     * @param   out         data output
+     * @throws  IOException in any I/O-failure
+     */
+    /*[deutsch]
+     * <p>Schreibt das angegebene Kalenderdatum. </p>
+     *
+     * @param   date        calendar date to be written
+     * @param   out         data output
+     * @throws  IOException in any I/O-failure
+     */
+    public static void write(
+        PlainDate date,
+        DataOutput out
+    ) throws IOException {
+
+        writeDate(date, DATE_TYPE, out);
+
+    }
+
+    /**
+     * <p>Writes given calendar date into a buffer. </p>
+     *
+     * @param   date        calendar date to be written
+     * @param   buffer      target buffer
+     */
+    /*[deutsch]
+     * <p>Schreibt das angegebene Kalenderdatum in einen Puffer. </p>
+     *
+     * @param   date        calendar date to be written
+     * @param   buffer      target buffer
+     */
+    public static void write(
+        PlainDate date,
+        ByteBuffer buffer
+    ) {
+
+        writeDate(date, DATE_TYPE, buffer);
+
+    }
+
+    /**
+     * <p>Writes given wall time. </p>
+     *
+     * @param   time        wall time to be written
+     * @param   out         data output
+     * @throws  IOException in any I/O-failure
+     */
+    /*[deutsch]
+     * <p>Schreibt die angegebene Uhrzeit. </p>
+     *
+     * @param   time        wall time to be written
+     * @param   out         data output
+     * @throws  IOException in any I/O-failure
+     */
+    public static void write(
+        PlainTime time,
+        DataOutput out
+    ) throws IOException {
+
+        out.writeByte(TIME_TYPE << 4);
+        writeTime(time, out);
+
+    }
+
+    /**
+     * <p>Writes given wall time into a buffer. </p>
+     *
+     * @param   time        wall time to be written
+     * @param   buffer      target buffer
+     */
+    /*[deutsch]
+     * <p>Schreibt die angegebene Uhrzeit in einen Puffer. </p>
+     *
+     * @param   time        wall time to be written
+     * @param   buffer      target buffer
+     */
+    public static void write(
+        PlainTime time,
+        ByteBuffer buffer
+    ) {
+
+        buffer.put((byte) (TIME_TYPE << 4));
+        writeTime(time, buffer);
+
+    }
+
+    /**
+     * <p>Writes given local timestamp. </p>
+     *
+     * @param   timestamp   local timestamp to be written
+     * @param   out         data output
+     * @throws  IOException in any I/O-failure
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen lokalen Zeitstempel. </p>
+     *
+     * @param   timestamp   local timestamp to be written
+     * @param   out         data output
+     * @throws  IOException in any I/O-failure
+     */
+    public static void write(
+        PlainTimestamp timestamp,
+        DataOutput out
+    ) throws IOException {
+
+        writeDate(timestamp.getCalendarDate(), TIMESTAMP_TYPE, out);
+        writeTime(timestamp.getWallTime(), out);
+
+    }
+
+    /**
+     * <p>Writes given local timestamp into a buffer. </p>
+     *
+     * @param   timestamp   local timestamp to be written
+     * @param   buffer      target buffer
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen lokalen Zeitstempel in einen Puffer. </p>
+     *
+     * @param   timestamp   local timestamp to be written
+     * @param   buffer      target buffer
+     */
+    public static void write(
+        PlainTimestamp timestamp,
+        ByteBuffer buffer
+    ) {
+
+        writeDate(timestamp.getCalendarDate(), TIMESTAMP_TYPE, buffer);
+        writeTime(timestamp.getWallTime(), buffer);
+
+    }
+
+    /**
+     * <p>Writes given moment including a possible leap second. </p>
+     *
+     * @param   moment      UTC-moment to be written
+     * @param   out         data output
+     * @throws  IOException in any I/O-failure
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen Moment einschlie&szlig;lich einer
+     * eventuellen Schaltsekunde. </p>
+     *
+     * @param   moment      UTC-moment to be written
+     * @param   out         data output
+     * @throws  IOException in any I/O-failure
+     */
+    public static void write(
+        Moment moment,
+        DataOutput out
+    ) throws IOException {
+
+        moment.writeTimestamp(out);
+
+    }
+
+    /**
+     * <p>Writes given moment including a possible leap second into
+     * a buffer. </p>
+     *
+     * @param   moment      UTC-moment to be written
+     * @param   buffer      target buffer
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen Moment einschlie&szlig;lich einer
+     * eventuellen Schaltsekunde in einen Puffer. </p>
+     *
+     * @param   moment      UTC-moment to be written
+     * @param   buffer      target buffer
+     */
+    public static void write(
+        Moment moment,
+        ByteBuffer buffer
+    ) {
+
+        moment.writeTimestamp(buffer);
+
+    }
+
+    /**
+     * <p>Writes given duration. </p>
+     *
+     * @param   duration    duration to be written
+     * @param   out         data output
+     * @throws  IllegalArgumentException if the duration contains any
+     *          unit which is neither a {@code CalendarUnit} nor a
+     *          {@code ClockUnit}
+     * @throws  IOException in any I/O-failure
+     */
+    /*[deutsch]
+     * <p>Schreibt die angegebene Zeitspanne. </p>
+     *
+     * @param   duration    duration to be written
+     * @param   out         data output
+     * @throws  IllegalArgumentException if the duration contains any
+     *          unit which is neither a {@code CalendarUnit} nor a
+     *          {@code ClockUnit}
+     * @throws  IOException in any I/O-failure
+     */
+    public static void write(
+        Duration<?> duration,
+        DataOutput out
+    ) throws IOException {
+
+        long[] amounts = getAmounts(duration);
+        int mask = getMask(amounts);
+        boolean useLong = isLong(amounts);
+
+        out.writeByte(getDurationHeader(duration, useLong));
+        out.writeShort(mask);
+
+        for (int i = 0; i < UNIT_COUNT; i++) {
+            if ((mask & (1 << i)) == 0) {
+                continue;
+            } else if (useLong) {
+                out.writeLong(amounts[i]);
+            } else {
+                out.writeInt((int) amounts[i]);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Writes given duration into a buffer. </p>
+     *
+     * @param   duration    duration to be written
+     * @param   buffer      target buffer
+     * @throws  IllegalArgumentException if the duration contains any
+     *          unit which is neither a {@code CalendarUnit} nor a
+     *          {@code ClockUnit}
+     */
+    /*[deutsch]
+     * <p>Schreibt die angegebene Zeitspanne in einen Puffer. </p>
+     *
+     * @param   duration    duration to be written
+     * @param   buffer      target buffer
+     * @throws  IllegalArgumentException if the duration contains any
+     *          unit which is neither a {@code CalendarUnit} nor a
+     *          {@code ClockUnit}
+     */
+    public static void write(
+        Duration<?> duration,
+        ByteBuffer buffer
+    ) {
+
+        long[] amounts = getAmounts(duration);
+        int mask = getMask(amounts);
+        boolean useLong = isLong(amounts);
+
+        buffer.put((byte) getDurationHeader(duration, useLong));
+        buffer.putShort((short) mask);
+
+        for (int i = 0; i < UNIT_COUNT; i++) {
+            if ((mask & (1 << i)) == 0) {
+                continue;
+            } else if (useLong) {
+                buffer.putLong(amounts[i]);
+            } else {
+                buffer.putInt((int) amounts[i]);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Writes given machine time. </p>
+     *
+     * @param   machineTime     machine time to be written
+     * @param   out             data output
+     * @throws  IOException in any I/O-failure
+     */
+    /*[deutsch]
+     * <p>Schreibt die angegebene Maschinenzeit. </p>
+     *
+     * @param   machineTime     machine time to be written
+     * @param   out             data output
+     * @throws  IOException in any I/O-failure
+     */
+    public static void write(
+        MachineTime<?> machineTime,
+        DataOutput out
+    ) throws IOException {
+
+        out.writeByte(getMachineTimeHeader(machineTime));
+        out.writeLong(machineTime.getSeconds());
+
+        if (machineTime.getFraction() != 0) {
+            out.writeInt(machineTime.getFraction());
+        }
+
+    }
+
+    /**
+     * <p>Writes given machine time into a buffer. </p>
+     *
+     * @param   machineTime     machine time to be written
+     * @param   buffer          target buffer
+     */
+    /*[deutsch]
+     * <p>Schreibt die angegebene Maschinenzeit in einen Puffer. </p>
+     *
+     * @param   machineTime     machine time to be written
+     * @param   buffer          target buffer
+     */
+    public static void write(
+        MachineTime<?> machineTime,
+        ByteBuffer buffer
+    ) {
+
+        buffer.put((byte) getMachineTimeHeader(machineTime));
+        buffer.putLong(machineTime.getSeconds());
+
+        if (machineTime.getFraction() != 0) {
+            buffer.putInt(machineTime.getFraction());
+        }
+
+    }
+
+    /**
+     * <p>Reads any supported temporal value whose type is determined by
+     * the header byte. </p>
+     *
+     * @param   in          data input
+     * @return  {@code PlainDate}, {@code PlainTime}, {@code PlainTimestamp},
+     *          {@code Moment}, {@code Duration} or {@code MachineTime}
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     */
+    /*[deutsch]
+     * <p>Liest einen beliebigen unterst&uuml;tzten Zeitwert, dessen Typ
+     * durch das Kopfbyte bestimmt wird. </p>
+     *
+     * @param   in          data input
+     * @return  {@code PlainDate}, {@code PlainTime}, {@code PlainTimestamp},
+     *          {@code Moment}, {@code Duration} or {@code MachineTime}
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     */
+    public static Object read(DataInput in)
+        throws IOException {
+
+        return read(in, 0);
+
+    }
+
+    /**
+     * <p>Reads any supported temporal value whose type is determined by
+     * the header byte from a buffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  {@code PlainDate}, {@code PlainTime}, {@code PlainTimestamp},
+     *          {@code Moment}, {@code Duration} or {@code MachineTime}
+     * @throws  IllegalArgumentException if the data are corrupt
+     */
+    /*[deutsch]
+     * <p>Liest einen beliebigen unterst&uuml;tzten Zeitwert, dessen Typ
+     * durch das Kopfbyte bestimmt wird, aus einem Puffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  {@code PlainDate}, {@code PlainTime}, {@code PlainTimestamp},
+     *          {@code Moment}, {@code Duration} or {@code MachineTime}
+     * @throws  IllegalArgumentException if the data are corrupt
+     */
+    public static Object read(ByteBuffer buffer) {
+
+        return read(buffer, 0);
+
+    }
+
+    /**
+     * <p>Reads a calendar date. </p>
+     *
+     * @param   in          data input
+     * @return  calendar date
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a calendar date
+     */
+    /*[deutsch]
+     * <p>Liest ein Kalenderdatum. </p>
+     *
+     * @param   in          data input
+     * @return  calendar date
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a calendar date
+     */
+    public static PlainDate readDate(DataInput in)
+        throws IOException {
+
+        return PlainDate.class.cast(read(in, DATE_TYPE));
+
+    }
+
+    /**
+     * <p>Reads a calendar date from a buffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  calendar date
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a calendar date
+     */
+    /*[deutsch]
+     * <p>Liest ein Kalenderdatum aus einem Puffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  calendar date
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a calendar date
+     */
+    public static PlainDate readDate(ByteBuffer buffer) {
+
+        return PlainDate.class.cast(read(buffer, DATE_TYPE));
+
+    }
+
+    /**
+     * <p>Reads a wall time. </p>
+     *
+     * @param   in          data input
+     * @return  wall time
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a wall time
+     */
+    /*[deutsch]
+     * <p>Liest eine Uhrzeit. </p>
+     *
+     * @param   in          data input
+     * @return  wall time
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a wall time
+     */
+    public static PlainTime readTime(DataInput in)
+        throws IOException {
+
+        return PlainTime.class.cast(read(in, TIME_TYPE));
+
+    }
+
+    /**
+     * <p>Reads a wall time from a buffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  wall time
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a wall time
+     */
+    /*[deutsch]
+     * <p>Liest eine Uhrzeit aus einem Puffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  wall time
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a wall time
+     */
+    public static PlainTime readTime(ByteBuffer buffer) {
+
+        return PlainTime.class.cast(read(buffer, TIME_TYPE));
+
+    }
+
+    /**
+     * <p>Reads a local timestamp. </p>
+     *
+     * @param   in          data input
+     * @return  local timestamp
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a local timestamp
+     */
+    /*[deutsch]
+     * <p>Liest einen lokalen Zeitstempel. </p>
+     *
+     * @param   in          data input
+     * @return  local timestamp
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a local timestamp
+     */
+    public static PlainTimestamp readTimestamp(DataInput in)
+        throws IOException {
+
+        return PlainTimestamp.class.cast(read(in, TIMESTAMP_TYPE));
+
+    }
+
+    /**
+     * <p>Reads a local timestamp from a buffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  local timestamp
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a local timestamp
+     */
+    /*[deutsch]
+     * <p>Liest einen lokalen Zeitstempel aus einem Puffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  local timestamp
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a local timestamp
+     */
+    public static PlainTimestamp readTimestamp(ByteBuffer buffer) {
+
+        return PlainTimestamp.class.cast(read(buffer, TIMESTAMP_TYPE));
+
+    }
+
+    /**
+     * <p>Reads a moment. </p>
+     *
+     * <p>A leap second can only be read if it is known in this VM or if
+     * leap seconds are switched off. </p>
+     *
+     * @param   in          data input
+     * @return  UTC-moment
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a moment
+     */
+    /*[deutsch]
+     * <p>Liest einen Moment. </p>
+     *
+     * <p>Eine Schaltsekunde kann nur gelesen werden, wenn sie in dieser VM
+     * bekannt ist oder wenn Schaltsekunden abgeschaltet sind. </p>
+     *
+     * @param   in          data input
+     * @return  UTC-moment
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a moment
+     */
+    public static Moment readMoment(DataInput in)
+        throws IOException {
+
+        return Moment.class.cast(read(in, MOMENT_TYPE));
+
+    }
+
+    /**
+     * <p>Reads a moment from a buffer. </p>
+     *
+     * <p>A leap second can only be read if it is known in this VM or if
+     * leap seconds are switched off. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  UTC-moment
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a moment
+     */
+    /*[deutsch]
+     * <p>Liest einen Moment aus einem Puffer. </p>
+     *
+     * <p>Eine Schaltsekunde kann nur gelesen werden, wenn sie in dieser VM
+     * bekannt ist oder wenn Schaltsekunden abgeschaltet sind. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  UTC-moment
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a moment
+     */
+    public static Moment readMoment(ByteBuffer buffer) {
+
+        return Moment.class.cast(read(buffer, MOMENT_TYPE));
+
+    }
+
+    /**
+     * <p>Reads a duration. </p>
+     *
+     * @param   in          data input
+     * @return  duration
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a duration
+     */
+    /*[deutsch]
+     * <p>Liest eine Zeitspanne. </p>
+     *
+     * @param   in          data input
+     * @return  duration
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a duration
+     */
+    @SuppressWarnings("unchecked")
+    public static Duration<IsoUnit> readDuration(DataInput in)
+        throws IOException {
+
+        return (Duration<IsoUnit>) read(in, DURATION_TYPE);
+
+    }
+
+    /**
+     * <p>Reads a duration from a buffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  duration
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a duration
+     */
+    /*[deutsch]
+     * <p>Liest eine Zeitspanne aus einem Puffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  duration
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a duration
+     */
+    @SuppressWarnings("unchecked")
+    public static Duration<IsoUnit> readDuration(ByteBuffer buffer) {
+
+        return (Duration<IsoUnit>) read(buffer, DURATION_TYPE);
+
+    }
+
+    /**
+     * <p>Reads a machine time. </p>
+     *
+     * @param   in          data input
+     * @return  machine time either in POSIX- or in SI-units
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a machine time
+     */
+    /*[deutsch]
+     * <p>Liest eine Maschinenzeit. </p>
+     *
+     * @param   in          data input
+     * @return  machine time either in POSIX- or in SI-units
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent a machine time
+     */
+    public static MachineTime<?> readMachineTime(DataInput in)
+        throws IOException {
+
+        return MachineTime.class.cast(read(in, MACHINE_TIME_TYPE));
+
+    }
+
+    /**
+     * <p>Reads a machine time from a buffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  machine time either in POSIX- or in SI-units
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a machine time
+     */
+    /*[deutsch]
+     * <p>Liest eine Maschinenzeit aus einem Puffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  machine time either in POSIX- or in SI-units
+     * @throws  IllegalArgumentException if the data are corrupt or do not
+     *          represent a machine time
+     */
+    public static MachineTime<?> readMachineTime(ByteBuffer buffer) {
+
+        return MachineTime.class.cast(read(buffer, MACHINE_TIME_TYPE));
+
+    }
+
+    /**
+     * <p>Liest ein Kalenderdatum nach dem schon gelesenen Kopfbyte
+     * (auch f&uuml;r {@code SPX}). </p>
+     *
+     * @param   in          data input
+     * @param   header      header byte with month in lower four bits
+     * @return  calendar date
+     * @throws  IOException in any I/O-failure
+     * @throws  IllegalArgumentException if the date is invalid
+     */
+    static PlainDate readDate(
+        DataInput in,
+        int header
+    ) throws IOException {
+
+        int header2 = in.readByte();
+        int range = (header2 >> 5) & 3;
+        int year;
+
+        switch (range) {
+            case 1:
+                year = in.readByte() + 1850 + 128;
+                break;
+            case 2:
+                year = in.readShort();
+                break;
+            case 3:
+                year = in.readInt();
+                break;
+            default:
+                throw new StreamCorruptedException("Unknown year range.");
+        }
+
+        return PlainDate.of(year, header & 0xF, header2 & 31);
+
+    }
+
+    /**
+     * <p>Liest eine Uhrzeit nach dem schon gelesenen Kopfbyte (auch
+     * f&uuml;r {@code SPX}). </p>
+     *
+     * @param   in          data input
+     * @return  wall time
+     * @throws  IOException in any I/O-failure
+     * @throws  IllegalArgumentException if the time is invalid
+     */
+    static PlainTime readWallTime(DataInput in)
+        throws IOException {
+
+        int minute = 0, second = 0, nano = 0;
+        int hour = in.readByte();
+
+        if (hour < 0) {
+            return PlainTime.of(~hour);
+        } else {
+            minute = in.readByte();
+
+            if (minute < 0) {
+                minute = ~minute;
+            } else {
+                second = in.readByte();
+
+                if (second < 0) {
+                    second = ~second;
+                } else {
+                    nano = in.readInt();
+                }
+            }
+
+            return PlainTime.of(hour, minute, second, nano);
+        }
+
+    }
+
+    /**
+     * <p>Liest eine Maschinenzeit nach dem schon gelesenen Kopfbyte (auch
+     * f&uuml;r {@code SPX}). </p>
+     *
+     * @param   in          data input
+     * @param   header      header byte with scale and fraction flags
+     * @return  machine time
+     * @throws  IOException in any I/O-failure
+     */
+    static MachineTime<?> readMachineTime(
+        DataInput in,
+        int header
+    ) throws IOException {
+
+        long secs = in.readLong();
+        int fraction = (((header & 0x2) == 2) ? in.readInt() : 0);
+        return toMachineTime(header, secs, fraction);
+
+    }
+
+    private static Object read(
+        DataInput in,
+        int expectedType
+    ) throws IOException {
+
+        int header = in.readByte();
+        int type = header >> 4;
+
+        if ((expectedType != 0) && (type != expectedType)) {
+            throw new StreamCorruptedException(
+                "Unexpected type: " + type + " (expected: "
+                + expectedType + ")");
+        }
+
+        try {
+            switch (type) {
+                case DATE_TYPE:
+                    return readDate(in, header);
+                case TIME_TYPE:
+                    return readWallTime(in);
+                case TIMESTAMP_TYPE:
+                    PlainDate date = readDate(in, header);
+                    return PlainTimestamp.of(date, readWallTime(in));
+                case MOMENT_TYPE:
+                    return Moment.readTimestamp(
+                        in, ((header & 1) != 0), ((header & 2) != 0));
+                case DURATION_TYPE:
+                    int mask = in.readUnsignedShort();
+                    boolean useLong = ((header & 2) == 2);
+                    long[] amounts = new long[UNIT_COUNT];
+                    checkMask(mask);
+                    for (int i = 0; i < UNIT_COUNT; i++) {
+                        if ((mask & (1 << i)) == 0) {
+                            continue;
+                        }
+                        amounts[i] = (useLong ? in.readLong() : in.readInt());
+                    }
+                    return toDuration(header, mask, amounts);
+                case MACHINE_TIME_TYPE:
+                    return readMachineTime(in, header);
+                default:
+                    throw new StreamCorruptedException(
+                        "Unknown type: " + type);
+            }
+        } catch (IllegalArgumentException iae) {
+            StreamCorruptedException sce =
+                new StreamCorruptedException(iae.getMessage());
+            sce.initCause(iae);
+            throw sce;
+        }
+
+    }
+
+    private static Object read(
+        ByteBuffer buffer,
+        int expectedType
+    ) {
+
+        int header = buffer.get();
+        int type = header >> 4;
+
+        if ((expectedType != 0) && (type != expectedType)) {
+            throw new IllegalArgumentException(
+                "Unexpected type: " + type + " (expected: "
+                + expectedType + ")");
+        }
+
+        switch (type) {
+            case DATE_TYPE:
+                return readDate(buffer, header);
+            case TIME_TYPE:
+                return readWallTime(buffer);
+            case TIMESTAMP_TYPE:
+                PlainDate date = readDate(buffer, header);
+                return PlainTimestamp.of(date, readWallTime(buffer));
+            case MOMENT_TYPE:
+                return Moment.readTimestamp(
+                    buffer, ((header & 1) != 0), ((header & 2) != 0));
+            case DURATION_TYPE:
+                int mask = buffer.getShort() & 0xFFFF;
+                boolean useLong = ((header & 2) == 2);
+                long[] amounts = new long[UNIT_COUNT];
+                checkMask(mask);
+                for (int i = 0; i < UNIT_COUNT; i++) {
+                    if ((mask & (1 << i)) == 0) {
+                        continue;
+                    }
+                    amounts[i] = (useLong ? buffer.getLong() : buffer.getInt());
+                }
+                return toDuration(header, mask, amounts);
+            case MACHINE_TIME_TYPE:
+                long secs = buffer.getLong();
+                int fraction = (((header & 0x2) == 2) ? buffer.getInt() : 0);
+                return toMachineTime(header, secs, fraction);
+            default:
+                throw new IllegalArgumentException("Unknown type: " + type);
+        }
+
+    }
+
+    private static PlainDate readDate(
+        ByteBuffer buffer,
+        int header
+    ) {
+
+        int header2 = buffer.get();
+        int range = (header2 >> 5) & 3;
+        int year;
+
+        switch (range) {
+            case 1:
+                year = buffer.get() + 1850 + 128;
+                break;
+            case 2:
+                year = buffer.getShort();
+                break;
+            case 3:
+                year = buffer.getInt();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown year range.");
+        }
+
+        return PlainDate.of(year, header & 0xF, header2 & 31);
+
+    }
+
+    private static PlainTime readWallTime(ByteBuffer buffer) {
+
+        int minute = 0, second = 0, nano = 0;
+        int hour = buffer.get();
+
+        if (hour < 0) {
+            return PlainTime.of(~hour);
+        } else {
+            minute = buffer.get();
+
+            if (minute < 0) {
+                minute = ~minute;
+            } else {
+                second = buffer.get();
+
+                if (second < 0) {
+                    second = ~second;
+                } else {
+                    nano = buffer.getInt();
+                }
+            }
+
+            return PlainTime.of(hour, minute, second, nano);
+        }
+
+    }
+
+    // Bit 0-3 => type (4)
+    // Bit 4-7 => month (4)
+    // Bit 8 => unused
+    // Bit 9-10 => year-range (2)
+    // Bit 11-15 => day-of-month (5)
+    // byte - short - int => year
+    private static void writeDate(
+        PlainDate date,
+        int type,
+        DataOutput out
+    ) throws IOException {
+
+        int year = date.getYear();
+        int range = getYearRange(year);
+
+        out.writeByte((type << 4) | date.getMonth());
+        out.writeByte((range << 5) | date.getDayOfMonth());
+
+        if (range == 1) {
+            out.writeByte(year - 1850 - 128);
+        } else if (range == 2) {
+            out.writeShort(year);
+        } else {
+            out.writeInt(year);
+        }
+
+    }
+
+    private static void writeDate(
+        PlainDate date,
+        int type,
+        ByteBuffer buffer
+    ) {
+
+        int year = date.getYear();
+        int range = getYearRange(year);
+
+        buffer.put((byte) ((type << 4) | date.getMonth()));
+        buffer.put((byte) ((range << 5) | date.getDayOfMonth()));
+
+        if (range == 1) {
+            buffer.put((byte) (year - 1850 - 128));
+        } else if (range == 2) {
+            buffer.putShort((short) year);
+        } else {
+            buffer.putInt(year);
+        }
+
+    }
+
+    private static int getYearRange(int year) {
+
+        if (year >= 1850 && year <= 2100) {
+            return 1;
+        } else if (Math.abs(year) < 10000) {
+            return 2;
+        } else {
+            return 3;
+        }
+
+    }
+
+    // die letzte von null verschiedene Komponente wird bitweise negiert
+    private static void writeTime(
+        PlainTime time,
+        DataOutput out
+    ) throws IOException {
+
+        if (time.getNanosecond() == 0) {
+            if (time.getSecond() == 0) {
+                if (time.getMinute() == 0) {
+                    out.writeByte(~time.getHour());
+                } else {
+                    out.writeByte(time.getHour());
+                    out.writeByte(~time.getMinute());
+                }
+            } else {
+                out.writeByte(time.getHour());
+                out.writeByte(time.getMinute());
+                out.writeByte(~time.getSecond());
+            }
+        } else {
+            out.writeByte(time.getHour());
+            out.writeByte(time.getMinute());
+            out.writeByte(time.getSecond());
+            out.writeInt(time.getNanosecond());
+        }
+
+    }
+
+    private static void writeTime(
+        PlainTime time,
+        ByteBuffer buffer
+    ) {
+
+        if (time.getNanosecond() == 0) {
+            if (time.getSecond() == 0) {
+                if (time.getMinute() == 0) {
+                    buffer.put((byte) ~time.getHour());
+                } else {
+                    buffer.put((byte) time.getHour());
+                    buffer.put((byte) ~time.getMinute());
+                }
+            } else {
+                buffer.put((byte) time.getHour());
+                buffer.put((byte) time.getMinute());
+                buffer.put((byte) ~time.getSecond());
+            }
+        } else {
+            buffer.put((byte) time.getHour());
+            buffer.put((byte) time.getMinute());
+            buffer.put((byte) time.getSecond());
+            buffer.putInt(time.getNanosecond());
+        }
+
+    }
+
+    // Beträge in der Reihenfolge der Einheiten (nur lesend verwenden)
+    private static long[] getAmounts(Duration<?> duration) {
+
+        long[] amounts = Duration.getCompactAmounts(duration);
+
+        if (amounts == null) {
+            amounts = new long[UNIT_COUNT];
+
+            for (Item<?> item : duration.getTotalLength()) {
+                amounts[indexOf(item.getUnit())] = item.getAmount();
+            }
+        }
+
+        return amounts;
+
+    }
+
+    private static int indexOf(Object unit) {
+
+        if (unit instanceof CalendarUnit) {
+            return CalendarUnit.class.cast(unit).ordinal();
+        } else if (unit instanceof ClockUnit) {
+            return CLOCK_INDEX + ClockUnit.class.cast(unit).ordinal();
+        }
+
+        throw new IllegalArgumentException("Unsupported unit: " + unit);
+
+    }
+
+    private static int getMask(long[] amounts) {
+
+        int mask = 0;
+
+        for (int i = 0; i < UNIT_COUNT; i++) {
+            if (amounts[i] != 0) {
+                mask |= (1 << i);
+            }
+        }
+
+        return mask;
+
+    }
+
+    private static boolean isLong(long[] amounts) {
+
+        for (int i = 0; i < UNIT_COUNT; i++) {
+            if (amounts[i] > Integer.MAX_VALUE) {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
+    private static int getDurationHeader(
+        Duration<?> duration,
+        boolean useLong
+    ) {
+
+        int header = DURATION_TYPE;
+        header <<= 4;
+
+        if (duration.isNegative()) {
+            header |= 1;
+        }
+
+        if (useLong) {
+            header |= 2;
+        }
+
+        return header;
+
+    }
+
+    private static void checkMask(int mask) {
+
+        if ((mask >>> UNIT_COUNT) != 0) {
+            throw new IllegalArgumentException(
+                "Unknown duration units: " + Integer.toHexString(mask));
+        }
+
+    }
+
+    private static Duration<IsoUnit> toDuration(
+        int header,
+        int mask,
+        long[] amounts
+    ) {
+
+        boolean negative = ((header & 1) == 1);
+
+        if (mask == 0) {
+            return Duration.ofZero();
+        } else if ((mask & FRACTION_MASK) == 0) {
+            return Duration.ofCompact(amounts, negative);
+        }
+
+        // Millisekunden und Mikrosekunden haben keine kompakte Darstellung
+        List<Item<IsoUnit>> items =
+            new ArrayList<Item<IsoUnit>>(Integer.bitCount(mask));
+
+        for (int i = 0; i < UNIT_COUNT; i++) {
+            if ((mask & (1 << i)) != 0) {
+                items.add(Item.of(amounts[i], Duration.getCompactUnit(i)));
+            }
+        }
+
+        return new Duration<IsoUnit>(items, negative);
+
+    }
+
+    private static int getMachineTimeHeader(MachineTime<?> machineTime) {
+
+        int header = MACHINE_TIME_TYPE;
+        header <<= 4;
+
+        if (machineTime.getScale() == TimeScale.UTC) {
+            header |= 1;
+        }
+
+        if (machineTime.getFraction() != 0) {
+            header |= 2;
+        }
+
+        return header;
+
+    }
+
+    private static MachineTime<?> toMachineTime(
+        int header,
+        long secs,
+        int fraction
+    ) {
+
+        if ((header & 0x1) == 1) {
+            return MachineTime.ofSIUnits(secs, fraction);
+        } else {
+            return MachineTime.ofPosixUnits(secs, fraction);
+        }
+
+    }
+
+}
@@ -0,0 +1,636 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (UnitTemplates.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.format.NumberType;
+import net.time4j.format.PluralCategory;
+import net.time4j.format.PluralRules;
+import net.time4j.format.TextWidth;
+import net.time4j.format.UnitPatterns;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+
+/**
+ * <p>Vorkompilierte Zeiteinheitsmuster einer Sprache f&uuml;r
+ * {@code PrettyTime}. </p>
+ *
+ * <p>Jedes Muster aus {@link UnitPatterns} wird genau einmal pro
+ * Kombination aus Zeiteinheit, Textbreite bzw. Zeitrichtung und
+ * Pluralkategorie in einen Pr&auml;fix und einen Suffix um den
+ * Platzhalter &quot;{0}&quot; zerlegt. Die Zahlenausgabe erfolgt
+ * direkt zeichenweise ohne Zwischenobjekte. Die Textausgaben f&uuml;r
+ * die kleinen Betr&auml;ge {@code 0-60} werden pro Nullziffer
+ * gemerkt. </p>
+ *
+ * <p>Die Instanzen werden schwach an die jeweils zugrundeliegende
+ * {@code UnitPatterns}-Instanz geh&auml;ngt. Damit unterliegen sie
+ * derselben Gr&ouml;&szlig;enbeschr&auml;nkung wie der Cache von
+ * {@code UnitPatterns} und werden zusammen mit dessen Eintr&auml;gen
+ * freigegeben. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <threadsafe>
+ */
+final class UnitTemplates {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final int YEARS = 0;
+    static final int MONTHS = 1;
+    static final int WEEKS = 2;
+    static final int DAYS = 3;
+    static final int HOURS = 4;
+    static final int MINUTES = 5;
+    static final int SECONDS = 6;
+    static final int MILLIS = 7;
+    static final int MICROS = 8;
+    static final int NANOS = 9;
+
+    // Formen: TextWidth.ordinal() für Standardmuster, danach die Zeitrichtung
+    static final int PAST = TextWidth.values().length;
+    static final int FUTURE = PAST + 1;
+
+    private static final int UNIT_COUNT = NANOS + 1;
+    private static final int FORM_COUNT = FUTURE + 1;
+    private static final int RELATIVE_UNIT_COUNT = SECONDS + 1;
+    private static final int MEMO_SIZE = 61;
+    private static final int MIN_LIST_SIZE = 2;
+    private static final int MAX_LIST_SIZE = 7;
+
+    private static final Map<UnitPatterns, UnitTemplates> CACHE =
+        new WeakHashMap<UnitPatterns, UnitTemplates>();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final PluralRules rules;
+    private final char memoZeroDigit;
+    private final Template[][][] templates;
+    private final ListTemplate[][] lists;
+    private final String now;
+    private final String[][] memo;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private UnitTemplates(
+        Locale locale,
+        UnitPatterns p,
+        char memoZeroDigit
+    ) {
+        super();
+
+        PluralCategory[] categories = PluralCategory.values();
+        TextWidth[] widths = TextWidth.values();
+
+        this.rules = PluralRules.of(locale, NumberType.CARDINALS);
+        this.memoZeroDigit = memoZeroDigit;
+        this.templates = new Template[UNIT_COUNT][FORM_COUNT][];
+
+        for (int unit = 0; unit < UNIT_COUNT; unit++) {
+            for (TextWidth width : widths) {
+                Template[] t = new Template[categories.length];
+                for (PluralCategory category : categories) {
+                    t[category.ordinal()] =
+                        Template.compile(
+                            getPattern(p, unit, width, category));
+                }
+                this.templates[unit][width.ordinal()] = t;
+            }
+
+            if (unit < RELATIVE_UNIT_COUNT) {
+                Template[] past = new Template[categories.length];
+                Template[] future = new Template[categories.length];
+                for (PluralCategory category : categories) {
+                    int index = category.ordinal();
+                    past[index] =
+                        Template.compile(
+                            getPattern(p, unit, false, category));
+                    future[index] =
+                        Template.compile(
+                            getPattern(p, unit, true, category));
+                }
+                this.templates[unit][PAST] = past;
+                this.templates[unit][FUTURE] = future;
+            }
+        }
+
+        this.lists = new ListTemplate[widths.length][MAX_LIST_SIZE + 1];
+
+        for (TextWidth width : widths) {
+            for (int size = MIN_LIST_SIZE; size <= MAX_LIST_SIZE; size++) {
+                this.lists[width.ordinal()][size] =
+                    ListTemplate.compile(p.getListPattern(width, size), size);
+            }
+        }
+
+        this.now = p.getNowWord();
+        this.memo = new String[UNIT_COUNT * FORM_COUNT][];
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert die vorkompilierten Muster f&uuml;r die angegebene
+     * Sprache. </p>
+     *
+     * @param   locale          language setting
+     * @param   memoZeroDigit   zero digit whose output shall be memoized
+     * @return  cached instance
+     */
+    static UnitTemplates of(
+        Locale locale,
+        char memoZeroDigit
+    ) {
+
+        UnitPatterns p = UnitPatterns.of(locale);
+
+        synchronized (CACHE) {
+            UnitTemplates t = CACHE.get(p);
+
+            if (t == null) {
+                t = new UnitTemplates(locale, p, memoZeroDigit);
+                CACHE.put(p, t); // Wert darf p nicht referenzieren
+            }
+
+            return t;
+        }
+
+    }
+
+    /**
+     * <p>Liefert das lokalisierte Wort f&uuml;r jetzt. </p>
+     *
+     * @return  String
+     */
+    String getNowWord() {
+
+        return this.now;
+
+    }
+
+    /**
+     * <p>Formatiert den angegebenen Betrag. </p>
+     *
+     * @param   amount      count of units
+     * @param   unit        unit index (YEARS - NANOS)
+     * @param   form        text width ordinal or PAST/FUTURE
+     * @param   zeroDigit   localized zero digit
+     * @param   minusSign   localized minus sign
+     * @return  formatted output, maybe shared
+     */
+    String print(
+        long amount,
+        int unit,
+        int form,
+        char zeroDigit,
+        String minusSign
+    ) {
+
+        if (
+            (amount >= 0)
+            && (amount < MEMO_SIZE)
+            && (zeroDigit == this.memoZeroDigit)
+        ) {
+            int key = unit * FORM_COUNT + form;
+            String[] values = this.memo[key];
+
+            if (values == null) {
+                values = new String[MEMO_SIZE];
+                this.memo[key] = values; // benign race
+            }
+
+            int index = (int) amount;
+            String s = values[index];
+
+            if (s == null) {
+                s = this.render(amount, unit, form, zeroDigit, minusSign);
+                values[index] = s; // benign race (immutable strings)
+            }
+
+            return s;
+        }
+
+        return this.render(amount, unit, form, zeroDigit, minusSign);
+
+    }
+
+    /**
+     * <p>Formatiert den angegebenen Betrag in den Puffer. </p>
+     *
+     * @param   amount      count of units
+     * @param   unit        unit index (YEARS - NANOS)
+     * @param   form        text width ordinal or PAST/FUTURE
+     * @param   zeroDigit   localized zero digit
+     * @param   minusSign   localized minus sign
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing into buffer fails
+     */
+    void print(
+        long amount,
+        int unit,
+        int form,
+        char zeroDigit,
+        String minusSign,
+        Appendable buffer
+    ) throws IOException {
+
+        if ((amount >= 0) && (amount < MEMO_SIZE)) {
+            buffer.append(this.print(amount, unit, form, zeroDigit, minusSign));
+        } else {
+            this.getTemplate(amount, unit, form).print(
+                amount, zeroDigit, minusSign, buffer);
+        }
+
+    }
+
+    /**
+     * <p>Formatiert eine Liste von Einzelausgaben in den Puffer. </p>
+     *
+     * @param   items       formatted list items (at least two)
+     * @param   count       count of list items
+     * @param   width       text width
+     * @param   locale      language setting
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing into buffer fails
+     */
+    void printList(
+        String[] items,
+        int count,
+        TextWidth width,
+        Locale locale,
+        Appendable buffer
+    ) throws IOException {
+
+        ListTemplate lt = (
+            (count <= MAX_LIST_SIZE)
+            ? this.lists[width.ordinal()][count]
+            : null);
+
+        if (lt == null) {
+            Object[] args = new Object[count];
+            System.arraycopy(items, 0, args, 0, count);
+            buffer.append(
+                MessageFormat.format(
+                    UnitPatterns.of(locale).getListPattern(width, count),
+                    args));
+        } else {
+            lt.print(items, buffer);
+        }
+
+    }
+
+    /**
+     * <p>Schreibt die Ziffern des angegebenen Betrags ohne Zwischenobjekte
+     * in den Puffer. </p>
+     *
+     * @param   amount      number to be printed
+     * @param   zeroDigit   localized zero digit
+     * @param   minusSign   localized minus sign
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing into buffer fails
+     */
+    static void printNumber(
+        long amount,
+        char zeroDigit,
+        String minusSign,
+        Appendable buffer
+    ) throws IOException {
+
+        // negativer Wertebereich vermeidet Überlauf bei Long.MIN_VALUE
+        long n = amount;
+
+        if (n < 0) {
+            buffer.append(minusSign);
+        } else {
+            n = -n;
+        }
+
+        if (n > -10) {
+            buffer.append((char) (zeroDigit - n));
+            return;
+        }
+
+        long divisor = 1;
+
+        while (n / divisor <= -10) {
+            divisor *= 10;
+        }
+
+        while (divisor > 0) {
+            buffer.append((char) (zeroDigit - (n / divisor)));
+            n = n % divisor;
+            divisor /= 10;
+        }
+
+    }
+
+    private String render(
+        long amount,
+        int unit,
+        int form,
+        char zeroDigit,
+        String minusSign
+    ) {
+
+        Template t = this.getTemplate(amount, unit, form);
+
+        if (t.suffix == null) {
+            return t.prefix;
+        }
+
+        StringBuilder sb =
+            new StringBuilder(t.prefix.length() + t.suffix.length() + 20);
+
+        try {
+            t.print(amount, zeroDigit, minusSign, sb);
+        } catch (IOException ioe) {
+            throw new IllegalStateException(ioe); // cannot happen
+        }
+
+        return sb.toString();
+
+    }
+
+    private Template getTemplate(
+        long amount,
+        int unit,
+        int form
+    ) {
+
+        Template[] t = this.templates[unit][form];
+
+        if (t == null) {
+            throw new UnsupportedOperationException(
+                "No relative pattern for unit index: " + unit);
+        }
+
+        PluralCategory category = this.rules.getCategory(Math.abs(amount));
+        return t[category.ordinal()];
+
+    }
+
+    private static String getPattern(
+        UnitPatterns p,
+        int unit,
+        TextWidth width,
+        PluralCategory category
+    ) {
+
+        switch (unit) {
+            case YEARS:
+                return p.getYears(width, category);
+            case MONTHS:
+                return p.getMonths(width, category);
+            case WEEKS:
+                return p.getWeeks(width, category);
+            case DAYS:
+                return p.getDays(width, category);
+            case HOURS:
+                return p.getHours(width, category);
+            case MINUTES:
+                return p.getMinutes(width, category);
+            case SECONDS:
+                return p.getSeconds(width, category);
+            case MILLIS:
+                return p.getMillis(width, category);
+            case MICROS:
+                return p.getMicros(width, category);
+            case NANOS:
+                return p.getNanos(width, category);
+            default:
+                throw new UnsupportedOperationException(
+                    "Unknown unit index: " + unit);
+        }
+
+    }
+
+    private static String getPattern(
+        UnitPatterns p,
+        int unit,
+        boolean future,
+        PluralCategory category
+    ) {
+
+        switch (unit) {
+            case YEARS:
+                return (
+                    future
+                    ? p.getYearsInFuture(category)
+                    : p.getYearsInPast(category));
+            case MONTHS:
+                return (
+                    future
+                    ? p.getMonthsInFuture(category)
+                    : p.getMonthsInPast(category));
+            case WEEKS:
+                return (
+                    future
+                    ? p.getWeeksInFuture(category)
+                    : p.getWeeksInPast(category));
+            case DAYS:
+                return (
+                    future
+                    ? p.getDaysInFuture(category)
+                    : p.getDaysInPast(category));
+            case HOURS:
+                return (
+                    future
+                    ? p.getHoursInFuture(category)
+                    : p.getHoursInPast(category));
+            case MINUTES:
+                return (
+                    future
+                    ? p.getMinutesInFuture(category)
+                    : p.getMinutesInPast(category));
+            case SECONDS:
+                return (
+                    future
+                    ? p.getSecondsInFuture(category)
+                    : p.getSecondsInPast(category));
+            default:
+                throw new UnsupportedOperationException(
+                    "Unknown unit index: " + unit);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Ein in Pr&auml;fix und Suffix um den ersten Platzhalter
+     * &quot;{0}&quot; zerlegtes Muster. </p>
+     */
+    private static final class Template {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String prefix;
+        private final String suffix; // null if there is no placeholder
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Template(
+            String prefix,
+            String suffix
+        ) {
+            super();
+
+            this.prefix = prefix;
+            this.suffix = suffix;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static Template compile(String pattern) {
+
+            int pos = pattern.indexOf("{0}");
+
+            if (pos == -1) {
+                return new Template(pattern, null);
+            }
+
+            return new Template(
+                pattern.substring(0, pos),
+                pattern.substring(pos + 3));
+
+        }
+
+        void print(
+            long amount,
+            char zeroDigit,
+            String minusSign,
+            Appendable buffer
+        ) throws IOException {
+
+            buffer.append(this.prefix);
+
+            if (this.suffix != null) {
+                printNumber(amount, zeroDigit, minusSign, buffer);
+                buffer.append(this.suffix);
+            }
+
+        }
+
+    }
+
+    /**
+     * <p>Ein in Literale und Platzhalterindizes zerlegtes Listenmuster. </p>
+     */
+    private static final class ListTemplate {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String[] literals;
+        private final int[] indices;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private ListTemplate(
+            String[] literals,
+            int[] indices
+        ) {
+            super();
+
+            this.literals = literals;
+            this.indices = indices;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // null, wenn das Muster Quotierungen enthält (MessageFormat nötig)
+        static ListTemplate compile(
+            String pattern,
+            int size
+        ) {
+
+            if (pattern.indexOf('\'') >= 0) {
+                return null;
+            }
+
+            String[] literals = new String[size + 1];
+            int[] indices = new int[size];
+            int start = 0;
+
+            for (int i = 0; i < size; i++) {
+                int open = pattern.indexOf('{', start);
+
+                if (open == -1) {
+                    return null;
+                }
+
+                int close = pattern.indexOf('}', open);
+
+                if (close == -1) {
+                    return null;
+                }
+
+                int index;
+
+                try {
+                    index = Integer.parseInt(pattern.substring(open + 1, close));
+                } catch (NumberFormatException nfe) {
+                    return null;
+                }
+
+                if ((index < 0) || (index >= size)) {
+                    return null;
+                }
+
+                literals[i] = pattern.substring(start, open);
+                indices[i] = index;
+                start = close + 1;
+            }
+
+            if (pattern.indexOf('{', start) >= 0) {
+                return null;
+            }
+
+            literals[size] = pattern.substring(start);
+            return new ListTemplate(literals, indices);
+
+        }
+
+        void print(
+            String[] items,
+            Appendable buffer
+        ) throws IOException {
+
+            for (int i = 0; i < this.indices.length; i++) {
+                buffer.append(this.literals[i]);
+                buffer.append(items[this.indices[i]]);
+            }
+
+            buffer.append(this.literals[this.indices.length]);
+
+        }
+
+    }
+
+}
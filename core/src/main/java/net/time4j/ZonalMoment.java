@@ -64,6 +64,12 @@ import static net.time4j.format.Attributes.TIMEZONE_ID;
  *  Moment globalTSP = zm.toMoment().plus(30, SI.SECONDS);
  * </pre>
  *
+ * <p>The local timestamp and the offset are determined only once when
+ * this object is created. So this type also serves as decomposed view
+ * if many fields of the same moment are queried, for example
+ * {@code moment.inZonalView(ZonalOffset.UTC)} for the fields in UTC. The
+ * {@code Moment} itself does not keep any decomposition. </p>
+ *
  * @author  Meno Hochschild
  * @since   2.0
  * @concurrency This class is immutable as long as the underlying timezone
@@ -95,6 +101,12 @@ import static net.time4j.format.Attributes.TIMEZONE_ID;
  *  Moment globalTSP = zm.toMoment().plus(30, SI.SECONDS);
  * </pre>
  *
+ * <p>Der lokale Zeitstempel und der Offset werden nur einmal beim Erzeugen
+ * dieses Objekts bestimmt. Deshalb dient dieser Typ auch als zerlegte
+ * Sicht, wenn viele Felder desselben Moments abgefragt werden, zum Beispiel
+ * {@code moment.inZonalView(ZonalOffset.UTC)} f&uuml;r die Felder in UTC.
+ * Der {@code Moment} selbst speichert keine Zerlegung. </p>
+ *
  * @author  Meno Hochschild
  * @since   2.0
  * @concurrency This class is immutable as long as the underlying timezone
@@ -121,6 +133,8 @@ public final class ZonalMoment
 
     private final Moment moment;
     private final Timezone zone;
+    private transient final ZonalOffset offset;
+    private transient final boolean leapsecond;
     private transient final PlainTimestamp timestamp;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -133,8 +147,9 @@ public final class ZonalMoment
 
         this.zone = tz;
         ZonalOffset offset = tz.getOffset(moment);
+        boolean ls = moment.isLeapSecond();
 
-        if (moment.isLeapSecond()) {
+        if (ls) {
             if (
                 (offset.getFractionalAmount() != 0)
                 || ((offset.getAbsoluteSeconds() % 60) != 0)
@@ -147,6 +162,8 @@ public final class ZonalMoment
         }
 
         this.moment = moment;
+        this.offset = offset;
+        this.leapsecond = ls;
         this.timestamp = PlainTimestamp.from(moment, offset);
 
     }
@@ -159,6 +176,8 @@ public final class ZonalMoment
 
         this.moment = tsp.at(offset);
         this.zone = Timezone.of(offset);
+        this.offset = offset;
+        this.leapsecond = this.moment.isLeapSecond();
         this.timestamp = tsp;
 
     }
@@ -213,7 +232,7 @@ public final class ZonalMoment
     public <V> V get(ChronoElement<V> element) {
 
         if (
-            this.moment.isLeapSecond()
+            this.leapsecond
             && (element == SECOND_OF_MINUTE)
         ) {
             return element.getType().cast(Integer.valueOf(60));
@@ -309,7 +328,7 @@ public final class ZonalMoment
      */
     public ZonalOffset getOffset() {
 
-        return this.zone.getOffset(this.moment);
+        return this.offset;
 
     }
 
@@ -362,7 +381,7 @@ public final class ZonalMoment
     @Override
     public boolean isLeapSecond() {
 
-        return this.moment.isLeapSecond();
+        return this.leapsecond;
 
     }
 
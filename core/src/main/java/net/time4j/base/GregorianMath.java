@@ -56,6 +56,34 @@ public final class GregorianMath {
     // Tage zwischen [0000-03-01] und [1970-01-01] minus MJD-Epoche
     private static final int OFFSET = 719468 - 40587;
 
+    // Schnellbereich 1901-2099 mit einfacher Schaltjahresregel
+    private static final int FAST_MIN_YEAR = 1901;
+    private static final int FAST_MAX_YEAR = 2099;
+
+    // kumulierte Tage vor jedem Monat (Index 0: Normaljahr, 1: Schaltjahr)
+    private static final int[][] DAYS_BEFORE_MONTH = {
+        {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334, 365},
+        {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335, 366}
+    };
+
+    // MJD des Jahresanfangs für 1901-2100 (letzter Eintrag als Obergrenze)
+    private static final int[] YEAR_START;
+    private static final long FAST_MIN_MJD;
+    private static final long FAST_MAX_MJD;
+
+    static {
+        int count = FAST_MAX_YEAR - FAST_MIN_YEAR + 2;
+        int[] starts = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            starts[i] = (int) calculateMJD(FAST_MIN_YEAR + i, 1, 1);
+        }
+
+        YEAR_START = starts;
+        FAST_MIN_MJD = starts[0];
+        FAST_MAX_MJD = starts[count - 1] - 1;
+    }
+
     //~ Konstruktoren -----------------------------------------------------
 
     private GregorianMath() {
@@ -256,6 +284,11 @@ public final class GregorianMath {
                 + toString(year, month, dayOfMonth));
         }
 
+        if ((year >= FAST_MIN_YEAR) && (year <= FAST_MAX_YEAR)) {
+            // [1858-11-17] war ein Mittwoch
+            return ((fastMJD(year, month, dayOfMonth) + 2) % 7) + 1;
+        }
+
         int m = gaussianWeekTerm(month);
         int y = (year % 100);
         int c = MathUtils.floorDivide(year, 100);
@@ -379,16 +412,16 @@ public final class GregorianMath {
      */
     public static long toPackedDate(long mjd) {
 
+        if ((mjd >= FAST_MIN_MJD) && (mjd <= FAST_MAX_MJD)) {
+            return fastPackedDate((int) mjd);
+        }
+
         long y;
         int m;
         int d;
 
         long days = MathUtils.safeAdd(mjd, OFFSET);
 
-        // TODO: Optimierung der Performance im Jahresbereich 1901-2099
-        //       mit vereinfachtem Schaltjahresalgorithmus
-        // if (days >= year1901 && days < year2100) { ... }
-
         long q400 = MathUtils.floorDivide(days, 146097);
         int r400 = MathUtils.floorModulo(days, 146097);
 
@@ -434,6 +467,71 @@ public final class GregorianMath {
 
     }
 
+    /**
+     * <p>Adds given count of months to a packed date. </p>
+     *
+     * <p>If the day of month does not exist in the target month then the
+     * last day of that month will be chosen (as the standard policy
+     * {@code PREVIOUS_VALID_DATE} of calendar units does). </p>
+     *
+     * @param   packedDate  packed date in binary format
+     * @param   months      count of months to be added
+     * @return  packed date in binary format
+     * @throws  IllegalArgumentException if the calculated year is not in
+     *          range [(-999999999)-999999999)]
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #toPackedDate(long)
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Addiert die angegebene Anzahl von Monaten zu einem gepackten
+     * Datum. </p>
+     *
+     * <p>Existiert der Tag des Monats im Zielmonat nicht, wird der letzte
+     * Tag dieses Monats gew&auml;hlt (wie die Standardstrategie
+     * {@code PREVIOUS_VALID_DATE} von Kalendereinheiten). </p>
+     *
+     * @param   packedDate  packed date in binary format
+     * @param   months      count of months to be added
+     * @return  packed date in binary format
+     * @throws  IllegalArgumentException if the calculated year is not in
+     *          range [(-999999999)-999999999)]
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #toPackedDate(long)
+     * @since   2.2
+     */
+    public static long addMonths(
+        long packedDate,
+        long months
+    ) {
+
+        if (months == 0) {
+            return packedDate;
+        }
+
+        int year = readYear(packedDate);
+        int month = readMonth(packedDate);
+        int dom = readDayOfMonth(packedDate);
+
+        long epochMonths =
+            MathUtils.safeAdd((year - 1970) * 12L + month - 1, months);
+        long y = MathUtils.floorDivide(epochMonths, 12) + 1970;
+        int m = MathUtils.floorModulo(epochMonths, 12) + 1;
+
+        if (y < GregorianMath.MIN_YEAR || y > GregorianMath.MAX_YEAR) {
+            throw new IllegalArgumentException(
+                "Year out of range: " + y);
+        }
+
+        int d = Math.min(dom, getLengthOfMonth((int) y, m));
+
+        long result = (y << 32);
+        result |= (m << 16);
+        result |= d;
+        return result;
+
+    }
+
     /**
      * <p>Calculates the modified julian date. </p>
      *
@@ -474,7 +572,6 @@ public final class GregorianMath {
      * @return  days since [1858-11-17] (modified julian date)
      * @throws  IllegalArgumentException if the argument is out of range
      */
-    // TODO: Optimierung der Performance mit Jahres-Array im Bereich 1901-2099
     public static long toMJD(
         int year,
         int month,
@@ -483,24 +580,11 @@ public final class GregorianMath {
 
         checkDate(year, month, dayOfMonth);
 
-        long y = year;
-        int m = month;
-
-        if (m < 3) {
-            y--;
-            m += 12;
+        if ((year >= FAST_MIN_YEAR) && (year <= FAST_MAX_YEAR)) {
+            return fastMJD(year, month, dayOfMonth);
         }
 
-        long days = (
-            (y * 365)
-            + MathUtils.floorDivide(y, 4)
-            - MathUtils.floorDivide(y, 100)
-            + MathUtils.floorDivide(y, 400)
-            + (((m + 1) * 153) / 5) - 123
-            + dayOfMonth
-        );
-
-        return days - OFFSET;
+        return calculateMJD(year, month, dayOfMonth);
 
     }
 
@@ -565,4 +649,76 @@ public final class GregorianMath {
 
     }
 
+    // allgemeiner Algorithmus für den gesamten Jahresbereich
+    private static long calculateMJD(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        long y = year;
+        int m = month;
+
+        if (m < 3) {
+            y--;
+            m += 12;
+        }
+
+        long days = (
+            (y * 365)
+            + MathUtils.floorDivide(y, 4)
+            - MathUtils.floorDivide(y, 100)
+            + MathUtils.floorDivide(y, 400)
+            + (((m + 1) * 153) / 5) - 123
+            + dayOfMonth
+        );
+
+        return days - OFFSET;
+
+    }
+
+    // Voraussetzung: gültiges Datum im Bereich 1901-2099
+    private static int fastMJD(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        int leap = (((year & 3) == 0) ? 1 : 0);
+
+        return (
+            YEAR_START[year - FAST_MIN_YEAR]
+            + DAYS_BEFORE_MONTH[leap][month - 1]
+            + dayOfMonth - 1
+        );
+
+    }
+
+    // Voraussetzung: MJD im Bereich 1901-2099
+    private static long fastPackedDate(int mjd) {
+
+        int index = (mjd - YEAR_START[0]) / 365; // eventuell ein Jahr zu groß
+
+        if (YEAR_START[index] > mjd) {
+            index--;
+        }
+
+        int year = FAST_MIN_YEAR + index;
+        int dayOfYear = mjd - YEAR_START[index];
+        int[] table = DAYS_BEFORE_MONTH[((year & 3) == 0) ? 1 : 0];
+        int month = (dayOfYear >> 5) + 1; // eventuell ein Monat zu klein
+
+        if (dayOfYear >= table[month]) {
+            month++;
+        }
+
+        int dom = dayOfYear - table[month - 1] + 1;
+
+        long result = (((long) year) << 32);
+        result |= (month << 16);
+        result |= dom;
+        return result;
+
+    }
+
 }
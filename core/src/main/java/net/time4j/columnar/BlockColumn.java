@@ -0,0 +1,971 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BlockColumn.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.columnar;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.LeapSeconds;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+
+/**
+ * <p>Immutable compressed column of temporal values which is organized
+ * in blocks of fixed size. </p>
+ *
+ * <p>Such a column is created by {@link MomentArray#toBlocks()},
+ * {@link PlainTimestampArray#toBlocks()} or {@link PlainDateArray#toBlocks()}
+ * and decoded again by the {@code fromBlocks()}-methods of the same
+ * classes. Every value consists of a main part (POSIX seconds or days since
+ * UNIX epoch) and an optional minor part (nanosecond fraction or nanoseconds
+ * of day). The block index stores the first value of every block with full
+ * precision. All other main parts are stored as zigzag-varint-encoded delta
+ * of delta, the minor parts as zigzag-varint-encoded delta. Sorted
+ * sequences with regular distances therefore often only need one or two
+ * bytes per value. Unsorted columns are supported, too, but compress
+ * worse. </p>
+ *
+ * <p>Random access by {@link #get(int)} only decodes the prefix of one
+ * block. The list view creates its objects lazily while iterating over
+ * the blocks in one pass. </p>
+ *
+ * @param   <T> type of temporal values
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <immutable>
+ */
+/*[deutsch]
+ * <p>Unver&auml;nderliche komprimierte Spalte von Zeitwerten, die in
+ * Bl&ouml;cken fester Gr&ouml;&szlig;e organisiert ist. </p>
+ *
+ * <p>Eine solche Spalte wird von {@link MomentArray#toBlocks()},
+ * {@link PlainTimestampArray#toBlocks()} oder {@link PlainDateArray#toBlocks()}
+ * erzeugt und von den {@code fromBlocks()}-Methoden der gleichen Klassen
+ * wieder dekodiert. Jeder Wert besteht aus einem Hauptteil (POSIX-Sekunden
+ * oder Tage seit der UNIX-Epoche) und einem optionalen Nebenteil
+ * (Nanosekundenbruchteil oder Nanosekunden des Tages). Der Blockindex
+ * speichert den ersten Wert jedes Blocks mit voller Genauigkeit. Alle
+ * anderen Hauptteile werden als Zigzag-Varint-kodierte Differenz der
+ * Differenz gespeichert, die Nebenteile als Zigzag-Varint-kodierte
+ * Differenz. Sortierte Folgen mit regelm&auml;&szlig;igen Abst&auml;nden
+ * brauchen deshalb oft nur ein oder zwei Bytes pro Wert. Unsortierte
+ * Spalten werden auch unterst&uuml;tzt, komprimieren aber schlechter. </p>
+ *
+ * <p>Der wahlfreie Zugriff mit {@link #get(int)} dekodiert nur den Anfang
+ * eines Blocks. Die Listensicht erzeugt ihre Objekte erst beim Iterieren,
+ * das alle Bl&ouml;cke in einem Durchgang liest. </p>
+ *
+ * @param   <T> type of temporal values
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <immutable>
+ */
+public final class BlockColumn<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /** Standardanzahl der Werte pro Block. */
+    static final int DEFAULT_BLOCK_SIZE = 128;
+
+    private static final int MOMENT_TYPE = 1;
+    private static final int TIMESTAMP_TYPE = 2;
+    private static final int DATE_TYPE = 3;
+
+    // Portionsgröße beim Lesen von unbekannten Daten
+    private static final int CHUNK_SIZE = 8192;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int type;
+    private final int size;
+    private final int blockSize;
+
+    // Blockindex: erster Wert und Anfang der Daten jedes Blocks
+    private final long[] firstMajors;
+    private final long[] firstMinors; // null bei Kalenderdaten
+    private final int[] offsets; // mit Endposition als letztem Eintrag
+    private final byte[] data;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BlockColumn(
+        int type,
+        int size,
+        int blockSize,
+        long[] firstMajors,
+        long[] firstMinors,
+        int[] offsets,
+        byte[] data
+    ) {
+        super();
+
+        this.type = type;
+        this.size = size;
+        this.blockSize = blockSize;
+        this.firstMajors = firstMajors;
+        this.firstMinors = firstMinors;
+        this.offsets = offsets;
+        this.data = data;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Yields the maximum count of elements per block. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die maximale Anzahl der Elemente pro Block. </p>
+     *
+     * @return  int
+     */
+    public int getBlockSize() {
+
+        return this.blockSize;
+
+    }
+
+    /**
+     * <p>Yields the count of blocks. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Bl&ouml;cke. </p>
+     *
+     * @return  int
+     */
+    public int getBlockCount() {
+
+        return this.firstMajors.length;
+
+    }
+
+    /**
+     * <p>Yields the count of bytes written by {@link #writeTo(DataOutput)}.
+     * </p>
+     *
+     * @return  length of binary representation
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Bytes, die {@link #writeTo(DataOutput)}
+     * schreibt. </p>
+     *
+     * @return  length of binary representation
+     */
+    public int getEncodedLength() {
+
+        int perBlock = ((this.firstMinors == null) ? 12 : 20);
+        return 9 + perBlock * this.getBlockCount() + this.data.length;
+
+    }
+
+    /**
+     * <p>Yields the element at given index. </p>
+     *
+     * @param   index   position in this column
+     * @return  new temporal object
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert das Element an der angegebenen Position. </p>
+     *
+     * @param   index   position in this column
+     * @return  new temporal object
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public T get(int index) {
+
+        if ((index < 0) || (index >= this.size)) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", size: " + this.size);
+        }
+
+        Cursor cursor = new Cursor(this);
+        cursor.seek(index);
+        return this.toObject(cursor);
+
+    }
+
+    /**
+     * <p>Yields an unmodifiable list view which creates the elements
+     * on demand. </p>
+     *
+     * <p>The iterator of the list decodes all blocks sequentially. </p>
+     *
+     * @return  unmodifiable list view backed by this column
+     */
+    /*[deutsch]
+     * <p>Liefert eine schreibgesch&uuml;tzte Listensicht, die die Elemente
+     * bei Bedarf erzeugt. </p>
+     *
+     * <p>Der Iterator der Liste dekodiert alle Bl&ouml;cke der Reihe
+     * nach. </p>
+     *
+     * @return  unmodifiable list view backed by this column
+     */
+    public List<T> asList() {
+
+        return new BlockList<T>(this);
+
+    }
+
+    /**
+     * <p>Writes the binary representation of this column. </p>
+     *
+     * <p>The layout is: type (byte), count of elements (int), block size
+     * (int), then for every block the first main part (long), the first
+     * minor part (long, not for calendar dates) and the count of data bytes
+     * (int), finally all data bytes. </p>
+     *
+     * @param   out     data output
+     * @throws  IOException in any I/O-failure
+     * @see     #readMoments(DataInput)
+     * @see     #readTimestamps(DataInput)
+     * @see     #readDates(DataInput)
+     */
+    /*[deutsch]
+     * <p>Schreibt die bin&auml;re Darstellung dieser Spalte. </p>
+     *
+     * <p>Das Format ist: Typ (byte), Anzahl der Elemente (int),
+     * Blockgr&ouml;&szlig;e (int), dann f&uuml;r jeden Block der erste
+     * Hauptteil (long), der erste Nebenteil (long, nicht bei Kalenderdaten)
+     * und die Anzahl der Datenbytes (int), schlie&szlig;lich alle
+     * Datenbytes. </p>
+     *
+     * @param   out     data output
+     * @throws  IOException in any I/O-failure
+     * @see     #readMoments(DataInput)
+     * @see     #readTimestamps(DataInput)
+     * @see     #readDates(DataInput)
+     */
+    public void writeTo(DataOutput out)
+        throws IOException {
+
+        out.writeByte(this.type);
+        out.writeInt(this.size);
+        out.writeInt(this.blockSize);
+
+        for (int b = 0, n = this.getBlockCount(); b < n; b++) {
+            out.writeLong(this.firstMajors[b]);
+            if (this.firstMinors != null) {
+                out.writeLong(this.firstMinors[b]);
+            }
+            out.writeInt(this.offsets[b + 1] - this.offsets[b]);
+        }
+
+        out.write(this.data);
+
+    }
+
+    /**
+     * <p>Kodiert eine Spalte von Momenten. </p>
+     *
+     * @param   posixTimes  elapsed POSIX seconds since UNIX epoch
+     * @param   fractions   nanosecond fractions including leap second bit
+     * @param   size        count of valid elements
+     * @param   blockSize   maximum count of elements per block
+     * @return  compressed column
+     * @throws  IllegalArgumentException if the block size is not positive
+     */
+    static BlockColumn<Moment> encodeMoments(
+        long[] posixTimes,
+        int[] fractions,
+        int size,
+        int blockSize
+    ) {
+
+        return encode(
+            MOMENT_TYPE,
+            posixTimes,
+            fractions,
+            null,
+            size,
+            blockSize);
+
+    }
+
+    /**
+     * <p>Kodiert eine Spalte von lokalen Zeitstempeln oder Kalenderdaten,
+     * wenn {@code nanoOfDays} gleich {@code null} ist. </p>
+     *
+     * @param   epochDays   days since UNIX epoch
+     * @param   nanoOfDays  nanoseconds since midnight or {@code null}
+     * @param   size        count of valid elements
+     * @param   blockSize   maximum count of elements per block
+     * @return  compressed column
+     * @throws  IllegalArgumentException if the block size is not positive
+     */
+    static <T> BlockColumn<T> encodeDays(
+        long[] epochDays,
+        long[] nanoOfDays,
+        int size,
+        int blockSize
+    ) {
+
+        return encode(
+            ((nanoOfDays == null) ? DATE_TYPE : TIMESTAMP_TYPE),
+            epochDays,
+            null,
+            nanoOfDays,
+            size,
+            blockSize);
+
+    }
+
+    /**
+     * <p>Dekodiert alle Werte in die angegebenen Arrays. </p>
+     *
+     * @param   majors      POSIX seconds or days since UNIX epoch
+     * @param   fractions   nanosecond fractions of moments or {@code null}
+     * @param   nanoOfDays  nanoseconds of day of timestamps or {@code null}
+     */
+    void decode(
+        long[] majors,
+        int[] fractions,
+        long[] nanoOfDays
+    ) {
+
+        Cursor cursor = new Cursor(this);
+
+        for (int i = 0; i < this.size; i++) {
+            cursor.next();
+            majors[i] = cursor.major;
+
+            if (fractions != null) {
+                fractions[i] = (int) cursor.minor;
+            } else if (nanoOfDays != null) {
+                nanoOfDays[i] = cursor.minor;
+            }
+        }
+
+    }
+
+    /**
+     * <p>Reads a column of moments written by {@link #writeTo(DataOutput)}.
+     * </p>
+     *
+     * @param   in      data input
+     * @return  compressed column
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent moments
+     */
+    /*[deutsch]
+     * <p>Liest eine Spalte von Momenten, die mit
+     * {@link #writeTo(DataOutput)} geschrieben wurde. </p>
+     *
+     * @param   in      data input
+     * @return  compressed column
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent moments
+     */
+    public static BlockColumn<Moment> readMoments(DataInput in)
+        throws IOException {
+
+        return read(in, MOMENT_TYPE);
+
+    }
+
+    /**
+     * <p>Reads a column of local timestamps written by
+     * {@link #writeTo(DataOutput)}. </p>
+     *
+     * @param   in      data input
+     * @return  compressed column
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent local timestamps
+     */
+    /*[deutsch]
+     * <p>Liest eine Spalte von lokalen Zeitstempeln, die mit
+     * {@link #writeTo(DataOutput)} geschrieben wurde. </p>
+     *
+     * @param   in      data input
+     * @return  compressed column
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent local timestamps
+     */
+    public static BlockColumn<PlainTimestamp> readTimestamps(DataInput in)
+        throws IOException {
+
+        return read(in, TIMESTAMP_TYPE);
+
+    }
+
+    /**
+     * <p>Reads a column of calendar dates written by
+     * {@link #writeTo(DataOutput)}. </p>
+     *
+     * @param   in      data input
+     * @return  compressed column
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent calendar dates
+     */
+    /*[deutsch]
+     * <p>Liest eine Spalte von Kalenderdaten, die mit
+     * {@link #writeTo(DataOutput)} geschrieben wurde. </p>
+     *
+     * @param   in      data input
+     * @return  compressed column
+     * @throws  IOException in any I/O-failure or if the data are corrupt
+     *          or do not represent calendar dates
+     */
+    public static BlockColumn<PlainDate> readDates(DataInput in)
+        throws IOException {
+
+        return read(in, DATE_TYPE);
+
+    }
+
+    /**
+     * <p>Pr&uuml;ft, ob diese Spalte Momente enth&auml;lt. </p>
+     *
+     * @return  boolean
+     */
+    boolean isMomentType() {
+
+        return (this.type == MOMENT_TYPE);
+
+    }
+
+    /**
+     * <p>Pr&uuml;ft, ob diese Spalte lokale Zeitstempel enth&auml;lt. </p>
+     *
+     * @return  boolean
+     */
+    boolean isTimestampType() {
+
+        return (this.type == TIMESTAMP_TYPE);
+
+    }
+
+    /**
+     * <p>Pr&uuml;ft, ob diese Spalte Kalenderdaten enth&auml;lt. </p>
+     *
+     * @return  boolean
+     */
+    boolean isDateType() {
+
+        return (this.type == DATE_TYPE);
+
+    }
+
+    private static <T> BlockColumn<T> encode(
+        int type,
+        long[] majors,
+        int[] fractions,
+        long[] nanoOfDays,
+        int size,
+        int blockSize
+    ) {
+
+        if (blockSize < 1) {
+            throw new IllegalArgumentException(
+                "Block size must be positive: " + blockSize);
+        }
+
+        int blockCount = (int) ((size + (long) blockSize - 1) / blockSize);
+        boolean hasMinor = (type != DATE_TYPE);
+        long[] firstMajors = new long[blockCount];
+        long[] firstMinors = (hasMinor ? new long[blockCount] : null);
+        int[] offsets = new int[blockCount + 1];
+        byte[] bytes = new byte[Math.max(16, size * (hasMinor ? 3 : 2))];
+        int pos = 0;
+
+        for (int b = 0; b < blockCount; b++) {
+            int start = b * blockSize;
+            int end = (int) Math.min(size, (long) start + blockSize);
+            long major = majors[start];
+            long minor = minorOf(fractions, nanoOfDays, start);
+            long delta = 0;
+
+            offsets[b] = pos;
+            firstMajors[b] = major;
+
+            if (hasMinor) {
+                firstMinors[b] = minor;
+            }
+
+            for (int i = start + 1; i < end; i++) {
+                // maximal zwei Varints zu je 10 Bytes
+                if (pos + 20 > bytes.length) {
+                    bytes =
+                        Arrays.copyOf(
+                            bytes,
+                            Math.max(pos + 20, PlainDateArray.grow(pos)));
+                }
+
+                long nextDelta = majors[i] - major;
+                pos = putVarint(bytes, pos, nextDelta - delta);
+                delta = nextDelta;
+                major = majors[i];
+
+                if (hasMinor) {
+                    long nextMinor = minorOf(fractions, nanoOfDays, i);
+                    pos = putVarint(bytes, pos, nextMinor - minor);
+                    minor = nextMinor;
+                }
+            }
+        }
+
+        offsets[blockCount] = pos;
+
+        return new BlockColumn<T>(
+            type,
+            size,
+            blockSize,
+            firstMajors,
+            firstMinors,
+            offsets,
+            Arrays.copyOf(bytes, pos));
+
+    }
+
+    private static long minorOf(
+        int[] fractions,
+        long[] nanoOfDays,
+        int index
+    ) {
+
+        if (fractions != null) {
+            return fractions[index];
+        } else if (nanoOfDays != null) {
+            return nanoOfDays[index];
+        }
+
+        return 0;
+
+    }
+
+    // zigzag-Kodierung mit 7 Bits pro Byte, niedrigwertige Bits zuerst
+    private static int putVarint(
+        byte[] bytes,
+        int pos,
+        long value
+    ) {
+
+        long v = (value << 1) ^ (value >> 63);
+
+        while ((v & ~0x7FL) != 0) {
+            bytes[pos++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+
+        bytes[pos++] = (byte) v;
+        return pos;
+
+    }
+
+    private static <T> BlockColumn<T> read(
+        DataInput in,
+        int expectedType
+    ) throws IOException {
+
+        int type = in.readByte();
+
+        if (type != expectedType) {
+            throw new StreamCorruptedException(
+                "Unexpected column type: " + type);
+        }
+
+        int size = in.readInt();
+        int blockSize = in.readInt();
+
+        if ((size < 0) || (blockSize < 1)) {
+            throw new StreamCorruptedException(
+                "Invalid size: " + size + ", block size: " + blockSize);
+        }
+
+        int blockCount = (int) ((size + (long) blockSize - 1) / blockSize);
+        boolean hasMinor = (type != DATE_TYPE);
+
+        // der Kopf ist nicht vertrauenswürdig, also wachsen die Puffer erst
+        // mit den tatsächlich gelesenen Daten
+        int capacity = Math.min(blockCount, CHUNK_SIZE);
+        long[] firstMajors = new long[capacity];
+        long[] firstMinors = (hasMinor ? new long[capacity] : null);
+        int[] offsets = new int[capacity + 1];
+        byte[] data;
+        long pos = 0;
+
+        try {
+            for (int b = 0; b < blockCount; b++) {
+                if (b == firstMajors.length) {
+                    capacity = Math.min(blockCount, PlainDateArray.grow(b));
+                    firstMajors = Arrays.copyOf(firstMajors, capacity);
+                    if (hasMinor) {
+                        firstMinors = Arrays.copyOf(firstMinors, capacity);
+                    }
+                    offsets = Arrays.copyOf(offsets, capacity + 1);
+                }
+                firstMajors[b] = in.readLong();
+                if (hasMinor) {
+                    firstMinors[b] = in.readLong();
+                }
+                int len = in.readInt();
+                if (len < 0) {
+                    throw new StreamCorruptedException(
+                        "Negative block length.");
+                }
+                offsets[b] = (int) pos;
+                pos += len;
+                if (pos > Integer.MAX_VALUE) {
+                    throw new StreamCorruptedException("Column too large.");
+                }
+            }
+
+            offsets[blockCount] = (int) pos;
+            data = readData(in, (int) pos);
+        } catch (EOFException eof) {
+            StreamCorruptedException sce =
+                new StreamCorruptedException("Unexpected end of column.");
+            sce.initCause(eof);
+            throw sce;
+        }
+
+        BlockColumn<T> column =
+            new BlockColumn<T>(
+                type,
+                size,
+                blockSize,
+                firstMajors,
+                firstMinors,
+                offsets,
+                data);
+
+        try {
+            column.validate();
+        } catch (IllegalArgumentException iae) {
+            StreamCorruptedException sce =
+                new StreamCorruptedException(iae.getMessage());
+            sce.initCause(iae);
+            throw sce;
+        }
+
+        return column;
+
+    }
+
+    // liest die Blockdaten portionsweise, siehe read()
+    private static byte[] readData(
+        DataInput in,
+        int len
+    ) throws IOException {
+
+        byte[] data = new byte[Math.min(len, CHUNK_SIZE)];
+        int pos = 0;
+
+        while (pos < len) {
+            int n = Math.min(len - pos, CHUNK_SIZE);
+
+            if (pos + n > data.length) {
+                data =
+                    Arrays.copyOf(
+                        data,
+                        Math.min(
+                            len,
+                            Math.max(pos + n, PlainDateArray.grow(pos))));
+            }
+
+            in.readFully(data, pos, n);
+            pos += n;
+        }
+
+        return data;
+
+    }
+
+    // einmalige Prüfung nach dem Lesen, damit Dekodieren nie scheitert
+    private void validate() {
+
+        Cursor cursor = new Cursor(this);
+        LeapSeconds ls = LeapSeconds.getInstance();
+
+        for (int i = 0; i < this.size; i++) {
+            cursor.next();
+            long major = cursor.major;
+            long minor = cursor.minor;
+            boolean valid;
+
+            switch (this.type) {
+                case MOMENT_TYPE:
+                    int nano = (int) minor & (~MomentArray.POSITIVE_LEAP_MASK);
+                    valid = (
+                        (major >= MomentArray.MIN_POSIX)
+                        && (major <= MomentArray.MAX_POSIX)
+                        && (minor == (int) minor)
+                        && (nano >= 0)
+                        && (nano < MomentArray.MRD));
+                    if (
+                        valid
+                        && ((minor & MomentArray.POSITIVE_LEAP_MASK) != 0)
+                    ) {
+                        // nur registrierte Schaltsekunden wie in Moment
+                        valid = (
+                            ls.isEnabled()
+                            && ls.isPositiveLS(ls.enhance(major) + 1));
+                    }
+                    break;
+                case TIMESTAMP_TYPE:
+                    valid = (
+                        (major >= PlainDateArray.MIN_DAY)
+                        && (major <= PlainDateArray.MAX_DAY)
+                        && (minor >= 0)
+                        && (minor < PlainTimestampArray.NANOS_PER_DAY));
+                    break;
+                default:
+                    valid = (
+                        (major >= PlainDateArray.MIN_DAY)
+                        && (major <= PlainDateArray.MAX_DAY));
+            }
+
+            if (!valid) {
+                throw new IllegalArgumentException(
+                    "Invalid value at index " + i + ": " + major + "/" + minor);
+            }
+
+            if (cursor.isLastOfBlock() && !cursor.isAtEndOfBlock()) {
+                throw new IllegalArgumentException(
+                    "Unused data in block: " + (i / this.blockSize));
+            }
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private T toObject(Cursor cursor) {
+
+        Object obj;
+
+        switch (this.type) {
+            case MOMENT_TYPE:
+                obj = MomentArray.toMoment(cursor.major, (int) cursor.minor);
+                break;
+            case TIMESTAMP_TYPE:
+                obj =
+                    PlainTimestamp.of(
+                        PlainDate.of(cursor.major, EpochDays.UNIX),
+                        PlainTimestampArray.toTime(cursor.minor));
+                break;
+            default:
+                obj = PlainDate.of(cursor.major, EpochDays.UNIX);
+        }
+
+        return (T) obj;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Liest die Werte einer Spalte der Reihe nach. </p>
+     */
+    private static final class Cursor {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final BlockColumn<?> column;
+        private int index;
+        private int pos;
+        private int limit;
+        private long delta;
+        private long major;
+        private long minor;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Cursor(BlockColumn<?> column) {
+            super();
+
+            this.column = column;
+            this.index = -1;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // geht zum nächsten Wert
+        void next() {
+
+            BlockColumn<?> c = this.column;
+            int i = this.index + 1;
+
+            if ((i % c.blockSize) == 0) {
+                int b = i / c.blockSize;
+                this.pos = c.offsets[b];
+                this.limit = c.offsets[b + 1];
+                this.delta = 0;
+                this.major = c.firstMajors[b];
+                this.minor = ((c.firstMinors == null) ? 0 : c.firstMinors[b]);
+            } else {
+                this.delta += this.readVarint();
+                this.major += this.delta;
+
+                if (c.firstMinors != null) {
+                    this.minor += this.readVarint();
+                }
+            }
+
+            this.index = i;
+
+        }
+
+        // springt zum angegebenen Wert über den Blockindex
+        void seek(int target) {
+
+            int bs = this.column.blockSize;
+            this.index = (target / bs) * bs - 1;
+
+            while (this.index < target) {
+                this.next();
+            }
+
+        }
+
+        boolean isLastOfBlock() {
+
+            return (
+                ((this.index + 1) % this.column.blockSize == 0)
+                || (this.index + 1 == this.column.size));
+
+        }
+
+        boolean isAtEndOfBlock() {
+
+            return (this.pos == this.limit);
+
+        }
+
+        private long readVarint() {
+
+            byte[] bytes = this.column.data;
+            long v = 0;
+            int shift = 0;
+            byte b;
+
+            do {
+                if ((this.pos >= this.limit) || (shift > 63)) {
+                    throw new IllegalArgumentException(
+                        "Truncated block data at: " + this.pos);
+                }
+                b = bytes[this.pos++];
+                v |= ((long) (b & 0x7F)) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            return ((v >>> 1) ^ -(v & 1));
+
+        }
+
+    }
+
+    private static class BlockList<T>
+        extends AbstractList<T>
+        implements RandomAccess {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final BlockColumn<T> column;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        BlockList(BlockColumn<T> column) {
+            super();
+
+            this.column = column;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public T get(int index) {
+
+            return this.column.get(index);
+
+        }
+
+        @Override
+        public int size() {
+
+            return this.column.size();
+
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+
+            final Cursor cursor = new Cursor(this.column);
+
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return (cursor.index + 1 < column.size);
+                }
+                @Override
+                public T next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    cursor.next();
+                    return column.toObject(cursor);
+                }
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+
+        }
+
+    }
+
+}
@@ -0,0 +1,359 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ColumnFormatter.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.columnar;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.engine.EpochDays;
+import net.time4j.format.ChronoFormatter;
+import net.time4j.scale.TimeScale;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * <p>Formats whole columns of primitive temporal values in one call. </p>
+ *
+ * <p>Moments are given as POSIX seconds since UNIX epoch plus optional
+ * nanoseconds, calendar dates as days since UNIX epoch. The formatting
+ * itself is done by {@link ChronoFormatter#formatAll(List, StringBuilder)}
+ * which formats equal consecutive values only once and reuses the unchanged
+ * leading part of the previous text. The timezone offset of moments is only
+ * determined again at the next offset transition if the formatter does not
+ * print any timezone names (see {@link net.time4j.format.IncrementalPrinter}).
+ * </p>
+ *
+ * <p>This class is meant for raw primitive arrays. Columns which are
+ * already stored as {@link MomentArray} or {@link PlainDateArray} can
+ * be formatted by their own {@code format()}-methods. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <immutable>
+ */
+/*[deutsch]
+ * <p>Formatiert ganze Spalten von primitiven Zeitwerten in einem
+ * Aufruf. </p>
+ *
+ * <p>Momente werden als POSIX-Sekunden seit der UNIX-Epoche mit optionalen
+ * Nanosekunden angegeben, Kalenderdaten als Tage seit der UNIX-Epoche. Die
+ * eigentliche Formatierung erledigt
+ * {@link ChronoFormatter#formatAll(List, StringBuilder)}, die gleiche
+ * aufeinanderfolgende Werte nur einmal formatiert und den unver&auml;nderten
+ * vorderen Teil des vorherigen Textes wiederverwendet. Der Zeitzonen-Offset
+ * von Momenten wird erst am n&auml;chsten Offset-Wechsel neu bestimmt, wenn
+ * der Formatierer keine Zeitzonennamen ausgibt (siehe
+ * {@link net.time4j.format.IncrementalPrinter}). </p>
+ *
+ * <p>Diese Klasse ist f&uuml;r rohe primitive Arrays gedacht. Spalten, die
+ * schon als {@link MomentArray} oder {@link PlainDateArray} vorliegen,
+ * k&ouml;nnen mit ihren eigenen {@code format()}-Methoden formatiert
+ * werden. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <immutable>
+ */
+public final class ColumnFormatter {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ColumnFormatter() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Formats a column of moments into given buffer. </p>
+     *
+     * @param   formatter       formatter for moments
+     * @param   posixSeconds    elapsed POSIX seconds since UNIX epoch
+     * @param   nanos           nanoseconds of every value (optional)
+     * @param   buffer          text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if the arrays have different length
+     *          or if any value is out of range or not formattable
+     * @see     ChronoFormatter#formatAll(List, StringBuilder)
+     */
+    /*[deutsch]
+     * <p>Formatiert eine Spalte von Momenten in den Puffer. </p>
+     *
+     * @param   formatter       formatter for moments
+     * @param   posixSeconds    elapsed POSIX seconds since UNIX epoch
+     * @param   nanos           nanoseconds of every value (optional)
+     * @param   buffer          text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if the arrays have different length
+     *          or if any value is out of range or not formattable
+     * @see     ChronoFormatter#formatAll(List, StringBuilder)
+     */
+    public static int[] formatMoments(
+        ChronoFormatter<Moment> formatter,
+        long[] posixSeconds,
+        int[] nanos,
+        StringBuilder buffer
+    ) {
+
+        return formatter.formatAll(
+            new MomentColumn(posixSeconds, nanos),
+            buffer);
+
+    }
+
+    /**
+     * <p>Formats a column of moments into given buffer using given
+     * separator between the values. </p>
+     *
+     * @param   formatter       formatter for moments
+     * @param   posixSeconds    elapsed POSIX seconds since UNIX epoch
+     * @param   nanos           nanoseconds of every value (optional)
+     * @param   separator       text to be inserted between two values
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if the arrays have different length
+     *          or if any value is out of range or not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     ChronoFormatter#formatAll(Iterable, CharSequence, Appendable)
+     */
+    /*[deutsch]
+     * <p>Formatiert eine Spalte von Momenten in den Puffer, getrennt durch
+     * den angegebenen Separator. </p>
+     *
+     * @param   formatter       formatter for moments
+     * @param   posixSeconds    elapsed POSIX seconds since UNIX epoch
+     * @param   nanos           nanoseconds of every value (optional)
+     * @param   separator       text to be inserted between two values
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if the arrays have different length
+     *          or if any value is out of range or not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     ChronoFormatter#formatAll(Iterable, CharSequence, Appendable)
+     */
+    public static void formatMoments(
+        ChronoFormatter<Moment> formatter,
+        long[] posixSeconds,
+        int[] nanos,
+        CharSequence separator,
+        Appendable buffer
+    ) throws IOException {
+
+        formatter.formatAll(
+            new MomentColumn(posixSeconds, nanos),
+            separator,
+            buffer);
+
+    }
+
+    /**
+     * <p>Formats a column of calendar dates into given buffer. </p>
+     *
+     * @param   formatter       formatter for calendar dates
+     * @param   epochDays       days since UNIX epoch [1970-01-01]
+     * @param   buffer          text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if any value is out of range or
+     *          not formattable
+     * @see     ChronoFormatter#formatAll(List, StringBuilder)
+     */
+    /*[deutsch]
+     * <p>Formatiert eine Spalte von Kalenderdaten in den Puffer. </p>
+     *
+     * @param   formatter       formatter for calendar dates
+     * @param   epochDays       days since UNIX epoch [1970-01-01]
+     * @param   buffer          text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if any value is out of range or
+     *          not formattable
+     * @see     ChronoFormatter#formatAll(List, StringBuilder)
+     */
+    public static int[] formatDates(
+        ChronoFormatter<PlainDate> formatter,
+        long[] epochDays,
+        StringBuilder buffer
+    ) {
+
+        return formatter.formatAll(new DateColumn(epochDays), buffer);
+
+    }
+
+    /**
+     * <p>Formats a column of calendar dates into given buffer using given
+     * separator between the values. </p>
+     *
+     * @param   formatter       formatter for calendar dates
+     * @param   epochDays       days since UNIX epoch [1970-01-01]
+     * @param   separator       text to be inserted between two values
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if any value is out of range or
+     *          not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     ChronoFormatter#formatAll(Iterable, CharSequence, Appendable)
+     */
+    /*[deutsch]
+     * <p>Formatiert eine Spalte von Kalenderdaten in den Puffer, getrennt
+     * durch den angegebenen Separator. </p>
+     *
+     * @param   formatter       formatter for calendar dates
+     * @param   epochDays       days since UNIX epoch [1970-01-01]
+     * @param   separator       text to be inserted between two values
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if any value is out of range or
+     *          not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     ChronoFormatter#formatAll(Iterable, CharSequence, Appendable)
+     */
+    public static void formatDates(
+        ChronoFormatter<PlainDate> formatter,
+        long[] epochDays,
+        CharSequence separator,
+        Appendable buffer
+    ) throws IOException {
+
+        formatter.formatAll(new DateColumn(epochDays), separator, buffer);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    // Sicht auf primitive Spalten ohne vorherige Materialisierung aller Werte
+    private static class MomentColumn
+        extends AbstractList<Moment>
+        implements RandomAccess {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long[] posixSeconds;
+        private final int[] nanos;
+        private long lastSeconds = 0;
+        private int lastNanos = 0;
+        private Moment last = null;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        MomentColumn(
+            long[] posixSeconds,
+            int[] nanos
+        ) {
+            super();
+
+            if (
+                (nanos != null)
+                && (nanos.length != posixSeconds.length)
+            ) {
+                throw new IllegalArgumentException(
+                    "Column length mismatch: "
+                    + posixSeconds.length + "/" + nanos.length);
+            }
+
+            this.posixSeconds = posixSeconds;
+            this.nanos = nanos;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Moment get(int index) {
+
+            long secs = this.posixSeconds[index];
+            int nano = ((this.nanos == null) ? 0 : this.nanos[index]);
+
+            // gleiche aufeinanderfolgende Momente nur einmal erzeugen
+            if (
+                (this.last == null)
+                || (this.lastSeconds != secs)
+                || (this.lastNanos != nano)
+            ) {
+                this.last = Moment.of(secs, nano, TimeScale.POSIX);
+                this.lastSeconds = secs;
+                this.lastNanos = nano;
+            }
+
+            return this.last;
+
+        }
+
+        @Override
+        public int size() {
+
+            return this.posixSeconds.length;
+
+        }
+
+    }
+
+    private static class DateColumn
+        extends AbstractList<PlainDate>
+        implements RandomAccess {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long[] epochDays;
+        private long lastDays = 0;
+        private PlainDate last = null;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DateColumn(long[] epochDays) {
+            super();
+
+            if (epochDays == null) {
+                throw new NullPointerException("Missing epoch days.");
+            }
+
+            this.epochDays = epochDays;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainDate get(int index) {
+
+            long days = this.epochDays[index];
+
+            // gleiche aufeinanderfolgende Tage nur einmal konvertieren
+            if (
+                (this.last == null)
+                || (this.lastDays != days)
+            ) {
+                this.last = PlainDate.of(days, EpochDays.UNIX);
+                this.lastDays = days;
+            }
+
+            return this.last;
+
+        }
+
+        @Override
+        public int size() {
+
+            return this.epochDays.length;
+
+        }
+
+    }
+
+}
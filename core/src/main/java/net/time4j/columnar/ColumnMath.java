@@ -0,0 +1,502 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ColumnMath.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.columnar;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+
+
+/**
+ * <p>Hilfsmethoden f&uuml;r primitive Spalten von Zeitwerten. </p>
+ *
+ * <p>Sortieren und bin&auml;res Suchen arbeiten auf zwei parallelen
+ * Spalten, deren Zeilen lexikographisch nach (Hauptwert, Nebenwert)
+ * geordnet werden. Das Sortieren benutzt Quicksort mit Dreiteilung (viele
+ * gleiche Werte sind bei Zeitstempeln typisch) und sortiert kleine Bereiche
+ * durch Einf&uuml;gen. Die Kalendermethoden rechnen mit Tagen seit der
+ * UNIX-Epoche. Es werden keine Objekte erzeugt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ */
+final class ColumnMath {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int INSERTION_LIMIT = 16;
+
+    // Bezugsdatum zur Bestimmung der Monate einer Einheit
+    private static final PlainDate REFERENCE_DATE = PlainDate.of(2000, 1, 1);
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ColumnMath() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Sortiert den Bereich {@code [from, to)} beider Spalten. </p>
+     *
+     * @param   major   primary sort key
+     * @param   minor   secondary sort key
+     * @param   from    first index (inclusive)
+     * @param   to      last index (exclusive)
+     */
+    static void sort(
+        long[] major,
+        int[] minor,
+        int from,
+        int to
+    ) {
+
+        int lo = from;
+        int hi = to - 1;
+
+        while (hi - lo >= INSERTION_LIMIT) {
+            int mid = lo + ((hi - lo) >>> 1);
+
+            // Median aus drei als Pivot nach vorne tauschen
+            if (compare(major, minor, mid, lo) < 0) {
+                swap(major, minor, mid, lo);
+            }
+            if (compare(major, minor, hi, lo) < 0) {
+                swap(major, minor, hi, lo);
+            }
+            if (compare(major, minor, hi, mid) < 0) {
+                swap(major, minor, hi, mid);
+            }
+            swap(major, minor, lo, mid);
+
+            long p1 = major[lo];
+            int p2 = minor[lo];
+            int lt = lo;
+            int gt = hi;
+            int i = lo + 1;
+
+            while (i <= gt) {
+                int c = compare(major[i], minor[i], p1, p2);
+
+                if (c < 0) {
+                    swap(major, minor, lt++, i++);
+                } else if (c > 0) {
+                    swap(major, minor, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // kleineren Teil rekursiv, größeren Teil iterativ sortieren
+            if (lt - lo < hi - gt) {
+                sort(major, minor, lo, lt);
+                lo = gt + 1;
+            } else {
+                sort(major, minor, gt + 1, hi + 1);
+                hi = lt - 1;
+            }
+        }
+
+        for (int i = lo + 1; i <= hi; i++) {
+            long k1 = major[i];
+            int k2 = minor[i];
+            int j = i - 1;
+
+            while ((j >= lo) && (compare(major[j], minor[j], k1, k2) > 0)) {
+                major[j + 1] = major[j];
+                minor[j + 1] = minor[j];
+                j--;
+            }
+
+            major[j + 1] = k1;
+            minor[j + 1] = k2;
+        }
+
+    }
+
+    /**
+     * <p>Sortiert den Bereich {@code [from, to)} beider Spalten. </p>
+     *
+     * @param   major   primary sort key
+     * @param   minor   secondary sort key
+     * @param   from    first index (inclusive)
+     * @param   to      last index (exclusive)
+     */
+    static void sort(
+        long[] major,
+        long[] minor,
+        int from,
+        int to
+    ) {
+
+        int lo = from;
+        int hi = to - 1;
+
+        while (hi - lo >= INSERTION_LIMIT) {
+            int mid = lo + ((hi - lo) >>> 1);
+
+            // Median aus drei als Pivot nach vorne tauschen
+            if (compare(major, minor, mid, lo) < 0) {
+                swap(major, minor, mid, lo);
+            }
+            if (compare(major, minor, hi, lo) < 0) {
+                swap(major, minor, hi, lo);
+            }
+            if (compare(major, minor, hi, mid) < 0) {
+                swap(major, minor, hi, mid);
+            }
+            swap(major, minor, lo, mid);
+
+            long p1 = major[lo];
+            long p2 = minor[lo];
+            int lt = lo;
+            int gt = hi;
+            int i = lo + 1;
+
+            while (i <= gt) {
+                int c = compare(major[i], minor[i], p1, p2);
+
+                if (c < 0) {
+                    swap(major, minor, lt++, i++);
+                } else if (c > 0) {
+                    swap(major, minor, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // kleineren Teil rekursiv, größeren Teil iterativ sortieren
+            if (lt - lo < hi - gt) {
+                sort(major, minor, lo, lt);
+                lo = gt + 1;
+            } else {
+                sort(major, minor, gt + 1, hi + 1);
+                hi = lt - 1;
+            }
+        }
+
+        for (int i = lo + 1; i <= hi; i++) {
+            long k1 = major[i];
+            long k2 = minor[i];
+            int j = i - 1;
+
+            while ((j >= lo) && (compare(major[j], minor[j], k1, k2) > 0)) {
+                major[j + 1] = major[j];
+                minor[j + 1] = minor[j];
+                j--;
+            }
+
+            major[j + 1] = k1;
+            minor[j + 1] = k2;
+        }
+
+    }
+
+    /**
+     * <p>Sucht bin&auml;r im sortierten Bereich {@code [from, to)}. </p>
+     *
+     * @param   major   primary sort key
+     * @param   minor   secondary sort key
+     * @param   from    first index (inclusive)
+     * @param   to      last index (exclusive)
+     * @param   key1    primary search key
+     * @param   key2    secondary search key
+     * @return  index of search key or {@code (-(insertion point) - 1)}
+     * @see     java.util.Arrays#binarySearch(long[], long)
+     */
+    static int search(
+        long[] major,
+        int[] minor,
+        int from,
+        int to,
+        long key1,
+        int key2
+    ) {
+
+        int lo = from;
+        int hi = to - 1;
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = compare(major[mid], minor[mid], key1, key2);
+
+            if (c < 0) {
+                lo = mid + 1;
+            } else if (c > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(lo + 1);
+
+    }
+
+    /**
+     * <p>Sucht bin&auml;r im sortierten Bereich {@code [from, to)}. </p>
+     *
+     * @param   major   primary sort key
+     * @param   minor   secondary sort key
+     * @param   from    first index (inclusive)
+     * @param   to      last index (exclusive)
+     * @param   key1    primary search key
+     * @param   key2    secondary search key
+     * @return  index of search key or {@code (-(insertion point) - 1)}
+     * @see     java.util.Arrays#binarySearch(long[], long)
+     */
+    static int search(
+        long[] major,
+        long[] minor,
+        int from,
+        int to,
+        long key1,
+        long key2
+    ) {
+
+        int lo = from;
+        int hi = to - 1;
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = compare(major[mid], minor[mid], key1, key2);
+
+            if (c < 0) {
+                lo = mid + 1;
+            } else if (c > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(lo + 1);
+
+    }
+
+    /**
+     * <p>Schneidet das angegebene Datum auf den Anfang der Einheit ab. </p>
+     *
+     * @param   epochDay    days since UNIX epoch
+     * @param   unit        calendar unit
+     * @return  days since UNIX epoch at start of unit
+     */
+    static long truncate(
+        long epochDay,
+        CalendarUnit unit
+    ) {
+
+        switch (unit) {
+            case DAYS:
+                return epochDay;
+            case WEEKS:
+                // 1970-01-01 war ein Donnerstag (Index 3 ab Montag)
+                return epochDay - MathUtils.floorModulo(epochDay + 3, 7);
+            default:
+                // nothing to do
+        }
+
+        long packed = toPacked(epochDay);
+        int year = GregorianMath.readYear(packed);
+        int month = GregorianMath.readMonth(packed);
+
+        switch (unit) {
+            case MILLENNIA:
+                return toEpochDay(
+                    year - MathUtils.floorModulo(year, 1000), 1, 1);
+            case CENTURIES:
+                return toEpochDay(
+                    year - MathUtils.floorModulo(year, 100), 1, 1);
+            case DECADES:
+                return toEpochDay(
+                    year - MathUtils.floorModulo(year, 10), 1, 1);
+            case YEARS:
+                return toEpochDay(year, 1, 1);
+            case QUARTERS:
+                return toEpochDay(year, ((month - 1) / 3) * 3 + 1, 1);
+            case MONTHS:
+                return epochDay - GregorianMath.readDayOfMonth(packed) + 1;
+            default:
+                throw new UnsupportedOperationException(unit.name());
+        }
+
+    }
+
+    /**
+     * <p>Addiert die angegebene Anzahl von Monaten, wobei ein ung&uuml;ltiger
+     * Monatstag auf das Monatsende verschoben wird. </p>
+     *
+     * @param   epochDay    days since UNIX epoch
+     * @param   months      count of months to be added
+     * @return  days since UNIX epoch
+     * @throws  ArithmeticException if the result is out of range
+     */
+    static long addMonths(
+        long epochDay,
+        long months
+    ) {
+
+        try {
+            long packed = GregorianMath.addMonths(toPacked(epochDay), months);
+            return toEpochDay(
+                GregorianMath.readYear(packed),
+                GregorianMath.readMonth(packed),
+                GregorianMath.readDayOfMonth(packed));
+        } catch (IllegalArgumentException iae) {
+            ArithmeticException ex =
+                new ArithmeticException(
+                    "Result beyond boundaries of time axis.");
+            ex.initCause(iae);
+            throw ex;
+        }
+
+    }
+
+    /**
+     * <p>Liefert die Anzahl der Monate der angegebenen Einheit. </p>
+     *
+     * <p>Die Anzahl wird aus der Einheitenregel von {@code PlainDate}
+     * abgeleitet, damit es keine zweite Tabelle der Einheiten gibt. </p>
+     *
+     * @param   unit    calendar unit
+     * @return  count of months or {@code 0} if the unit is not month-based
+     */
+    static long monthsOf(CalendarUnit unit) {
+
+        return CalendarUnit.MONTHS.between(
+            REFERENCE_DATE,
+            REFERENCE_DATE.plus(1, unit));
+
+    }
+
+    /**
+     * <p>Liefert das gepackte Datum zur angegebenen Tageszahl. </p>
+     *
+     * @param   epochDay    days since UNIX epoch
+     * @return  packed date in binary format of {@code GregorianMath}
+     */
+    static long toPacked(long epochDay) {
+
+        return GregorianMath.toPackedDate(
+            EpochDays.MODIFIED_JULIAN_DATE.transform(epochDay, EpochDays.UNIX));
+
+    }
+
+    /**
+     * <p>Liefert die Tageszahl zum angegebenen Datum. </p>
+     *
+     * @param   year        proleptic iso year
+     * @param   month       gregorian month
+     * @param   dayOfMonth  day of month
+     * @return  days since UNIX epoch
+     */
+    static long toEpochDay(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return EpochDays.UNIX.transform(
+            GregorianMath.toMJD(year, month, dayOfMonth),
+            EpochDays.MODIFIED_JULIAN_DATE);
+
+    }
+
+    private static int compare(
+        long a1,
+        long a2,
+        long b1,
+        long b2
+    ) {
+
+        if (a1 < b1) {
+            return -1;
+        } else if (a1 > b1) {
+            return 1;
+        } else if (a2 < b2) {
+            return -1;
+        } else if (a2 > b2) {
+            return 1;
+        }
+
+        return 0;
+
+    }
+
+    private static int compare(
+        long[] major,
+        int[] minor,
+        int i,
+        int j
+    ) {
+
+        return compare(major[i], minor[i], major[j], minor[j]);
+
+    }
+
+    private static int compare(
+        long[] major,
+        long[] minor,
+        int i,
+        int j
+    ) {
+
+        return compare(major[i], minor[i], major[j], minor[j]);
+
+    }
+
+    private static void swap(
+        long[] major,
+        int[] minor,
+        int i,
+        int j
+    ) {
+
+        long t1 = major[i];
+        major[i] = major[j];
+        major[j] = t1;
+        int t2 = minor[i];
+        minor[i] = minor[j];
+        minor[j] = t2;
+
+    }
+
+    private static void swap(
+        long[] major,
+        long[] minor,
+        int i,
+        int j
+    ) {
+
+        long t1 = major[i];
+        major[i] = major[j];
+        major[j] = t1;
+        long t2 = minor[i];
+        minor[i] = minor[j];
+        minor[j] = t2;
+
+    }
+
+}
@@ -0,0 +1,1137 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MomentArray.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.columnar;
+
+import net.time4j.Moment;
+import net.time4j.SI;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+import net.time4j.format.ChronoFormatter;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Growable column of UTC-moments which are stored as primitive POSIX
+ * seconds since UNIX epoch plus nanoseconds. </p>
+ *
+ * <p>Every element only needs 12 bytes. All bulk operations like sorting,
+ * searching, truncating, adding and zone conversion work directly on the
+ * primitive values and do not create any {@code Moment}-objects. Such
+ * objects are only created on demand by {@link #get(int)} or by the list
+ * view. Leap seconds are preserved and sorted after the preceding regular
+ * second. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <mutable>
+ */
+/*[deutsch]
+ * <p>Wachsende Spalte von UTC-Momenten, die als primitive POSIX-Sekunden
+ * seit der UNIX-Epoche mit Nanosekunden gespeichert werden. </p>
+ *
+ * <p>Jedes Element braucht nur 12 Bytes. Alle Massenoperationen wie
+ * Sortieren, Suchen, Abschneiden, Addieren und Zonenumrechnung arbeiten
+ * direkt auf den primitiven Werten und erzeugen keine
+ * {@code Moment}-Objekte. Solche Objekte werden nur bei Bedarf von
+ * {@link #get(int)} oder der Listensicht erzeugt. Schaltsekunden bleiben
+ * erhalten und werden nach der vorangehenden regul&auml;ren Sekunde
+ * einsortiert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <mutable>
+ */
+public final class MomentArray {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Nanosekunden pro Sekunde. */
+    static final int MRD = 1000000000;
+
+    /** Wie in Moment: Schaltsekunden-Bit im Nanosekundenfeld. */
+    static final int POSITIVE_LEAP_MASK = 0x40000000;
+
+    /** Kleinste POSIX-Zeit. */
+    static final long MIN_POSIX =
+        Moment.axis().getMinimum().getPosixTime();
+
+    /** Gr&ouml;&szlig;te POSIX-Zeit. */
+    static final long MAX_POSIX =
+        Moment.axis().getMaximum().getPosixTime();
+
+    // Versatz der Zeitskalen zu UTC, einmalig aus EpochDays und der
+    // Skalenumrechnung von Moment abgeleitet statt kopiert (GPS hängt
+    // davon ab, ob Schaltsekunden aktiv sind)
+    private static final long POSIX_UTC_DELTA;
+    private static final long TAI_UTC_DELTA;
+    private static final long UTC_GPS_DELTA;
+
+    static {
+        POSIX_UTC_DELTA =
+            EpochDays.UNIX.transform(0, EpochDays.UTC) * 86400;
+        Moment max = Moment.axis().getMaximum();
+        long utc = max.getElapsedTime(TimeScale.UTC);
+        TAI_UTC_DELTA = max.getElapsedTime(TimeScale.TAI) - utc;
+        UTC_GPS_DELTA = utc - max.getElapsedTime(TimeScale.GPS);
+    }
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private long[] posixTimes;
+    private int[] fractions;
+    private int size;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates an empty column with default capacity. </p>
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine leere Spalte mit Standardkapazit&auml;t. </p>
+     */
+    public MomentArray() {
+        this(DEFAULT_CAPACITY);
+
+    }
+
+    /**
+     * <p>Creates an empty column with given initial capacity. </p>
+     *
+     * @param   capacity    initial capacity
+     * @throws  IllegalArgumentException if given capacity is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine leere Spalte mit der angegebenen
+     * Anfangskapazit&auml;t. </p>
+     *
+     * @param   capacity    initial capacity
+     * @throws  IllegalArgumentException if given capacity is negative
+     */
+    public MomentArray(int capacity) {
+        super();
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                "Negative capacity: " + capacity);
+        }
+
+        this.posixTimes = new long[capacity];
+        this.fractions = new int[capacity];
+        this.size = 0;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Appends given moment. </p>
+     *
+     * @param   moment  UTC-moment to be appended
+     */
+    /*[deutsch]
+     * <p>H&auml;ngt den angegebenen Moment an. </p>
+     *
+     * @param   moment  UTC-moment to be appended
+     */
+    public void add(Moment moment) {
+
+        int fraction = moment.getNanosecond();
+
+        if (moment.isLeapSecond()) {
+            fraction |= POSITIVE_LEAP_MASK;
+        }
+
+        this.append(moment.getPosixTime(), fraction);
+
+    }
+
+    /**
+     * <p>Appends given moment as POSIX time. </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds since UNIX epoch
+     * @param   nanosecond  nanosecond fraction of second
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    /*[deutsch]
+     * <p>H&auml;ngt den angegebenen Moment als POSIX-Zeit an. </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds since UNIX epoch
+     * @param   nanosecond  nanosecond fraction of second
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    public void add(
+        long posixTime,
+        int nanosecond
+    ) {
+
+        if ((posixTime < MIN_POSIX) || (posixTime > MAX_POSIX)) {
+            throw new IllegalArgumentException(
+                "POSIX time out of range: " + posixTime);
+        } else if ((nanosecond < 0) || (nanosecond >= MRD)) {
+            throw new IllegalArgumentException(
+                "Nanosecond out of range: " + nanosecond);
+        }
+
+        this.append(posixTime, nanosecond);
+
+    }
+
+    /**
+     * <p>Appends all moments given as elapsed times on given time
+     * scale. </p>
+     *
+     * <p>Equivalent to calling {@code Moment.of(elapsedTime, nanosecond,
+     * scale)} for every pair of array elements but without creating any
+     * objects per element. Leap seconds on the time scales UTC, TAI and
+     * GPS are preserved. Either all elements are appended or none. </p>
+     *
+     * @param   elapsedTimes    elapsed seconds on given time scale
+     * @param   nanoseconds     nanosecond fractions of seconds
+     * @param   scale           time scale reference
+     * @throws  IllegalArgumentException if the arrays have different
+     *          lengths or if any value is out of range
+     * @throws  IllegalStateException if time scale is not POSIX but
+     *          leap second support is switched off by configuration
+     * @see     Moment#of(long, int, TimeScale)
+     * @see     #getElapsedTimes(TimeScale)
+     */
+    /*[deutsch]
+     * <p>H&auml;ngt alle als verstrichene Zeit auf der angegebenen Zeitskala
+     * gegebenen Momente an. </p>
+     *
+     * <p>Gleichwertig zum Aufruf von {@code Moment.of(elapsedTime, nanosecond,
+     * scale)} f&uuml;r jedes Paar von Array-Elementen, aber ohne Objekte pro
+     * Element zu erzeugen. Schaltsekunden auf den Zeitskalen UTC, TAI und
+     * GPS bleiben erhalten. Entweder werden alle Elemente angeh&auml;ngt oder
+     * keines. </p>
+     *
+     * @param   elapsedTimes    elapsed seconds on given time scale
+     * @param   nanoseconds     nanosecond fractions of seconds
+     * @param   scale           time scale reference
+     * @throws  IllegalArgumentException if the arrays have different
+     *          lengths or if any value is out of range
+     * @throws  IllegalStateException if time scale is not POSIX but
+     *          leap second support is switched off by configuration
+     * @see     Moment#of(long, int, TimeScale)
+     * @see     #getElapsedTimes(TimeScale)
+     */
+    public void addAll(
+        long[] elapsedTimes,
+        int[] nanoseconds,
+        TimeScale scale
+    ) {
+
+        int n = elapsedTimes.length;
+
+        if (nanoseconds.length != n) {
+            throw new IllegalArgumentException(
+                "Different array lengths: " + n + "/" + nanoseconds.length);
+        }
+
+        for (int i = 0; i < n; i++) {
+            int nanosecond = nanoseconds[i];
+
+            if ((nanosecond < 0) || (nanosecond >= MRD)) {
+                throw new IllegalArgumentException(
+                    "Nanosecond out of range: " + nanosecond);
+            }
+        }
+
+        long[] secs = new long[n];
+        int[] leaps = new int[n];
+        toPosix(scale, elapsedTimes, secs, leaps);
+
+        for (int i = 0; i < n; i++) {
+            this.append(secs[i], nanoseconds[i] | leaps[i]);
+        }
+
+    }
+
+    /**
+     * <p>Yields the elapsed times of all moments on given time scale. </p>
+     *
+     * <p>Equivalent to calling {@code Moment.getElapsedTime(scale)} for every
+     * element but the leap second table is only traversed once for sorted
+     * columns. Leap seconds get their own values on the time scales UTC, TAI
+     * and GPS but share the value of the preceding second on the POSIX time
+     * scale. The nanosecond fractions are the same on all time scales. </p>
+     *
+     * @param   scale   time scale reference
+     * @return  new array of elapsed seconds on given time scale
+     * @throws  IllegalArgumentException if any moment is not representable
+     *          on given time scale
+     * @see     Moment#getElapsedTime(TimeScale)
+     */
+    /*[deutsch]
+     * <p>Liefert die verstrichenen Zeiten aller Momente auf der angegebenen
+     * Zeitskala. </p>
+     *
+     * <p>Gleichwertig zum Aufruf von {@code Moment.getElapsedTime(scale)}
+     * f&uuml;r jedes Element, aber die Schaltsekundentabelle wird bei
+     * sortierten Spalten nur einmal durchlaufen. Schaltsekunden erhalten auf
+     * den Zeitskalen UTC, TAI und GPS eigene Werte, teilen sich aber auf der
+     * POSIX-Zeitskala den Wert der vorangehenden Sekunde. Die Nanosekunden
+     * sind auf allen Zeitskalen gleich. </p>
+     *
+     * @param   scale   time scale reference
+     * @return  new array of elapsed seconds on given time scale
+     * @throws  IllegalArgumentException if any moment is not representable
+     *          on given time scale
+     * @see     Moment#getElapsedTime(TimeScale)
+     */
+    public long[] getElapsedTimes(TimeScale scale) {
+
+        long[] secs = Arrays.copyOf(this.posixTimes, this.size);
+        fromPosix(secs, this.fractions, scale);
+        return secs;
+
+    }
+
+    /**
+     * <p>Converts elapsed times between any two time scales. </p>
+     *
+     * <p>Equivalent to {@code Moment.of(elapsedTimes[i], source)
+     * .getElapsedTime(target)} for every array element but without
+     * creating any objects per element. Leap seconds are handled like in
+     * {@code Moment}, that is they keep their own values on the time scales
+     * UTC, TAI and GPS and will be mapped to the preceding second on the
+     * POSIX time scale. Nanosecond fractions need no conversion. The result
+     * array may be the same as the source array. Either all elements are
+     * written or none. </p>
+     *
+     * @param   source          time scale of given elapsed times
+     * @param   elapsedTimes    elapsed seconds on source time scale
+     * @param   target          time scale of the result
+     * @param   result          array for elapsed seconds on target time scale
+     * @throws  IllegalArgumentException if the result array is shorter than
+     *          the source array or if any value is out of range on one of
+     *          both time scales
+     * @throws  IllegalStateException if any time scale is not POSIX but
+     *          leap second support is switched off by configuration
+     */
+    /*[deutsch]
+     * <p>Konvertiert verstrichene Zeiten zwischen zwei beliebigen
+     * Zeitskalen. </p>
+     *
+     * <p>Gleichwertig zu {@code Moment.of(elapsedTimes[i], source)
+     * .getElapsedTime(target)} f&uuml;r jedes Array-Element, aber ohne Objekte
+     * pro Element zu erzeugen. Schaltsekunden werden wie in {@code Moment}
+     * behandelt, d.h., sie behalten auf den Zeitskalen UTC, TAI und GPS ihre
+     * eigenen Werte und werden auf der POSIX-Zeitskala auf die vorangehende
+     * Sekunde abgebildet. Nanosekunden brauchen keine Konversion. Das
+     * Ergebnis-Array darf mit dem Quell-Array identisch sein. Entweder werden
+     * alle Elemente geschrieben oder keines. </p>
+     *
+     * @param   source          time scale of given elapsed times
+     * @param   elapsedTimes    elapsed seconds on source time scale
+     * @param   target          time scale of the result
+     * @param   result          array for elapsed seconds on target time scale
+     * @throws  IllegalArgumentException if the result array is shorter than
+     *          the source array or if any value is out of range on one of
+     *          both time scales
+     * @throws  IllegalStateException if any time scale is not POSIX but
+     *          leap second support is switched off by configuration
+     */
+    public static void convert(
+        TimeScale source,
+        long[] elapsedTimes,
+        TimeScale target,
+        long[] result
+    ) {
+
+        int n = elapsedTimes.length;
+
+        if (result.length < n) {
+            throw new IllegalArgumentException(
+                "Result array too short: " + result.length);
+        }
+
+        long[] secs = new long[n];
+        int[] leaps = new int[n];
+        toPosix(source, elapsedTimes, secs, leaps);
+        fromPosix(secs, leaps, target);
+        System.arraycopy(secs, 0, result, 0, n);
+
+    }
+
+    /**
+     * <p>Yields the moment at given index. </p>
+     *
+     * @param   index   position in this column
+     * @return  new moment object
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Moment an der angegebenen Position. </p>
+     *
+     * @param   index   position in this column
+     * @return  new moment object
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public Moment get(int index) {
+
+        this.checkIndex(index);
+        return toMoment(this.posixTimes[index], this.fractions[index]);
+
+    }
+
+    /**
+     * <p>Yields the POSIX time at given index. </p>
+     *
+     * @param   index   position in this column
+     * @return  elapsed POSIX seconds since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die POSIX-Zeit an der angegebenen Position. </p>
+     *
+     * @param   index   position in this column
+     * @return  elapsed POSIX seconds since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getPosixTime(int index) {
+
+        this.checkIndex(index);
+        return this.posixTimes[index];
+
+    }
+
+    /**
+     * <p>Yields the nanosecond fraction at given index. </p>
+     *
+     * @param   index   position in this column
+     * @return  nanosecond fraction of second
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Nanosekundenteil an der angegebenen Position. </p>
+     *
+     * @param   index   position in this column
+     * @return  nanosecond fraction of second
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getNanosecond(int index) {
+
+        this.checkIndex(index);
+        return (this.fractions[index] & (~POSITIVE_LEAP_MASK));
+
+    }
+
+    /**
+     * <p>Queries if the element at given index is a leap second. </p>
+     *
+     * @param   index   position in this column
+     * @return  {@code true} if the element is a positive leap second
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Ist das Element an der angegebenen Position eine
+     * Schaltsekunde? </p>
+     *
+     * @param   index   position in this column
+     * @return  {@code true} if the element is a positive leap second
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean isLeapSecond(int index) {
+
+        this.checkIndex(index);
+        return ((this.fractions[index] & POSITIVE_LEAP_MASK) != 0);
+
+    }
+
+    /**
+     * <p>Sorts all elements in ascending order. </p>
+     */
+    /*[deutsch]
+     * <p>Sortiert alle Elemente aufsteigend. </p>
+     */
+    public void sort() {
+
+        ColumnMath.sort(this.posixTimes, this.fractions, 0, this.size);
+
+    }
+
+    /**
+     * <p>Searches given moment in this sorted column. </p>
+     *
+     * @param   moment  UTC-moment to be searched
+     * @return  index of moment or {@code (-(insertion point) - 1)}
+     * @see     #sort()
+     */
+    /*[deutsch]
+     * <p>Sucht den angegebenen Moment in dieser sortierten Spalte. </p>
+     *
+     * @param   moment  UTC-moment to be searched
+     * @return  index of moment or {@code (-(insertion point) - 1)}
+     * @see     #sort()
+     */
+    public int binarySearch(Moment moment) {
+
+        int fraction = moment.getNanosecond();
+
+        if (moment.isLeapSecond()) {
+            fraction |= POSITIVE_LEAP_MASK;
+        }
+
+        return ColumnMath.search(
+            this.posixTimes,
+            this.fractions,
+            0,
+            this.size,
+            moment.getPosixTime(),
+            fraction);
+
+    }
+
+    /**
+     * <p>Sets every moment to the start of given unit on the UTC time
+     * line. </p>
+     *
+     * <p>Leap seconds are only preserved if the unit is not longer than
+     * one second. </p>
+     *
+     * @param   unit    time unit
+     */
+    /*[deutsch]
+     * <p>Setzt jeden Moment auf den Anfang der angegebenen Einheit auf dem
+     * UTC-Zeitstrahl. </p>
+     *
+     * <p>Schaltsekunden bleiben nur erhalten, wenn die Einheit nicht
+     * l&auml;nger als eine Sekunde ist. </p>
+     *
+     * @param   unit    time unit
+     */
+    public void truncate(TimeUnit unit) {
+
+        long[] secs = this.posixTimes;
+        int[] fracs = this.fractions;
+
+        if (unit.compareTo(TimeUnit.SECONDS) > 0) {
+            int len = (int) unit.toSeconds(1);
+
+            for (int i = 0; i < this.size; i++) {
+                long t = secs[i];
+                secs[i] = t - MathUtils.floorModulo(t, len);
+                fracs[i] = 0;
+            }
+        } else if (unit != TimeUnit.NANOSECONDS) {
+            int len = (int) unit.toNanos(1);
+
+            for (int i = 0; i < this.size; i++) {
+                int f = fracs[i];
+                int nano = (f & (~POSITIVE_LEAP_MASK));
+                fracs[i] = f - (nano % len);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Adds given amount in given unit to every moment. </p>
+     *
+     * <p>The addition is done on the POSIX time line like in
+     * {@code Moment.plus(long, TimeUnit)} so leap seconds are lost. Either
+     * all elements are changed or none. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    time unit
+     * @throws  ArithmeticException if any result is out of range
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Einheit zu jedem
+     * Moment. </p>
+     *
+     * <p>Die Addition erfolgt wie in {@code Moment.plus(long, TimeUnit)}
+     * auf dem POSIX-Zeitstrahl, so da&szlig; Schaltsekunden verlorengehen.
+     * Entweder werden alle Elemente ge&auml;ndert oder keines. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    time unit
+     * @throws  ArithmeticException if any result is out of range
+     */
+    public void plus(
+        long amount,
+        TimeUnit unit
+    ) {
+
+        if ((amount == 0) || (this.size == 0)) {
+            return;
+        }
+
+        long deltaSecs;
+        int deltaNanos;
+
+        if (unit.compareTo(TimeUnit.SECONDS) >= 0) {
+            deltaSecs = MathUtils.safeMultiply(amount, unit.toSeconds(1));
+            deltaNanos = 0;
+        } else {
+            long perSecond = MRD / unit.toNanos(1);
+            deltaSecs = MathUtils.floorDivide(amount, (int) perSecond);
+            deltaNanos =
+                (int) (MathUtils.floorModulo(amount, (int) perSecond)
+                    * unit.toNanos(1));
+        }
+
+        long[] secs = this.posixTimes;
+        int[] fracs = this.fractions;
+        long min = secs[0];
+        long max = secs[0];
+
+        for (int i = 1; i < this.size; i++) {
+            long t = secs[i];
+
+            if (t < min) {
+                min = t;
+            } else if (t > max) {
+                max = t;
+            }
+        }
+
+        // Addition ist monoton, also genügt die Prüfung der Extremwerte
+        checkResult(MathUtils.safeAdd(min, deltaSecs));
+        checkResult(
+            MathUtils.safeAdd(max, deltaSecs) + ((deltaNanos > 0) ? 1 : 0));
+
+        for (int i = 0; i < this.size; i++) {
+            int nano = (fracs[i] & (~POSITIVE_LEAP_MASK)) + deltaNanos;
+            long t = secs[i] + deltaSecs;
+
+            if (nano >= MRD) {
+                nano -= MRD;
+                t++;
+            }
+
+            secs[i] = t;
+            fracs[i] = nano;
+        }
+
+    }
+
+    /**
+     * <p>Converts all moments to local timestamps in given timezone. </p>
+     *
+     * @param   tz      timezone
+     * @return  new column of local timestamps (leap seconds will always
+     *          be lost)
+     * @see     Moment#toZonalTimestamp(net.time4j.tz.TZID)
+     */
+    /*[deutsch]
+     * <p>Wandelt alle Momente in lokale Zeitstempel in der angegebenen
+     * Zeitzone um. </p>
+     *
+     * @param   tz      timezone
+     * @return  new column of local timestamps (leap seconds will always
+     *          be lost)
+     * @see     Moment#toZonalTimestamp(net.time4j.tz.TZID)
+     */
+    public PlainTimestampArray toZonalTimestamps(Timezone tz) {
+
+        int n = this.size;
+        long[] days = new long[n];
+        long[] nanoOfDays = new long[n];
+        ZoneConverter.of(tz).toLocal(
+            this.posixTimes, this.fractions, days, nanoOfDays, n);
+        return PlainTimestampArray.wrap(days, nanoOfDays, n);
+
+    }
+
+    /**
+     * <p>Formats all elements into given buffer. </p>
+     *
+     * @param   formatter   formatter for moments
+     * @param   buffer      text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @see     ChronoFormatter#formatAll(List, StringBuilder)
+     */
+    /*[deutsch]
+     * <p>Formatiert alle Elemente in den Puffer. </p>
+     *
+     * @param   formatter   formatter for moments
+     * @param   buffer      text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @see     ChronoFormatter#formatAll(List, StringBuilder)
+     */
+    public int[] format(
+        ChronoFormatter<Moment> formatter,
+        StringBuilder buffer
+    ) {
+
+        return formatter.formatAll(this.asList(), buffer);
+
+    }
+
+    /**
+     * <p>Formats all elements into given buffer using given separator. </p>
+     *
+     * @param   formatter   formatter for moments
+     * @param   separator   text between two formatted values
+     * @param   buffer      text output buffer
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     ChronoFormatter#formatAll(Iterable, CharSequence, Appendable)
+     */
+    /*[deutsch]
+     * <p>Formatiert alle Elemente mit dem angegebenen Trennzeichen in den
+     * Puffer. </p>
+     *
+     * @param   formatter   formatter for moments
+     * @param   separator   text between two formatted values
+     * @param   buffer      text output buffer
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     ChronoFormatter#formatAll(Iterable, CharSequence, Appendable)
+     */
+    public void format(
+        ChronoFormatter<Moment> formatter,
+        CharSequence separator,
+        Appendable buffer
+    ) throws IOException {
+
+        formatter.formatAll(this.asList(), separator, buffer);
+
+    }
+
+    /**
+     * <p>Yields a read-only list view which creates the moments on
+     * demand. </p>
+     *
+     * @return  unmodifiable list view backed by this column
+     */
+    /*[deutsch]
+     * <p>Liefert eine schreibgesch&uuml;tzte Listensicht, die die Momente
+     * bei Bedarf erzeugt. </p>
+     *
+     * @return  unmodifiable list view backed by this column
+     */
+    public List<Moment> asList() {
+
+        return new MomentList(this);
+
+    }
+
+    /**
+     * <p>Compresses this column into blocks of 128 elements. </p>
+     *
+     * @return  new compressed column
+     * @see     #toBlocks(int)
+     */
+    /*[deutsch]
+     * <p>Komprimiert diese Spalte in Bl&ouml;cke zu je 128 Elementen. </p>
+     *
+     * @return  new compressed column
+     * @see     #toBlocks(int)
+     */
+    public BlockColumn<Moment> toBlocks() {
+
+        return this.toBlocks(BlockColumn.DEFAULT_BLOCK_SIZE);
+
+    }
+
+    /**
+     * <p>Compresses this column into blocks of given size. </p>
+     *
+     * <p>Sorted columns compress best. Larger blocks save index space
+     * while smaller blocks speed up random access. </p>
+     *
+     * @param   blockSize   maximum count of elements per block
+     * @return  new compressed column
+     * @throws  IllegalArgumentException if the block size is not positive
+     */
+    /*[deutsch]
+     * <p>Komprimiert diese Spalte in Bl&ouml;cke der angegebenen
+     * Gr&ouml;&szlig;e. </p>
+     *
+     * <p>Sortierte Spalten komprimieren am besten. Gr&ouml;&szlig;ere
+     * Bl&ouml;cke sparen Platz im Index, w&auml;hrend kleinere Bl&ouml;cke
+     * den wahlfreien Zugriff beschleunigen. </p>
+     *
+     * @param   blockSize   maximum count of elements per block
+     * @return  new compressed column
+     * @throws  IllegalArgumentException if the block size is not positive
+     */
+    public BlockColumn<Moment> toBlocks(int blockSize) {
+
+        return BlockColumn.encodeMoments(
+            this.posixTimes,
+            this.fractions,
+            this.size,
+            blockSize);
+
+    }
+
+    /**
+     * <p>Decodes given compressed column into a new column of
+     * moments. </p>
+     *
+     * @param   blocks  compressed column
+     * @return  new column with the same elements
+     * @throws  IllegalArgumentException if given column does not contain
+     *          moments
+     */
+    /*[deutsch]
+     * <p>Dekodiert die angegebene komprimierte Spalte in eine neue Spalte
+     * von Momenten. </p>
+     *
+     * @param   blocks  compressed column
+     * @return  new column with the same elements
+     * @throws  IllegalArgumentException if given column does not contain
+     *          moments
+     */
+    public static MomentArray fromBlocks(BlockColumn<Moment> blocks) {
+
+        if (!blocks.isMomentType()) {
+            throw new IllegalArgumentException("Not a column of moments.");
+        }
+
+        int n = blocks.size();
+        long[] posixTimes = new long[n];
+        int[] fractions = new int[n];
+        blocks.decode(posixTimes, fractions, null);
+        return MomentArray.wrap(posixTimes, fractions, n);
+
+    }
+
+    /**
+     * <p>H&auml;ngt einen ungepr&uuml;ften Wert an. </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds since UNIX epoch
+     * @param   fraction    nanosecond fraction including leap second bit
+     */
+    void append(
+        long posixTime,
+        int fraction
+    ) {
+
+        if (this.size == this.posixTimes.length) {
+            int n = PlainDateArray.grow(this.size);
+            this.posixTimes = Arrays.copyOf(this.posixTimes, n);
+            this.fractions = Arrays.copyOf(this.fractions, n);
+        }
+
+        this.posixTimes[this.size] = posixTime;
+        this.fractions[this.size] = fraction;
+        this.size++;
+
+    }
+
+    /**
+     * <p>Erzeugt eine Spalte direkt aus den angegebenen Arrays, deren
+     * POSIX-Zeiten noch gepr&uuml;ft werden. </p>
+     *
+     * @param   posixTimes  elapsed POSIX seconds since UNIX epoch
+     * @param   fractions   nanosecond fractions without leap second bit
+     * @param   size        count of valid elements
+     * @return  new column which takes ownership of given arrays
+     * @throws  IllegalArgumentException if any POSIX time is out of range
+     */
+    static MomentArray wrap(
+        long[] posixTimes,
+        int[] fractions,
+        int size
+    ) {
+
+        for (int i = 0; i < size; i++) {
+            long posixTime = posixTimes[i];
+
+            if ((posixTime < MIN_POSIX) || (posixTime > MAX_POSIX)) {
+                throw new IllegalArgumentException(
+                    "POSIX time out of range: " + posixTime);
+            }
+        }
+
+        MomentArray column = new MomentArray(0);
+        column.posixTimes = posixTimes;
+        column.fractions = fractions;
+        column.size = size;
+        return column;
+
+    }
+
+    /**
+     * <p>Erzeugt einen Moment aus einem gespeicherten Wert. </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds since UNIX epoch
+     * @param   fraction    nanosecond fraction including leap second bit
+     * @return  new moment object
+     */
+    static Moment toMoment(
+        long posixTime,
+        int fraction
+    ) {
+
+        Moment moment =
+            Moment.of(
+                posixTime,
+                fraction & (~POSITIVE_LEAP_MASK),
+                TimeScale.POSIX);
+
+        if ((fraction & POSITIVE_LEAP_MASK) != 0) {
+            moment = moment.plus(1, SI.SECONDS);
+        }
+
+        return moment;
+
+    }
+
+    /**
+     * <p>Wandelt verstrichene Zeiten auf der angegebenen Zeitskala in
+     * POSIX-Zeiten und Schaltsekunden-Bits um. </p>
+     *
+     * @param   scale       source time scale
+     * @param   elapsed     elapsed seconds on source time scale
+     * @param   secs        output of POSIX times (same length as elapsed)
+     * @param   leaps       output of leap second bits (same length)
+     */
+    private static void toPosix(
+        TimeScale scale,
+        long[] elapsed,
+        long[] secs,
+        int[] leaps
+    ) {
+
+        int n = elapsed.length;
+
+        if (scale == TimeScale.POSIX) {
+            System.arraycopy(elapsed, 0, secs, 0, n);
+        } else {
+            LeapSeconds ls = LeapSeconds.getInstance();
+
+            if (!ls.isEnabled()) {
+                throw new IllegalStateException(
+                    "Leap seconds are not supported by configuration.");
+            }
+
+            long[] utcs = new long[n];
+
+            for (int i = 0; i < n; i++) {
+                long t = elapsed[i];
+                long utc;
+
+                switch (scale) {
+                    case UTC:
+                        utc = t;
+                        break;
+                    case TAI:
+                        utc = MathUtils.safeSubtract(t, TAI_UTC_DELTA);
+                        if (utc < 0) {
+                            throw new IllegalArgumentException(
+                                "TAI not supported before 1972-01-01: " + t);
+                        }
+                        break;
+                    case GPS:
+                        utc = MathUtils.safeAdd(t, UTC_GPS_DELTA);
+                        if (utc < UTC_GPS_DELTA) {
+                            throw new IllegalArgumentException(
+                                "GPS not supported before 1980-01-06: " + t);
+                        }
+                        break;
+                    default:
+                        throw new UnsupportedOperationException(
+                            "Not yet implemented: " + scale.name());
+                }
+
+                utcs[i] = utc;
+            }
+
+            // zwei Durchläufe durch die Schaltsekundentabelle
+            System.arraycopy(utcs, 0, secs, 0, n);
+            ls.strip(secs);
+            long[] regular = secs.clone();
+            ls.enhance(regular);
+
+            for (int i = 0; i < n; i++) {
+                long diff = utcs[i] - regular[i];
+
+                if ((diff == 0) || (secs[i] == MAX_POSIX)) {
+                    leaps[i] = 0;
+                } else if (diff == 1) { // positive Schaltsekunde
+                    leaps[i] = POSITIVE_LEAP_MASK;
+                } else {
+                    throw new IllegalStateException(
+                        "Cannot handle leap shift of " + elapsed[i] + ".");
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            long posixTime = secs[i];
+
+            if ((posixTime < MIN_POSIX) || (posixTime > MAX_POSIX)) {
+                throw new IllegalArgumentException(
+                    "POSIX time out of range: " + posixTime);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Wandelt POSIX-Zeiten mit Schaltsekunden-Bits an Ort und Stelle in
+     * verstrichene Zeiten auf der angegebenen Zeitskala um. </p>
+     *
+     * @param   secs        POSIX times to be overwritten
+     * @param   fractions   leap second bits (maybe with nanoseconds)
+     * @param   scale       target time scale
+     */
+    private static void fromPosix(
+        long[] secs,
+        int[] fractions,
+        TimeScale scale
+    ) {
+
+        int n = secs.length;
+
+        if (scale == TimeScale.POSIX) {
+            return;
+        }
+
+        LeapSeconds ls = LeapSeconds.getInstance();
+        boolean enabled = ls.isEnabled();
+
+        if (enabled) {
+            ls.enhance(secs);
+
+            for (int i = 0; i < n; i++) {
+                if ((fractions[i] & POSITIVE_LEAP_MASK) != 0) {
+                    secs[i]++;
+                }
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                secs[i] -= POSIX_UTC_DELTA;
+            }
+        }
+
+        switch (scale) {
+            case UTC:
+                break;
+            case TAI:
+                for (int i = 0; i < n; i++) {
+                    if (secs[i] < 0) {
+                        throw new IllegalArgumentException(
+                            "TAI not supported before 1972-01-01: "
+                            + secs[i]);
+                    }
+                    secs[i] += TAI_UTC_DELTA;
+                }
+                break;
+            case GPS:
+                for (int i = 0; i < n; i++) {
+                    if (secs[i] < UTC_GPS_DELTA) {
+                        throw new IllegalArgumentException(
+                            "GPS not supported before 1980-01-06: "
+                            + secs[i]);
+                    }
+                    secs[i] -= UTC_GPS_DELTA;
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException(
+                    "Not yet implemented: " + scale.name());
+        }
+
+    }
+
+    private static void checkResult(long posixTime) {
+
+        if ((posixTime < MIN_POSIX) || (posixTime > MAX_POSIX)) {
+            throw new ArithmeticException(
+                "Result beyond boundaries of time axis.");
+        }
+
+    }
+
+    private void checkIndex(int index) {
+
+        if ((index < 0) || (index >= this.size)) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", size: " + this.size);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class MomentList
+        extends AbstractList<Moment>
+        implements RandomAccess {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final MomentArray column;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        MomentList(MomentArray column) {
+            super();
+
+            this.column = column;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Moment get(int index) {
+
+            return this.column.get(index);
+
+        }
+
+        @Override
+        public int size() {
+
+            return this.column.size();
+
+        }
+
+    }
+
+}
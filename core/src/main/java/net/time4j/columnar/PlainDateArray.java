@@ -0,0 +1,655 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PlainDateArray.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.columnar;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+import net.time4j.format.ChronoFormatter;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * <p>Growable column of calendar dates which are stored as primitive
+ * day numbers relative to the UNIX epoch [1970-01-01]. </p>
+ *
+ * <p>Every element only needs 8 bytes. All bulk operations like sorting,
+ * searching, truncating and adding work directly on the day numbers and
+ * do not create any {@code PlainDate}-objects. Such objects are only
+ * created on demand by {@link #get(int)} or by the list view. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <mutable>
+ */
+/*[deutsch]
+ * <p>Wachsende Spalte von Kalenderdaten, die als primitive Tageszahlen
+ * relativ zur UNIX-Epoche [1970-01-01] gespeichert werden. </p>
+ *
+ * <p>Jedes Element braucht nur 8 Bytes. Alle Massenoperationen wie
+ * Sortieren, Suchen, Abschneiden und Addieren arbeiten direkt auf den
+ * Tageszahlen und erzeugen keine {@code PlainDate}-Objekte. Solche Objekte
+ * werden nur bei Bedarf von {@link #get(int)} oder der Listensicht
+ * erzeugt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <mutable>
+ */
+public final class PlainDateArray {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    static final long MIN_DAY =
+        PlainDate.axis().getMinimum().get(EpochDays.UNIX).longValue();
+    static final long MAX_DAY =
+        PlainDate.axis().getMaximum().get(EpochDays.UNIX).longValue();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private long[] epochDays;
+    private int size;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates an empty column with default capacity. </p>
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine leere Spalte mit Standardkapazit&auml;t. </p>
+     */
+    public PlainDateArray() {
+        this(DEFAULT_CAPACITY);
+
+    }
+
+    /**
+     * <p>Creates an empty column with given initial capacity. </p>
+     *
+     * @param   capacity    initial capacity
+     * @throws  IllegalArgumentException if given capacity is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine leere Spalte mit der angegebenen
+     * Anfangskapazit&auml;t. </p>
+     *
+     * @param   capacity    initial capacity
+     * @throws  IllegalArgumentException if given capacity is negative
+     */
+    public PlainDateArray(int capacity) {
+        super();
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                "Negative capacity: " + capacity);
+        }
+
+        this.epochDays = new long[capacity];
+        this.size = 0;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Appends given calendar date. </p>
+     *
+     * @param   date    calendar date to be appended
+     */
+    /*[deutsch]
+     * <p>H&auml;ngt das angegebene Kalenderdatum an. </p>
+     *
+     * @param   date    calendar date to be appended
+     */
+    public void add(PlainDate date) {
+
+        this.add(date.get(EpochDays.UNIX).longValue());
+
+    }
+
+    /**
+     * <p>Appends given calendar date as day number. </p>
+     *
+     * @param   epochDay    days since UNIX epoch
+     * @throws  IllegalArgumentException if the day number is out of range
+     */
+    /*[deutsch]
+     * <p>H&auml;ngt das angegebene Kalenderdatum als Tageszahl an. </p>
+     *
+     * @param   epochDay    days since UNIX epoch
+     * @throws  IllegalArgumentException if the day number is out of range
+     */
+    public void add(long epochDay) {
+
+        check(epochDay);
+
+        if (this.size == this.epochDays.length) {
+            this.epochDays =
+                Arrays.copyOf(this.epochDays, grow(this.epochDays.length));
+        }
+
+        this.epochDays[this.size++] = epochDay;
+
+    }
+
+    /**
+     * <p>Yields the calendar date at given index. </p>
+     *
+     * @param   index   position in this column
+     * @return  new calendar date object
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert das Kalenderdatum an der angegebenen Position. </p>
+     *
+     * @param   index   position in this column
+     * @return  new calendar date object
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public PlainDate get(int index) {
+
+        return PlainDate.of(this.getEpochDay(index), EpochDays.UNIX);
+
+    }
+
+    /**
+     * <p>Yields the day number at given index. </p>
+     *
+     * @param   index   position in this column
+     * @return  days since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Tageszahl an der angegebenen Position. </p>
+     *
+     * @param   index   position in this column
+     * @return  days since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochDay(int index) {
+
+        this.checkIndex(index);
+        return this.epochDays[index];
+
+    }
+
+    /**
+     * <p>Sorts all elements in ascending order. </p>
+     */
+    /*[deutsch]
+     * <p>Sortiert alle Elemente aufsteigend. </p>
+     */
+    public void sort() {
+
+        Arrays.sort(this.epochDays, 0, this.size);
+
+    }
+
+    /**
+     * <p>Searches given calendar date in this sorted column. </p>
+     *
+     * @param   date    calendar date to be searched
+     * @return  index of date or {@code (-(insertion point) - 1)}
+     * @see     #sort()
+     */
+    /*[deutsch]
+     * <p>Sucht das angegebene Kalenderdatum in dieser sortierten
+     * Spalte. </p>
+     *
+     * @param   date    calendar date to be searched
+     * @return  index of date or {@code (-(insertion point) - 1)}
+     * @see     #sort()
+     */
+    public int binarySearch(PlainDate date) {
+
+        return Arrays.binarySearch(
+            this.epochDays,
+            0,
+            this.size,
+            date.get(EpochDays.UNIX).longValue());
+
+    }
+
+    /**
+     * <p>Sets every calendar date to the start of given unit. </p>
+     *
+     * <p>Weeks start on Monday as defined by ISO-8601. Decades, centuries
+     * and millennia start with the years divisible by 10, 100 and 1000. </p>
+     *
+     * @param   unit    calendar unit
+     */
+    /*[deutsch]
+     * <p>Setzt jedes Kalenderdatum auf den Anfang der angegebenen
+     * Einheit. </p>
+     *
+     * <p>Wochen beginnen wie in ISO-8601 festgelegt am Montag. Jahrzehnte,
+     * Jahrhunderte und Jahrtausende beginnen mit den durch 10, 100 und 1000
+     * teilbaren Jahren. </p>
+     *
+     * @param   unit    calendar unit
+     */
+    public void truncate(CalendarUnit unit) {
+
+        if (unit == CalendarUnit.DAYS) {
+            return;
+        }
+
+        long[] days = this.epochDays;
+        long lastIn = 0;
+        long lastOut = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            long day = days[i];
+
+            // gleiche aufeinanderfolgende Tage nur einmal zerlegen
+            if ((i == 0) || (day != lastIn)) {
+                lastIn = day;
+                lastOut = ColumnMath.truncate(day, unit);
+            }
+
+            days[i] = lastOut;
+        }
+
+    }
+
+    /**
+     * <p>Adds given amount in given unit to every calendar date. </p>
+     *
+     * <p>If a month-based addition leads to an invalid day of month then
+     * the last day of month will be chosen like in {@code PlainDate}. Either
+     * all elements are changed or none. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    calendar unit
+     * @throws  ArithmeticException if any result is out of range
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Einheit zu jedem
+     * Kalenderdatum. </p>
+     *
+     * <p>F&uuml;hrt eine monatsbasierte Addition zu einem ung&uuml;ltigen
+     * Monatstag, wird wie in {@code PlainDate} der letzte Tag des Monats
+     * gew&auml;hlt. Entweder werden alle Elemente ge&auml;ndert oder
+     * keines. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    calendar unit
+     * @throws  ArithmeticException if any result is out of range
+     */
+    public void plus(
+        long amount,
+        CalendarUnit unit
+    ) {
+
+        if ((amount == 0) || (this.size == 0)) {
+            return;
+        }
+
+        plus(this.epochDays, this.size, amount, unit);
+
+    }
+
+    /**
+     * <p>Formats all elements into given buffer. </p>
+     *
+     * @param   formatter   formatter for calendar dates
+     * @param   buffer      text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @see     ChronoFormatter#formatAll(List, StringBuilder)
+     */
+    /*[deutsch]
+     * <p>Formatiert alle Elemente in den Puffer. </p>
+     *
+     * @param   formatter   formatter for calendar dates
+     * @param   buffer      text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @see     ChronoFormatter#formatAll(List, StringBuilder)
+     */
+    public int[] format(
+        ChronoFormatter<PlainDate> formatter,
+        StringBuilder buffer
+    ) {
+
+        return formatter.formatAll(this.asList(), buffer);
+
+    }
+
+    /**
+     * <p>Formats all elements into given buffer using given separator. </p>
+     *
+     * @param   formatter   formatter for calendar dates
+     * @param   separator   text between two formatted values
+     * @param   buffer      text output buffer
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     ChronoFormatter#formatAll(Iterable, CharSequence, Appendable)
+     */
+    /*[deutsch]
+     * <p>Formatiert alle Elemente mit dem angegebenen Trennzeichen in den
+     * Puffer. </p>
+     *
+     * @param   formatter   formatter for calendar dates
+     * @param   separator   text between two formatted values
+     * @param   buffer      text output buffer
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     ChronoFormatter#formatAll(Iterable, CharSequence, Appendable)
+     */
+    public void format(
+        ChronoFormatter<PlainDate> formatter,
+        CharSequence separator,
+        Appendable buffer
+    ) throws IOException {
+
+        formatter.formatAll(this.asList(), separator, buffer);
+
+    }
+
+    /**
+     * <p>Yields a read-only list view which creates the calendar dates on
+     * demand. </p>
+     *
+     * @return  unmodifiable list view backed by this column
+     */
+    /*[deutsch]
+     * <p>Liefert eine schreibgesch&uuml;tzte Listensicht, die die
+     * Kalenderdaten bei Bedarf erzeugt. </p>
+     *
+     * @return  unmodifiable list view backed by this column
+     */
+    public List<PlainDate> asList() {
+
+        return new DateList(this);
+
+    }
+
+    /**
+     * <p>Compresses this column into blocks of 128 elements. </p>
+     *
+     * @return  new compressed column
+     * @see     #toBlocks(int)
+     */
+    /*[deutsch]
+     * <p>Komprimiert diese Spalte in Bl&ouml;cke zu je 128 Elementen. </p>
+     *
+     * @return  new compressed column
+     * @see     #toBlocks(int)
+     */
+    public BlockColumn<PlainDate> toBlocks() {
+
+        return this.toBlocks(BlockColumn.DEFAULT_BLOCK_SIZE);
+
+    }
+
+    /**
+     * <p>Compresses this column into blocks of given size. </p>
+     *
+     * <p>Sorted columns compress best. Larger blocks save index space
+     * while smaller blocks speed up random access. </p>
+     *
+     * @param   blockSize   maximum count of elements per block
+     * @return  new compressed column
+     * @throws  IllegalArgumentException if the block size is not positive
+     */
+    /*[deutsch]
+     * <p>Komprimiert diese Spalte in Bl&ouml;cke der angegebenen
+     * Gr&ouml;&szlig;e. </p>
+     *
+     * <p>Sortierte Spalten komprimieren am besten. Gr&ouml;&szlig;ere
+     * Bl&ouml;cke sparen Platz im Index, w&auml;hrend kleinere Bl&ouml;cke
+     * den wahlfreien Zugriff beschleunigen. </p>
+     *
+     * @param   blockSize   maximum count of elements per block
+     * @return  new compressed column
+     * @throws  IllegalArgumentException if the block size is not positive
+     */
+    public BlockColumn<PlainDate> toBlocks(int blockSize) {
+
+        return BlockColumn.encodeDays(
+            this.epochDays,
+            null,
+            this.size,
+            blockSize);
+
+    }
+
+    /**
+     * <p>Decodes given compressed column into a new column of
+     * calendar dates. </p>
+     *
+     * @param   blocks  compressed column
+     * @return  new column with the same elements
+     * @throws  IllegalArgumentException if given column does not contain
+     *          calendar dates
+     */
+    /*[deutsch]
+     * <p>Dekodiert die angegebene komprimierte Spalte in eine neue Spalte
+     * von Kalenderdaten. </p>
+     *
+     * @param   blocks  compressed column
+     * @return  new column with the same elements
+     * @throws  IllegalArgumentException if given column does not contain
+     *          calendar dates
+     */
+    public static PlainDateArray fromBlocks(BlockColumn<PlainDate> blocks) {
+
+        if (!blocks.isDateType()) {
+            throw new IllegalArgumentException(
+                "Not a column of calendar dates.");
+        }
+
+        PlainDateArray column = new PlainDateArray(0);
+        column.epochDays = new long[blocks.size()];
+        column.size = blocks.size();
+        blocks.decode(column.epochDays, null, null);
+        return column;
+
+    }
+
+    /**
+     * <p>Addiert den Betrag zu den ersten {@code size} Tageszahlen. </p>
+     *
+     * @param   days    day numbers to be changed
+     * @param   size    count of elements
+     * @param   amount  amount to be added
+     * @param   unit    calendar unit
+     * @throws  ArithmeticException if any result is out of range
+     */
+    static void plus(
+        long[] days,
+        int size,
+        long amount,
+        CalendarUnit unit
+    ) {
+
+        long min = days[0];
+        long max = days[0];
+
+        for (int i = 1; i < size; i++) {
+            long day = days[i];
+
+            if (day < min) {
+                min = day;
+            } else if (day > max) {
+                max = day;
+            }
+        }
+
+        long months = ColumnMath.monthsOf(unit);
+
+        if (months == 0) {
+            long delta =
+                MathUtils.safeMultiply(
+                    amount,
+                    (unit == CalendarUnit.WEEKS) ? 7 : 1);
+
+            // Addition ist monoton, also genügt die Prüfung der Extremwerte
+            checkResult(MathUtils.safeAdd(min, delta));
+            checkResult(MathUtils.safeAdd(max, delta));
+
+            for (int i = 0; i < size; i++) {
+                days[i] += delta;
+            }
+        } else {
+            long delta = MathUtils.safeMultiply(amount, months);
+            ColumnMath.addMonths(min, delta);
+            ColumnMath.addMonths(max, delta);
+            long lastIn = 0;
+            long lastOut = 0;
+
+            for (int i = 0; i < size; i++) {
+                long day = days[i];
+
+                // gleiche aufeinanderfolgende Tage nur einmal zerlegen
+                if ((i == 0) || (day != lastIn)) {
+                    lastIn = day;
+                    lastOut = ColumnMath.addMonths(day, delta);
+                }
+
+                days[i] = lastOut;
+            }
+        }
+
+    }
+
+    /**
+     * <p>Vergr&ouml;&szlig;ert die Kapazit&auml;t um etwa die H&auml;lfte. </p>
+     *
+     * @param   capacity    old capacity
+     * @return  new capacity
+     */
+    static int grow(int capacity) {
+
+        int n = capacity + (capacity >> 1) + 1;
+
+        if (n < 0) {
+            if (capacity == Integer.MAX_VALUE) {
+                throw new OutOfMemoryError("Column too large.");
+            }
+            n = Integer.MAX_VALUE;
+        }
+
+        return n;
+
+    }
+
+    private static void check(long epochDay) {
+
+        if ((epochDay < MIN_DAY) || (epochDay > MAX_DAY)) {
+            throw new IllegalArgumentException(
+                "Day number out of range: " + epochDay);
+        }
+
+    }
+
+    private static void checkResult(long epochDay) {
+
+        if ((epochDay < MIN_DAY) || (epochDay > MAX_DAY)) {
+            throw new ArithmeticException(
+                "Result beyond boundaries of time axis.");
+        }
+
+    }
+
+    private void checkIndex(int index) {
+
+        if ((index < 0) || (index >= this.size)) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", size: " + this.size);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class DateList
+        extends AbstractList<PlainDate>
+        implements RandomAccess {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final PlainDateArray column;
+        private long lastDay = 0;
+        private PlainDate last = null;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DateList(PlainDateArray column) {
+            super();
+
+            this.column = column;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainDate get(int index) {
+
+            long day = this.column.getEpochDay(index);
+
+            // gleiche aufeinanderfolgende Tage nur einmal konvertieren
+            if ((this.last == null) || (this.lastDay != day)) {
+                this.last = PlainDate.of(day, EpochDays.UNIX);
+                this.lastDay = day;
+            }
+
+            return this.last;
+
+        }
+
+        @Override
+        public int size() {
+
+            return this.column.size();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,840 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PlainTimestampArray.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.columnar;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+import net.time4j.format.ChronoFormatter;
+import net.time4j.tz.Timezone;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * <p>Growable column of local timestamps which are stored as primitive
+ * day numbers relative to the UNIX epoch [1970-01-01] plus nanoseconds
+ * of day. </p>
+ *
+ * <p>Every element only needs 16 bytes. All bulk operations like sorting,
+ * searching, truncating, adding and zone conversion work directly on the
+ * primitive values and do not create any {@code PlainTimestamp}-objects.
+ * Such objects are only created on demand by {@link #get(int)} or by the
+ * list view. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <mutable>
+ */
+/*[deutsch]
+ * <p>Wachsende Spalte von lokalen Zeitstempeln, die als primitive
+ * Tageszahlen relativ zur UNIX-Epoche [1970-01-01] mit Nanosekunden des
+ * Tages gespeichert werden. </p>
+ *
+ * <p>Jedes Element braucht nur 16 Bytes. Alle Massenoperationen wie
+ * Sortieren, Suchen, Abschneiden, Addieren und Zonenumrechnung arbeiten
+ * direkt auf den primitiven Werten und erzeugen keine
+ * {@code PlainTimestamp}-Objekte. Solche Objekte werden nur bei Bedarf von
+ * {@link #get(int)} oder der Listensicht erzeugt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <mutable>
+ */
+public final class PlainTimestampArray {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MRD = 1000000000;
+
+    /** Nanosekunden pro Tag. */
+    static final long NANOS_PER_DAY = 86400L * MRD;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private long[] epochDays;
+    private long[] nanoOfDays;
+    private int size;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates an empty column with default capacity. </p>
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine leere Spalte mit Standardkapazit&auml;t. </p>
+     */
+    public PlainTimestampArray() {
+        this(DEFAULT_CAPACITY);
+
+    }
+
+    /**
+     * <p>Creates an empty column with given initial capacity. </p>
+     *
+     * @param   capacity    initial capacity
+     * @throws  IllegalArgumentException if given capacity is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine leere Spalte mit der angegebenen
+     * Anfangskapazit&auml;t. </p>
+     *
+     * @param   capacity    initial capacity
+     * @throws  IllegalArgumentException if given capacity is negative
+     */
+    public PlainTimestampArray(int capacity) {
+        super();
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                "Negative capacity: " + capacity);
+        }
+
+        this.epochDays = new long[capacity];
+        this.nanoOfDays = new long[capacity];
+        this.size = 0;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Appends given local timestamp. </p>
+     *
+     * @param   timestamp   local timestamp to be appended
+     */
+    /*[deutsch]
+     * <p>H&auml;ngt den angegebenen lokalen Zeitstempel an. </p>
+     *
+     * @param   timestamp   local timestamp to be appended
+     */
+    public void add(PlainTimestamp timestamp) {
+
+        this.append(
+            timestamp.getCalendarDate().get(EpochDays.UNIX).longValue(),
+            toNanoOfDay(timestamp.getWallTime()));
+
+    }
+
+    /**
+     * <p>Appends given local timestamp as day number and nanoseconds of
+     * day. </p>
+     *
+     * @param   epochDay    days since UNIX epoch
+     * @param   nanoOfDay   nanoseconds since midnight
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    /*[deutsch]
+     * <p>H&auml;ngt den angegebenen lokalen Zeitstempel als Tageszahl und
+     * Nanosekunden des Tages an. </p>
+     *
+     * @param   epochDay    days since UNIX epoch
+     * @param   nanoOfDay   nanoseconds since midnight
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    public void add(
+        long epochDay,
+        long nanoOfDay
+    ) {
+
+        if (
+            (epochDay < PlainDateArray.MIN_DAY)
+            || (epochDay > PlainDateArray.MAX_DAY)
+        ) {
+            throw new IllegalArgumentException(
+                "Day number out of range: " + epochDay);
+        } else if ((nanoOfDay < 0) || (nanoOfDay >= NANOS_PER_DAY)) {
+            throw new IllegalArgumentException(
+                "Nanosecond of day out of range: " + nanoOfDay);
+        }
+
+        this.append(epochDay, nanoOfDay);
+
+    }
+
+    /**
+     * <p>Yields the local timestamp at given index. </p>
+     *
+     * @param   index   position in this column
+     * @return  new local timestamp object
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den lokalen Zeitstempel an der angegebenen Position. </p>
+     *
+     * @param   index   position in this column
+     * @return  new local timestamp object
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public PlainTimestamp get(int index) {
+
+        this.checkIndex(index);
+
+        return PlainTimestamp.of(
+            PlainDate.of(this.epochDays[index], EpochDays.UNIX),
+            toTime(this.nanoOfDays[index]));
+
+    }
+
+    /**
+     * <p>Yields the day number at given index. </p>
+     *
+     * @param   index   position in this column
+     * @return  days since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Tageszahl an der angegebenen Position. </p>
+     *
+     * @param   index   position in this column
+     * @return  days since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochDay(int index) {
+
+        this.checkIndex(index);
+        return this.epochDays[index];
+
+    }
+
+    /**
+     * <p>Yields the nanoseconds of day at given index. </p>
+     *
+     * @param   index   position in this column
+     * @return  nanoseconds since midnight
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Nanosekunden des Tages an der angegebenen
+     * Position. </p>
+     *
+     * @param   index   position in this column
+     * @return  nanoseconds since midnight
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getNanoOfDay(int index) {
+
+        this.checkIndex(index);
+        return this.nanoOfDays[index];
+
+    }
+
+    /**
+     * <p>Sorts all elements in ascending order. </p>
+     */
+    /*[deutsch]
+     * <p>Sortiert alle Elemente aufsteigend. </p>
+     */
+    public void sort() {
+
+        ColumnMath.sort(this.epochDays, this.nanoOfDays, 0, this.size);
+
+    }
+
+    /**
+     * <p>Searches given local timestamp in this sorted column. </p>
+     *
+     * @param   timestamp   local timestamp to be searched
+     * @return  index of timestamp or {@code (-(insertion point) - 1)}
+     * @see     #sort()
+     */
+    /*[deutsch]
+     * <p>Sucht den angegebenen lokalen Zeitstempel in dieser sortierten
+     * Spalte. </p>
+     *
+     * @param   timestamp   local timestamp to be searched
+     * @return  index of timestamp or {@code (-(insertion point) - 1)}
+     * @see     #sort()
+     */
+    public int binarySearch(PlainTimestamp timestamp) {
+
+        return ColumnMath.search(
+            this.epochDays,
+            this.nanoOfDays,
+            0,
+            this.size,
+            timestamp.getCalendarDate().get(EpochDays.UNIX).longValue(),
+            toNanoOfDay(timestamp.getWallTime()));
+
+    }
+
+    /**
+     * <p>Sets every local timestamp to the start of given clock unit. </p>
+     *
+     * @param   unit    clock unit
+     */
+    /*[deutsch]
+     * <p>Setzt jeden lokalen Zeitstempel auf den Anfang der angegebenen
+     * Uhrzeiteinheit. </p>
+     *
+     * @param   unit    clock unit
+     */
+    public void truncate(ClockUnit unit) {
+
+        long len = nanosOf(unit);
+
+        if (len == 1) {
+            return;
+        }
+
+        long[] nanos = this.nanoOfDays;
+
+        for (int i = 0; i < this.size; i++) {
+            long n = nanos[i];
+            nanos[i] = n - (n % len);
+        }
+
+    }
+
+    /**
+     * <p>Sets every local timestamp to midnight at the start of given
+     * calendar unit. </p>
+     *
+     * @param   unit    calendar unit
+     * @see     PlainDateArray#truncate(CalendarUnit)
+     */
+    /*[deutsch]
+     * <p>Setzt jeden lokalen Zeitstempel auf Mitternacht am Anfang der
+     * angegebenen Kalendereinheit. </p>
+     *
+     * @param   unit    calendar unit
+     * @see     PlainDateArray#truncate(CalendarUnit)
+     */
+    public void truncate(CalendarUnit unit) {
+
+        long[] days = this.epochDays;
+        long lastIn = 0;
+        long lastOut = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            long day = days[i];
+
+            // gleiche aufeinanderfolgende Tage nur einmal zerlegen
+            if ((i == 0) || (day != lastIn)) {
+                lastIn = day;
+                lastOut = ColumnMath.truncate(day, unit);
+            }
+
+            days[i] = lastOut;
+            this.nanoOfDays[i] = 0;
+        }
+
+    }
+
+    /**
+     * <p>Adds given amount in given clock unit to every local
+     * timestamp. </p>
+     *
+     * <p>Either all elements are changed or none. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    clock unit
+     * @throws  ArithmeticException if any result is out of range
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Uhrzeiteinheit
+     * zu jedem lokalen Zeitstempel. </p>
+     *
+     * <p>Entweder werden alle Elemente ge&auml;ndert oder keines. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    clock unit
+     * @throws  ArithmeticException if any result is out of range
+     */
+    public void plus(
+        long amount,
+        ClockUnit unit
+    ) {
+
+        if ((amount == 0) || (this.size == 0)) {
+            return;
+        }
+
+        long len = nanosOf(unit);
+        long perDay = NANOS_PER_DAY / len;
+        long deltaDays = amount / perDay;
+        long rest = amount % perDay;
+
+        if (rest < 0) {
+            rest += perDay;
+            deltaDays--;
+        }
+
+        long deltaNanos = rest * len;
+
+        long[] days = this.epochDays;
+        long[] nanos = this.nanoOfDays;
+        long min = days[0];
+        long max = days[0];
+
+        for (int i = 1; i < this.size; i++) {
+            long day = days[i];
+
+            if (day < min) {
+                min = day;
+            } else if (day > max) {
+                max = day;
+            }
+        }
+
+        // Addition ist monoton, also genügt die Prüfung der Extremwerte
+        checkResult(MathUtils.safeAdd(min, deltaDays));
+        checkResult(
+            MathUtils.safeAdd(max, deltaDays) + ((deltaNanos > 0) ? 1 : 0));
+
+        for (int i = 0; i < this.size; i++) {
+            long n = nanos[i] + deltaNanos;
+            long d = days[i] + deltaDays;
+
+            if (n >= NANOS_PER_DAY) {
+                n -= NANOS_PER_DAY;
+                d++;
+            }
+
+            days[i] = d;
+            nanos[i] = n;
+        }
+
+    }
+
+    /**
+     * <p>Adds given amount in given calendar unit to every local
+     * timestamp. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    calendar unit
+     * @throws  ArithmeticException if any result is out of range
+     * @see     PlainDateArray#plus(long, CalendarUnit)
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Kalendereinheit
+     * zu jedem lokalen Zeitstempel. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    calendar unit
+     * @throws  ArithmeticException if any result is out of range
+     * @see     PlainDateArray#plus(long, CalendarUnit)
+     */
+    public void plus(
+        long amount,
+        CalendarUnit unit
+    ) {
+
+        if ((amount == 0) || (this.size == 0)) {
+            return;
+        }
+
+        PlainDateArray.plus(this.epochDays, this.size, amount, unit);
+
+    }
+
+    /**
+     * <p>Converts all local timestamps to UTC-moments in given
+     * timezone. </p>
+     *
+     * <p>Gaps and overlaps on the local timeline are resolved by the
+     * transition strategy of given timezone. </p>
+     *
+     * @param   tz      timezone
+     * @return  new column of UTC-moments
+     * @throws  IllegalArgumentException if any local timestamp is invalid
+     *          in given timezone and the timezone uses a strict transition
+     *          strategy
+     * @see     PlainTimestamp#in(Timezone)
+     */
+    /*[deutsch]
+     * <p>Wandelt alle lokalen Zeitstempel in UTC-Momente in der angegebenen
+     * Zeitzone um. </p>
+     *
+     * <p>L&uuml;cken und &Uuml;berlappungen auf dem lokalen Zeitstrahl
+     * werden mit der &Uuml;bergangsstrategie der Zeitzone
+     * aufgel&ouml;st. </p>
+     *
+     * @param   tz      timezone
+     * @return  new column of UTC-moments
+     * @throws  IllegalArgumentException if any local timestamp is invalid
+     *          in given timezone and the timezone uses a strict transition
+     *          strategy
+     * @see     PlainTimestamp#in(Timezone)
+     */
+    public MomentArray inTimezone(Timezone tz) {
+
+        int n = this.size;
+        long[] posixTimes = new long[n];
+        int[] nanos = new int[n];
+        ZoneConverter.of(tz).toGlobal(
+            this.epochDays, this.nanoOfDays, posixTimes, nanos, n);
+        return MomentArray.wrap(posixTimes, nanos, n);
+
+    }
+
+    /**
+     * <p>Formats all elements into given buffer. </p>
+     *
+     * @param   formatter   formatter for local timestamps
+     * @param   buffer      text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @see     ChronoFormatter#formatAll(List, StringBuilder)
+     */
+    /*[deutsch]
+     * <p>Formatiert alle Elemente in den Puffer. </p>
+     *
+     * @param   formatter   formatter for local timestamps
+     * @param   buffer      text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @see     ChronoFormatter#formatAll(List, StringBuilder)
+     */
+    public int[] format(
+        ChronoFormatter<PlainTimestamp> formatter,
+        StringBuilder buffer
+    ) {
+
+        return formatter.formatAll(this.asList(), buffer);
+
+    }
+
+    /**
+     * <p>Formats all elements into given buffer using given separator. </p>
+     *
+     * @param   formatter   formatter for local timestamps
+     * @param   separator   text between two formatted values
+     * @param   buffer      text output buffer
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     ChronoFormatter#formatAll(Iterable, CharSequence, Appendable)
+     */
+    /*[deutsch]
+     * <p>Formatiert alle Elemente mit dem angegebenen Trennzeichen in den
+     * Puffer. </p>
+     *
+     * @param   formatter   formatter for local timestamps
+     * @param   separator   text between two formatted values
+     * @param   buffer      text output buffer
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     ChronoFormatter#formatAll(Iterable, CharSequence, Appendable)
+     */
+    public void format(
+        ChronoFormatter<PlainTimestamp> formatter,
+        CharSequence separator,
+        Appendable buffer
+    ) throws IOException {
+
+        formatter.formatAll(this.asList(), separator, buffer);
+
+    }
+
+    /**
+     * <p>Yields a read-only list view which creates the local timestamps
+     * on demand. </p>
+     *
+     * @return  unmodifiable list view backed by this column
+     */
+    /*[deutsch]
+     * <p>Liefert eine schreibgesch&uuml;tzte Listensicht, die die lokalen
+     * Zeitstempel bei Bedarf erzeugt. </p>
+     *
+     * @return  unmodifiable list view backed by this column
+     */
+    public List<PlainTimestamp> asList() {
+
+        return new TimestampList(this);
+
+    }
+
+    /**
+     * <p>Compresses this column into blocks of 128 elements. </p>
+     *
+     * @return  new compressed column
+     * @see     #toBlocks(int)
+     */
+    /*[deutsch]
+     * <p>Komprimiert diese Spalte in Bl&ouml;cke zu je 128 Elementen. </p>
+     *
+     * @return  new compressed column
+     * @see     #toBlocks(int)
+     */
+    public BlockColumn<PlainTimestamp> toBlocks() {
+
+        return this.toBlocks(BlockColumn.DEFAULT_BLOCK_SIZE);
+
+    }
+
+    /**
+     * <p>Compresses this column into blocks of given size. </p>
+     *
+     * <p>Sorted columns compress best. Larger blocks save index space
+     * while smaller blocks speed up random access. </p>
+     *
+     * @param   blockSize   maximum count of elements per block
+     * @return  new compressed column
+     * @throws  IllegalArgumentException if the block size is not positive
+     */
+    /*[deutsch]
+     * <p>Komprimiert diese Spalte in Bl&ouml;cke der angegebenen
+     * Gr&ouml;&szlig;e. </p>
+     *
+     * <p>Sortierte Spalten komprimieren am besten. Gr&ouml;&szlig;ere
+     * Bl&ouml;cke sparen Platz im Index, w&auml;hrend kleinere Bl&ouml;cke
+     * den wahlfreien Zugriff beschleunigen. </p>
+     *
+     * @param   blockSize   maximum count of elements per block
+     * @return  new compressed column
+     * @throws  IllegalArgumentException if the block size is not positive
+     */
+    public BlockColumn<PlainTimestamp> toBlocks(int blockSize) {
+
+        return BlockColumn.encodeDays(
+            this.epochDays,
+            this.nanoOfDays,
+            this.size,
+            blockSize);
+
+    }
+
+    /**
+     * <p>Decodes given compressed column into a new column of
+     * local timestamps. </p>
+     *
+     * @param   blocks  compressed column
+     * @return  new column with the same elements
+     * @throws  IllegalArgumentException if given column does not contain
+     *          local timestamps
+     */
+    /*[deutsch]
+     * <p>Dekodiert die angegebene komprimierte Spalte in eine neue Spalte
+     * von lokalen Zeitstempeln. </p>
+     *
+     * @param   blocks  compressed column
+     * @return  new column with the same elements
+     * @throws  IllegalArgumentException if given column does not contain
+     *          local timestamps
+     */
+    public static PlainTimestampArray fromBlocks(
+        BlockColumn<PlainTimestamp> blocks
+    ) {
+
+        if (!blocks.isTimestampType()) {
+            throw new IllegalArgumentException(
+                "Not a column of local timestamps.");
+        }
+
+        int n = blocks.size();
+        long[] epochDays = new long[n];
+        long[] nanoOfDays = new long[n];
+        blocks.decode(epochDays, null, nanoOfDays);
+        return PlainTimestampArray.wrap(epochDays, nanoOfDays, n);
+
+    }
+
+    /**
+     * <p>H&auml;ngt einen ungepr&uuml;ften Wert an. </p>
+     *
+     * @param   epochDay    days since UNIX epoch
+     * @param   nanoOfDay   nanoseconds since midnight
+     */
+    void append(
+        long epochDay,
+        long nanoOfDay
+    ) {
+
+        if (this.size == this.epochDays.length) {
+            int n = PlainDateArray.grow(this.size);
+            this.epochDays = Arrays.copyOf(this.epochDays, n);
+            this.nanoOfDays = Arrays.copyOf(this.nanoOfDays, n);
+        }
+
+        this.epochDays[this.size] = epochDay;
+        this.nanoOfDays[this.size] = nanoOfDay;
+        this.size++;
+
+    }
+
+    /**
+     * <p>Erzeugt eine Spalte direkt aus den angegebenen Arrays. </p>
+     *
+     * @param   epochDays   days since UNIX epoch
+     * @param   nanoOfDays  nanoseconds since midnight
+     * @param   size        count of valid elements
+     * @return  new column which takes ownership of given arrays
+     */
+    static PlainTimestampArray wrap(
+        long[] epochDays,
+        long[] nanoOfDays,
+        int size
+    ) {
+
+        PlainTimestampArray column = new PlainTimestampArray(0);
+        column.epochDays = epochDays;
+        column.nanoOfDays = nanoOfDays;
+        column.size = size;
+        return column;
+
+    }
+
+    private static long toNanoOfDay(PlainTime time) {
+
+        return (
+            time.getHour() * 3600L * MRD
+            + time.getMinute() * 60L * MRD
+            + time.getSecond() * (long) MRD
+            + time.getNanosecond());
+
+    }
+
+    /**
+     * <p>Erzeugt eine Uhrzeit aus den Nanosekunden des Tages. </p>
+     *
+     * @param   nanoOfDay   nanoseconds since midnight
+     * @return  wall time
+     */
+    static PlainTime toTime(long nanoOfDay) {
+
+        int secs = (int) (nanoOfDay / MRD);
+
+        return PlainTime.of(
+            secs / 3600,
+            (secs / 60) % 60,
+            secs % 60,
+            (int) (nanoOfDay % MRD));
+
+    }
+
+    private static long nanosOf(ClockUnit unit) {
+
+        switch (unit) {
+            case HOURS:
+                return 3600L * MRD;
+            case MINUTES:
+                return 60L * MRD;
+            case SECONDS:
+                return MRD;
+            case MILLIS:
+                return 1000000L;
+            case MICROS:
+                return 1000L;
+            case NANOS:
+                return 1L;
+            default:
+                throw new UnsupportedOperationException(unit.name());
+        }
+
+    }
+
+    private static void checkResult(long epochDay) {
+
+        if (
+            (epochDay < PlainDateArray.MIN_DAY)
+            || (epochDay > PlainDateArray.MAX_DAY)
+        ) {
+            throw new ArithmeticException(
+                "Result beyond boundaries of time axis.");
+        }
+
+    }
+
+    private void checkIndex(int index) {
+
+        if ((index < 0) || (index >= this.size)) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", size: " + this.size);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class TimestampList
+        extends AbstractList<PlainTimestamp>
+        implements RandomAccess {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final PlainTimestampArray column;
+        private long lastDay = 0;
+        private PlainDate last = null;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TimestampList(PlainTimestampArray column) {
+            super();
+
+            this.column = column;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainTimestamp get(int index) {
+
+            long day = this.column.getEpochDay(index);
+
+            // gleiche aufeinanderfolgende Tage nur einmal konvertieren
+            if ((this.last == null) || (this.lastDay != day)) {
+                this.last = PlainDate.of(day, EpochDays.UNIX);
+                this.lastDay = day;
+            }
+
+            return PlainTimestamp.of(
+                this.last,
+                toTime(this.column.nanoOfDays[index]));
+
+        }
+
+        @Override
+        public int size() {
+
+            return this.column.size();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,524 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneConverter.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.columnar;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.base.UnixTime;
+import net.time4j.base.WallTime;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.TransitionStrategy;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.util.List;
+
+
+/**
+ * <p>Converts whole columns of primitive values between the UTC time line
+ * and the local time line of a timezone. </p>
+ *
+ * <p>Global values are POSIX seconds since UNIX epoch plus nanoseconds,
+ * local values are days since UNIX epoch plus nanoseconds of day. The
+ * converter remembers the validity interval of the last offset and the
+ * last decomposed calendar date. Consecutive values in the same offset
+ * period or on the same day are converted without asking the timezone
+ * again. Only local values near a transition are resolved by the
+ * transition strategy of the timezone. So the results are the same as
+ * of {@code Moment.toZonalTimestamp(TZID)} and
+ * {@code PlainTimestamp.in(Timezone)}. </p>
+ *
+ * <p>Instances are not thread-safe because of the internal cache so every
+ * thread should use its own instance. An instance should be reused for
+ * many conversions in the same timezone. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <mutable>
+ */
+/*[deutsch]
+ * <p>Wandelt ganze Spalten von primitiven Werten zwischen dem
+ * UTC-Zeitstrahl und dem lokalen Zeitstrahl einer Zeitzone um. </p>
+ *
+ * <p>Globale Werte sind POSIX-Sekunden seit der UNIX-Epoche mit
+ * Nanosekunden, lokale Werte sind Tage seit der UNIX-Epoche mit Nanosekunden
+ * des Tages. Der Konverter merkt sich das G&uuml;ltigkeitsintervall des
+ * letzten Offsets und das zuletzt zerlegte Kalenderdatum. Aufeinanderfolgende
+ * Werte in derselben Offset-Periode oder am selben Tag werden umgerechnet,
+ * ohne die Zeitzone erneut zu befragen. Nur lokale Werte in der N&auml;he
+ * eines &Uuml;bergangs werden mit der &Uuml;bergangsstrategie der Zeitzone
+ * aufgel&ouml;st. Die Ergebnisse sind also dieselben wie die von
+ * {@code Moment.toZonalTimestamp(TZID)} und
+ * {@code PlainTimestamp.in(Timezone)}. </p>
+ *
+ * <p>Instanzen sind wegen des internen Puffers nicht thread-sicher, deshalb
+ * sollte jeder Thread seine eigene Instanz verwenden. Eine Instanz sollte
+ * f&uuml;r viele Umrechnungen in derselben Zeitzone wiederverwendet
+ * werden. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <mutable>
+ */
+public final class ZoneConverter {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1000000000;
+
+    // Suchfenster für den nächsten Übergang (ein Jahr)
+    private static final long WINDOW = 366 * 86400L;
+
+    // größer als jede Differenz zweier Offsets (2 x 18 Stunden)
+    private static final long MARGIN = 2 * 86400L;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Timezone tz;
+    private final TransitionHistory history;
+    private final TransitionStrategy strategy;
+    private final boolean fixed;
+
+    private final Instant cursor = new Instant();
+    private final Instant windowEnd = new Instant();
+    private final Local local = new Local();
+
+    // [validFrom, validUntil) auf dem POSIX-Zeitstrahl
+    private long validFrom;
+    private long validUntil;
+    private int offsetSeconds;
+    private int offsetNanos;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ZoneConverter(Timezone tz) {
+        super();
+
+        this.tz = tz;
+        this.history = tz.getHistory();
+        this.strategy = tz.getStrategy();
+        this.fixed = tz.isFixed();
+        this.validFrom = 0;
+        this.validUntil = 0;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new converter for given timezone. </p>
+     *
+     * @param   tz      timezone
+     * @return  new converter with empty cache
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Konverter f&uuml;r die angegebene
+     * Zeitzone. </p>
+     *
+     * @param   tz      timezone
+     * @return  new converter with empty cache
+     */
+    public static ZoneConverter of(Timezone tz) {
+
+        if (tz == null) {
+            throw new NullPointerException("Missing timezone.");
+        }
+
+        return new ZoneConverter(tz);
+
+    }
+
+    /**
+     * <p>Yields the timezone of this converter. </p>
+     *
+     * @return  Timezone
+     */
+    /*[deutsch]
+     * <p>Liefert die Zeitzone dieses Konverters. </p>
+     *
+     * @return  Timezone
+     */
+    public Timezone getTimezone() {
+
+        return this.tz;
+
+    }
+
+    /**
+     * <p>Converts global values to local values in the timezone of this
+     * converter. </p>
+     *
+     * @param   posixTimes  input: elapsed POSIX seconds since UNIX epoch
+     * @param   nanos       input: nanoseconds of every value (optional)
+     * @param   epochDays   output: local days since UNIX epoch
+     * @param   nanoOfDays  output: local nanoseconds since midnight
+     * @param   count       count of values to be converted starting at
+     *                      index {@code 0}
+     * @throws  IndexOutOfBoundsException if any array is shorter than count
+     * @see     net.time4j.Moment#toZonalTimestamp(net.time4j.tz.TZID)
+     */
+    /*[deutsch]
+     * <p>Wandelt globale Werte in lokale Werte in der Zeitzone dieses
+     * Konverters um. </p>
+     *
+     * @param   posixTimes  input: elapsed POSIX seconds since UNIX epoch
+     * @param   nanos       input: nanoseconds of every value (optional)
+     * @param   epochDays   output: local days since UNIX epoch
+     * @param   nanoOfDays  output: local nanoseconds since midnight
+     * @param   count       count of values to be converted starting at
+     *                      index {@code 0}
+     * @throws  IndexOutOfBoundsException if any array is shorter than count
+     * @see     net.time4j.Moment#toZonalTimestamp(net.time4j.tz.TZID)
+     */
+    public void toLocal(
+        long[] posixTimes,
+        int[] nanos,
+        long[] epochDays,
+        long[] nanoOfDays,
+        int count
+    ) {
+
+        checkLength(posixTimes.length, count);
+        checkLength(epochDays.length, count);
+        checkLength(nanoOfDays.length, count);
+
+        if (nanos != null) {
+            checkLength(nanos.length, count);
+        }
+
+        long dayStart = 0;
+        long day = 0;
+        boolean hasDay = false;
+
+        for (int i = 0; i < count; i++) {
+            long posixTime = posixTimes[i];
+
+            // Schaltsekunden-Bit aus MomentArray ignorieren
+            int nano = (nanos == null) ? 0 : (nanos[i] & 0x3FFFFFFF);
+
+            if (
+                (posixTime < this.validFrom)
+                || (posixTime >= this.validUntil)
+            ) {
+                this.refresh(posixTime, nano);
+            }
+
+            long localSeconds = posixTime + this.offsetSeconds;
+            int localNanos = nano + this.offsetNanos;
+
+            if (localNanos < 0) {
+                localNanos += MRD;
+                localSeconds--;
+            } else if (localNanos >= MRD) {
+                localNanos -= MRD;
+                localSeconds++;
+            }
+
+            // gleicher Tag wie zuvor: keine erneute Division nötig
+            if (
+                !hasDay
+                || (localSeconds < dayStart)
+                || (localSeconds - dayStart >= 86400)
+            ) {
+                day = MathUtils.floorDivide(localSeconds, 86400);
+                dayStart = day * 86400;
+                hasDay = true;
+            }
+
+            epochDays[i] = day;
+            nanoOfDays[i] = (localSeconds - dayStart) * MRD + localNanos;
+        }
+
+    }
+
+    /**
+     * <p>Converts local values in the timezone of this converter to global
+     * values. </p>
+     *
+     * <p>Gaps and overlaps on the local timeline are resolved by the
+     * transition strategy of the timezone. </p>
+     *
+     * @param   epochDays   input: local days since UNIX epoch
+     * @param   nanoOfDays  input: local nanoseconds since midnight
+     * @param   posixTimes  output: elapsed POSIX seconds since UNIX epoch
+     * @param   nanos       output: nanoseconds of every value
+     * @param   count       count of values to be converted starting at
+     *                      index {@code 0}
+     * @throws  IndexOutOfBoundsException if any array is shorter than count
+     * @throws  IllegalArgumentException if any local value is invalid in
+     *          the timezone and the timezone uses a strict transition
+     *          strategy
+     * @see     net.time4j.PlainTimestamp#in(Timezone)
+     */
+    /*[deutsch]
+     * <p>Wandelt lokale Werte in der Zeitzone dieses Konverters in globale
+     * Werte um. </p>
+     *
+     * <p>L&uuml;cken und &Uuml;berlappungen auf dem lokalen Zeitstrahl
+     * werden mit der &Uuml;bergangsstrategie der Zeitzone
+     * aufgel&ouml;st. </p>
+     *
+     * @param   epochDays   input: local days since UNIX epoch
+     * @param   nanoOfDays  input: local nanoseconds since midnight
+     * @param   posixTimes  output: elapsed POSIX seconds since UNIX epoch
+     * @param   nanos       output: nanoseconds of every value
+     * @param   count       count of values to be converted starting at
+     *                      index {@code 0}
+     * @throws  IndexOutOfBoundsException if any array is shorter than count
+     * @throws  IllegalArgumentException if any local value is invalid in
+     *          the timezone and the timezone uses a strict transition
+     *          strategy
+     * @see     net.time4j.PlainTimestamp#in(Timezone)
+     */
+    public void toGlobal(
+        long[] epochDays,
+        long[] nanoOfDays,
+        long[] posixTimes,
+        int[] nanos,
+        int count
+    ) {
+
+        checkLength(epochDays.length, count);
+        checkLength(nanoOfDays.length, count);
+        checkLength(posixTimes.length, count);
+        checkLength(nanos.length, count);
+
+        Local lt = this.local;
+        lt.valid = false;
+
+        for (int i = 0; i < count; i++) {
+            long day = epochDays[i];
+            long nanoOfDay = nanoOfDays[i];
+            int secondOfDay = (int) (nanoOfDay / MRD);
+            int nano = (int) (nanoOfDay % MRD);
+            long localSeconds = day * 86400 + secondOfDay;
+
+            if (this.fixed) {
+                if (this.validUntil == 0) {
+                    this.refresh(localSeconds, nano);
+                }
+
+                long posixTime = localSeconds - this.offsetSeconds;
+                int posixNanos = nano - this.offsetNanos;
+
+                if (posixNanos < 0) {
+                    posixNanos += MRD;
+                    posixTime--;
+                } else if (posixNanos >= MRD) {
+                    posixNanos -= MRD;
+                    posixTime++;
+                }
+
+                posixTimes[i] = posixTime;
+                nanos[i] = posixNanos;
+                continue;
+            }
+
+            long candidate = localSeconds - this.offsetSeconds;
+
+            // weit genug von Übergängen entfernt: eindeutig und gültig
+            if (
+                (this.history != null)
+                && (this.offsetNanos == 0)
+                && (candidate >= this.validFrom + MARGIN)
+                && (candidate < this.validUntil - MARGIN)
+            ) {
+                posixTimes[i] = candidate;
+                nanos[i] = nano;
+                continue;
+            }
+
+            // gleiche aufeinanderfolgende Tage nur einmal zerlegen
+            if (!lt.valid || (lt.epochDay != day)) {
+                lt.epochDay = day;
+                lt.packedDate = ColumnMath.toPacked(day);
+                lt.valid = true;
+            }
+
+            lt.secondOfDay = secondOfDay;
+            lt.nano = nano;
+
+            long posixTime = this.strategy.resolve(lt, lt, this.tz);
+
+            if (
+                (posixTime < this.validFrom)
+                || (posixTime >= this.validUntil)
+            ) {
+                this.refresh(posixTime, nano);
+            }
+
+            posixTimes[i] = posixTime;
+            nanos[i] = nano;
+        }
+
+    }
+
+    // bestimmt den Offset zur angegebenen Zeit und sein Gültigkeitsintervall
+    private void refresh(
+        long posixTime,
+        int nano
+    ) {
+
+        Instant ut = this.cursor;
+        ut.posixTime = posixTime;
+        ut.nano = nano;
+
+        ZonalOffset offset = this.tz.getOffset(ut);
+        this.offsetSeconds = offset.getIntegralAmount();
+        this.offsetNanos = offset.getFractionalAmount();
+
+        if (this.fixed) {
+            this.validFrom = Long.MIN_VALUE;
+            this.validUntil = Long.MAX_VALUE;
+        } else if (this.history == null) {
+            // ohne Historie nur dieselbe Sekunde wiederverwenden
+            this.validFrom = posixTime;
+            this.validUntil = posixTime + 1;
+        } else {
+            ZonalTransition start = this.history.getStartTransition(ut);
+            this.validFrom =
+                (start == null) ? Long.MIN_VALUE : start.getPosixTime();
+
+            ut.posixTime = posixTime + 1;
+            Instant end = this.windowEnd;
+            end.posixTime = posixTime + WINDOW;
+            end.nano = 0;
+
+            List<ZonalTransition> next =
+                this.history.getTransitions(ut, end);
+            this.validUntil = (
+                next.isEmpty()
+                ? end.posixTime
+                : next.get(0).getPosixTime());
+        }
+
+    }
+
+    private static void checkLength(
+        int length,
+        int count
+    ) {
+
+        if ((count < 0) || (length < count)) {
+            throw new IndexOutOfBoundsException(
+                "Array length " + length + " too small for count " + count);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    // wiederverwendbarer Abfragezeitpunkt auf dem UTC-Zeitstrahl
+    private static class Instant
+        implements UnixTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long posixTime;
+        private int nano;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getPosixTime() {
+
+            return this.posixTime;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return this.nano;
+
+        }
+
+    }
+
+    // wiederverwendbare lokale Zeit mit zwischengespeicherter Datumszerlegung
+    private static class Local
+        implements GregorianDate, WallTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private boolean valid;
+        private long epochDay;
+        private long packedDate;
+        private int secondOfDay;
+        private int nano;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getYear() {
+
+            return GregorianMath.readYear(this.packedDate);
+
+        }
+
+        @Override
+        public int getMonth() {
+
+            return GregorianMath.readMonth(this.packedDate);
+
+        }
+
+        @Override
+        public int getDayOfMonth() {
+
+            return GregorianMath.readDayOfMonth(this.packedDate);
+
+        }
+
+        @Override
+        public int getHour() {
+
+            return this.secondOfDay / 3600;
+
+        }
+
+        @Override
+        public int getMinute() {
+
+            return (this.secondOfDay / 60) % 60;
+
+        }
+
+        @Override
+        public int getSecond() {
+
+            return this.secondOfDay % 60;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return this.nano;
+
+        }
+
+    }
+
+}
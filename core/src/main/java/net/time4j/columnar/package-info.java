@@ -0,0 +1,8 @@
+/**
+ * <p>Columns of temporal values stored as primitive arrays. </p>
+ */
+/*[deutsch]
+ * <p>Spalten von Zeitwerten, die als primitive Arrays gespeichert
+ * werden. </p>
+ */
+package net.time4j.columnar;
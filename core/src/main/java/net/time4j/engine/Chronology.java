@@ -65,6 +65,11 @@ public class Chronology<T extends ChronoEntity<T>>
     private final Map<ChronoElement<?>, ElementRule<T, ?>> ruleMap;
     private final List<ChronoExtension> extensions;
 
+    // Regeltabelle mit offener Adressierung über die Identität der Elemente
+    private final ChronoElement<?>[] elementTable;
+    private final ElementRule<?, ?>[] ruleTable;
+    private final int mask;
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -99,6 +104,30 @@ public class Chronology<T extends ChronoEntity<T>>
         this.ruleMap = Collections.unmodifiableMap(ruleMap);
         this.extensions = Collections.unmodifiableList(extensions);
 
+        int size = 4;
+
+        while (size < ruleMap.size() * 4) {
+            size <<= 1;
+        }
+
+        this.elementTable = new ChronoElement<?>[size];
+        this.ruleTable = new ElementRule<?, ?>[size];
+        this.mask = size - 1;
+
+        for (Map.Entry<ChronoElement<?>, ElementRule<T, ?>> entry
+            : ruleMap.entrySet()) {
+
+            ChronoElement<?> element = entry.getKey();
+            int index = indexOf(element, this.mask);
+
+            while (this.elementTable[index] != null) {
+                index = (index + 1) & this.mask;
+            }
+
+            this.elementTable[index] = element;
+            this.ruleTable[index] = entry.getValue();
+        }
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -156,7 +185,7 @@ public class Chronology<T extends ChronoEntity<T>>
             return false;
         }
 
-        return this.ruleMap.containsKey(element);
+        return (this.lookupRule(element) != null);
 
     }
 
@@ -407,7 +436,7 @@ public class Chronology<T extends ChronoEntity<T>>
             throw new NullPointerException("Missing chronological element.");
         }
 
-        ElementRule<?, ?> rule = this.ruleMap.get(element);
+        ElementRule<?, ?> rule = this.lookupRule(element);
 
         if (rule == null) {
             rule = this.getDerivedRule(element, true);
@@ -425,6 +454,35 @@ public class Chronology<T extends ChronoEntity<T>>
 
     }
 
+    // registrierte Regel oder null
+    private ElementRule<?, ?> lookupRule(ChronoElement<?> element) {
+
+        int index = indexOf(element, this.mask);
+        ChronoElement<?> key;
+
+        while ((key = this.elementTable[index]) != null) {
+            if (key == element) {
+                return this.ruleTable[index];
+            }
+
+            index = (index + 1) & this.mask;
+        }
+
+        // gleiche, aber nicht identische Elemente (etwa nach Deserialisierung)
+        return this.ruleMap.get(element);
+
+    }
+
+    private static int indexOf(
+        ChronoElement<?> element,
+        int mask
+    ) {
+
+        int h = System.identityHashCode(element);
+        return (h ^ (h >>> 16)) & mask;
+
+    }
+
     // optional
     private <V> ElementRule<T, V> getDerivedRule(
         ChronoElement<V> element,
@@ -35,8 +35,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.ServiceLoader;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import static net.time4j.format.Leniency.LAX;
 import static net.time4j.format.Leniency.SMART;
@@ -487,11 +485,19 @@ public final class Attributes
         : ',' // Empfehlung des ISO-Standards
     );
 
-    private static final
-        ConcurrentMap<Locale, NumericalSymbols> NUMBER_SYMBOL_CACHE =
-            new ConcurrentHashMap<Locale, NumericalSymbols>();
     private static final NumericalSymbols DEFAULT_NUMERICAL_SYMBOLS =
         new NumericalSymbols('0', ISO_DECIMAL_SEPARATOR);
+    private static final
+        BoundedCache<Locale, NumericalSymbols> NUMBER_SYMBOL_CACHE =
+            new BoundedCache<Locale, NumericalSymbols>(
+                BoundedCache.DEFAULT_MAX_SIZE,
+                new BoundedCache.Loader<Locale, NumericalSymbols>() {
+                    @Override
+                    public NumericalSymbols load(Locale key) {
+                        return lookupSymbols(key);
+                    }
+                }
+            );
     private static final AttributeQuery EMPTY =
         new Attributes.Builder().build();
 
@@ -532,6 +538,26 @@ public final class Attributes
 
     }
 
+    /**
+     * <p>Yields statistics about the internal cache of localized number
+     * symbols. </p>
+     *
+     * @return  snapshot of cache counters
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Liefert eine Statistik &uuml;ber den internen Cache der
+     * lokalisierten Zahlensymbole. </p>
+     *
+     * @return  snapshot of cache counters
+     * @since   2.2
+     */
+    public static CacheStatistics getCacheStatistics() {
+
+        return NUMBER_SYMBOL_CACHE.getStatistics();
+
+    }
+
     @Override
     public boolean contains(AttributeKey<?> key) {
 
@@ -658,6 +684,21 @@ public final class Attributes
 
     }
 
+    private static NumericalSymbols lookupSymbols(Locale locale) {
+
+        for (Locale test : NUMBER_SYMBOLS.getAvailableLocales()) {
+            if (locale.equals(test)) {
+                return new NumericalSymbols(
+                    NUMBER_SYMBOLS.getZeroDigit(locale),
+                    NUMBER_SYMBOLS.getDecimalSeparator(locale)
+                );
+            }
+        }
+
+        return DEFAULT_NUMERICAL_SYMBOLS;
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     /**
@@ -1026,28 +1067,6 @@ public final class Attributes
                 this.set(DECIMAL_SEPARATOR, ISO_DECIMAL_SEPARATOR);
             } else {
                 NumericalSymbols symbols = NUMBER_SYMBOL_CACHE.get(locale);
-
-                if (symbols == null) {
-                    symbols = DEFAULT_NUMERICAL_SYMBOLS;
-
-                    for (Locale test : NUMBER_SYMBOLS.getAvailableLocales()) {
-                        if (locale.equals(test)) {
-                            symbols =
-                                new NumericalSymbols(
-                                    NUMBER_SYMBOLS.getZeroDigit(locale),
-                                    NUMBER_SYMBOLS.getDecimalSeparator(locale)
-                                );
-                            break;
-                        }
-                    }
-
-                    NumericalSymbols old =
-                        NUMBER_SYMBOL_CACHE.putIfAbsent(locale, symbols);
-                    if (old != null) {
-                        symbols = old;
-                    }
-                }
-
                 this.set(ZERO_DIGIT, symbols.zeroDigit);
                 this.set(DECIMAL_SEPARATOR, symbols.decimalSeparator);
             }
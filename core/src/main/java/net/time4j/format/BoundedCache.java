@@ -0,0 +1,339 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BoundedCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * <p>Gr&ouml;&szlig;enbeschr&auml;nkter Cache f&uuml;r lokalisierte
+ * Ressourcen. </p>
+ *
+ * <p>Jeder Wert wird pro Schl&uuml;ssel nur einmal geladen, auch wenn
+ * mehrere Threads gleichzeitig denselben Schl&uuml;ssel anfragen (die
+ * anderen Threads warten auf das Ergebnis des ersten Ladevorgangs). Wenn
+ * die maximale Gr&ouml;&szlig;e &uuml;berschritten wird, werden die
+ * &auml;ltesten Eintr&auml;ge nach dem Second-Chance-Verfahren entfernt,
+ * d.h. ein seit der letzten Pr&uuml;fung abgefragter Eintrag bleibt
+ * einmal verschont. Die maximale Gr&ouml;&szlig;e wird nur
+ * n&auml;herungsweise eingehalten. </p>
+ *
+ * <p>Als Treffer z&auml;hlt nur eine Abfrage, deren Wert bereits geladen
+ * ist. Wer auf einen laufenden Ladevorgang warten mu&szlig;, wird als
+ * Fehlgriff gez&auml;hlt. Die Z&auml;hler sind auf mehrere Streifen
+ * verteilt, damit parallele Abfragen nicht um eine gemeinsame Variable
+ * konkurrieren. </p>
+ *
+ * <p>Die Standardgr&ouml;&szlig;e kann mit Hilfe der System-Property
+ * &quot;net.time4j.format.cache.size&quot; konfiguriert werden. </p>
+ *
+ * @param   <K> key type
+ * @param   <V> value type
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <threadsafe>
+ */
+final class BoundedCache<K, V> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * <p>Standardgr&ouml;&szlig;e eines Cache. </p>
+     */
+    static final int DEFAULT_MAX_SIZE =
+        Math.max(1, Integer.getInteger("net.time4j.format.cache.size", 150));
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int maxSize;
+    private final Loader<K, V> loader;
+    private final ConcurrentMap<K, Node<V>> map;
+    private final Queue<K> order;
+    private final AtomicInteger size;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen neuen Cache mit der angegebenen maximalen
+     * Gr&ouml;&szlig;e. </p>
+     *
+     * @param   maxSize     maximum count of entries (approximately)
+     * @param   loader      creates a new value for a missing key
+     * @throws  IllegalArgumentException if the maximum size is not positive
+     */
+    BoundedCache(
+        int maxSize,
+        Loader<K, V> loader
+    ) {
+        super();
+
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(
+                "Cache size must be positive: " + maxSize);
+        } else if (loader == null) {
+            throw new NullPointerException("Missing cache loader.");
+        }
+
+        this.maxSize = maxSize;
+        this.loader = loader;
+        this.map = new ConcurrentHashMap<K, Node<V>>();
+        this.order = new ConcurrentLinkedQueue<K>();
+        this.size = new AtomicInteger(0);
+        this.hits = new Counter();
+        this.misses = new Counter();
+        this.evictions = new Counter();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert den zum Schl&uuml;ssel geh&ouml;rigen Wert, der bei Bedarf
+     * mit dem internen Lader erzeugt wird. </p>
+     *
+     * @param   key     cache key
+     * @return  cached or new value (never {@code null})
+     */
+    V get(K key) {
+
+        Node<V> node = this.map.get(key);
+
+        if (node == null) {
+            Node<V> created = new Node<V>();
+            node = this.map.putIfAbsent(key, created);
+
+            if (node == null) {
+                this.misses.increment();
+                this.order.offer(key);
+
+                if (this.size.incrementAndGet() > this.maxSize) {
+                    this.evict();
+                }
+
+                return this.load(key, created);
+            }
+        }
+
+        if (!node.referenced) {
+            node.referenced = true; // Schreibzugriff nur bei Bedarf
+        }
+
+        V value = node.value;
+
+        if (value == null) {
+            this.misses.increment(); // wartet auf laufenden Ladevorgang
+            return this.load(key, node);
+        }
+
+        this.hits.increment();
+        return value;
+
+    }
+
+    /**
+     * <p>Entfernt alle Eintr&auml;ge, aber nicht die Statistik. </p>
+     */
+    void clear() {
+
+        // zuerst die Reihenfolge leeren: ein parallel in get() eingefügter
+        // Schlüssel steht dann entweder noch in der Reihenfolge oder wird
+        // anschließend aus der Map entfernt, verwaiste Einträge in der Map
+        // ohne Platz in der Reihenfolge kann es so nicht geben
+        this.order.clear();
+
+        for (K key : this.map.keySet()) {
+            if (this.map.remove(key) != null) {
+                this.size.decrementAndGet();
+            }
+        }
+
+    }
+
+    /**
+     * <p>Liefert eine aktuelle Momentaufnahme der Cache-Statistik. </p>
+     *
+     * @return  statistics snapshot
+     */
+    CacheStatistics getStatistics() {
+
+        return new CacheStatistics(
+            this.hits.sum(),
+            this.misses.sum(),
+            this.evictions.sum(),
+            Math.max(0, this.size.get()),
+            this.maxSize);
+
+    }
+
+    private V load(
+        K key,
+        Node<V> node
+    ) {
+
+        synchronized (node) {
+            V value = node.value;
+
+            if (value == null) {
+                try {
+                    value = this.loader.load(key);
+                } catch (RuntimeException re) {
+                    this.discard(key, node);
+                    throw re;
+                } catch (Error err) {
+                    this.discard(key, node);
+                    throw err;
+                }
+
+                if (value == null) {
+                    this.discard(key, node);
+                    throw new NullPointerException(
+                        "Cache loader returned null for: " + key);
+                }
+
+                node.value = value;
+            }
+
+            return value;
+        }
+
+    }
+
+    private void discard(
+        K key,
+        Node<V> node
+    ) {
+
+        if (this.map.remove(key, node)) {
+            this.size.decrementAndGet();
+        }
+
+    }
+
+    // Second-Chance-Verfahren: kürzlich abgefragte Einträge wandern ans Ende
+    private void evict() {
+
+        int spared = 0;
+
+        while (this.size.get() > this.maxSize) {
+            K candidate = this.order.poll();
+
+            if (candidate == null) {
+                break; // parallel geleert
+            }
+
+            Node<V> node = this.map.get(candidate);
+
+            if (node == null) {
+                continue; // bereits entfernt
+            } else if (node.referenced && (spared < this.maxSize)) {
+                node.referenced = false;
+                this.order.offer(candidate);
+                spared++;
+            } else if (this.map.remove(candidate, node)) {
+                this.size.decrementAndGet();
+                this.evictions.increment();
+            }
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen neuen Cache-Wert. </p>
+     *
+     * @param   <K> key type
+     * @param   <V> value type
+     */
+    static interface Loader<K, V> {
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>L&auml;dt den Wert zum angegebenen Schl&uuml;ssel. </p>
+         *
+         * @param   key     cache key
+         * @return  new value (never {@code null})
+         */
+        V load(K key);
+
+    }
+
+    /**
+     * <p>Auf mehrere Streifen verteilter Z&auml;hler (Ersatz f&uuml;r das
+     * erst ab Java 8 verf&uuml;gbare {@code LongAdder}). </p>
+     */
+    private static class Counter {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int STRIPES = 8; // Zweierpotenz
+        private static final int PADDING = 8; // 64 Bytes pro Streifen
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final AtomicLongArray cells =
+            new AtomicLongArray(STRIPES * PADDING);
+
+        //~ Methoden ------------------------------------------------------
+
+        void increment() {
+
+            long id = Thread.currentThread().getId();
+            int index = (((int) id) & (STRIPES - 1)) * PADDING;
+            this.cells.incrementAndGet(index);
+
+        }
+
+        long sum() {
+
+            long total = 0;
+
+            for (int i = 0; i < STRIPES; i++) {
+                total += this.cells.get(i * PADDING);
+            }
+
+            return total;
+
+        }
+
+    }
+
+    private static class Node<V> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private volatile V value = null;
+        private volatile boolean referenced = false;
+
+    }
+
+}
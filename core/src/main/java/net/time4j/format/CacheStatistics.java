@@ -0,0 +1,218 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CacheStatistics.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format;
+
+
+/**
+ * <p>Snapshot of the usage counters of an internal cache for localized
+ * format resources. </p>
+ *
+ * <p>The maximum size of such caches can be configured by the system
+ * property &quot;net.time4j.format.cache.size&quot; (default: 150). </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @see     CalendarText#getCacheStatistics()
+ * @see     UnitPatterns#getCacheStatistics()
+ * @see     Attributes#getCacheStatistics()
+ * @concurrency <immutable>
+ */
+/*[deutsch]
+ * <p>Momentaufnahme der Z&auml;hler eines internen Cache f&uuml;r lokalisierte
+ * Formatressourcen. </p>
+ *
+ * <p>Die maximale Gr&ouml;&szlig;e solcher Caches kann mit Hilfe der
+ * System-Property &quot;net.time4j.format.cache.size&quot; konfiguriert
+ * werden (Standardwert: 150). </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @see     CalendarText#getCacheStatistics()
+ * @see     UnitPatterns#getCacheStatistics()
+ * @see     Attributes#getCacheStatistics()
+ * @concurrency <immutable>
+ */
+public final class CacheStatistics {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final int maximumSize;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    CacheStatistics(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        int size,
+        int maximumSize
+    ) {
+        super();
+
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.maximumSize = maximumSize;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the count of lookups which found an existing entry. </p>
+     *
+     * @return  count of cache hits
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Abfragen, die einen vorhandenen Eintrag
+     * gefunden haben. </p>
+     *
+     * @return  count of cache hits
+     */
+    public long getHitCount() {
+
+        return this.hitCount;
+
+    }
+
+    /**
+     * <p>Yields the count of lookups which had to load a new entry. </p>
+     *
+     * @return  count of cache misses
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Abfragen, die einen neuen Eintrag laden
+     * mussten. </p>
+     *
+     * @return  count of cache misses
+     */
+    public long getMissCount() {
+
+        return this.missCount;
+
+    }
+
+    /**
+     * <p>Yields the count of entries removed because the maximum size
+     * was exceeded. </p>
+     *
+     * @return  count of evictions
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Eintr&auml;ge, die wegen
+     * &Uuml;berschreitung der maximalen Gr&ouml;&szlig;e entfernt
+     * wurden. </p>
+     *
+     * @return  count of evictions
+     */
+    public long getEvictionCount() {
+
+        return this.evictionCount;
+
+    }
+
+    /**
+     * <p>Yields the current count of entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    public int getSize() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Yields the configured maximum count of entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die konfigurierte maximale Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    public int getMaximumSize() {
+
+        return this.maximumSize;
+
+    }
+
+    /**
+     * <p>Yields the ratio of hits to all lookups. </p>
+     *
+     * @return  hit rate in range {@code 0.0 - 1.0} ({@code 1.0} if there
+     *          was no lookup yet)
+     */
+    /*[deutsch]
+     * <p>Liefert das Verh&auml;ltnis der Treffer zu allen Abfragen. </p>
+     *
+     * @return  hit rate in range {@code 0.0 - 1.0} ({@code 1.0} if there
+     *          was no lookup yet)
+     */
+    public double getHitRate() {
+
+        long total = this.hitCount + this.missCount;
+        return ((total == 0) ? 1.0 : ((double) this.hitCount) / total);
+
+    }
+
+    /**
+     * <p>Provides a short summary of all counters. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>Liefert eine kurze Zusammenfassung aller Z&auml;hler. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(80);
+        sb.append("CacheStatistics[hits=");
+        sb.append(this.hitCount);
+        sb.append(",misses=");
+        sb.append(this.missCount);
+        sb.append(",evictions=");
+        sb.append(this.evictionCount);
+        sb.append(",size=");
+        sb.append(this.size);
+        sb.append('/');
+        sb.append(this.maximumSize);
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+}
@@ -43,8 +43,6 @@ import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 import java.util.ServiceLoader;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -163,8 +161,16 @@ public final class CalendarText {
      */
     public static final String ISO_CALENDAR_TYPE = "iso8601";
 
-    private static final ConcurrentMap<String, CalendarText> CACHE =
-        new ConcurrentHashMap<String, CalendarText>();
+    private static final BoundedCache<CacheKey, CalendarText> CACHE =
+        new BoundedCache<CacheKey, CalendarText>(
+            BoundedCache.DEFAULT_MAX_SIZE,
+            new BoundedCache.Loader<CacheKey, CalendarText>() {
+                @Override
+                public CalendarText load(CacheKey key) {
+                    return create(key.calendarType, key.locale);
+                }
+            }
+        );
     private static final ResourceBundle.Control CONTROL =
     	new UTF8NoFallbackControl();
 
@@ -342,61 +348,7 @@ public final class CalendarText {
             throw new NullPointerException("Missing calendar type.");
         }
 
-        StringBuilder sb = new StringBuilder();
-        sb.append(calendarType);
-        sb.append(':');
-        sb.append(locale.getLanguage());
-        sb.append('-');
-        sb.append(locale.getCountry());
-        String key = sb.toString();
-
-        CalendarText instance = CACHE.get(key);
-
-        if (instance == null) {
-            TextProvider p = null;
-            ClassLoader c = Thread.currentThread().getContextClassLoader();
-
-            if (c == null) {
-                c = TextProvider.class.getClassLoader();
-            }
-
-            // ServiceLoader-Mechanismus (Suche nach externen Providern)
-            for (TextProvider tmp : ServiceLoader.load(TextProvider.class, c)) {
-                if (
-                    isCalendarTypeSupported(tmp, calendarType)
-                    && isLocaleSupported(tmp, locale)
-                ) {
-                    p = tmp;
-                    break;
-                }
-            }
-
-            // Java-Ressourcen
-            if (p == null) {
-                // TODO: Für Java 8 neuen Provider definieren (mit Quartalen)?
-                TextProvider tmp = new JDKTextProvider();
-
-                if (
-                    isCalendarTypeSupported(tmp, calendarType)
-                    && isLocaleSupported(tmp, locale)
-                ) {
-                    p = tmp;
-                }
-
-                if (p == null) {
-                    p = new FallbackProvider(); // keine-ISO-Ressource
-                }
-            }
-
-            instance = new CalendarText(calendarType, locale, p);
-            CalendarText old = CACHE.putIfAbsent(key, instance);
-
-            if (old != null) {
-                instance = old;
-            }
-        }
-
-        return instance;
+        return CACHE.get(new CacheKey(calendarType, locale));
 
     }
 
@@ -820,6 +772,26 @@ public final class CalendarText {
 
     }
 
+    /**
+     * <p>Yields statistics about the internal cache of text
+     * resources. </p>
+     *
+     * @return  snapshot of cache counters
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Liefert eine Statistik &uuml;ber den internen Cache der
+     * Text-Ressourcen. </p>
+     *
+     * @return  snapshot of cache counters
+     * @since   2.2
+     */
+    public static CacheStatistics getCacheStatistics() {
+
+        return CACHE.getStatistics();
+
+    }
+
     /**
      * <p>Extrahiert den Kalendertyp aus der angegebenen Chronologie. </p>
      *
@@ -837,6 +809,50 @@ public final class CalendarText {
 
     }
 
+    private static CalendarText create(
+        String calendarType,
+        Locale locale
+    ) {
+
+        TextProvider p = null;
+        ClassLoader c = Thread.currentThread().getContextClassLoader();
+
+        if (c == null) {
+            c = TextProvider.class.getClassLoader();
+        }
+
+        // ServiceLoader-Mechanismus (Suche nach externen Providern)
+        for (TextProvider tmp : ServiceLoader.load(TextProvider.class, c)) {
+            if (
+                isCalendarTypeSupported(tmp, calendarType)
+                && isLocaleSupported(tmp, locale)
+            ) {
+                p = tmp;
+                break;
+            }
+        }
+
+        // Java-Ressourcen
+        if (p == null) {
+            // TODO: Für Java 8 neuen Provider definieren (mit Quartalen)?
+            TextProvider tmp = new JDKTextProvider();
+
+            if (
+                isCalendarTypeSupported(tmp, calendarType)
+                && isLocaleSupported(tmp, locale)
+            ) {
+                p = tmp;
+            }
+
+            if (p == null) {
+                p = new FallbackProvider(); // keine-ISO-Ressource
+            }
+        }
+
+        return new CalendarText(calendarType, locale, p);
+
+    }
+
     private TextAccessor getMonths(
         TextWidth textWidth,
         OutputContext outputContext,
@@ -945,6 +961,72 @@ public final class CalendarText {
 
     //~ Innere Klassen ----------------------------------------------------
 
+    // Schlüssel aus Kalendertyp, Sprache und Land (ohne Variante)
+    private static final class CacheKey {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String calendarType;
+        private final Locale locale;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        CacheKey(
+            String calendarType,
+            Locale locale
+        ) {
+            super();
+
+            this.calendarType = calendarType;
+            this.locale = locale;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof CacheKey) {
+                CacheKey that = (CacheKey) obj;
+                return (
+                    this.calendarType.equals(that.calendarType)
+                    && this.locale.getLanguage().equals(
+                        that.locale.getLanguage())
+                    && this.locale.getCountry().equals(
+                        that.locale.getCountry())
+                );
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return (
+                this.calendarType.hashCode()
+                + 31 * this.locale.getLanguage().hashCode()
+                + 37 * this.locale.getCountry().hashCode()
+            );
+
+        }
+
+        @Override
+        public String toString() {
+
+            return (
+                this.calendarType + ":" + this.locale.getLanguage()
+                + "-" + this.locale.getCountry()
+            );
+
+        }
+
+    }
+
     private static class JDKTextProvider
         implements TextProvider {
 
@@ -530,6 +530,133 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
     }
 
+    /**
+     * <p>Prints all given chronological entities one after another into
+     * given buffer and yields the start positions of every formatted
+     * value. </p>
+     *
+     * <p>The result array has the length {@code values.size() + 1} where
+     * the last entry denotes the end of the last formatted value. So the
+     * text of the i-th value can be found in the buffer between the
+     * positions {@code offsets[i]} (inclusive) and {@code offsets[i + 1]}
+     * (exclusive). </p>
+     *
+     * <p>This method is designed for formatting large columns of values,
+     * for example in export jobs. All setup work is done only once per
+     * call. Equal consecutive values are formatted only once. If
+     * consecutive values only differ in trailing elements (for example
+     * timestamps of the same day) then the unchanged leading part of the
+     * previous text will be copied instead of formatted again. </p>
+     *
+     * @param   values      list of objects to be formatted
+     * @param   buffer      text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if any object is not formattable
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Formatiert alle angegebenen Objekte nacheinander in den Puffer
+     * und liefert die Startpositionen aller formatierten Werte. </p>
+     *
+     * <p>Das Ergebnis-Array hat die L&auml;nge {@code values.size() + 1},
+     * wobei der letzte Eintrag das Ende des letzten formatierten Werts
+     * angibt. Der Text des i-ten Werts ist also im Puffer zwischen den
+     * Positionen {@code offsets[i]} (inklusive) und {@code offsets[i + 1]}
+     * (exklusive) zu finden. </p>
+     *
+     * <p>Diese Methode ist f&uuml;r die Formatierung gro&szlig;er Spalten
+     * von Werten gedacht, zum Beispiel in Exportprogrammen. Alle
+     * Vorbereitungen finden nur einmal pro Aufruf statt. Gleiche
+     * aufeinanderfolgende Werte werden nur einmal formatiert. Unterscheiden
+     * sich aufeinanderfolgende Werte nur in hinteren Elementen (zum Beispiel
+     * Zeitstempel desselben Tages), dann wird der unver&auml;nderte vordere
+     * Teil des vorherigen Textes kopiert statt neu formatiert. </p>
+     *
+     * @param   values      list of objects to be formatted
+     * @param   buffer      text output buffer
+     * @return  start offsets of formatted values in buffer plus end offset
+     * @throws  IllegalArgumentException if any object is not formattable
+     * @since   2.2
+     */
+    public int[] formatAll(
+        List<? extends T> values,
+        StringBuilder buffer
+    ) {
+
+        if (buffer == null) {
+            throw new NullPointerException("Missing text result buffer.");
+        }
+
+        int[] offsets = new int[values.size() + 1];
+        IncrementalPrinter<T> printer = this.incremental();
+        int index = 0;
+
+        for (T value : values) {
+            offsets[index] = buffer.length();
+            buffer.append(printer.render(value));
+            index++;
+        }
+
+        offsets[index] = buffer.length();
+        return offsets;
+
+    }
+
+    /**
+     * <p>Prints all given chronological entities one after another into
+     * given buffer using given separator between the values. </p>
+     *
+     * <p>Same optimizations as in {@link #formatAll(List, StringBuilder)}
+     * apply. </p>
+     *
+     * @param   values      objects to be formatted
+     * @param   separator   text to be inserted between two values
+     * @param   buffer      text output buffer
+     * @throws  IllegalArgumentException if any object is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Formatiert alle angegebenen Objekte nacheinander in den Puffer,
+     * getrennt durch den angegebenen Separator. </p>
+     *
+     * <p>Es gelten dieselben Optimierungen wie in
+     * {@link #formatAll(List, StringBuilder)}. </p>
+     *
+     * @param   values      objects to be formatted
+     * @param   separator   text to be inserted between two values
+     * @param   buffer      text output buffer
+     * @throws  IllegalArgumentException if any object is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @since   2.2
+     */
+    public void formatAll(
+        Iterable<? extends T> values,
+        CharSequence separator,
+        Appendable buffer
+    ) throws IOException {
+
+        if (separator == null) {
+            throw new NullPointerException("Missing separator.");
+        } else if (buffer == null) {
+            throw new NullPointerException("Missing text result buffer.");
+        }
+
+        IncrementalPrinter<T> printer = this.incremental();
+        boolean first = true;
+
+        for (T value : values) {
+            if (first) {
+                first = false;
+            } else {
+                buffer.append(separator);
+            }
+
+            buffer.append(printer.render(value));
+        }
+
+    }
+
     private Set<ElementPosition> print(
         ChronoDisplay formattable,
         Appendable buffer,
@@ -1329,6 +1456,36 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
     }
 
+    /**
+     * <p>Creates a stateful printer which only formats again the changed
+     * parts of consecutive values. </p>
+     *
+     * <p>The new printer is not thread-safe and should be used by one
+     * thread only. </p>
+     *
+     * @return  new {@code IncrementalPrinter}-instance
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen zustandsbehafteten Formatierer, der von
+     * aufeinanderfolgenden Werten nur die ge&auml;nderten Teile neu
+     * formatiert. </p>
+     *
+     * <p>Der neue Formatierer ist nicht thread-sicher und sollte nur von
+     * einem Thread benutzt werden. </p>
+     *
+     * @return  new {@code IncrementalPrinter}-instance
+     * @since   2.2
+     */
+    public IncrementalPrinter<T> incremental() {
+
+        return new IncrementalPrinter<T>(
+            this.chronology,
+            this.steps,
+            this.defaultAttributes);
+
+    }
+
     /**
      * <p>Constructs a builder for creating formatters. </p>
      *
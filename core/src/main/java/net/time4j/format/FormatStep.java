@@ -695,6 +695,22 @@ final class FormatStep {
 
     }
 
+    /**
+     * <p>Hat dieser Formatschritt eine sektionale Ausgabebedingung? </p>
+     *
+     * @return  {@code true} if printing depends on a condition else
+     *          {@code false}
+     * @since   2.2
+     */
+    boolean hasPrintCondition() {
+
+        return (
+            (this.sectionalAttrs != null)
+            && (this.sectionalAttrs.getCondition() != null)
+        );
+
+    }
+
     private boolean isPrinting(ChronoDisplay formattable) {
 
         if (this.sectionalAttrs == null) {
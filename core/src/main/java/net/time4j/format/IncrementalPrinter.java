@@ -0,0 +1,421 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IncrementalPrinter.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format;
+
+import net.time4j.base.UnixTime;
+import net.time4j.engine.AttributeQuery;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.Chronology;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.io.IOException;
+import java.util.List;
+
+
+/**
+ * <p>Stateful printer which remembers the last formatted value and only
+ * formats again those parts of the text which have changed. </p>
+ *
+ * <p>Designed for writing mostly increasing timestamps like in log files
+ * where consecutive values typically share the same date, hour and minute.
+ * The leading part of the previous text is reused as long as the values
+ * of the underlying elements are unchanged. Elements whose text does not
+ * only depend on their own value (for example timezone offsets which can
+ * change at daylight saving transitions) and all following elements are
+ * always formatted again. So the output is always the same as of
+ * {@link ChronoFormatter#format(ChronoEntity)}. </p>
+ *
+ * <p>Global timestamps like {@code Moment} are printed in the timezone of
+ * the formatter. If the formatter does not print any timezone names or
+ * identifiers then the printer remembers the last offset until the next
+ * offset transition and does not ask the timezone again for following
+ * values in the same offset period. </p>
+ *
+ * <p>Instances are not thread-safe so every thread should use its own
+ * instance. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *  ChronoFormatter&lt;Moment&gt; formatter =
+ *      Moment.formatter(
+ *          &quot;uuuu-MM-dd HH:mm:ss.SSSXXX&quot;,
+ *          PatternType.CLDR,
+ *          Locale.ROOT,
+ *          Timezone.ofSystem().getID());
+ *  IncrementalPrinter&lt;Moment&gt; printer = formatter.incremental();
+ *
+ *  for (LogRecord record : records) {
+ *      printer.print(record.getTimestamp(), writer);
+ *  }
+ * </pre>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @see     ChronoFormatter#incremental()
+ * @concurrency <mutable>
+ */
+/*[deutsch]
+ * <p>Zustandsbehafteter Formatierer, der sich den zuletzt formatierten Wert
+ * merkt und nur die ge&auml;nderten Teile des Textes neu formatiert. </p>
+ *
+ * <p>Gedacht f&uuml;r die Ausgabe von meist aufsteigenden Zeitstempeln
+ * wie in Log-Dateien, wo aufeinanderfolgende Werte typischerweise dasselbe
+ * Datum, dieselbe Stunde und Minute haben. Der vordere Teil des vorherigen
+ * Textes wird wiederverwendet, solange die Werte der zugrundeliegenden
+ * Elemente unver&auml;ndert sind. Elemente, deren Text nicht nur von ihrem
+ * eigenen Wert abh&auml;ngt (zum Beispiel Zeitzonen-Offsets, die sich an
+ * Sommerzeitgrenzen &auml;ndern k&ouml;nnen), und alle folgenden Elemente
+ * werden immer neu formatiert. Die Ausgabe ist also immer dieselbe wie
+ * die von {@link ChronoFormatter#format(ChronoEntity)}. </p>
+ *
+ * <p>Globale Zeitstempel wie {@code Moment} werden in der Zeitzone des
+ * Formatierers ausgegeben. Wenn der Formatierer keine Zeitzonennamen oder
+ * -kennungen ausgibt, merkt sich dieser Formatierer den letzten Offset bis
+ * zum n&auml;chsten Offset-Wechsel und befragt die Zeitzone f&uuml;r
+ * folgende Werte in derselben Offset-Periode nicht erneut. </p>
+ *
+ * <p>Instanzen sind nicht thread-sicher, deshalb sollte jeder Thread
+ * seine eigene Instanz verwenden. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *  ChronoFormatter&lt;Moment&gt; formatter =
+ *      Moment.formatter(
+ *          &quot;uuuu-MM-dd HH:mm:ss.SSSXXX&quot;,
+ *          PatternType.CLDR,
+ *          Locale.ROOT,
+ *          Timezone.ofSystem().getID());
+ *  IncrementalPrinter&lt;Moment&gt; printer = formatter.incremental();
+ *
+ *  for (LogRecord record : records) {
+ *      printer.print(record.getTimestamp(), writer);
+ *  }
+ * </pre>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @see     ChronoFormatter#incremental()
+ * @concurrency <mutable>
+ */
+public final class IncrementalPrinter<T extends ChronoEntity<T>> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // Suchfenster für den nächsten Offset-Wechsel (ein Jahr)
+    private static final long WINDOW = 366 * 86400L;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Chronology<T> chronology;
+    private final Attributes attributes;
+    private final PrintRecord record;
+    private final TZID tzid;
+    private T previous;
+
+    // zuletzt bestimmter Offset mit Gültigkeit [validFrom, validUntil)
+    private Timezone zone;
+    private long validFrom;
+    private long validUntil;
+    private ZonalOffset offset;
+    private Attributes offsetAttributes;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen neuen Formatierer ohne gespeicherten Wert. </p>
+     *
+     * @param   chronology  chronology of formatter
+     * @param   steps       format steps of formatter
+     * @param   attributes  default attributes of formatter
+     */
+    IncrementalPrinter(
+        Chronology<T> chronology,
+        List<FormatStep> steps,
+        Attributes attributes
+    ) {
+        super();
+
+        this.chronology = chronology;
+        this.attributes = attributes;
+        this.record = new PrintRecord(steps);
+        this.tzid = getCachableZone(steps, attributes);
+        this.previous = null;
+        this.zone = null;
+        this.validFrom = 0;
+        this.validUntil = 0;
+        this.offset = null;
+        this.offsetAttributes = null;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Prints given chronological entity as formatted text. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @return  formatted text
+     * @throws  IllegalArgumentException if given object is not formattable
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Objekt als Text. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @return  formatted text
+     * @throws  IllegalArgumentException if given object is not formattable
+     */
+    public String format(T formattable) {
+
+        return this.render(formattable).toString();
+
+    }
+
+    /**
+     * <p>Prints given chronological entity as formatted text and writes
+     * the text into given buffer. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IOException if writing to buffer fails
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Objekt als Text und schreibt ihn in
+     * den Puffer. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IOException if writing to buffer fails
+     */
+    public void print(
+        T formattable,
+        Appendable buffer
+    ) throws IOException {
+
+        if (buffer == null) {
+            throw new NullPointerException("Missing text result buffer.");
+        }
+
+        buffer.append(this.render(formattable));
+
+    }
+
+    /**
+     * <p>Forgets the last formatted value so the next value will be
+     * completely formatted again. </p>
+     */
+    /*[deutsch]
+     * <p>Vergi&szlig;t den zuletzt formatierten Wert, so da&szlig; der
+     * n&auml;chste Wert wieder komplett formatiert wird. </p>
+     */
+    public void reset() {
+
+        this.previous = null;
+        this.record.reset();
+
+    }
+
+    /**
+     * <p>Formatiert das angegebene Objekt inkrementell. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @return  internal text buffer (must not be modified)
+     * @throws  IllegalArgumentException if given object is not formattable
+     */
+    CharSequence render(T formattable) {
+
+        if (formattable == null) {
+            throw new NullPointerException("Missing value to be formatted.");
+        }
+
+        // gleiche aufeinanderfolgende Werte nur einmal formatieren
+        if (
+            (this.previous == null)
+            || !formattable.equals(this.previous)
+        ) {
+            this.previous = null;
+            AttributeQuery aq = this.attributes;
+
+            if (
+                (this.tzid != null)
+                && (formattable instanceof UnixTime)
+            ) {
+                aq = this.getOffsetAttributes((UnixTime) formattable);
+            }
+
+            this.record.update(this.chronology.preformat(formattable, aq), aq);
+            this.previous = formattable;
+        }
+
+        return this.record.getText();
+
+    }
+
+    // ersetzt die Zeitzone durch den für diesen Zeitpunkt gültigen Offset
+    private Attributes getOffsetAttributes(UnixTime ut) {
+
+        long posixTime = ut.getPosixTime();
+
+        if (
+            (posixTime < this.validFrom)
+            || (posixTime >= this.validUntil)
+        ) {
+            this.refresh(ut);
+        }
+
+        return this.offsetAttributes;
+
+    }
+
+    // bestimmt den Offset zur angegebenen Zeit und sein Gültigkeitsintervall
+    private void refresh(UnixTime ut) {
+
+        if (this.zone == null) {
+            this.zone = Timezone.of(this.tzid);
+        }
+
+        long posixTime = ut.getPosixTime();
+        ZonalOffset current = this.zone.getOffset(ut);
+        TransitionHistory history = this.zone.getHistory();
+
+        if (this.zone.isFixed()) {
+            this.validFrom = Long.MIN_VALUE;
+            this.validUntil = Long.MAX_VALUE;
+        } else if (history == null) {
+            // ohne Historie nur dieselbe Sekunde wiederverwenden
+            this.validFrom = posixTime;
+            this.validUntil = posixTime + 1;
+        } else {
+            ZonalTransition start = history.getStartTransition(ut);
+            this.validFrom =
+                (start == null) ? Long.MIN_VALUE : start.getPosixTime();
+
+            PosixTime end = new PosixTime(posixTime + WINDOW);
+            List<ZonalTransition> next =
+                history.getTransitions(new PosixTime(posixTime + 1), end);
+            this.validUntil = (
+                next.isEmpty()
+                ? end.getPosixTime()
+                : next.get(0).getPosixTime());
+        }
+
+        if (!current.equals(this.offset)) {
+            this.offset = current;
+            this.offsetAttributes =
+                new Attributes.Builder()
+                    .setAll(this.attributes)
+                    .setTimezone(current)
+                    .build();
+        }
+
+    }
+
+    // Zeitzone nur dann durch Offsets ersetzbar, wenn nur Offsets ausgegeben
+    private static TZID getCachableZone(
+        List<FormatStep> steps,
+        Attributes attributes
+    ) {
+
+        if (!attributes.contains(Attributes.TIMEZONE_ID)) {
+            return null;
+        }
+
+        TZID tzid = attributes.get(Attributes.TIMEZONE_ID);
+
+        if (tzid instanceof ZonalOffset) {
+            return null;
+        }
+
+        for (FormatStep step : steps) {
+            if (step.hasPrintCondition()) {
+                return null;
+            }
+
+            FormatProcessor<?> processor = step.getProcessor();
+
+            if (
+                !(processor instanceof LiteralProcessor)
+                && !(processor instanceof IgnorableWhitespaceProcessor)
+                && !(processor instanceof NumberProcessor)
+                && !(processor instanceof FractionProcessor)
+                && !(processor instanceof DecimalProcessor)
+                && !(processor instanceof TwoDigitYearProcessor)
+                && !(processor instanceof OrdinalProcessor)
+                && !(processor instanceof TextProcessor)
+                && !(processor instanceof LookupProcessor)
+                && !(processor instanceof TimezoneOffsetProcessor)
+                && !(processor instanceof LocalizedGMTProcessor)
+            ) {
+                return null;
+            }
+        }
+
+        return tzid;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class PosixTime
+        implements UnixTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long posixTime;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        PosixTime(long posixTime) {
+            super();
+
+            this.posixTime = posixTime;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getPosixTime() {
+
+            return this.posixTime;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return 0;
+
+        }
+
+    }
+
+}
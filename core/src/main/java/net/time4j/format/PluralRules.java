@@ -68,6 +68,8 @@ public abstract class PluralRules {
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
+    private static final int TABLE_SIZE = 1000;
+
     private static final Map<String, PluralRules> CARDINAL_MAP =
         new ConcurrentHashMap<String, PluralRules>(140);
     private static final PluralRules STD_CARDINALS = new StdCardinalRules(0);
@@ -133,6 +135,27 @@ public abstract class PluralRules {
         ORDINAL_MAP.putAll(omap);
     }
 
+    private static final BoundedCache<Locale, PluralRules> CARDINAL_CACHE =
+        new BoundedCache<Locale, PluralRules>(
+            BoundedCache.DEFAULT_MAX_SIZE,
+            new BoundedCache.Loader<Locale, PluralRules>() {
+                @Override
+                public PluralRules load(Locale key) {
+                    return lookup(key, CARDINAL_MAP, STD_CARDINALS);
+                }
+            }
+        );
+    private static final BoundedCache<Locale, PluralRules> ORDINAL_CACHE =
+        new BoundedCache<Locale, PluralRules>(
+            BoundedCache.DEFAULT_MAX_SIZE,
+            new BoundedCache.Loader<Locale, PluralRules>() {
+                @Override
+                public PluralRules load(Locale key) {
+                    return lookup(key, ORDINAL_MAP, STD_ORDINALS);
+                }
+            }
+        );
+
     //~ Methoden ----------------------------------------------------------
 
     /**
@@ -166,42 +189,15 @@ public abstract class PluralRules {
         NumberType numType
     ) {
 
-        Map<String, PluralRules> map;
-        PluralRules stdRules;
-
         switch (numType) {
             case CARDINALS:
-                map = CARDINAL_MAP;
-                stdRules = STD_CARDINALS;
-                break;
+                return CARDINAL_CACHE.get(locale);
             case ORDINALS:
-                map = ORDINAL_MAP;
-                stdRules = STD_ORDINALS;
-                break;
+                return ORDINAL_CACHE.get(locale);
             default:
                 throw new UnsupportedOperationException(numType.name());
         }
 
-        PluralRules rules = null;
-
-        if (!locale.getCountry().equals("")) {
-            StringBuilder kb = new StringBuilder();
-            kb.append(locale.getLanguage());
-            kb.append('_');
-            kb.append(locale.getCountry());
-            rules = map.get(kb.toString());
-        }
-
-        if (rules == null) {
-            rules = map.get(locale.getLanguage());
-        }
-
-        if (rules == null) {
-            return stdRules;
-        }
-
-        return rules;
-
     }
 
     /**
@@ -226,14 +222,17 @@ public abstract class PluralRules {
     ) {
 
         Map<String, PluralRules> map;
+        BoundedCache<Locale, PluralRules> cache;
         NumberType numType = rules.getNumberType();
 
         switch (numType) {
             case CARDINALS:
                 map = CARDINAL_MAP;
+                cache = CARDINAL_CACHE;
                 break;
             case ORDINALS:
                 map = ORDINAL_MAP;
+                cache = ORDINAL_CACHE;
                 break;
             default:
                 throw new UnsupportedOperationException(numType.name());
@@ -250,6 +249,7 @@ public abstract class PluralRules {
         }
 
         map.put(key, rules);
+        cache.clear();
 
     }
 
@@ -284,14 +284,44 @@ public abstract class PluralRules {
      */
     public abstract NumberType getNumberType();
 
+    private static PluralRules lookup(
+        Locale locale,
+        Map<String, PluralRules> map,
+        PluralRules stdRules
+    ) {
+
+        PluralRules rules = null;
+
+        if (!locale.getCountry().equals("")) {
+            StringBuilder kb = new StringBuilder();
+            kb.append(locale.getLanguage());
+            kb.append('_');
+            kb.append(locale.getCountry());
+            rules = map.get(kb.toString());
+        }
+
+        if (rules == null) {
+            rules = map.get(locale.getLanguage());
+        }
+
+        if (rules == null) {
+            return stdRules;
+        }
+
+        return rules;
+
+    }
+
     private static void fillC(
         Map<String, PluralRules> map,
         String languages,
         int id
     ) {
 
+        PluralRules rules = new StdCardinalRules(id);
+
         for (String language : languages.split(" ")) {
-            map.put(language, new StdCardinalRules(id));
+            map.put(language, rules);
         }
 
     }
@@ -302,24 +332,31 @@ public abstract class PluralRules {
         int id
     ) {
 
+        PluralRules rules = new StdOrdinalRules(id);
+
         for (String language : languages.split(" ")) {
-            map.put(language, new StdOrdinalRules(id));
+            map.put(language, rules);
         }
 
     }
 
     //~ Innere Klassen ----------------------------------------------------
 
-    private static class StdCardinalRules
+    /**
+     * <p>Gemeinsame Basis der Standardregeln, die die Kategorien
+     * kleiner Zahlen bei Bedarf in einer Tabelle vorberechnet. </p>
+     */
+    private abstract static class StdRules
         extends PluralRules {
 
         //~ Instanzvariablen ----------------------------------------------
 
-        private final int id;
+        final int id;
+        private PluralCategory[] table = null; // lazy (benign race)
 
         //~ Konstruktoren -------------------------------------------------
 
-        private StdCardinalRules(int id) {
+        StdRules(int id) {
             super();
 
             this.id = id;
@@ -331,6 +368,60 @@ public abstract class PluralRules {
         @Override
         public PluralCategory getCategory(long n) {
 
+            if ((n >= 0) && (n < TABLE_SIZE)) {
+                PluralCategory[] t = this.table;
+
+                if (t == null) {
+                    t = new PluralCategory[TABLE_SIZE];
+                    for (int i = 0; i < TABLE_SIZE; i++) {
+                        t[i] = this.evaluate(i);
+                    }
+                    this.table = t;
+                }
+
+                PluralCategory category = t[(int) n];
+
+                if (category != null) {
+                    return category;
+                }
+            }
+
+            return this.evaluate(n);
+
+        }
+
+        /**
+         * <p>Wertet die Regel ohne Tabelle aus. </p>
+         *
+         * @param   n   non-negative count
+         * @return  plural category
+         */
+        abstract PluralCategory evaluate(long n);
+
+    }
+
+    private static class StdCardinalRules
+        extends StdRules {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private StdCardinalRules(int id) {
+            super(id);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public NumberType getNumberType() {
+
+            return NumberType.CARDINALS;
+
+        }
+
+        @Override
+        PluralCategory evaluate(long n) {
+
             long mod10 = -1;
             long mod100 = -1;
 
@@ -596,35 +687,29 @@ public abstract class PluralRules {
 
         }
 
-        @Override
-        public NumberType getNumberType() {
-
-            return NumberType.CARDINALS;
-
-        }
-
     }
 
     private static class StdOrdinalRules
-        extends PluralRules {
-
-        //~ Instanzvariablen ----------------------------------------------
-
-        private final int id;
+        extends StdRules {
 
         //~ Konstruktoren -------------------------------------------------
 
         private StdOrdinalRules(int id) {
-            super();
-
-            this.id = id;
+            super(id);
 
         }
 
         //~ Methoden ------------------------------------------------------
 
         @Override
-        public PluralCategory getCategory(long n) {
+        public NumberType getNumberType() {
+
+            return NumberType.ORDINALS;
+
+        }
+
+        @Override
+        PluralCategory evaluate(long n) {
 
             long mod10 = -1;
             long mod100 = -1;
@@ -815,13 +900,6 @@ public abstract class PluralRules {
 
         }
 
-        @Override
-        public NumberType getNumberType() {
-
-            return NumberType.ORDINALS;
-
-        }
-
     }
 
 }
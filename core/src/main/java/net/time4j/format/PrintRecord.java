@@ -0,0 +1,215 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PrintRecord.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format;
+
+import net.time4j.engine.AttributeQuery;
+import net.time4j.engine.ChronoDisplay;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.ChronoException;
+
+import java.io.IOException;
+import java.util.List;
+
+
+/**
+ * <p>Speichert die letzte Textausgabe einer Folge von Formatschritten, um
+ * bei der n&auml;chsten Ausgabe den unver&auml;nderten Anfang des Textes
+ * wiederzuverwenden. </p>
+ *
+ * <p>Wiederverwendbar ist nur ein f&uuml;hrender Block von Formatschritten,
+ * deren Ausgabe allein vom Wert ihres Elements abh&auml;ngt (Literale,
+ * numerische und textuelle Elemente ohne Ausgabebedingung). Ab dem ersten
+ * Schritt mit ge&auml;ndertem Elementwert oder ab dem ersten nicht
+ * wiederverwendbaren Schritt (etwa einem Zeitzonen-Offset) wird immer neu
+ * formatiert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <mutable>
+ */
+final class PrintRecord {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final List<FormatStep> steps;
+    private final int reusable;
+    private final int[] starts;
+    private final Object[] values;
+    private final StringBuilder text;
+    private boolean valid;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen neuen leeren Satz. </p>
+     *
+     * @param   steps       format steps of a formatter
+     */
+    PrintRecord(List<FormatStep> steps) {
+        super();
+
+        int count = 0;
+
+        for (FormatStep step : steps) {
+            if (!isReusable(step)) {
+                break;
+            }
+            count++;
+        }
+
+        this.steps = steps;
+        this.reusable = count;
+        this.starts = new int[count + 1];
+        this.values = new Object[count];
+        this.text = new StringBuilder(steps.size() * 8);
+        this.valid = false;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Formatiert das angegebene Objekt und ersetzt damit den Satz. </p>
+     *
+     * @param   display     object to be formatted
+     * @param   attributes  control attributes
+     * @throws  IllegalArgumentException if given object is not formattable
+     */
+    void update(
+        ChronoDisplay display,
+        AttributeQuery attributes
+    ) {
+
+        int index = 0;
+
+        try {
+            if (this.valid) {
+                while (index < this.reusable) {
+                    Object value = getValue(display, this.steps.get(index));
+
+                    if (
+                        (value == null)
+                        || !value.equals(this.values[index])
+                    ) {
+                        break;
+                    }
+
+                    index++;
+                }
+
+                this.text.setLength(this.starts[index]);
+            } else {
+                this.text.setLength(0);
+            }
+
+            this.valid = false;
+
+            for (int i = index, n = this.steps.size(); i < n; i++) {
+                FormatStep step = this.steps.get(i);
+
+                if (i < this.reusable) {
+                    this.starts[i] = this.text.length();
+                    this.values[i] = getValue(display, step);
+                } else if (i == this.reusable) {
+                    this.starts[i] = this.text.length();
+                }
+
+                step.print(display, this.text, attributes, null);
+            }
+
+            if (this.reusable == this.steps.size()) {
+                this.starts[this.reusable] = this.text.length();
+            }
+
+            this.valid = true;
+        } catch (ChronoException ex) {
+            throw new IllegalArgumentException(
+                "Not formattable: " + display, ex);
+        } catch (IOException ioe) {
+            throw new IllegalStateException(ioe); // cannot happen
+        }
+
+    }
+
+    /**
+     * <p>Liefert die zuletzt formatierte Ausgabe. </p>
+     *
+     * @return  text buffer of last update (must not be modified)
+     */
+    CharSequence getText() {
+
+        return this.text;
+
+    }
+
+    /**
+     * <p>Gibt den Satz frei, so da&szlig; die n&auml;chste Ausgabe komplett
+     * neu formatiert wird. </p>
+     */
+    void reset() {
+
+        this.valid = false;
+        this.text.setLength(0);
+
+    }
+
+    private static Object getValue(
+        ChronoDisplay display,
+        FormatStep step
+    ) {
+
+        ChronoElement<?> element = step.getProcessor().getElement();
+
+        if (element == null) {
+            return Boolean.TRUE; // Literal
+        } else if (display.contains(element)) {
+            return display.get(element);
+        }
+
+        return null;
+
+    }
+
+    // nur Prozessoren, deren Ausgabe allein vom Elementwert abhängt
+    private static boolean isReusable(FormatStep step) {
+
+        if (step.hasPrintCondition()) {
+            return false;
+        }
+
+        FormatProcessor<?> processor = step.getProcessor();
+
+        return (
+            (processor instanceof LiteralProcessor)
+            || (processor instanceof IgnorableWhitespaceProcessor)
+            || (processor instanceof NumberProcessor)
+            || (processor instanceof FractionProcessor)
+            || (processor instanceof DecimalProcessor)
+            || (processor instanceof TwoDigitYearProcessor)
+            || (processor instanceof OrdinalProcessor)
+            || (processor instanceof TextProcessor)
+            || (processor instanceof LookupProcessor)
+        );
+
+    }
+
+}
@@ -28,8 +28,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ServiceLoader;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -56,8 +54,16 @@ public final class UnitPatterns {
     private static final int MIN_LIST_INDEX = 2;
     private static final int MAX_LIST_INDEX = 7;
 
-    private static final ConcurrentMap<Locale, UnitPatterns> CACHE =
-        new ConcurrentHashMap<Locale, UnitPatterns>();
+    private static final BoundedCache<Locale, UnitPatterns> CACHE =
+        new BoundedCache<Locale, UnitPatterns>(
+            BoundedCache.DEFAULT_MAX_SIZE,
+            new BoundedCache.Loader<Locale, UnitPatterns>() {
+                @Override
+                public UnitPatterns load(Locale key) {
+                    return new UnitPatterns(key);
+                }
+            }
+        );
     private static final char[] UNIT_IDS =
         new char[] {'Y', 'M', 'W', 'D', 'H', 'N', 'S', '3', '6', '9'};
     private static final UnitPatternProvider PROVIDER;
@@ -206,17 +212,26 @@ public final class UnitPatterns {
             throw new NullPointerException("Missing language.");
         }
 
-        UnitPatterns p = CACHE.get(lang);
+        return CACHE.get(lang);
 
-        if (p == null) {
-            p = new UnitPatterns(lang);
-            UnitPatterns old = CACHE.putIfAbsent(lang, p);
-            if (old != null) {
-                p = old;
-            }
-        }
+    }
+
+    /**
+     * <p>Yields statistics about the internal cache of unit patterns. </p>
+     *
+     * @return  snapshot of cache counters
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Liefert eine Statistik &uuml;ber den internen Cache der
+     * Zeiteinheitsmuster. </p>
+     *
+     * @return  snapshot of cache counters
+     * @since   2.2
+     */
+    public static CacheStatistics getCacheStatistics() {
 
-        return p;
+        return CACHE.getStatistics();
 
     }
 
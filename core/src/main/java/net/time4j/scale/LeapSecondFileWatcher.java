@@ -0,0 +1,592 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LeapSecondFileWatcher.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.scale;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+
+
+/**
+ * <p>Leap second provider which reads a local IERS/NIST file in the format
+ * of &quot;leap-seconds.list&quot; and can reload it at runtime. </p>
+ *
+ * <p>Every data line of the file consists of the NTP-time of the first
+ * day with a new value of TAI-UTC (seconds since 1900-01-01T00:00Z) and
+ * of that value itself. The first data line defines the initial offset
+ * of 10 seconds on 1972-01-01 and is no leap second. The mandatory
+ * comment line starting with &quot;#@&quot; holds the NTP-time when the
+ * file expires. </p>
+ *
+ * <p>As {@code LeapSecondProvider} which is loaded by a
+ * {@code ServiceLoader} this class reads the file configured by the system
+ * property &quot;net.time4j.scale.leapseconds.list&quot;. Applications can
+ * also create an instance for any file, call {@link #start(long)} and so
+ * publish new leap seconds announced by IERS-bulletins without restart of
+ * the JVM. The file is polled for changes because the core module is
+ * restricted to Java 6 and hence cannot use any {@code WatchService}. </p>
+ *
+ * <p>A reloaded file will only be accepted if it is consistent and does
+ * not expire earlier than the previously loaded file. New events will
+ * only be published if {@link LeapSeconds#isExtensible()} is true. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       2.2
+ * @concurrency <threadsafe>
+ */
+/*[deutsch]
+ * <p>Schaltsekunden-Provider, der eine lokale IERS/NIST-Datei im Format
+ * von &quot;leap-seconds.list&quot; liest und zur Laufzeit neu laden
+ * kann. </p>
+ *
+ * <p>Jede Datenzeile der Datei besteht aus der NTP-Zeit des ersten Tages
+ * mit einem neuen Wert von TAI-UTC (Sekunden seit 1900-01-01T00:00Z) und
+ * diesem Wert selbst. Die erste Datenzeile definiert den anf&auml;nglichen
+ * Versatz von 10 Sekunden am 1972-01-01 und ist keine Schaltsekunde. Die
+ * obligatorische Kommentarzeile mit &quot;#@&quot; enth&auml;lt die NTP-Zeit,
+ * zu der die Datei verf&auml;llt. </p>
+ *
+ * <p>Als {@code LeapSecondProvider}, der von einem {@code ServiceLoader}
+ * geladen wird, liest diese Klasse die mit der System-Property
+ * &quot;net.time4j.scale.leapseconds.list&quot; konfigurierte Datei.
+ * Anwendungen k&ouml;nnen auch eine Instanz f&uuml;r eine beliebige Datei
+ * erzeugen, {@link #start(long)} aufrufen und so neue in IERS-Bulletins
+ * angek&uuml;ndigte Schaltsekunden ohne Neustart der JVM
+ * ver&ouml;ffentlichen. Die Datei wird regelm&auml;&szlig;ig auf
+ * &Auml;nderungen gepr&uuml;ft, weil das Kernmodul auf Java 6 beschr&auml;nkt
+ * ist und deshalb keinen {@code WatchService} verwenden kann. </p>
+ *
+ * <p>Eine neu geladene Datei wird nur akzeptiert, wenn sie konsistent ist
+ * und nicht fr&uuml;her als die vorher geladene Datei verf&auml;llt. Neue
+ * Ereignisse werden nur dann ver&ouml;ffentlicht, wenn
+ * {@link LeapSeconds#isExtensible()} zutrifft. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       2.2
+ * @concurrency <threadsafe>
+ */
+public final class LeapSecondFileWatcher
+    implements LeapSecondProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * <p>System property &quot;net.time4j.scale.leapseconds.list&quot;
+     * which determines the path of a local file in the format of
+     * &quot;leap-seconds.list&quot;. </p>
+     *
+     * <p>Only relevant if this class is registered as service. If the
+     * property is not set then the service yields an empty table. </p>
+     */
+    /*[deutsch]
+     * <p>System-Property &quot;net.time4j.scale.leapseconds.list&quot;,
+     * die den Pfad einer lokalen Datei im Format von
+     * &quot;leap-seconds.list&quot; festlegt. </p>
+     *
+     * <p>Nur relevant, wenn diese Klasse als Service registriert ist. Ist
+     * die Property nicht gesetzt, liefert der Service eine leere
+     * Tabelle. </p>
+     */
+    public static final String PATH_TO_LEAPSECONDS_LIST =
+        System.getProperty("net.time4j.scale.leapseconds.list");
+
+    private static final long NTP_MJD = 15020; // 1900-01-01
+    private static final long NTP_UNIX_DELTA = (40587 - NTP_MJD) * 86400;
+    private static final long[] EMPTY_LONGS = new long[0];
+    private static final int[] EMPTY_INTS = new int[0];
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final File file;
+
+    private volatile Map<GregorianDate, Integer> table;
+    private volatile long expiration; // NTP-Zeit
+    private long lastModified;
+    private long length;
+    private long[] ntpTimes; // bereits akzeptierte Datenzeilen
+    private int[] offsets;
+    private Timer timer;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new provider for the file specified by the system
+     * property &quot;net.time4j.scale.leapseconds.list&quot;. </p>
+     *
+     * <p>This constructor is used by the {@code ServiceLoader}. </p>
+     *
+     * @throws  IllegalStateException if the file cannot be read or is
+     *          inconsistent
+     * @see     #PATH_TO_LEAPSECONDS_LIST
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Provider f&uuml;r die mit der System-Property
+     * &quot;net.time4j.scale.leapseconds.list&quot; angegebene Datei. </p>
+     *
+     * <p>Dieser Konstruktor wird vom {@code ServiceLoader} verwendet. </p>
+     *
+     * @throws  IllegalStateException if the file cannot be read or is
+     *          inconsistent
+     * @see     #PATH_TO_LEAPSECONDS_LIST
+     */
+    public LeapSecondFileWatcher() {
+        this(
+            (PATH_TO_LEAPSECONDS_LIST == null)
+            ? null
+            : new File(PATH_TO_LEAPSECONDS_LIST));
+
+    }
+
+    /**
+     * <p>Creates a new provider and reads given file immediately. </p>
+     *
+     * @param   file    local file in format of &quot;leap-seconds.list&quot;
+     * @throws  IllegalStateException if the file cannot be read or is
+     *          inconsistent
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Provider und liest die angegebene Datei
+     * sofort ein. </p>
+     *
+     * @param   file    local file in format of &quot;leap-seconds.list&quot;
+     * @throws  IllegalStateException if the file cannot be read or is
+     *          inconsistent
+     */
+    public LeapSecondFileWatcher(File file) {
+        super();
+
+        this.file = file;
+        this.table = Collections.emptyMap();
+        this.expiration = Long.MIN_VALUE;
+        this.lastModified = Long.MIN_VALUE;
+        this.length = -1;
+        this.ntpTimes = EMPTY_LONGS;
+        this.offsets = EMPTY_INTS;
+
+        if (file != null) {
+            try {
+                this.reload();
+            } catch (IOException ioe) {
+                throw new IllegalStateException(ioe);
+            }
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public Map<GregorianDate, Integer> getLeapSecondTable() {
+
+        return this.table;
+
+    }
+
+    @Override
+    public boolean supportsNegativeLS() {
+
+        return true;
+
+    }
+
+    /**
+     * <p>Yields the expiration date of the last accepted file. </p>
+     *
+     * @return  day of expiration or {@code null} if no file is loaded
+     */
+    /*[deutsch]
+     * <p>Liefert das Verfallsdatum der zuletzt akzeptierten Datei. </p>
+     *
+     * @return  day of expiration or {@code null} if no file is loaded
+     */
+    public GregorianDate getExpirationDate() {
+
+        long ntp = this.expiration;
+
+        if (ntp == Long.MIN_VALUE) {
+            return null;
+        }
+
+        return toDate(NTP_MJD + MathUtils.floorDivide(ntp, 86400));
+
+    }
+
+    /**
+     * <p>Queries if the last accepted file is expired so its data might
+     * be incomplete. </p>
+     *
+     * @return  {@code true} if expired or if no file is loaded
+     *          else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ist die zuletzt akzeptierte Datei verfallen, so da&szlig; ihre
+     * Daten eventuell unvollst&auml;ndig sind? </p>
+     *
+     * @return  {@code true} if expired or if no file is loaded
+     *          else {@code false}
+     */
+    public boolean isExpired() {
+
+        long ntp = this.expiration;
+        long now = System.currentTimeMillis() / 1000 + NTP_UNIX_DELTA;
+        return ((ntp == Long.MIN_VALUE) || (ntp <= now));
+
+    }
+
+    /**
+     * <p>Reads the file again if it has been modified since the last
+     * reading. </p>
+     *
+     * <p>Data lines which have already been accepted are only compared
+     * with the new content, and only following lines create new leap
+     * second events. A file which expires earlier than the last accepted
+     * file will be ignored. A file which cannot be read or is inconsistent
+     * will only be read again after the next modification. </p>
+     *
+     * @return  {@code true} if a new table was accepted else {@code false}
+     * @throws  IOException if the file cannot be read
+     * @throws  IllegalStateException if the file is inconsistent
+     * @see     #publish()
+     */
+    /*[deutsch]
+     * <p>Liest die Datei erneut, wenn sie seit dem letzten Lesen
+     * ge&auml;ndert wurde. </p>
+     *
+     * <p>Schon akzeptierte Datenzeilen werden nur mit dem neuen Inhalt
+     * verglichen, und erst nachfolgende Zeilen erzeugen neue
+     * Schaltsekundenereignisse. Eine Datei, die fr&uuml;her als die zuletzt
+     * akzeptierte Datei verf&auml;llt, wird ignoriert. Eine Datei, die nicht
+     * gelesen werden kann oder inkonsistent ist, wird erst nach der
+     * n&auml;chsten &Auml;nderung wieder gelesen. </p>
+     *
+     * @return  {@code true} if a new table was accepted else {@code false}
+     * @throws  IOException if the file cannot be read
+     * @throws  IllegalStateException if the file is inconsistent
+     * @see     #publish()
+     */
+    public synchronized boolean reload() throws IOException {
+
+        if (this.file == null) {
+            return false;
+        }
+
+        long modified = this.file.lastModified();
+        long len = this.file.length();
+
+        if ((modified == this.lastModified) && (len == this.length)) {
+            return false;
+        }
+
+        // auch eine fehlerhafte Version nur einmal lesen und melden
+        this.lastModified = modified;
+        this.length = len;
+
+        List<long[]> lines = new ArrayList<long[]>(64);
+        long ntpExpiration = Long.MIN_VALUE;
+        BufferedReader br =
+            new BufferedReader(
+                new InputStreamReader(
+                    new FileInputStream(this.file), "US-ASCII"));
+
+        try {
+            String line;
+
+            while ((line = br.readLine()) != null) {
+                if (line.startsWith("#@")) {
+                    ntpExpiration = parseNumber(line.substring(2));
+                    continue;
+                }
+
+                int comment = line.indexOf('#');
+
+                if (comment >= 0) {
+                    line = line.substring(0, comment);
+                }
+
+                line = line.trim();
+
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                String[] fields = line.split("\\s+");
+
+                if (fields.length != 2) {
+                    throw new IllegalStateException(
+                        "Invalid data line: " + line);
+                }
+
+                lines.add(
+                    new long[] {
+                        parseNumber(fields[0]), parseNumber(fields[1])});
+            }
+        } finally {
+            br.close();
+        }
+
+        if (ntpExpiration == Long.MIN_VALUE) {
+            throw new IllegalStateException(
+                "Missing expiration date in: " + this.file);
+        }
+
+        if (ntpExpiration < this.expiration) {
+            return false; // veraltete Datei
+        }
+
+        int n = lines.size();
+        int known = this.ntpTimes.length;
+
+        if (n < known) {
+            throw new IllegalStateException(
+                "Leap seconds removed in: " + this.file);
+        }
+
+        long[] times = new long[n];
+        int[] values = new int[n];
+        Map<GregorianDate, Integer> map =
+            new LinkedHashMap<GregorianDate, Integer>(this.table);
+
+        for (int i = 0; i < n; i++) {
+            long[] data = lines.get(i);
+            times[i] = data[0];
+            values[i] = (int) data[1];
+
+            if (i < known) {
+                // bereits akzeptierte Zeilen nur vergleichen
+                if (
+                    (times[i] != this.ntpTimes[i])
+                    || (values[i] != this.offsets[i])
+                ) {
+                    throw new IllegalStateException(
+                        "Leap seconds changed in: " + this.file);
+                }
+                continue;
+            } else if ((times[i] % 86400) != 0) {
+                throw new IllegalStateException(
+                    "Leap second not at midnight: " + times[i]);
+            } else if (i == 0) {
+                continue; // Anfangsversatz ist keine Schaltsekunde
+            }
+
+            int shift = values[i] - values[i - 1];
+
+            if ((times[i] <= times[i - 1]) || (Math.abs(shift) != 1)) {
+                throw new IllegalStateException(
+                    "Inconsistent leap second: " + times[i]);
+            }
+
+            // Umstellungstag ist der Tag vor der Änderung von TAI-UTC
+            GregorianDate date = toDate(NTP_MJD + times[i] / 86400 - 1);
+            map.put(date, Integer.valueOf(shift));
+        }
+
+        this.ntpTimes = times;
+        this.offsets = values;
+        this.expiration = ntpExpiration;
+        this.table = Collections.unmodifiableMap(map);
+        return true;
+
+    }
+
+    /**
+     * <p>Registers all loaded leap seconds which are after the last leap
+     * second known by {@link LeapSeconds}. </p>
+     *
+     * @return  count of newly registered leap seconds
+     * @throws  IllegalStateException if the loaded table contradicts
+     *          already registered leap seconds
+     * @see     LeapSeconds#isExtensible()
+     */
+    /*[deutsch]
+     * <p>Registriert alle geladenen Schaltsekunden, die nach der letzten
+     * {@link LeapSeconds} bekannten Schaltsekunde liegen. </p>
+     *
+     * @return  count of newly registered leap seconds
+     * @throws  IllegalStateException if the loaded table contradicts
+     *          already registered leap seconds
+     * @see     LeapSeconds#isExtensible()
+     */
+    public synchronized int publish() {
+
+        LeapSeconds ls = LeapSeconds.getInstance();
+
+        if (!ls.isExtensible()) {
+            return 0;
+        }
+
+        long last = GregorianMath.toMJD(ls.iterator().next().getDate());
+        int count = 0;
+
+        for (Map.Entry<GregorianDate, Integer> entry : this.table.entrySet()) {
+            GregorianDate date = entry.getKey();
+            int shift = entry.getValue().intValue();
+
+            if (GregorianMath.toMJD(date) > last) {
+                int y = date.getYear();
+                int m = date.getMonth();
+                int d = date.getDayOfMonth();
+
+                if (shift < 0) {
+                    ls.registerNegativeLS(y, m, d);
+                } else {
+                    ls.registerPositiveLS(y, m, d);
+                }
+
+                count++;
+            } else if (ls.getShift(date) != shift) {
+                throw new IllegalStateException(
+                    "Leap second conflicts with registered one: " + date);
+            }
+        }
+
+        return count;
+
+    }
+
+    /**
+     * <p>Starts a background thread which checks the file periodically
+     * and publishes new leap seconds. </p>
+     *
+     * <p>Errors are printed to {@code System.err} and do not stop the
+     * watching. Calling this method again restarts the watching with the
+     * new period. </p>
+     *
+     * @param   period  time in milliseconds between two checks
+     * @throws  IllegalArgumentException if the period is not positive
+     * @see     #reload()
+     * @see     #publish()
+     * @see     #stop()
+     */
+    /*[deutsch]
+     * <p>Startet einen Hintergrund-Thread, der die Datei regelm&auml;&szlig;ig
+     * pr&uuml;ft und neue Schaltsekunden ver&ouml;ffentlicht. </p>
+     *
+     * <p>Fehler werden auf {@code System.err} ausgegeben und beenden die
+     * &Uuml;berwachung nicht. Ein erneuter Aufruf dieser Methode startet
+     * die &Uuml;berwachung mit der neuen Periode. </p>
+     *
+     * @param   period  time in milliseconds between two checks
+     * @throws  IllegalArgumentException if the period is not positive
+     * @see     #reload()
+     * @see     #publish()
+     * @see     #stop()
+     */
+    public synchronized void start(long period) {
+
+        if (period <= 0) {
+            throw new IllegalArgumentException(
+                "Period must be positive: " + period);
+        }
+
+        this.stop();
+        this.timer = new Timer("Time4J-LeapSecondFileWatcher", true);
+        this.timer.schedule(
+            new TimerTask() {
+                @Override
+                public void run() {
+                    try {
+                        if (reload()) {
+                            publish();
+                        }
+                    } catch (IOException ioe) {
+                        ioe.printStackTrace(System.err);
+                    } catch (RuntimeException re) {
+                        re.printStackTrace(System.err);
+                    }
+                }
+            },
+            0,
+            period);
+
+    }
+
+    /**
+     * <p>Stops the background thread if started. </p>
+     *
+     * @see     #start(long)
+     */
+    /*[deutsch]
+     * <p>Beendet den Hintergrund-Thread, falls gestartet. </p>
+     *
+     * @see     #start(long)
+     */
+    public synchronized void stop() {
+
+        if (this.timer != null) {
+            this.timer.cancel();
+            this.timer = null;
+        }
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  path of watched file
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  path of watched file
+     */
+    @Override
+    public String toString() {
+
+        return ((this.file == null) ? "" : this.file.getPath());
+
+    }
+
+    private static long parseNumber(String text) {
+
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException nfe) {
+            throw new IllegalStateException("Invalid number: " + text);
+        }
+
+    }
+
+    private static GregorianDate toDate(long mjd) {
+
+        long packed = GregorianMath.toPackedDate(mjd);
+
+        return new LeapSeconds.IsoDate(
+            GregorianMath.readYear(packed),
+            GregorianMath.readMonth(packed),
+            GregorianMath.readDayOfMonth(packed));
+
+    }
+
+}
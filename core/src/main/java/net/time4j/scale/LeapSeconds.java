@@ -44,7 +44,7 @@ import java.util.NoSuchElementException;
 import java.util.ServiceLoader;
 import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 
 /**
@@ -181,7 +181,10 @@ public final class LeapSeconds
             "net.time4j.scale.leapseconds.path",
             "data/leapseconds.data");
 
-    private static final ExtendedLSE[] EMPTY_ARRAY = new ExtendedLSE[0];
+    private static final AtomicReferenceFieldUpdater<LeapSeconds, Snapshot>
+        SNAPSHOT_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(
+                LeapSeconds.class, Snapshot.class, "snapshot");
     private static final LeapSeconds INSTANCE = new LeapSeconds();
     private static final long UNIX_OFFSET = 2 * 365 * 86400;
     private static final long MJD_OFFSET = 40587;
@@ -189,10 +192,8 @@ public final class LeapSeconds
     //~ Instanzvariablen --------------------------------------------------
 
     private final String provider;
-    private final List<ExtendedLSE> list;
-    private final ExtendedLSE[] reverseFinal;
-    private volatile ExtendedLSE[] reverseVolatile;
     private final boolean supportsNegativeLS;
+    private volatile Snapshot snapshot;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -202,10 +203,9 @@ public final class LeapSeconds
         if (SUPPRESS_UTC_LEAPSECONDS) {
 
             this.provider = "<none>";
-            this.list = Collections.emptyList();
-            this.reverseFinal = EMPTY_ARRAY;
-            this.reverseVolatile = EMPTY_ARRAY;
             this.supportsNegativeLS = false;
+            this.snapshot =
+                new Snapshot(Collections.<ExtendedLSE>emptyList(), false, 0);
 
         } else {
 
@@ -250,24 +250,13 @@ public final class LeapSeconds
             }
 
             extend(sortedLS);
-
-            if (FINAL_UTC_LEAPSECONDS) {
-                this.list =
-                    Collections.unmodifiableList(
-                        new ArrayList<ExtendedLSE>(sortedLS));
-            } else {
-                this.list = new CopyOnWriteArrayList<ExtendedLSE>(sortedLS);
-            }
-
-            this.reverseFinal = this.initReverse();
-            this.reverseVolatile = this.reverseFinal;
             this.provider = loaded.toString();
 
             if (FINAL_UTC_LEAPSECONDS) {
                 boolean snls = loaded.supportsNegativeLS();
                 if (snls) {
                     boolean hasNegativeLS = false;
-                    for (ExtendedLSE event : this.list) {
+                    for (ExtendedLSE event : sortedLS) {
                         if (event.getShift() < 0) {
                             hasNegativeLS = true;
                             break;
@@ -280,6 +269,12 @@ public final class LeapSeconds
                 this.supportsNegativeLS = true;
             }
 
+            this.snapshot =
+                new Snapshot(
+                    new ArrayList<ExtendedLSE>(sortedLS),
+                    this.supportsNegativeLS,
+                    0);
+
         }
 
     }
@@ -318,7 +313,7 @@ public final class LeapSeconds
      */
     public boolean isEnabled() {
 
-        return !this.list.isEmpty();
+        return (this.snapshot.events.length > 0);
 
     }
 
@@ -368,7 +363,39 @@ public final class LeapSeconds
      */
     public int getCount() {
 
-        return this.getEventsInDescendingOrder().length;
+        return this.snapshot.events.length;
+
+    }
+
+    /**
+     * <p>Yields the version of the leap second table. </p>
+     *
+     * <p>The version starts with {@code 0} and is incremented by every
+     * successful registration of a new leap second. Caches which depend
+     * on leap seconds can compare the version in order to detect that
+     * they are stale. </p>
+     *
+     * @return  version number of registered leap seconds
+     * @see     #registerPositiveLS(int, int, int)
+     * @see     #registerNegativeLS(int, int, int)
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Liefert die Version der Schaltsekundentabelle. </p>
+     *
+     * <p>Die Version beginnt mit {@code 0} und wird mit jeder erfolgreichen
+     * Registrierung einer neuen Schaltsekunde hochgez&auml;hlt. Von
+     * Schaltsekunden abh&auml;ngige Puffer k&ouml;nnen die Version
+     * vergleichen, um zu erkennen, da&szlig; sie veraltet sind. </p>
+     *
+     * @return  version number of registered leap seconds
+     * @see     #registerPositiveLS(int, int, int)
+     * @see     #registerNegativeLS(int, int, int)
+     * @since   2.2
+     */
+    public long getVersion() {
+
+        return this.snapshot.version;
 
     }
 
@@ -497,7 +524,7 @@ public final class LeapSeconds
     @Override
     public Iterator<LeapSecondEvent> iterator() {
 
-        final LeapSecondEvent[] events = this.getEventsInDescendingOrder();
+        final LeapSecondEvent[] events = this.snapshot.events;
 
         return new Iterator<LeapSecondEvent>() {
             private int index = 0;
@@ -553,21 +580,16 @@ public final class LeapSeconds
 
         // Schaltsekundenereignisse gibt es erst seit Juni 1972
         if (year >= 1972) {
+            Snapshot current = this.snapshot;
+            long key = toDateKey(year, date.getMonth(), date.getDayOfMonth());
+            int index = countBelow(current.dates, key);
 
-            ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-            for (int i = 0; i < events.length; i++) {
-                ExtendedLSE event = events[i];
-                GregorianDate lsDate = event.getDate();
-
-                // Ist es der Umstellungstag?
-                if (
-                    (year == lsDate.getYear())
-                    && (date.getMonth() == lsDate.getMonth())
-                    && (date.getDayOfMonth() == lsDate.getDayOfMonth())
-                ) {
-                    return event.getShift();
-                }
+            // Ist es der Umstellungstag?
+            if (
+                (index < current.dates.length)
+                && (current.dates[index] == key)
+            ) {
+                return current.shifts[index];
             }
         }
 
@@ -599,18 +621,13 @@ public final class LeapSeconds
             return 0;
         }
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        Snapshot current = this.snapshot;
+        int index = countBelow(current.utcs, utc);
 
-            if (utc > lse.utc()) {
-                return 0;
-            } else {
-                long start = lse.utc() - lse.getShift();
-                if (utc > start) { // Schaltbereich
-                    return (int) (utc - start);
-                }
+        if (index < current.utcs.length) {
+            long start = current.utcs[index] - current.shifts[index];
+            if (utc > start) { // Schaltbereich
+                return (int) (utc - start);
             }
         }
 
@@ -637,20 +654,16 @@ public final class LeapSeconds
      */
     public LeapSecondEvent getNextEvent(long utc) {
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        LeapSecondEvent result = null;
+        Snapshot current = this.snapshot;
+        int n = current.utcs.length;
+        int index = countBelow(current.utcs, utc);
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc >= lse.utc()) {
-                break;
-            } else {
-                result = lse;
-            }
+        if ((index < n) && (current.utcs[index] == utc)) {
+            index++;
         }
 
-        return result;
+        // absteigende Reihenfolge im Ereignis-Array
+        return ((index < n) ? current.events[n - 1 - index] : null);
 
     }
 
@@ -685,22 +698,16 @@ public final class LeapSeconds
      */
     public long enhance(long unixTime) {
 
-        long epochTime = unixTime - UNIX_OFFSET;
-
         if (unixTime <= 0) {
             return unixTime;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        long epochTime = unixTime - UNIX_OFFSET;
+        Snapshot current = this.snapshot;
+        int index = countBelow(current.raws, epochTime) - 1;
 
-            if (lse.raw() < epochTime) {
-                return MathUtils.safeAdd(epochTime, lse.utc() - lse.raw());
-            }
+        if (index >= 0) {
+            return MathUtils.safeAdd(epochTime, current.diffs[index]);
         }
 
         return epochTime;
@@ -741,24 +748,120 @@ public final class LeapSeconds
             return utc + UNIX_OFFSET;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        boolean snls = this.supportsNegativeLS;
+        Snapshot current = this.snapshot;
+        int index = countBelow(current.stripLimits, utc) - 1;
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        if (index >= 0) {
+            utc = MathUtils.safeSubtract(utc, current.diffs[index]);
+        }
 
-            if (
-                (lse.utc() - lse.getShift() < utc)
-                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
-            ) {
-                utc = MathUtils.safeAdd(utc, lse.raw() - lse.utc());
-                break;
+        return utc + UNIX_OFFSET;
+
+    }
+
+    /**
+     * <p>Enhances all given UNIX-timestamps with leap seconds and replaces
+     * them in place by UTC-timestamps. </p>
+     *
+     * <p>Equivalent to calling {@link #enhance(long)} for every array
+     * element, but the leap second table is only queried once for the
+     * whole batch. Sorted input is especially fast. </p>
+     *
+     * @param   timestamps  elapsed times in seconds relative to UNIX epoch
+     *                      [1970-01-01T00:00:00Z] without leap seconds
+     *                      which will be overwritten by elapsed SI-seconds
+     *                      relative to UTC epoch [1972-01-01T00:00:00Z]
+     * @see     #enhance(long)
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Reichert alle angegebenen UNIX-Zeitstempel mit Schaltsekunden an
+     * und ersetzt sie im Array durch UTC-Zeitstempel. </p>
+     *
+     * <p>Gleichwertig zum Aufruf von {@link #enhance(long)} f&uuml;r jedes
+     * Array-Element, aber die Schaltsekundentabelle wird nur einmal f&uuml;r
+     * den ganzen Stapel abgefragt. Sortierte Eingaben sind besonders
+     * schnell. </p>
+     *
+     * @param   timestamps  elapsed times in seconds relative to UNIX epoch
+     *                      [1970-01-01T00:00:00Z] without leap seconds
+     *                      which will be overwritten by elapsed SI-seconds
+     *                      relative to UTC epoch [1972-01-01T00:00:00Z]
+     * @see     #enhance(long)
+     * @since   2.2
+     */
+    public void enhance(long[] timestamps) {
+
+        Snapshot current = this.snapshot;
+        int index = -1;
+
+        for (int i = 0; i < timestamps.length; i++) {
+            long unixTime = timestamps[i];
+
+            if (unixTime > 0) {
+                long epochTime = unixTime - UNIX_OFFSET;
+                index = floorIndex(current.raws, epochTime, index);
+
+                if (index >= 0) {
+                    epochTime =
+                        MathUtils.safeAdd(epochTime, current.diffs[index]);
+                }
+
+                timestamps[i] = epochTime;
             }
         }
 
-        return utc + UNIX_OFFSET;
+    }
+
+    /**
+     * <p>Converts all given UTC-timestamps in place to UNIX-timestamps
+     * without leap seconds. </p>
+     *
+     * <p>Equivalent to calling {@link #strip(long)} for every array
+     * element, but the leap second table is only queried once for the
+     * whole batch. Sorted input is especially fast. </p>
+     *
+     * @param   timestamps  elapsed SI-seconds relative to UTC epoch
+     *                      [1972-01-01T00:00:00Z] including leap seconds
+     *                      which will be overwritten by elapsed seconds
+     *                      relative to UNIX epoch [1970-01-01T00:00:00Z]
+     * @see     #strip(long)
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Konvertiert alle angegebenen UTC-Angaben im Array zu
+     * UNIX-Zeitstempeln ohne Schaltsekunden. </p>
+     *
+     * <p>Gleichwertig zum Aufruf von {@link #strip(long)} f&uuml;r jedes
+     * Array-Element, aber die Schaltsekundentabelle wird nur einmal f&uuml;r
+     * den ganzen Stapel abgefragt. Sortierte Eingaben sind besonders
+     * schnell. </p>
+     *
+     * @param   timestamps  elapsed SI-seconds relative to UTC epoch
+     *                      [1972-01-01T00:00:00Z] including leap seconds
+     *                      which will be overwritten by elapsed seconds
+     *                      relative to UNIX epoch [1970-01-01T00:00:00Z]
+     * @see     #strip(long)
+     * @since   2.2
+     */
+    public void strip(long[] timestamps) {
+
+        Snapshot current = this.snapshot;
+        int index = -1;
+
+        for (int i = 0; i < timestamps.length; i++) {
+            long utc = timestamps[i];
+
+            if (utc > 0) {
+                index = floorIndex(current.stripLimits, utc, index);
+
+                if (index >= 0) {
+                    utc = MathUtils.safeSubtract(utc, current.diffs[index]);
+                }
+            }
+
+            timestamps[i] = utc + UNIX_OFFSET;
+        }
 
     }
 
@@ -786,19 +889,14 @@ public final class LeapSeconds
             return false;
         }
 
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            long comp = events[i].utc();
-
-            if (comp == utc) {
-                return (events[i].getShift() == 1);
-            } else if (comp < utc) {
-                break;
-            }
-        }
+        Snapshot current = this.snapshot;
+        int index = countBelow(current.utcs, utc);
 
-        return false;
+        return (
+            (index < current.utcs.length)
+            && (current.utcs[index] == utc)
+            && (current.shifts[index] == 1)
+        );
 
     }
 
@@ -820,15 +918,15 @@ public final class LeapSeconds
         sb.append(this.provider);
         sb.append(",EVENTS=[");
 
-        if (this.isEnabled()) {
-            boolean first = true;
-            for (Object event : this.list) {
-                if (first) {
-                    first = false;
-                } else {
+        ExtendedLSE[] events = this.snapshot.events;
+
+        if (events.length > 0) {
+            // aufsteigende Reihenfolge
+            for (int i = events.length - 1; i >= 0; i--) {
+                sb.append(events[i]);
+                if (i > 0) {
                     sb.append('|');
                 }
-                sb.append(event);
             }
         } else {
             sb.append("NOT SUPPORTED");
@@ -859,14 +957,19 @@ public final class LeapSeconds
                 + "and reboot of JVM.");
         }
 
-        synchronized (this) {
-            GregorianMath.checkDate(year, month, dayOfMonth);
+        GregorianMath.checkDate(year, month, dayOfMonth);
+        GregorianDate newLS = new IsoDate(year, month, dayOfMonth);
+        int shift = (negativeLS ? -1 : 1);
+
+        // optimistisch ohne Sperre: bei Konkurrenz erneut versuchen
+        while (true) {
+            Snapshot current = this.snapshot;
 
-            if (!this.isEnabled()) {
+            if (current.events.length == 0) {
                 throw new IllegalStateException("Leap seconds not activated.");
             }
 
-            ExtendedLSE last = this.reverseVolatile[0];
+            ExtendedLSE last = current.events[0];
             GregorianDate date = last.getDate();
             boolean ok = false;
 
@@ -887,23 +990,72 @@ public final class LeapSeconds
                     "New leap second must be after last leap second.");
             }
 
-            GregorianDate newLS = new IsoDate(year, month, dayOfMonth);
-            int shift = (negativeLS ? -1 : 1);
-            this.list.add(createLSE(newLS, shift, last));
-            this.reverseVolatile = this.initReverse();
+            Snapshot next = current.append(createLSE(newLS, shift, last));
+
+            if (SNAPSHOT_UPDATER.compareAndSet(this, current, next)) {
+                break;
+            }
         }
 
     }
 
-    // Ereignisse in zeitlich absteigender Reihenfolge auf (das neueste zuerst)
-    private ExtendedLSE[] getEventsInDescendingOrder() {
+    // Anzahl der Elemente kleiner als der Schlüssel (binäre Suche)
+    private static int countBelow(
+        long[] sorted,
+        long key
+    ) {
 
-        if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
-            return this.reverseFinal;
-        } else {
-            return this.reverseVolatile;
+        int high = sorted.length;
+
+        // schneller Test für Zeitpunkte nach der letzten Schaltsekunde
+        if ((high == 0) || (sorted[high - 1] < key)) {
+            return high;
+        }
+
+        int low = 0;
+        high--;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
 
+        return low;
+
+    }
+
+    // größter Index mit einem Element kleiner als der Schlüssel oder -1,
+    // wobei der Index des vorherigen Aufrufs zuerst probiert wird
+    private static int floorIndex(
+        long[] sorted,
+        long key,
+        int hint
+    ) {
+
+        if (
+            (hint >= 0)
+            && (sorted[hint] < key)
+            && ((hint == sorted.length - 1) || (sorted[hint + 1] >= key))
+        ) {
+            return hint;
+        }
+
+        return countBelow(sorted, key) - 1;
+
+    }
+
+    private static long toDateKey(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return ((year * 16L + month) * 32L + dayOfMonth);
+
     }
 
     private static void extend(SortedSet<ExtendedLSE> sortedColl) {
@@ -968,19 +1120,102 @@ public final class LeapSeconds
 
     }
 
-    private ExtendedLSE[] initReverse() {
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Unver&auml;nderlicher versionierter Zustand der Schaltsekunden mit
+     * parallelen primitiven Arrays in aufsteigender Reihenfolge f&uuml;r die
+     * bin&auml;re Suche. </p>
+     *
+     * <p>Wird als Ganzes &uuml;ber eine einzige volatile Referenz
+     * ver&ouml;ffentlicht, so da&szlig; Leser immer eine konsistente Tabelle
+     * sehen. </p>
+     */
+    private static class Snapshot {
+
+        //~ Instanzvariablen ----------------------------------------------
 
-        List<ExtendedLSE> tmp =
-            new ArrayList<ExtendedLSE>(this.list.size());
-        tmp.addAll(this.list);
-        Collections.reverse(tmp);
-        return tmp.toArray(new ExtendedLSE[tmp.size()]);
+        private final long version;
+        private final boolean snls;
 
-    }
+        // Ereignisse in absteigender Reihenfolge (das neueste zuerst)
+        private final ExtendedLSE[] events;
 
-    //~ Innere Klassen ----------------------------------------------------
+        private final long[] raws;
+        private final long[] utcs;
+        private final long[] diffs;
+        private final long[] stripLimits;
+        private final long[] dates;
+        private final int[] shifts;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Snapshot(
+            List<ExtendedLSE> ascending,
+            boolean snls,
+            long version
+        ) {
+            super();
+
+            int n = ascending.size();
+
+            this.version = version;
+            this.snls = snls;
+
+            this.events = new ExtendedLSE[n];
+            this.raws = new long[n];
+            this.utcs = new long[n];
+            this.diffs = new long[n];
+            this.stripLimits = new long[n];
+            this.dates = new long[n];
+            this.shifts = new int[n];
+
+            int i = 0;
+
+            for (ExtendedLSE lse : ascending) {
+                GregorianDate date = lse.getDate();
+                int shift = lse.getShift();
+                this.events[n - 1 - i] = lse;
+                this.raws[i] = lse.raw();
+                this.utcs[i] = lse.utc();
+                this.diffs[i] = lse.utc() - lse.raw();
+                this.dates[i] =
+                    toDateKey(
+                        date.getYear(), date.getMonth(), date.getDayOfMonth());
+                this.shifts[i] = shift;
+
+                // UTC-Zeitpunkte ab hier werden um diffs[i] vermindert
+                if (snls && (shift < 0)) {
+                    this.stripLimits[i] = lse.utc();
+                } else {
+                    this.stripLimits[i] = lse.utc() - shift;
+                }
+
+                i++;
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // neuer Zustand mit einem zusätzlichen jüngsten Ereignis
+        Snapshot append(ExtendedLSE lse) {
+
+            int n = this.events.length;
+            List<ExtendedLSE> ascending = new ArrayList<ExtendedLSE>(n + 1);
+
+            for (int i = n - 1; i >= 0; i--) {
+                ascending.add(this.events[i]);
+            }
+
+            ascending.add(lse);
+            return new Snapshot(ascending, this.snls, this.version + 1);
+
+        }
+
+    }
 
-    private static class IsoDate
+    static class IsoDate
         implements GregorianDate, Serializable {
 
         //~ Statische Felder/Initialisierungen ----------------------------
@@ -1259,7 +1259,12 @@ public abstract class Timezone
                 long localSecs = toLocalSeconds(y, m, d, h, min, s);
                 ZonalTransition t = history.getConflictTransition(date, time);
 
-                if ((t != null) && t.isGap()) {
+                if (t == null) {
+                    // kein Konflikt: genau ein gültiger Offset
+                    ZonalOffset offset =
+                        history.getValidOffsets(date, time).get(0);
+                    return localSecs - offset.getIntegralAmount();
+                } else if (t.isGap()) {
                     if (this == STRICT) {
                         this.throwInvalidException(date, time, tz);
                     }
@@ -1,5 +1,6 @@
 package net.time4j;
 
+import net.time4j.columnar.ColumnarSuite;
 import net.time4j.format.FormatSuite;
 import net.time4j.scale.ScaleSuite;
 import net.time4j.tz.ZoneSuite;
@@ -13,13 +14,16 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         TestInitialization.class,
+        ColumnarSuite.class,
         ComponentElementTest.class,
         DateSuite.class,
         DurationSuite.class,
         OperatorSuite.class,
         FormatSuite.class,
+        IsoWriterTest.class,
         ScaleSuite.class,
         SerializationTest.class,
+        TemporalCodecTest.class,
         TemporalTypeTest.class,
         TimeLineTest.class,
         TimeSuite.class,
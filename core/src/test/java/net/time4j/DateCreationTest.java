@@ -10,6 +10,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 
@@ -286,4 +288,67 @@ public class DateCreationTest {
         is(PlainDate.of(1970, 1, 1)));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void internedWithinWindow() {
+        PlainDate.Interning cache = new FixedInterning(10, 57000);
+        PlainDate date = cache.get(2014, 12, 9); // MJD 57000
+        assertThat(date, is(PlainDate.of(2014, 12, 9)));
+        assertThat(cache.get(2014, 12, 9), sameInstance(date));
+        assertThat(
+            cache.get(2014, 12, 4), // MJD 56995
+            sameInstance(cache.get(2014, 12, 4)));
+        assertThat(
+            cache.get(2014, 12, 13), // MJD 57004
+            sameInstance(cache.get(2014, 12, 13)));
+        assertThat(
+            cache.get(2014, 12, 3),
+            not(sameInstance(cache.get(2014, 12, 3))));
+        assertThat(
+            cache.get(2014, 12, 14),
+            not(sameInstance(cache.get(2014, 12, 14))));
+    }
+
+    @Test
+    public void internedWindowRolls() {
+        FixedInterning cache = new FixedInterning(8, 57000);
+        cache.todayMJD = 57001;
+        cache.get(2014, 12, 20);
+        assertThat(
+            cache.get(2014, 12, 5), // MJD 56996
+            sameInstance(cache.get(2014, 12, 5)));
+        cache.todayMJD = 57010;
+        cache.get(2014, 12, 20);
+        assertThat(
+            cache.get(2014, 12, 21), // MJD 57012
+            sameInstance(cache.get(2014, 12, 21)));
+        assertThat(
+            cache.get(2014, 12, 5),
+            not(sameInstance(cache.get(2014, 12, 5))));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void internedInvalidDate() {
+        new FixedInterning(10, 57000).get(2014, 2, 29);
+    }
+
+    private static class FixedInterning
+        extends PlainDate.Interning {
+
+        private long todayMJD;
+
+        FixedInterning(
+            int window,
+            long todayMJD
+        ) {
+            super(window, todayMJD);
+            this.todayMJD = todayMJD;
+        }
+
+        @Override
+        long today() {
+            return this.todayMJD;
+        }
+
+    }
+
+}
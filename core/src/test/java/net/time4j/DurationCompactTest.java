@@ -0,0 +1,149 @@
+package net.time4j;
+
+import net.time4j.engine.TimeSpan.Item;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static net.time4j.CalendarUnit.DAYS;
+import static net.time4j.CalendarUnit.MONTHS;
+import static net.time4j.CalendarUnit.QUARTERS;
+import static net.time4j.CalendarUnit.WEEKS;
+import static net.time4j.CalendarUnit.YEARS;
+import static net.time4j.ClockUnit.HOURS;
+import static net.time4j.ClockUnit.MICROS;
+import static net.time4j.ClockUnit.MILLIS;
+import static net.time4j.ClockUnit.MINUTES;
+import static net.time4j.ClockUnit.NANOS;
+import static net.time4j.ClockUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class DurationCompactTest {
+
+    private static final IsoUnit[] UNITS = {
+        YEARS, QUARTERS, MONTHS, WEEKS, DAYS,
+        HOURS, MINUTES, SECONDS, MILLIS, MICROS, NANOS
+    };
+
+    @Test
+    public void compactEqualsGeneric() {
+        Duration<IsoUnit> compact =
+            Duration.ofPositive().years(1).months(2).days(3)
+                .hours(4).minutes(5).seconds(6).millis(7).build();
+        Duration<IsoUnit> generic = generic(compact);
+        assertThat(compact.equals(generic), is(true));
+        assertThat(generic.equals(compact), is(true));
+        assertThat(compact.hashCode(), is(generic.hashCode()));
+        assertThat(compact.getTotalLength(), is(generic.getTotalLength()));
+        assertThat(compact.toString(), is("P1Y2M3DT4H5M6,007000000S"));
+        assertThat(
+            compact.inverse().toString(),
+            is(generic.inverse().toString()));
+    }
+
+    @Test
+    public void partialAmountOfFraction() {
+        Duration<ClockUnit> dur = Duration.of(123456789, NANOS);
+        assertThat(dur.getPartialAmount(MILLIS), is(123L));
+        assertThat(dur.getPartialAmount(MICROS), is(123456L));
+        assertThat(dur.getPartialAmount(NANOS), is(123456789L));
+        assertThat(dur.getPartialAmount(SECONDS), is(0L));
+        assertThat(dur.contains(MILLIS), is(true));
+        assertThat(dur.contains(HOURS), is(false));
+        assertThat(
+            Duration.of(5, MILLIS).getPartialAmount(NANOS),
+            is(5000000L));
+    }
+
+    @Test
+    public void plusSingleUnitLikeGeneric() {
+        Duration<IsoUnit> compact =
+            Duration.ofPositive().months(2).days(3).hours(4).build();
+        Duration<IsoUnit> generic = generic(compact);
+
+        for (IsoUnit unit : UNITS) {
+            for (long amount = -5; amount <= 5; amount++) {
+                assertThat(
+                    result(compact, amount, unit),
+                    is(result(generic, amount, unit)));
+                assertThat(
+                    result(compact.inverse(), amount, unit),
+                    is(result(generic.inverse(), amount, unit)));
+            }
+        }
+    }
+
+    @Test
+    public void plusTimeSpanLikeGeneric() {
+        Duration<IsoUnit> a =
+            Duration.ofPositive().years(1).days(3).minutes(4).build();
+        Duration<IsoUnit> b =
+            Duration.ofNegative().days(3).minutes(1).millis(5).build();
+        assertThat(a.plus(b), is(generic(a).plus(generic(b))));
+        assertThat(
+            b.plus(a.inverse()),
+            is(generic(b).plus(generic(a).inverse())));
+        assertThat(a.plus(a), is(a.multipliedBy(2)));
+        assertThat(a.plus(a.inverse()).isEmpty(), is(true));
+    }
+
+    @Test
+    public void normalizeLikeGeneric() {
+        Duration<IsoUnit> compact =
+            Duration.ofPositive().years(1).months(14).days(40)
+                .hours(30).minutes(90).seconds(3700).millis(1500).build();
+        assertThat(
+            compact.with(Duration.STD_PERIOD),
+            is(generic(compact).with(Duration.STD_PERIOD)));
+        assertThat(
+            compact.with(Duration.STD_PERIOD).toString(),
+            is("P2Y2M41DT8H31M41,500000000S"));
+        Duration<CalendarUnit> weeks = Duration.of(3, WEEKS);
+        assertThat(
+            weeks.with(Duration.STD_CALENDAR_PERIOD),
+            is(generic(weeks).with(Duration.STD_CALENDAR_PERIOD)));
+        Duration<ClockUnit> clock = Duration.ofClockUnits(30, 90, 3700);
+        assertThat(
+            clock.with(Duration.STD_CLOCK_PERIOD),
+            is(Duration.ofClockUnits(32, 31, 40)));
+    }
+
+    @Test
+    public void emptyAfterSubtraction() {
+        Duration<CalendarUnit> dur = Duration.of(3, DAYS).plus(-3, DAYS);
+        assertThat(dur.isEmpty(), is(true));
+        assertThat(dur.isNegative(), is(false));
+        assertThat(dur, is(Duration.<CalendarUnit>ofZero()));
+        assertThat(dur.getTotalLength().isEmpty(), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeCalendarAmount() {
+        Duration.ofCalendarUnits(1, -1, 0);
+    }
+
+    private static <U extends IsoUnit> Duration<U> generic(Duration<U> dur) {
+        List<Item<U>> items = new ArrayList<Item<U>>(dur.getTotalLength());
+        return new Duration<U>(items, dur.isNegative());
+    }
+
+    private static Object result(
+        Duration<IsoUnit> dur,
+        long amount,
+        IsoUnit unit
+    ) {
+        try {
+            return dur.plus(amount, unit);
+        } catch (IllegalStateException ise) {
+            return "mixed signs";
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package net.time4j;
+
+import net.time4j.engine.TimeSpan;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class DurationFastPathTest {
+
+    private static final Duration<CalendarUnit> CALENDAR_DURATIONS[] = build();
+
+    @Test
+    public void plusCalendarUnitsLikeStandardAlgorithm() {
+        PlainDate date = PlainDate.of(1999, 12, 25);
+        for (int i = 0; i < 1000; i++) {
+            for (Duration<CalendarUnit> dur : CALENDAR_DURATIONS) {
+                assertThat(date.plus(dur), is(dur.addTo(date)));
+                assertThat(
+                    date.plus(dur.inverse()),
+                    is(dur.inverse().addTo(date)));
+            }
+            date = date.plus(1, CalendarUnit.DAYS);
+        }
+    }
+
+    @Test
+    public void minusCalendarUnitsLikeStandardAlgorithm() {
+        PlainDate date = PlainDate.of(2012, 1, 28);
+        for (int i = 0; i < 1000; i++) {
+            for (Duration<CalendarUnit> dur : CALENDAR_DURATIONS) {
+                assertThat(date.minus(dur), is(dur.subtractFrom(date)));
+                assertThat(
+                    date.minus(dur.inverse()),
+                    is(dur.inverse().subtractFrom(date)));
+            }
+            date = date.plus(1, CalendarUnit.DAYS);
+        }
+    }
+
+    @Test
+    public void endOfMonth() {
+        Duration<CalendarUnit> dur = Duration.ofCalendarUnits(0, 1, 1);
+        assertThat(
+            PlainDate.of(2015, 1, 31).plus(dur),
+            is(PlainDate.of(2015, 3, 1)));
+        assertThat(
+            PlainDate.of(2015, 3, 31).minus(dur),
+            is(PlainDate.of(2015, 2, 28)));
+        assertThat(
+            PlainDate.of(2016, 3, 31).minus(dur),
+            is(PlainDate.of(2016, 2, 29)));
+    }
+
+    @Test
+    public void plusMixedUnitsLikeStandardAlgorithm() {
+        Duration<?>[] durations = {
+            Duration.ofClockUnits(25, 0, 0),
+            Duration.ofClockUnits(0, 0, 86401).plus(999999999, ClockUnit.NANOS),
+            Duration.ofPositive().months(1).days(2).hours(47).build(),
+            Duration.ofPositive().years(1).minutes(1441).millis(1).build(),
+            Duration.ofNegative().days(21).seconds(3599).micros(7).build(),
+            Duration.ofNegative().months(3).hours(23).nanos(1).build(),
+            Duration.ofClockUnits(0, 0, 0)
+        };
+        PlainTimestamp tsp = PlainTimestamp.of(2014, 2, 27, 23, 59, 59);
+        for (int i = 0; i < 500; i++) {
+            for (Duration<?> d : durations) {
+                check(tsp, d);
+                check(tsp, d.inverse());
+            }
+            tsp = tsp.plus(7, ClockUnit.HOURS).plus(123457, ClockUnit.MICROS);
+        }
+    }
+
+    @Test
+    public void unchangedForEmptyDuration() {
+        PlainTimestamp tsp = PlainTimestamp.of(2014, 2, 27, 23, 59, 59);
+        assertThat(
+            tsp.plus(Duration.of(0, ClockUnit.HOURS)) == tsp,
+            is(true));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void overflow() {
+        PlainDate.of(999999999, 12, 1).plus(
+            Duration.of(1, CalendarUnit.MONTHS));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void check(
+        PlainTimestamp tsp,
+        Duration<?> dur
+    ) {
+        TimeSpan<IsoUnit> span = (TimeSpan<IsoUnit>) dur;
+        assertThat(tsp.plus(span), is(span.addTo(tsp)));
+        assertThat(tsp.minus(span), is(span.subtractFrom(tsp)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Duration<CalendarUnit>[] build() {
+        return new Duration[] {
+            Duration.ofCalendarUnits(0, 0, 0),
+            Duration.ofCalendarUnits(0, 0, 1),
+            Duration.ofCalendarUnits(0, 1, 0),
+            Duration.ofCalendarUnits(1, 0, 0),
+            Duration.ofCalendarUnits(0, 1, 30),
+            Duration.ofCalendarUnits(4, 13, 370),
+            Duration.of(1, CalendarUnit.QUARTERS).plus(2, CalendarUnit.WEEKS),
+            Duration.of(2, CalendarUnit.DECADES).plus(
+                Duration.ofCalendarUnits(0, 11, 29)),
+            Duration.of(1, CalendarUnit.CENTURIES).plus(3, CalendarUnit.YEARS)
+        };
+    }
+
+}
@@ -0,0 +1,179 @@
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.AbstractMetric;
+import net.time4j.engine.TimeMetric;
+import net.time4j.engine.TimeSpan;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static net.time4j.CalendarUnit.DAYS;
+import static net.time4j.CalendarUnit.DECADES;
+import static net.time4j.CalendarUnit.MONTHS;
+import static net.time4j.CalendarUnit.QUARTERS;
+import static net.time4j.CalendarUnit.WEEKS;
+import static net.time4j.CalendarUnit.YEARS;
+import static net.time4j.ClockUnit.HOURS;
+import static net.time4j.ClockUnit.MINUTES;
+import static net.time4j.ClockUnit.NANOS;
+import static net.time4j.ClockUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class DurationMetricTest {
+
+    private static final IsoUnit[][] TIMESTAMP_UNITS = {
+        {YEARS, MONTHS, DAYS},
+        {YEARS, MONTHS, DAYS, HOURS, MINUTES, SECONDS},
+        {YEARS, MONTHS, DAYS, HOURS, MINUTES, SECONDS, NANOS},
+        {YEARS, MONTHS, WEEKS, DAYS, HOURS},
+        {DECADES, QUARTERS, DAYS, MINUTES},
+        {MONTHS, HOURS},
+        {WEEKS, DAYS, SECONDS, NANOS},
+        {DAYS, HOURS, MINUTES},
+        {HOURS, MINUTES, SECONDS, NANOS},
+        {MINUTES, NANOS},
+        {YEARS},
+        {DAYS},
+        {SECONDS},
+        {NANOS}
+    };
+
+    private static final CalendarUnit[][] DATE_UNITS = {
+        {YEARS, MONTHS, DAYS},
+        {YEARS, MONTHS, WEEKS, DAYS},
+        {DECADES, YEARS, QUARTERS, MONTHS},
+        {YEARS, DAYS},
+        {MONTHS, DAYS},
+        {WEEKS, DAYS},
+        {QUARTERS},
+        {WEEKS}
+    };
+
+    @Test
+    public void timestampsLikeGenericMetric() {
+        Random random = new Random(4711);
+
+        for (IsoUnit[] units : TIMESTAMP_UNITS) {
+            TimeMetric<IsoUnit, Duration<IsoUnit>> fast = Duration.in(units);
+            TimeMetric<IsoUnit, Duration<IsoUnit>> generic = generic(units);
+
+            for (int i = 0; i < 2000; i++) {
+                PlainTimestamp t1 = randomTimestamp(random);
+                PlainTimestamp t2 = randomTimestamp(random);
+                assertThat(
+                    fast.between(t1, t2),
+                    is(generic.between(t1, t2)));
+                assertThat(
+                    fast.between(t2, t1),
+                    is(generic.between(t2, t1)));
+            }
+        }
+    }
+
+    @Test
+    public void datesLikeGenericMetric() {
+        Random random = new Random(815);
+
+        for (CalendarUnit[] units : DATE_UNITS) {
+            TimeMetric<CalendarUnit, Duration<CalendarUnit>> fast =
+                Duration.in(units);
+            TimeMetric<CalendarUnit, Duration<CalendarUnit>> generic =
+                generic(units);
+
+            for (int i = 0; i < 2000; i++) {
+                PlainDate d1 = randomTimestamp(random).getCalendarDate();
+                PlainDate d2 = randomTimestamp(random).getCalendarDate();
+                assertThat(
+                    fast.between(d1, d2),
+                    is(generic.between(d1, d2)));
+            }
+        }
+    }
+
+    @Test
+    public void endOfMonthWithTime() {
+        TimeMetric<IsoUnit, Duration<IsoUnit>> metric =
+            Duration.<IsoUnit>in(YEARS, MONTHS, DAYS, HOURS, MINUTES);
+        assertThat(
+            metric.between(
+                PlainTimestamp.of(2015, 1, 31, 10, 0),
+                PlainTimestamp.of(2015, 2, 28, 9, 30)),
+            is(Duration.ofPositive().days(27).hours(23).minutes(30).build()));
+        assertThat(
+            metric.between(
+                PlainTimestamp.of(2014, 2, 28, 10, 0),
+                PlainTimestamp.of(2015, 2, 28, 9, 30)),
+            is(
+                Duration.ofPositive().months(11).days(30)
+                    .hours(23).minutes(30).build()));
+        assertThat(
+            Duration.inYearsMonthsDays().between(
+                PlainDate.of(2015, 3, 31),
+                PlainDate.of(2012, 2, 29)),
+            is(Duration.ofCalendarUnits(3, 1, 2).inverse()));
+    }
+
+    @Test
+    public void zonalMetricUsesFastPath() {
+        PlainTimestamp start = PlainTimestamp.of(2012, 2, 29, 17, 45, 30);
+        PlainTimestamp end = PlainTimestamp.of(2015, 3, 31, 8, 15);
+        assertThat(
+            Duration.in(
+                Timezone.of(ZonalOffset.UTC),
+                YEARS, MONTHS, DAYS, HOURS, MINUTES, SECONDS
+            ).between(start, end),
+            is(
+                DurationMetricTest.<IsoUnit>generic(
+                    YEARS, MONTHS, DAYS, HOURS, MINUTES, SECONDS
+                ).between(start, end)));
+    }
+
+    private static PlainTimestamp randomTimestamp(Random random) {
+        int year = 1998 + random.nextInt(5);
+        int month = 1 + random.nextInt(12);
+        int len = GregorianMath.getLengthOfMonth(year, month);
+        int dom = (
+            random.nextBoolean()
+            ? 27 + random.nextInt(len - 26)
+            : 1 + random.nextInt(len));
+        int hour = (random.nextBoolean() ? 0 : random.nextInt(24));
+        int minute = random.nextInt(60);
+        int second = random.nextInt(60);
+        int nano = (random.nextBoolean() ? 0 : random.nextInt(1000000000));
+        return PlainTimestamp.of(
+            PlainDate.of(year, month, dom),
+            PlainTime.of(hour, minute, second, nano));
+    }
+
+    private static <U extends IsoUnit> TimeMetric<U, Duration<U>> generic(
+        U... units
+    ) {
+        return new AbstractMetric<U, Duration<U>>(units.length > 1, units) {
+            @Override
+            protected Duration<U> createEmptyTimeSpan() {
+                return Duration.ofZero();
+            }
+            @Override
+            protected Duration<U> createTimeSpan(
+                List<TimeSpan.Item<U>> items,
+                boolean negative
+            ) {
+                return new Duration<U>(
+                    new ArrayList<TimeSpan.Item<U>>(items),
+                    negative);
+            }
+        };
+    }
+
+}
@@ -12,7 +12,10 @@ import org.junit.runners.Suite.SuiteClasses;
         ClockDurationTest.class,
         DurationArithmeticTest.class,
         DurationBasicsTest.class,
+        DurationCompactTest.class,
+        DurationFastPathTest.class,
         DurationFormatterTest.class,
+        DurationMetricTest.class,
         DurationNormalizerTest.class,
         DurationUntilTest.class,
         MachineTimeTest.class
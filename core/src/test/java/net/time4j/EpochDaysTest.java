@@ -1,5 +1,6 @@
 package net.time4j;
 
+import net.time4j.base.GregorianMath;
 import net.time4j.engine.EpochDays;
 
 import org.junit.Test;
@@ -168,4 +169,34 @@ public class EpochDaysTest {
             is(daysJDN));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void consecutiveDaysAroundFastRange() {
+        long mjd = GregorianMath.toMJD(1899, 12, 1);
+        long end = GregorianMath.toMJD(2100, 3, 31);
+        int year = 1899;
+        int month = 12;
+        int dom = 1;
+        int dow = GregorianMath.getDayOfWeek(1899, 12, 1);
+        while (mjd <= end) {
+            long packed = GregorianMath.toPackedDate(mjd);
+            assertThat(GregorianMath.readYear(packed), is(year));
+            assertThat(GregorianMath.readMonth(packed), is(month));
+            assertThat(GregorianMath.readDayOfMonth(packed), is(dom));
+            assertThat(GregorianMath.toMJD(year, month, dom), is(mjd));
+            assertThat(GregorianMath.getDayOfWeek(year, month, dom), is(dow));
+            mjd++;
+            dow = (dow % 7) + 1;
+            if (dom < GregorianMath.getLengthOfMonth(year, month)) {
+                dom++;
+            } else if (month < 12) {
+                month++;
+                dom = 1;
+            } else {
+                year++;
+                month = 1;
+                dom = 1;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IsoWriterTest {
+
+    @Test
+    public void momentWithLeapSecond() {
+        Moment ls =
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(
+                1000000210, SI.NANOSECONDS);
+        assertThat(ls.toString(), is("2012-06-30T23:59:60,000000210Z"));
+        assertThat(write(ls), is("2012-06-30T23:59:60,000000210Z"));
+        assertThat(
+            ls.toString(TimeScale.POSIX),
+            is("POSIX-2012-06-30T23:59:59,000000210Z"));
+        assertThat(
+            ls.toString(TimeScale.UTC),
+            is("UTC-2012-06-30T23:59:60,000000210Z"));
+        assertThat(
+            ls.toString(TimeScale.TAI),
+            is("TAI-2012-07-01T00:00:34,000000210Z"));
+        assertThat(
+            ls.toString(TimeScale.GPS),
+            is("GPS-2012-07-01T00:00:15,000000210Z"));
+    }
+
+    @Test
+    public void momentInTimeScaleWithMillisecondFraction() {
+        Moment m = Moment.of(1422777599L, 90000000, TimeScale.POSIX);
+        assertThat(m.toString(), is("2015-02-01T07:59:59,090000000Z"));
+        assertThat(
+            m.toString(TimeScale.UTC),
+            is("UTC-2015-02-01T07:59:59,090000000Z"));
+        assertThat(
+            m.toString(TimeScale.POSIX),
+            is("POSIX-2015-02-01T07:59:59,090Z"));
+        assertThat(
+            m.toString(TimeScale.TAI),
+            is("TAI-2015-02-01T08:00:34,090Z"));
+        assertThat(
+            m.toString(TimeScale.GPS),
+            is("GPS-2015-02-01T08:00:15,090Z"));
+    }
+
+    @Test
+    public void momentAtExtremeYears() {
+        Moment min = Moment.axis().getMinimum();
+        Moment max = Moment.axis().getMaximum();
+        assertThat(min.toString(), is("-999999999-01-01T00:00:00Z"));
+        assertThat(
+            max.toString(),
+            is("+999999999-12-31T23:59:59,999999999Z"));
+        assertThat(write(max).length(), is(IsoWriter.MAX_LENGTH));
+        assertThat(
+            Moment.of(-62135596801L, TimeScale.POSIX).toString(),
+            is("0000-12-31T23:59:59Z"));
+    }
+
+    @Test
+    public void writeMomentAsPosixTime() {
+        char[] buffer = new char[IsoWriter.MAX_LENGTH + 2];
+        buffer[0] = '[';
+        int end = IsoWriter.writeMoment(1422777599L, 123000000, buffer, 1);
+        buffer[end++] = ']';
+        assertThat(
+            new String(buffer, 0, end),
+            is("[2015-02-01T07:59:59,123000000Z]"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void writeMomentWithInvalidNanosecond() {
+        IsoWriter.writeMoment(0, -1, new char[IsoWriter.MAX_LENGTH], 0);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void writeMomentOutOfRange() {
+        IsoWriter.writeMoment(
+            Moment.axis().getMaximum().getPosixTime() + 1,
+            0,
+            new char[IsoWriter.MAX_LENGTH],
+            0);
+    }
+
+    @Test
+    public void plainDate() throws IOException {
+        assertThat(PlainDate.of(2014, 4, 5).toString(), is("2014-04-05"));
+        assertThat(PlainDate.of(-5, 12, 31).toString(), is("-0005-12-31"));
+        assertThat(PlainDate.of(12345, 1, 1).toString(), is("+12345-01-01"));
+        assertThat(
+            PlainDate.of(-12345, 1, 1).toString(),
+            is("-12345-01-01"));
+        StringBuilder sb = new StringBuilder("date=");
+        IsoWriter.write(PlainDate.of(999, 10, 9), sb);
+        assertThat(sb.toString(), is("date=0999-10-09"));
+    }
+
+    @Test
+    public void plainTimestamp() throws IOException {
+        PlainTimestamp tsp = PlainTimestamp.of(2014, 4, 5, 17, 0);
+        assertThat(tsp.toString(), is("2014-04-05T17"));
+        assertThat(
+            tsp.plus(30, ClockUnit.MINUTES).toString(),
+            is("2014-04-05T17:30"));
+        assertThat(
+            tsp.plus(5, ClockUnit.SECONDS).toString(),
+            is("2014-04-05T17:00:05"));
+        assertThat(
+            tsp.plus(5, ClockUnit.MILLIS).toString(),
+            is("2014-04-05T17:00:00,005"));
+        assertThat(
+            tsp.plus(12345, ClockUnit.MICROS).toString(),
+            is("2014-04-05T17:00:00,012345"));
+        assertThat(
+            tsp.plus(7, ClockUnit.NANOS).toString(),
+            is("2014-04-05T17:00:00,000000007"));
+        StringBuilder sb = new StringBuilder();
+        IsoWriter.write(tsp, sb);
+        assertThat(sb.toString(), is(tsp.toString()));
+    }
+
+    @Test
+    public void plainTime() {
+        assertThat(PlainTime.midnightAtEndOfDay().toString(), is("T24"));
+        assertThat(
+            PlainTime.of(9, 8, 7, 120000000).toString(),
+            is("T09:08:07,120"));
+    }
+
+    @Test
+    public void appendableEqualsArray() throws IOException {
+        Moment m = PlainTimestamp.of(1969, 12, 31, 23, 59, 59).atUTC();
+        for (int i = 0; i < 1000; i++) {
+            m = m.plus(i * 987654321L, TimeUnit.NANOSECONDS);
+            StringBuilder sb = new StringBuilder();
+            IsoWriter.write(m, sb);
+            assertThat(sb.toString(), is(m.toString()));
+            assertThat(write(m), is(m.toString()));
+        }
+    }
+
+    private static String write(Moment moment) {
+        char[] buffer = new char[IsoWriter.MAX_LENGTH];
+        return new String(buffer, 0, IsoWriter.write(moment, buffer, 0));
+    }
+
+}
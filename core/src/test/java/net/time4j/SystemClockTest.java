@@ -0,0 +1,83 @@
+package net.time4j;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class SystemClockTest {
+
+    @Test
+    public void adjustSmallDeviationSlowly() {
+        // 60 Sekunden mit 500 ppm => höchstens 30 ms
+        assertThat(SystemClock.adjust(0, 100000000, 60), is(30000000L));
+        assertThat(SystemClock.adjust(0, -100000000, 60), is(-30000000L));
+        assertThat(SystemClock.adjust(5, 1000005, 60), is(1000005L));
+    }
+
+    @Test
+    public void adjustBigDeviationImmediately() {
+        assertThat(SystemClock.adjust(0, 1000000001, 60), is(1000000001L));
+        long hour = 3600000000000L;
+        assertThat(SystemClock.adjust(0, -hour, 1), is(-hour));
+    }
+
+    @Test
+    public void convergence() {
+        long offset = 0;
+        for (int i = 0; i < 34; i++) {
+            offset = SystemClock.adjust(offset, 999999999, 60);
+        }
+        assertThat(offset, is(999999999L));
+    }
+
+    @Test
+    public void correctionSpreadOverPeriod() {
+        SystemClock.Calibration c =
+            new SystemClock.Calibration(0, 0, 0, 0).next(1000, 100000000, 60);
+        assertThat(c.getOffset(1000), is(0L));
+        assertThat(c.getOffset(1000 + 30000000000L), is(15000000L));
+        assertThat(c.getOffset(1000 + 60000000000L), is(30000000L));
+        assertThat(c.getOffset(1000 + 120000000000L), is(30000000L));
+    }
+
+    @Test
+    public void neverBackwardsWhileSlewing() {
+        SystemClock.Calibration c =
+            new SystemClock.Calibration(0, 0, 0, 0).next(0, -100000000, 60);
+        long last = Long.MIN_VALUE;
+        for (long t = 0; t <= 70000000000L; t += 999999937L) {
+            long nanos = t + c.getOffset(t);
+            assertThat(nanos > last, is(true));
+            last = nanos;
+        }
+        assertThat(c.getOffset(70000000000L), is(-30000000L));
+    }
+
+    @Test
+    public void bigBackwardStepAcceptedAtOnce() {
+        long hour = 3600000000000L;
+        SystemClock.Calibration c =
+            new SystemClock.Calibration(0, 0, 0, 0).next(1000, -hour, 60);
+        assertThat(c.getOffset(1000), is(-hour));
+        // die Uhr läuft nach dem Sprung sofort weiter
+        assertThat(
+            2000 + c.getOffset(2000) > 1000 + c.getOffset(1000),
+            is(true));
+    }
+
+    @Test
+    public void currentTimeNearSystemTime() {
+        long millis = System.currentTimeMillis();
+        long micros = SystemClock.INSTANCE.currentTimeInMicros();
+        assertThat(Math.abs(micros / 1000 - millis) < 1000, is(true));
+        assertThat(
+            SystemClock.INSTANCE.currentTime().getPosixTime() >= millis / 1000,
+            is(true));
+    }
+
+}
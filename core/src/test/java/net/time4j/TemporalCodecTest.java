@@ -0,0 +1,189 @@
+package net.time4j;
+
+import net.time4j.engine.TimeSpan.Item;
+import net.time4j.scale.TimeScale;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TemporalCodecTest {
+
+    @Test
+    public void roundtripOfDate() throws IOException {
+        assertThat(roundtrip(PlainDate.of(2014, 12, 31)), is(3));
+        assertThat(roundtrip(PlainDate.of(1849, 1, 1)), is(4));
+        assertThat(roundtrip(PlainDate.of(-20000, 2, 29)), is(6));
+    }
+
+    @Test
+    public void roundtripOfTime() throws IOException {
+        assertThat(roundtrip(PlainTime.of(17)), is(2));
+        assertThat(roundtrip(PlainTime.of(24)), is(2));
+        assertThat(roundtrip(PlainTime.of(17, 45)), is(3));
+        assertThat(roundtrip(PlainTime.of(17, 45, 30)), is(4));
+        assertThat(roundtrip(PlainTime.of(0, 0, 0, 1)), is(8));
+    }
+
+    @Test
+    public void roundtripOfTimestamp() throws IOException {
+        assertThat(roundtrip(PlainTimestamp.of(2014, 12, 31, 0, 0)), is(4));
+        assertThat(roundtrip(PlainTimestamp.of(2014, 12, 31, 17, 45)), is(5));
+        assertThat(
+            roundtrip(
+                PlainTimestamp.of(
+                    PlainDate.of(-20000, 1, 1),
+                    PlainTime.of(23, 59, 59, 999999999))),
+            is(13));
+    }
+
+    @Test
+    public void roundtripOfMoment() throws IOException {
+        assertThat(roundtrip(Moment.UNIX_EPOCH), is(9));
+        assertThat(roundtrip(Moment.of(1278028823, TimeScale.UTC)), is(9));
+        assertThat(
+            roundtrip(Moment.of(1278028823, 123456789, TimeScale.UTC)),
+            is(13));
+        assertThat(roundtrip(Moment.axis().getMinimum()), is(9));
+        assertThat(roundtrip(Moment.axis().getMaximum()), is(13));
+    }
+
+    @Test
+    public void roundtripOfMachineTime() throws IOException {
+        assertThat(roundtrip(MachineTime.ofPosixUnits(123, 0)), is(9));
+        assertThat(roundtrip(MachineTime.ofSIUnits(-5, 500)), is(13));
+    }
+
+    @Test
+    public void roundtripOfDuration() throws IOException {
+        assertThat(roundtrip(Duration.ofZero()), is(3));
+        assertThat(roundtrip(Duration.of(3, CalendarUnit.WEEKS)), is(7));
+        assertThat(
+            roundtrip(
+                Duration.ofNegative().years(1).months(2).days(3)
+                    .hours(4).minutes(5).seconds(6).nanos(7).build()),
+            is(31));
+        assertThat(
+            roundtrip(Duration.of(Long.MAX_VALUE, ClockUnit.NANOS)),
+            is(11));
+    }
+
+    @Test
+    public void roundtripOfMillisInList() throws IOException {
+        List<Item<IsoUnit>> items = new ArrayList<Item<IsoUnit>>();
+        items.add(Item.<IsoUnit>of(5, CalendarUnit.DAYS));
+        items.add(Item.<IsoUnit>of(7, ClockUnit.MILLIS));
+        Duration<IsoUnit> dur = new Duration<IsoUnit>(items, true);
+        assertThat(roundtrip(dur), is(11));
+        assertThat(
+            TemporalCodec.readDuration(ByteBuffer.wrap(toBytes(dur)))
+                .getTotalLength(),
+            is(dur.getTotalLength()));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void unsupportedDurationUnit() {
+        TemporalCodec.write(
+            Duration.of(2, CalendarUnit.weekBasedYears()),
+            ByteBuffer.allocate(32));
+    }
+
+    @Test
+    public void sameLayoutForStreamAndBuffer() throws IOException {
+        PlainTimestamp tsp = PlainTimestamp.of(2014, 12, 31, 17, 45, 30);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        TemporalCodec.write(tsp, buffer);
+        TemporalCodec.write(tsp.getCalendarDate(), buffer);
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        TemporalCodec.write(tsp, out);
+        TemporalCodec.write(tsp.getCalendarDate(), out);
+        assertThat(baos.toByteArray(), is(bytes));
+        DataInputStream in =
+            new DataInputStream(new ByteArrayInputStream(bytes));
+        assertThat(TemporalCodec.readTimestamp(in), is(tsp));
+        assertThat(TemporalCodec.readDate(in), is(tsp.getCalendarDate()));
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void wrongTypeInStream() throws IOException {
+        byte[] bytes = toBytes(PlainTime.of(17));
+        TemporalCodec.readDate(
+            new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void wrongTypeInBuffer() throws IOException {
+        byte[] bytes = toBytes(PlainTime.of(17));
+        TemporalCodec.readDate(ByteBuffer.wrap(bytes));
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void invalidDateInStream() throws IOException {
+        byte[] bytes = toBytes(PlainDate.of(2014, 2, 28));
+        bytes[1]++; // 29. Februar
+        TemporalCodec.read(
+            new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    private static int roundtrip(Object value) throws IOException {
+        byte[] bytes = toBytes(value);
+        DataInputStream in =
+            new DataInputStream(new ByteArrayInputStream(bytes));
+        assertThat(TemporalCodec.read(in), is(value));
+        assertThat(in.read(), is(-1));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        assertThat(TemporalCodec.read(buffer), is(value));
+        assertThat(buffer.hasRemaining(), is(false));
+        return bytes.length;
+    }
+
+    private static byte[] toBytes(Object value) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+
+        if (value instanceof PlainDate) {
+            TemporalCodec.write((PlainDate) value, out);
+            TemporalCodec.write((PlainDate) value, buffer);
+        } else if (value instanceof PlainTime) {
+            TemporalCodec.write((PlainTime) value, out);
+            TemporalCodec.write((PlainTime) value, buffer);
+        } else if (value instanceof PlainTimestamp) {
+            TemporalCodec.write((PlainTimestamp) value, out);
+            TemporalCodec.write((PlainTimestamp) value, buffer);
+        } else if (value instanceof Moment) {
+            TemporalCodec.write((Moment) value, out);
+            TemporalCodec.write((Moment) value, buffer);
+        } else if (value instanceof Duration) {
+            TemporalCodec.write((Duration<?>) value, out);
+            TemporalCodec.write((Duration<?>) value, buffer);
+        } else {
+            TemporalCodec.write((MachineTime<?>) value, out);
+            TemporalCodec.write((MachineTime<?>) value, buffer);
+        }
+
+        byte[] bytes = baos.toByteArray();
+        assertThat(buffer.position(), is(bytes.length));
+        return bytes;
+    }
+
+}
@@ -9,6 +9,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 
@@ -91,4 +93,21 @@ public class TimeCreationTest {
         is(PlainTime.midnightAtStartOfDay()));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void fullMinutesAreShared() {
+        PlainTime time = PlainTime.of(17, 45);
+        assertThat(PlainTime.of(17, 45, 0), sameInstance(time));
+        assertThat(PlainTime.of(17, 45, 0, 0), sameInstance(time));
+        assertThat(PlainTime.of(17, 0), sameInstance(PlainTime.of(17)));
+        assertThat(
+            PlainTime.of(17, 45, 1),
+            not(sameInstance(PlainTime.of(17, 45, 1))));
+        assertThat(time.getMinute(), is(45));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void fullMinuteAfterMidnight24() {
+        PlainTime.of(24, 1);
+    }
+
+}
@@ -11,6 +11,7 @@ import org.junit.runners.Suite.SuiteClasses;
         DecimalElementTest.class,
         HourArithmeticTest.class,
         MeridiemValueTest.class,
+        SystemClockTest.class,
         TimeArithmeticTest.class,
         TimeComparisonTest.class,
         TimeCreationTest.class,
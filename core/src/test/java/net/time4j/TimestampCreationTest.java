@@ -2,6 +2,8 @@ package net.time4j;
 
 import net.time4j.format.Attributes;
 import net.time4j.format.Leniency;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -87,4 +89,30 @@ public class TimestampCreationTest {
         is(PlainTimestamp.of(1970, 1, 1, 0, 0)));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void fromMomentInUTC() {
+        Moment m = Moment.of(-1, 123456789, TimeScale.POSIX);
+        PlainTimestamp tsp = m.toZonalTimestamp(ZonalOffset.UTC);
+        assertThat(
+            tsp,
+            is(PlainTimestamp.of(1969, 12, 31, 23, 59, 59).plus(
+                123456789, ClockUnit.NANOS)));
+        assertThat(
+            m.inZonalView(ZonalOffset.UTC).get(PlainTime.NANO_OF_SECOND),
+            is(123456789));
+    }
+
+    @Test
+    public void fromLeapSecondInUTC() {
+        Moment ls =
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(
+                1, SI.SECONDS);
+        assertThat(
+            ls.toZonalTimestamp(ZonalOffset.UTC),
+            is(PlainTimestamp.of(2012, 6, 30, 23, 59, 59)));
+        assertThat(
+            ls.inZonalView(ZonalOffset.UTC).get(PlainTime.SECOND_OF_MINUTE),
+            is(60));
+    }
+
+}
@@ -0,0 +1,255 @@
+package net.time4j.columnar;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BlockColumnTest {
+
+    @Test
+    public void regularMomentsCompressWell() throws IOException {
+        MomentArray column = new MomentArray();
+        long start = 1420070400L;
+        for (int i = 0; i < 10000; i++) {
+            column.add(start + i * 15L, 0);
+        }
+        BlockColumn<Moment> blocks = column.toBlocks();
+        assertThat(blocks.getBlockCount(), is(79));
+        assertThat(
+            blocks.getEncodedLength() <= 9 + 79 * 20 + (10000 - 79) * 2,
+            is(true));
+        assertSameMoments(column, blocks);
+        assertSameMoments(column, BlockColumn.readMoments(toInput(blocks)));
+    }
+
+    @Test
+    public void momentsWithNanosAndLeapSecond() throws IOException {
+        Moment ls =
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(
+                1, SI.SECONDS);
+        Random random = new Random(4711);
+        MomentArray column = new MomentArray();
+        for (int i = 0; i < 500; i++) {
+            column.add(
+                ls.getPosixTime() - 250 + random.nextInt(500),
+                random.nextInt(1000000000));
+        }
+        column.add(ls);
+        column.add(Moment.axis().getMinimum());
+        column.add(Moment.axis().getMaximum());
+        column.sort();
+        for (int blockSize = 1; blockSize <= 128; blockSize *= 3) {
+            BlockColumn<Moment> blocks = column.toBlocks(blockSize);
+            assertSameMoments(column, blocks);
+            BlockColumn<Moment> copy =
+                BlockColumn.readMoments(toInput(blocks));
+            assertSameMoments(column, copy);
+            assertThat(
+                copy.getEncodedLength(),
+                is(blocks.getEncodedLength()));
+        }
+        MomentArray decoded = MomentArray.fromBlocks(column.toBlocks(7));
+        int index = decoded.binarySearch(ls);
+        assertThat(decoded.isLeapSecond(index), is(true));
+    }
+
+    @Test
+    public void unsortedTimestamps() throws IOException {
+        Random random = new Random(815);
+        PlainTimestampArray column = new PlainTimestampArray();
+        for (int i = 0; i < 1000; i++) {
+            column.add(
+                random.nextInt(100000) - 50000,
+                (random.nextInt(86400) * 1000000000L) + random.nextInt(3));
+        }
+        BlockColumn<PlainTimestamp> blocks = column.toBlocks(100);
+        PlainTimestampArray decoded = PlainTimestampArray.fromBlocks(blocks);
+        BlockColumn<PlainTimestamp> copy =
+            BlockColumn.readTimestamps(toInput(blocks));
+        List<PlainTimestamp> iterated = new ArrayList<PlainTimestamp>();
+        for (PlainTimestamp tsp : copy.asList()) {
+            iterated.add(tsp);
+        }
+        assertThat(decoded.size(), is(1000));
+        assertThat(iterated, is(column.asList()));
+        for (int i = 0; i < column.size(); i++) {
+            assertThat(decoded.getEpochDay(i), is(column.getEpochDay(i)));
+            assertThat(decoded.getNanoOfDay(i), is(column.getNanoOfDay(i)));
+            assertThat(blocks.get(i), is(column.get(i)));
+        }
+    }
+
+    @Test
+    public void dailyDates() throws IOException {
+        PlainDateArray column = new PlainDateArray();
+        for (int i = 0; i < 1000; i++) {
+            column.add(10957 + i); // ab 2000-01-01
+        }
+        column.add(PlainDate.axis().getMaximum());
+        BlockColumn<PlainDate> blocks = column.toBlocks();
+        // Differenz der Differenz ist fast immer null (ein Byte)
+        assertThat(blocks.getEncodedLength() < 1200, is(true));
+        BlockColumn<PlainDate> copy = BlockColumn.readDates(toInput(blocks));
+        assertThat(copy.asList(), is(column.asList()));
+        assertThat(
+            PlainDateArray.fromBlocks(copy).asList(),
+            is(column.asList()));
+        assertThat(blocks.get(1000), is(PlainDate.axis().getMaximum()));
+    }
+
+    @Test
+    public void emptyColumn() throws IOException {
+        BlockColumn<PlainDate> blocks = new PlainDateArray().toBlocks();
+        assertThat(blocks.size(), is(0));
+        assertThat(blocks.getBlockCount(), is(0));
+        assertThat(blocks.asList().isEmpty(), is(true));
+        assertThat(
+            BlockColumn.readDates(toInput(blocks)).getEncodedLength(),
+            is(9));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidBlockSize() {
+        new MomentArray().toBlocks(0);
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void wrongType() throws IOException {
+        BlockColumn.readMoments(toInput(new PlainDateArray().toBlocks()));
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void corruptData() throws IOException {
+        PlainDateArray column = new PlainDateArray();
+        column.add(0);
+        column.add(1);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        column.toBlocks().writeTo(new DataOutputStream(baos));
+        byte[] bytes = baos.toByteArray();
+        bytes[bytes.length - 1] = (byte) 0x80; // unvollständiger Varint
+        BlockColumn.readDates(
+            new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void registeredLeapSecondBit() throws IOException {
+        BlockColumn<Moment> blocks =
+            BlockColumn.readMoments(
+                singleMoment(1341100799L, MomentArray.POSITIVE_LEAP_MASK));
+        assertThat(blocks.get(0).isLeapSecond(), is(true));
+        assertThat(
+            blocks.get(0).toString(),
+            is("2012-06-30T23:59:60Z"));
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void unregisteredLeapSecondBit() throws IOException {
+        BlockColumn.readMoments(
+            singleMoment(1400000000L, MomentArray.POSITIVE_LEAP_MASK));
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void leapSecondBitBefore1972() throws IOException {
+        BlockColumn.readMoments(
+            singleMoment(-1L, MomentArray.POSITIVE_LEAP_MASK));
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void leapSecondBitAtMaximum() throws IOException {
+        BlockColumn.readMoments(
+            singleMoment(
+                MomentArray.MAX_POSIX,
+                MomentArray.POSITIVE_LEAP_MASK));
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void truncatedHugeColumn() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        out.writeByte(3); // Datumsspalte
+        out.writeInt(Integer.MAX_VALUE);
+        out.writeInt(1);
+        BlockColumn.readDates(
+            new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void truncatedData() throws IOException {
+        PlainDateArray column = new PlainDateArray();
+        column.add(0);
+        column.add(1);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        column.toBlocks().writeTo(new DataOutputStream(baos));
+        byte[] bytes = baos.toByteArray();
+        BlockColumn.readDates(
+            new DataInputStream(
+                new ByteArrayInputStream(bytes, 0, bytes.length - 1)));
+    }
+
+    private static DataInputStream singleMoment(
+        long posixTime,
+        int fraction
+    ) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        out.writeByte(1); // Momentspalte
+        out.writeInt(1);
+        out.writeInt(1);
+        out.writeLong(posixTime);
+        out.writeLong(fraction);
+        out.writeInt(0);
+        return new DataInputStream(
+            new ByteArrayInputStream(baos.toByteArray()));
+    }
+
+    private static void assertSameMoments(
+        MomentArray column,
+        BlockColumn<Moment> blocks
+    ) {
+        MomentArray decoded = MomentArray.fromBlocks(blocks);
+        assertThat(decoded.size(), is(column.size()));
+        for (int i = 0; i < column.size(); i++) {
+            assertThat(decoded.getPosixTime(i), is(column.getPosixTime(i)));
+            assertThat(
+                decoded.getNanosecond(i),
+                is(column.getNanosecond(i)));
+            assertThat(decoded.isLeapSecond(i), is(column.isLeapSecond(i)));
+        }
+        int i = 0;
+        for (Moment moment : blocks.asList()) {
+            assertThat(moment, is(column.get(i)));
+            assertThat(blocks.get(i), is(moment));
+            i++;
+        }
+        assertThat(i, is(column.size()));
+    }
+
+    private static DataInputStream toInput(BlockColumn<?> blocks)
+        throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        blocks.writeTo(new DataOutputStream(baos));
+        assertThat(baos.size(), is(blocks.getEncodedLength()));
+        return new DataInputStream(
+            new ByteArrayInputStream(baos.toByteArray()));
+    }
+
+}
@@ -0,0 +1,155 @@
+package net.time4j.columnar;
+
+import net.time4j.Moment;
+import net.time4j.PatternType;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.ChronoFormatter;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+
+import java.io.IOException;
+import java.util.Locale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ColumnFormatterTest {
+
+    @Test
+    public void formatMomentsAcrossDaylightSavingChange() {
+        ChronoFormatter<Moment> f =
+            Moment.formatter(
+                "uuuu-MM-dd HH:mm:ssXXX",
+                PatternType.CLDR,
+                Locale.ROOT,
+                Timezone.of("Europe/Berlin").getID());
+        Moment start =
+            PlainTimestamp.of(2012, 10, 28, 0, 30).atUTC();
+        long[] secs = new long[3];
+        secs[0] = start.getPosixTime();
+        secs[1] = secs[0] + 1800;
+        secs[2] = secs[0] + 3600; // same local time, other offset
+        StringBuilder buffer = new StringBuilder();
+        int[] offsets = ColumnFormatter.formatMoments(f, secs, null, buffer);
+        assertThat(
+            buffer.substring(offsets[0], offsets[1]),
+            is("2012-10-28 02:30:00+02:00"));
+        assertThat(
+            buffer.substring(offsets[1], offsets[2]),
+            is("2012-10-28 02:00:00+01:00"));
+        assertThat(
+            buffer.substring(offsets[2], offsets[3]),
+            is("2012-10-28 02:30:00+01:00"));
+    }
+
+    @Test
+    public void formatMomentsWithNanos() throws IOException {
+        ChronoFormatter<Moment> f =
+            Moment.formatter(
+                "HH:mm:ss.SSSSSSSSS",
+                PatternType.CLDR,
+                Locale.ROOT,
+                Timezone.of("Europe/Berlin").getID());
+        long[] secs = {0, 0, 1};
+        int[] nanos = {1, 2, 3};
+        StringBuilder buffer = new StringBuilder();
+        ColumnFormatter.formatMoments(f, secs, nanos, "|", buffer);
+        assertThat(
+            buffer.toString(),
+            is("01:00:00.000000001|01:00:00.000000002|01:00:01.000000003"));
+        assertThat(
+            f.format(Moment.of(1, 3, TimeScale.POSIX)),
+            is("01:00:01.000000003"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void formatMomentsWithColumnMismatch() {
+        ColumnFormatter.formatMoments(
+            Moment.formatter(
+                "HH:mm",
+                PatternType.CLDR,
+                Locale.ROOT,
+                Timezone.of("Europe/Berlin").getID()),
+            new long[2],
+            new int[1],
+            new StringBuilder());
+    }
+
+    @Test
+    public void formatDates() throws IOException {
+        ChronoFormatter<PlainDate> f =
+            PlainDate.formatter(
+                "EEEE, d. MMMM uuuu", PatternType.CLDR, Locale.GERMANY);
+        long[] days = {0, 0, 31, 16436};
+        StringBuilder buffer = new StringBuilder();
+        int[] offsets = ColumnFormatter.formatDates(f, days, buffer);
+        assertThat(
+            buffer.substring(offsets[1], offsets[2]),
+            is("Donnerstag, 1. Januar 1970"));
+        assertThat(
+            buffer.substring(offsets[2], offsets[3]),
+            is("Sonntag, 1. Februar 1970"));
+        assertThat(
+            buffer.substring(offsets[3], offsets[4]),
+            is("Donnerstag, 1. Januar 2015"));
+        buffer.setLength(0);
+        ColumnFormatter.formatDates(f, new long[] {0, 1}, " / ", buffer);
+        assertThat(
+            buffer.toString(),
+            is("Donnerstag, 1. Januar 1970 / Freitag, 2. Januar 1970"));
+    }
+
+    @Test
+    public void formatMomentsOverManyTransitions() {
+        ChronoFormatter<Moment> f =
+            Moment.formatter(
+                "uuuu-MM-dd HH:mm:ss.SSSXXX",
+                PatternType.CLDR,
+                Locale.ROOT,
+                Timezone.of("Europe/Berlin").getID());
+        long[] secs = new long[2000];
+        int[] nanos = new int[secs.length];
+        long start = PlainTimestamp.of(2011, 1, 1, 0, 0).atUTC().getPosixTime();
+        for (int i = 0; i < secs.length; i++) {
+            secs[i] = start + i * 3L * 3600 + (i % 7);
+            nanos[i] = i * 1000;
+        }
+        secs[1000] = start; // Sprung zurück in eine frühere Offset-Periode
+        StringBuilder buffer = new StringBuilder();
+        int[] offsets = ColumnFormatter.formatMoments(f, secs, nanos, buffer);
+        for (int i = 0; i < secs.length; i++) {
+            assertThat(
+                buffer.substring(offsets[i], offsets[i + 1]),
+                is(f.format(Moment.of(secs[i], nanos[i], TimeScale.POSIX))));
+        }
+    }
+
+    @Test
+    public void formatMomentsWithZoneNames() {
+        ChronoFormatter<Moment> f =
+            Moment.formatter(
+                "uuuu-MM-dd HH:mm '['VV']'",
+                PatternType.CLDR,
+                Locale.ROOT,
+                Timezone.of("Europe/Berlin").getID());
+        long winter = PlainTimestamp.of(2012, 1, 1, 12, 0).atUTC().getPosixTime();
+        long summer = PlainTimestamp.of(2012, 7, 1, 12, 0).atUTC().getPosixTime();
+        StringBuilder buffer = new StringBuilder();
+        int[] offsets =
+            ColumnFormatter.formatMoments(
+                f, new long[] {winter, summer}, null, buffer);
+        assertThat(
+            buffer.substring(offsets[0], offsets[1]),
+            is("2012-01-01 13:00 [Europe/Berlin]"));
+        assertThat(
+            buffer.substring(offsets[1], offsets[2]),
+            is("2012-07-01 14:00 [Europe/Berlin]"));
+    }
+
+}
@@ -0,0 +1,21 @@
+package net.time4j.columnar;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+
+@RunWith(Suite.class)
+@SuiteClasses(
+    {
+        BlockColumnTest.class,
+        ColumnFormatterTest.class,
+        MomentArrayTest.class,
+        PlainDateArrayTest.class,
+        PlainTimestampArrayTest.class,
+        ZoneConverterTest.class
+    }
+)
+public class ColumnarSuite {
+
+}
\ No newline at end of file
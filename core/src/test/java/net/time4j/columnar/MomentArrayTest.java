@@ -0,0 +1,214 @@
+package net.time4j.columnar;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.base.MathUtils;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class MomentArrayTest {
+
+    @Test
+    public void leapSecondPreserved() {
+        Moment ls =
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(
+                1, SI.SECONDS);
+        assertThat(ls.isLeapSecond(), is(true));
+        MomentArray column = new MomentArray();
+        column.add(ls);
+        assertThat(column.get(0), is(ls));
+        assertThat(column.isLeapSecond(0), is(true));
+        assertThat(column.getPosixTime(0), is(ls.getPosixTime()));
+    }
+
+    @Test
+    public void sortAndSearch() {
+        Moment start = PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC();
+        Moment ls = start.plus(1, SI.SECONDS);
+        MomentArray column = new MomentArray();
+        for (int i = 0; i < 500; i++) {
+            long k = (i * 7919L) % 500;
+            column.add(start.getPosixTime() + k - 250, (int) (k * 1000));
+            column.add(start.getPosixTime() - k, 0);
+        }
+        column.add(ls);
+        column.sort();
+        for (int i = 1; i < column.size(); i++) {
+            assertThat(column.get(i - 1).isAfter(column.get(i)), is(false));
+        }
+        int index = column.binarySearch(ls);
+        assertThat(column.get(index), is(ls));
+        assertThat(column.get(index - 1).isBefore(ls), is(true));
+        assertThat(column.get(index + 1).isAfter(ls), is(true));
+        assertThat(
+            column.binarySearch(start.plus(1, TimeUnit.NANOSECONDS)) < 0,
+            is(true));
+    }
+
+    @Test
+    public void truncateAndPlus() {
+        Moment m = Moment.of(1422777599L, 123456789, TimeScale.POSIX);
+        for (TimeUnit unit : TimeUnit.values()) {
+            MomentArray column = new MomentArray();
+            column.add(m);
+            column.plus(-12345, unit);
+            assertThat(column.get(0), is(m.minus(12345, unit)));
+            column.truncate(unit);
+            assertThat(
+                column.get(0),
+                is(truncate(m.minus(12345, unit), unit)));
+        }
+    }
+
+    @Test
+    public void toZonalTimestamps() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        MomentArray column = new MomentArray();
+        Moment m = PlainTimestamp.of(2012, 10, 27, 22, 0).atUTC();
+        for (int i = 0; i < 200; i++) {
+            column.add(m);
+            m = m.plus(1234567, TimeUnit.MILLISECONDS);
+        }
+        PlainTimestampArray local = column.toZonalTimestamps(tz);
+        assertThat(local.size(), is(200));
+        for (int i = 0; i < 200; i++) {
+            assertThat(
+                local.get(i),
+                is(column.get(i).toZonalTimestamp(tz.getID())));
+        }
+        MomentArray global = local.inTimezone(tz);
+        for (int i = 0; i < 200; i++) {
+            assertThat(
+                global.get(i),
+                is(local.get(i).in(tz)));
+        }
+    }
+
+    @Test
+    public void fixedOffset() {
+        Timezone tz =
+            Timezone.of(
+                ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 5, 30));
+        MomentArray column = new MomentArray();
+        column.add(0, 999999999);
+        PlainTimestampArray local = column.toZonalTimestamps(tz);
+        assertThat(
+            local.get(0),
+            is(PlainTimestamp.of(1969, 12, 31, 18, 30, 0).plus(
+                999999999, ClockUnit.NANOS)));
+        assertThat(local.inTimezone(tz).get(0), is(column.get(0)));
+    }
+
+    @Test
+    public void convertBetweenTimeScales() {
+        Moment ls =
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(
+                1, SI.SECONDS);
+        long[] gps = new long[500];
+        for (int i = 0; i < gps.length; i++) {
+            // um die Schaltsekunde und verstreut im Jahr 1980
+            gps[i] =
+                (i < 250)
+                ? ls.getElapsedTime(TimeScale.GPS) - 125 + i
+                : (i * 7919L) % ls.getElapsedTime(TimeScale.GPS);
+        }
+        for (TimeScale target : TimeScale.values()) {
+            long[] result = new long[gps.length];
+            MomentArray.convert(TimeScale.GPS, gps, target, result);
+            for (int i = 0; i < gps.length; i++) {
+                Moment m = Moment.of(gps[i], TimeScale.GPS);
+                assertThat(result[i], is(m.getElapsedTime(target)));
+            }
+            long[] back = result.clone();
+            MomentArray.convert(target, back, TimeScale.GPS, back);
+            if (target != TimeScale.POSIX) {
+                assertThat(back, is(gps));
+            }
+        }
+    }
+
+    @Test
+    public void addAllAndGetElapsedTimes() {
+        Moment ls =
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(
+                1, SI.SECONDS);
+        long utc = ls.getElapsedTime(TimeScale.UTC);
+        long[] elapsed = {utc - 1, utc, utc + 1, 0, 12345678};
+        int[] nanos = {1, 2, 3, 4, 5};
+        MomentArray column = new MomentArray();
+        column.add(Moment.UNIX_EPOCH);
+        column.addAll(elapsed, nanos, TimeScale.UTC);
+        assertThat(column.size(), is(6));
+        assertThat(column.isLeapSecond(2), is(true));
+        for (int i = 0; i < elapsed.length; i++) {
+            assertThat(
+                column.get(i + 1),
+                is(Moment.of(elapsed[i], nanos[i], TimeScale.UTC)));
+        }
+        for (TimeScale scale : TimeScale.values()) {
+            if (scale == TimeScale.GPS) {
+                continue; // UNIX-Epoche liegt vor GPS
+            }
+            long[] times = column.getElapsedTimes(scale);
+            for (int i = 0; i < column.size(); i++) {
+                assertThat(times[i], is(column.get(i).getElapsedTime(scale)));
+            }
+        }
+    }
+
+    @Test
+    public void convertIsAtomic() {
+        long[] tai = {100, 5};
+        long[] result = {-1, -1};
+        try {
+            MomentArray.convert(TimeScale.TAI, tai, TimeScale.UTC, result);
+        } catch (IllegalArgumentException iae) {
+            // TAI vor 1972
+        }
+        assertThat(result, is(new long[] {-1, -1}));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void addAllWithInvalidNanosecond() {
+        new MomentArray().addAll(
+            new long[] {0, 1}, new int[] {0, -1}, TimeScale.UTC);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void gpsBefore1980() {
+        new MomentArray().addAll(
+            new long[] {-1}, new int[] {0}, TimeScale.GPS);
+    }
+
+    private static Moment truncate(
+        Moment m,
+        TimeUnit unit
+    ) {
+        long len = unit.toNanos(1);
+        long secs = m.getPosixTime();
+        int nano = m.getNanosecond();
+        if (len >= 1000000000L) {
+            long s = len / 1000000000L;
+            secs -= MathUtils.floorModulo(secs, (int) s);
+            nano = 0;
+        } else {
+            nano -= (int) (nano % len);
+        }
+        return Moment.of(secs, nano, TimeScale.POSIX);
+    }
+
+}
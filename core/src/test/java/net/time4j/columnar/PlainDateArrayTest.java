@@ -0,0 +1,146 @@
+package net.time4j.columnar;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PatternType;
+import net.time4j.PlainDate;
+import net.time4j.engine.EpochDays;
+
+import java.util.Locale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PlainDateArrayTest {
+
+    @Test
+    public void addAndGet() {
+        PlainDateArray column = new PlainDateArray(1);
+        column.add(PlainDate.of(2015, 3, 31));
+        column.add(0);
+        column.add(PlainDate.of(-5, 1, 1));
+        assertThat(column.size(), is(3));
+        assertThat(column.get(0), is(PlainDate.of(2015, 3, 31)));
+        assertThat(column.get(1), is(PlainDate.of(1970, 1, 1)));
+        assertThat(column.get(2), is(PlainDate.of(-5, 1, 1)));
+        assertThat(column.getEpochDay(1), is(0L));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getBeyondSize() {
+        PlainDateArray column = new PlainDateArray();
+        column.add(1);
+        column.get(1);
+    }
+
+    @Test
+    public void sortAndSearch() {
+        PlainDateArray column = new PlainDateArray();
+        for (int i = 0; i < 1000; i++) {
+            column.add(((i * 7919L) % 1000) * 3);
+        }
+        column.sort();
+        for (int i = 1; i < 1000; i++) {
+            assertThat(
+                column.getEpochDay(i) > column.getEpochDay(i - 1),
+                is(true));
+        }
+        assertThat(
+            column.binarySearch(PlainDate.of(300, EpochDays.UNIX)),
+            is(100));
+        assertThat(
+            column.binarySearch(PlainDate.of(301, EpochDays.UNIX)),
+            is(-102));
+    }
+
+    @Test
+    public void truncate() {
+        PlainDate date = PlainDate.of(2014, 8, 23); // Samstag
+        assertThat(truncate(date, CalendarUnit.DAYS), is(date));
+        assertThat(
+            truncate(date, CalendarUnit.WEEKS),
+            is(PlainDate.of(2014, 8, 18)));
+        assertThat(
+            truncate(date, CalendarUnit.MONTHS),
+            is(PlainDate.of(2014, 8, 1)));
+        assertThat(
+            truncate(date, CalendarUnit.QUARTERS),
+            is(PlainDate.of(2014, 7, 1)));
+        assertThat(
+            truncate(date, CalendarUnit.YEARS),
+            is(PlainDate.of(2014, 1, 1)));
+        assertThat(
+            truncate(date, CalendarUnit.DECADES),
+            is(PlainDate.of(2010, 1, 1)));
+        assertThat(
+            truncate(date, CalendarUnit.CENTURIES),
+            is(PlainDate.of(2000, 1, 1)));
+        assertThat(
+            truncate(date, CalendarUnit.MILLENNIA),
+            is(PlainDate.of(2000, 1, 1)));
+    }
+
+    @Test
+    public void plusLikePlainDate() {
+        CalendarUnit[] units = CalendarUnit.values();
+        for (CalendarUnit unit : units) {
+            PlainDateArray column = new PlainDateArray();
+            PlainDate date = PlainDate.of(2011, 12, 28);
+            for (int i = 0; i < 70; i++) {
+                column.add(date);
+                date = date.plus(1, CalendarUnit.DAYS);
+            }
+            column.plus(-13, unit);
+            date = PlainDate.of(2011, 12, 28);
+            for (int i = 0; i < 70; i++) {
+                assertThat(column.get(i), is(date.minus(13, unit)));
+                date = date.plus(1, CalendarUnit.DAYS);
+            }
+        }
+    }
+
+    @Test
+    public void plusOutOfRangeChangesNothing() {
+        PlainDateArray column = new PlainDateArray();
+        column.add(PlainDate.of(2015, 1, 1));
+        column.add(PlainDate.of(999999999, 12, 1));
+        try {
+            column.plus(1, CalendarUnit.MONTHS);
+        } catch (ArithmeticException ex) {
+            assertThat(column.get(0), is(PlainDate.of(2015, 1, 1)));
+            return;
+        }
+        throw new AssertionError("Missing range error.");
+    }
+
+    @Test
+    public void format() {
+        PlainDateArray column = new PlainDateArray();
+        column.add(PlainDate.of(2015, 1, 1));
+        column.add(PlainDate.of(2015, 1, 1));
+        column.add(PlainDate.of(2015, 1, 2));
+        StringBuilder buffer = new StringBuilder();
+        int[] offsets =
+            column.format(
+                PlainDate.formatter(
+                    "uuuu-MM-dd", PatternType.CLDR, Locale.ROOT),
+                buffer);
+        assertThat(buffer.toString(), is("2015-01-012015-01-012015-01-02"));
+        assertThat(offsets[3], is(30));
+    }
+
+    private static PlainDate truncate(
+        PlainDate date,
+        CalendarUnit unit
+    ) {
+        PlainDateArray column = new PlainDateArray();
+        column.add(date);
+        column.truncate(unit);
+        return column.get(0);
+    }
+
+}
@@ -0,0 +1,113 @@
+package net.time4j.columnar;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.PatternType;
+import net.time4j.PlainTimestamp;
+
+import java.io.IOException;
+import java.util.Locale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PlainTimestampArrayTest {
+
+    @Test
+    public void addAndGet() {
+        PlainTimestamp tsp = PlainTimestamp.of(2015, 2, 28, 23, 59, 59);
+        PlainTimestampArray column = new PlainTimestampArray(0);
+        column.add(tsp);
+        column.add(-1, 86399999999999L);
+        assertThat(column.get(0), is(tsp));
+        assertThat(
+            column.get(1),
+            is(PlainTimestamp.of(1969, 12, 31, 23, 59, 59).plus(
+                999999999, ClockUnit.NANOS)));
+        assertThat(column.getNanoOfDay(0), is(86399000000000L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void nanoOfDayOutOfRange() {
+        new PlainTimestampArray().add(0, 86400000000000L);
+    }
+
+    @Test
+    public void sortAndSearch() {
+        PlainTimestampArray column = new PlainTimestampArray();
+        PlainTimestamp start = PlainTimestamp.of(2014, 12, 31, 12, 0);
+        for (int i = 0; i < 1000; i++) {
+            long k = (i * 7919L) % 1000;
+            column.add(start.plus(k * 997, ClockUnit.SECONDS));
+        }
+        column.sort();
+        for (int i = 1; i < 1000; i++) {
+            assertThat(
+                column.get(i),
+                is(column.get(i - 1).plus(997, ClockUnit.SECONDS)));
+        }
+        assertThat(
+            column.binarySearch(start.plus(997 * 400, ClockUnit.SECONDS)),
+            is(400));
+        assertThat(
+            column.binarySearch(start.minus(1, ClockUnit.NANOS)),
+            is(-1));
+    }
+
+    @Test
+    public void plusLikePlainTimestamp() {
+        PlainTimestamp start = PlainTimestamp.of(2012, 2, 28, 22, 45, 17);
+        for (ClockUnit unit : ClockUnit.values()) {
+            for (long amount : new long[] {-1000000001, -25, 3, 86401}) {
+                PlainTimestampArray column = new PlainTimestampArray();
+                column.add(start);
+                column.plus(amount, unit);
+                assertThat(column.get(0), is(start.plus(amount, unit)));
+            }
+        }
+        for (CalendarUnit unit : CalendarUnit.values()) {
+            PlainTimestampArray column = new PlainTimestampArray();
+            column.add(start);
+            column.plus(5, unit);
+            assertThat(column.get(0), is(start.plus(5, unit)));
+        }
+    }
+
+    @Test
+    public void truncate() {
+        PlainTimestamp tsp =
+            PlainTimestamp.of(2012, 2, 29, 22, 45, 17).plus(
+                123456789, ClockUnit.NANOS);
+        PlainTimestampArray column = new PlainTimestampArray();
+        column.add(tsp);
+        column.truncate(ClockUnit.MILLIS);
+        assertThat(
+            column.get(0),
+            is(PlainTimestamp.of(2012, 2, 29, 22, 45, 17).plus(
+                123, ClockUnit.MILLIS)));
+        column.truncate(ClockUnit.HOURS);
+        assertThat(column.get(0), is(PlainTimestamp.of(2012, 2, 29, 22, 0)));
+        column.truncate(CalendarUnit.QUARTERS);
+        assertThat(column.get(0), is(PlainTimestamp.of(2012, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void format() throws IOException {
+        PlainTimestampArray column = new PlainTimestampArray();
+        column.add(PlainTimestamp.of(2015, 1, 1, 10, 0));
+        column.add(PlainTimestamp.of(2015, 1, 1, 10, 1));
+        StringBuilder buffer = new StringBuilder();
+        column.format(
+            PlainTimestamp.formatter(
+                "uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT),
+            "\n",
+            buffer);
+        assertThat(buffer.toString(), is("2015-01-01 10:00\n2015-01-01 10:01"));
+    }
+
+}
@@ -0,0 +1,147 @@
+package net.time4j.columnar;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.SimpleHistory;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneConverterTest {
+
+    private static final long SPRING =
+        PlainTimestamp.of(2015, 3, 29, 1, 0).at(ZonalOffset.UTC)
+            .getPosixTime();
+    private static final long AUTUMN =
+        PlainTimestamp.of(2015, 10, 25, 1, 0).at(ZonalOffset.UTC)
+            .getPosixTime();
+
+    private static final Timezone TEST_ZONE =
+        SimpleHistory.zone(
+            "Test/Zone",
+            new ZonalTransition(SPRING, 3600, 7200, 3600),
+            new ZonalTransition(AUTUMN, 7200, 3600, 0));
+
+    @Test
+    public void toLocalAcrossTransitions() {
+        MomentArray column = new MomentArray();
+        Moment start =
+            PlainTimestamp.of(2015, 1, 1, 0, 0).at(ZonalOffset.UTC);
+        for (int i = 0; i < 400 * 24; i++) {
+            column.add(start.plus(i * 3600L + 17, TimeUnit.SECONDS));
+        }
+        checkLocal(column, TEST_ZONE);
+    }
+
+    @Test
+    public void toGlobalAcrossGapAndOverlap() {
+        PlainTimestampArray column = new PlainTimestampArray();
+        PlainTimestamp[] starts = {
+            PlainTimestamp.of(2015, 3, 28, 22, 0),
+            PlainTimestamp.of(2015, 10, 24, 22, 0),
+            PlainTimestamp.of(2015, 7, 1, 12, 0)
+        };
+        for (PlainTimestamp start : starts) {
+            for (int i = 0; i < 60; i++) {
+                column.add(start.plus(i * 5, ClockUnit.MINUTES));
+            }
+        }
+        checkGlobal(column, TEST_ZONE);
+    }
+
+    @Test
+    public void platformZone() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        MomentArray moments = new MomentArray();
+        PlainTimestampArray timestamps = new PlainTimestampArray();
+        PlainTimestamp start = PlainTimestamp.of(2014, 3, 29, 23, 30);
+        for (int i = 0; i < 200; i++) {
+            PlainTimestamp tsp = start.plus(i * 37, ClockUnit.MINUTES);
+            timestamps.add(tsp);
+            moments.add(tsp.at(ZonalOffset.UTC));
+        }
+        checkLocal(moments, tz);
+        checkGlobal(timestamps, tz);
+    }
+
+    @Test
+    public void fixedOffsetWithFraction() {
+        Timezone tz = Timezone.of(ZonalOffset.ofTotalSeconds(-19800, -5));
+        MomentArray moments = new MomentArray();
+        PlainTimestampArray timestamps = new PlainTimestampArray();
+        moments.add(0, 0);
+        moments.add(0, 999999999);
+        moments.add(-1, 3);
+        timestamps.add(0, 0);
+        timestamps.add(-1, 86399999999999L);
+        checkLocal(moments, tz);
+        checkGlobal(timestamps, tz);
+    }
+
+    @Test
+    public void reuseInArbitraryOrder() {
+        ZoneConverter converter = ZoneConverter.of(TEST_ZONE);
+        long[] posixTimes = {
+            SPRING + 3600, SPRING - 1, AUTUMN, AUTUMN - 1, SPRING, 0
+        };
+        long[] days = new long[posixTimes.length];
+        long[] nanoOfDays = new long[posixTimes.length];
+        for (int round = 0; round < 2; round++) {
+            converter.toLocal(
+                posixTimes, null, days, nanoOfDays, posixTimes.length);
+            for (int i = 0; i < posixTimes.length; i++) {
+                Moment m = Moment.of(posixTimes[i], TimeScale.POSIX);
+                PlainTimestamp expected =
+                    m.toZonalTimestamp(TEST_ZONE.getOffset(m));
+                PlainTimestampArray actual = new PlainTimestampArray();
+                actual.add(days[i], nanoOfDays[i]);
+                assertThat(actual.get(0), is(expected));
+            }
+        }
+        assertThat(converter.getTimezone(), is(TEST_ZONE));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void arrayTooShort() {
+        ZoneConverter.of(TEST_ZONE).toGlobal(
+            new long[2], new long[2], new long[1], new int[2], 2);
+    }
+
+    private static void checkLocal(
+        MomentArray column,
+        Timezone tz
+    ) {
+        PlainTimestampArray result = column.toZonalTimestamps(tz);
+        assertThat(result.size(), is(column.size()));
+        for (int i = 0; i < column.size(); i++) {
+            Moment m = column.get(i);
+            assertThat(
+                result.get(i),
+                is(m.toZonalTimestamp(tz.getOffset(m))));
+        }
+    }
+
+    private static void checkGlobal(
+        PlainTimestampArray column,
+        Timezone tz
+    ) {
+        MomentArray result = column.inTimezone(tz);
+        assertThat(result.size(), is(column.size()));
+        for (int i = 0; i < column.size(); i++) {
+            assertThat(result.get(i), is(column.get(i).in(tz)));
+        }
+    }
+
+}
@@ -0,0 +1,272 @@
+package net.time4j.format;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BoundedCacheTest {
+
+    @Test
+    public void hitsAndMisses() {
+        BoundedCache<String, String> cache = createCache(10, null);
+        assertThat(cache.get("a"), is("A"));
+        assertThat(cache.get("a"), is("A"));
+        assertThat(cache.get("b"), is("B"));
+        CacheStatistics stats = cache.getStatistics();
+        assertThat(stats.getHitCount(), is(1L));
+        assertThat(stats.getMissCount(), is(2L));
+        assertThat(stats.getEvictionCount(), is(0L));
+        assertThat(stats.getSize(), is(2));
+        assertThat(stats.getMaximumSize(), is(10));
+    }
+
+    @Test
+    public void evictionBySize() {
+        BoundedCache<String, String> cache = createCache(3, null);
+        for (char c = 'a'; c <= 'h'; c++) {
+            cache.get(String.valueOf(c));
+        }
+        CacheStatistics stats = cache.getStatistics();
+        assertThat(stats.getSize(), is(3));
+        assertThat(stats.getEvictionCount(), is(5L));
+    }
+
+    @Test
+    public void recentlyUsedEntrySurvives() {
+        AtomicInteger loads = new AtomicInteger();
+        BoundedCache<String, String> cache = createCache(2, loads);
+        cache.get("a");
+        cache.get("b");
+        cache.get("a"); // marks a as referenced
+        cache.get("c"); // evicts b instead of a
+        cache.get("a");
+        assertThat(loads.get(), is(3));
+        cache.get("b");
+        assertThat(loads.get(), is(4));
+    }
+
+    @Test
+    public void clearKeepsStatistics() {
+        BoundedCache<String, String> cache = createCache(5, null);
+        cache.get("a");
+        cache.get("a");
+        cache.clear();
+        CacheStatistics stats = cache.getStatistics();
+        assertThat(stats.getSize(), is(0));
+        assertThat(stats.getHitCount(), is(1L));
+    }
+
+    @Test
+    public void concurrentLoadOnlyOnce() throws InterruptedException {
+        final AtomicInteger loads = new AtomicInteger();
+        final BoundedCache<String, String> cache = createCache(5, loads);
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException ie) {
+                        return;
+                    }
+                    cache.get("x");
+                }
+            };
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    public void concurrentClearKeepsEntriesEvictable()
+        throws InterruptedException {
+
+        final BoundedCache<String, String> cache = createCache(4, null);
+        for (int round = 0; round < 2000; round++) {
+            final AtomicBoolean running = new AtomicBoolean(true);
+            final CountDownLatch started = new CountDownLatch(2);
+            Thread[] threads = new Thread[2];
+            for (int i = 0; i < threads.length; i++) {
+                final int offset = i * 1000;
+                threads[i] = new Thread() {
+                    @Override
+                    public void run() {
+                        started.countDown();
+                        int n = 0;
+                        while (running.get()) {
+                            cache.get(String.valueOf(offset + (n++ % 1000)));
+                        }
+                    }
+                };
+                threads[i].start();
+            }
+            started.await();
+            cache.clear(); // parallel zu get()
+            running.set(false);
+            for (Thread t : threads) {
+                t.join();
+            }
+            for (int i = 0; i < 8; i++) {
+                cache.get("z" + i); // alle alten Einträge verdrängen
+            }
+            assertThat(cache.getStatistics().getSize(), is(4));
+        }
+    }
+
+    @Test(timeout=10000)
+    public void waitingForLoadIsNoHit() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final BoundedCache<String, String> cache =
+            new BoundedCache<String, String>(
+                5,
+                new BoundedCache.Loader<String, String>() {
+                    @Override
+                    public String load(String key) {
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException ie) {
+                            throw new IllegalStateException(ie);
+                        }
+                        return key.toUpperCase();
+                    }
+                }
+            );
+        Thread first = startGet(cache, "x");
+        started.await();
+        Thread second = startGet(cache, "x");
+        while (cache.getStatistics().getMissCount() < 2) {
+            Thread.sleep(1); // zweiter Thread wartet auf den Ladevorgang
+        }
+        release.countDown();
+        first.join();
+        second.join();
+        assertThat(cache.get("x"), is("X"));
+        CacheStatistics stats = cache.getStatistics();
+        assertThat(stats.getMissCount(), is(2L));
+        assertThat(stats.getHitCount(), is(1L));
+    }
+
+    @Test
+    public void countersOfManyThreads() throws InterruptedException {
+        final BoundedCache<String, String> cache = createCache(5, null);
+        cache.get("x");
+        Thread[] threads = new Thread[16];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        cache.get("x");
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertThat(cache.getStatistics().getHitCount(), is(16000L));
+        assertThat(cache.getStatistics().getMissCount(), is(1L));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void failedLoadIsNotCached() {
+        BoundedCache<String, String> cache =
+            new BoundedCache<String, String>(
+                5,
+                new BoundedCache.Loader<String, String>() {
+                    @Override
+                    public String load(String key) {
+                        throw new IllegalStateException(key);
+                    }
+                }
+            );
+        try {
+            cache.get("x");
+        } finally {
+            assertThat(cache.getStatistics().getSize(), is(0));
+        }
+    }
+
+    @Test
+    public void calendarTextCached() {
+        CalendarText ct1 = CalendarText.getInstance("iso8601", Locale.FRANCE);
+        CalendarText ct2 = CalendarText.getInstance("iso8601", Locale.FRANCE);
+        assertThat(ct1, sameInstance(ct2));
+        assertThat(
+            CalendarText.getCacheStatistics().getHitCount() > 0,
+            is(true));
+    }
+
+    @Test
+    public void unitPatternsCached() {
+        assertThat(
+            UnitPatterns.of(Locale.ITALIAN),
+            sameInstance(UnitPatterns.of(Locale.ITALIAN)));
+        assertThat(
+            UnitPatterns.getCacheStatistics().getHitCount() > 0,
+            is(true));
+    }
+
+    @Test
+    public void numberSymbolsCached() {
+        long hits = Attributes.getCacheStatistics().getHitCount();
+        new Attributes.Builder().setLocale(Locale.GERMANY);
+        new Attributes.Builder().setLocale(Locale.GERMANY);
+        assertThat(
+            Attributes.getCacheStatistics().getHitCount() > hits,
+            is(true));
+    }
+
+    private static Thread startGet(
+        final BoundedCache<String, String> cache,
+        final String key
+    ) {
+        Thread t =
+            new Thread() {
+                @Override
+                public void run() {
+                    cache.get(key);
+                }
+            };
+        t.start();
+        return t;
+    }
+
+    private static BoundedCache<String, String> createCache(
+        int maxSize,
+        final AtomicInteger loads
+    ) {
+        return new BoundedCache<String, String>(
+            maxSize,
+            new BoundedCache.Loader<String, String>() {
+                @Override
+                public String load(String key) {
+                    if (loads != null) {
+                        loads.incrementAndGet();
+                    }
+                    return key.toUpperCase();
+                }
+            }
+        );
+    }
+
+}
@@ -0,0 +1,80 @@
+package net.time4j.format;
+
+import net.time4j.ClockUnit;
+import net.time4j.PatternType;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BulkFormatTest {
+
+    @Test
+    public void formatAllWithOffsets() {
+        ChronoFormatter<PlainTimestamp> f =
+            PlainTimestamp.formatter(
+                "d. MMMM uuuu HH:mm:ss.SSS", PatternType.CLDR, Locale.GERMANY);
+        List<PlainTimestamp> values = new ArrayList<PlainTimestamp>();
+        PlainTimestamp tsp = PlainTimestamp.of(2014, 12, 31, 23, 59, 58);
+        for (int i = 0; i < 5; i++) {
+            values.add(tsp);
+            values.add(tsp); // duplicate
+            tsp = tsp.plus(777, ClockUnit.MILLIS);
+        }
+        StringBuilder buffer = new StringBuilder("x");
+        int[] offsets = f.formatAll(values, buffer);
+        assertThat(offsets.length, is(values.size() + 1));
+        assertThat(offsets[0], is(1));
+        assertThat(offsets[values.size()], is(buffer.length()));
+        for (int i = 0; i < values.size(); i++) {
+            assertThat(
+                buffer.substring(offsets[i], offsets[i + 1]),
+                is(f.format(values.get(i))));
+        }
+        assertThat(
+            buffer.substring(offsets[9], offsets[10]),
+            is("1. Januar 2015 00:00:01.108"));
+    }
+
+    @Test
+    public void formatAllWithSeparator() throws IOException {
+        ChronoFormatter<PlainDate> f =
+            PlainDate.formatter("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        List<PlainDate> values =
+            new LinkedList<PlainDate>(
+                Arrays.asList(
+                    PlainDate.of(2015, 1, 31),
+                    PlainDate.of(2015, 2, 1),
+                    PlainDate.of(2015, 2, 1),
+                    PlainDate.of(2016, 2, 1)));
+        StringBuilder buffer = new StringBuilder();
+        f.formatAll(values, ";", buffer);
+        assertThat(
+            buffer.toString(),
+            is("2015-01-31;2015-02-01;2015-02-01;2016-02-01"));
+    }
+
+    @Test
+    public void formatAllEmpty() {
+        ChronoFormatter<PlainDate> f =
+            PlainDate.formatter("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        StringBuilder buffer = new StringBuilder();
+        int[] offsets = f.formatAll(new ArrayList<PlainDate>(), buffer);
+        assertThat(offsets.length, is(1));
+        assertThat(offsets[0], is(0));
+    }
+
+}
@@ -9,8 +9,11 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         AdjacentDigitParsingTest.class,
+        BoundedCacheTest.class,
+        BulkFormatTest.class,
         DefaultValueTest.class,
         DuplicateElementTest.class,
+        IncrementalPrinterTest.class,
         Iso8601FormatTest.class,
         MiscellaneousTest.class,
         MomentPatternTest.class,
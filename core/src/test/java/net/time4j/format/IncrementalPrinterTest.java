@@ -0,0 +1,98 @@
+package net.time4j.format;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PatternType;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.tz.Timezone;
+
+import java.io.IOException;
+import java.util.Locale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IncrementalPrinterTest {
+
+    @Test
+    public void increasingTimestamps() {
+        ChronoFormatter<PlainTimestamp> f =
+            PlainTimestamp.formatter(
+                "EEE, d. MMM uuuu HH:mm:ss.SSS", PatternType.CLDR, Locale.US);
+        IncrementalPrinter<PlainTimestamp> printer = f.incremental();
+        PlainTimestamp tsp = PlainTimestamp.of(2015, 2, 28, 23, 58, 59);
+        for (int i = 0; i < 500; i++) {
+            assertThat(printer.format(tsp), is(f.format(tsp)));
+            tsp = tsp.plus(313, ClockUnit.MILLIS);
+        }
+        assertThat(printer.format(tsp), is("Sun, 1. Mar 2015 00:01:35.500"));
+    }
+
+    @Test
+    public void decreasingTimestamps() {
+        ChronoFormatter<PlainTimestamp> f =
+            PlainTimestamp.formatter(
+                "uuuu-MM-dd HH:mm:ss", PatternType.CLDR, Locale.ROOT);
+        IncrementalPrinter<PlainTimestamp> printer = f.incremental();
+        assertThat(
+            printer.format(PlainTimestamp.of(2015, 1, 1, 0, 0, 0)),
+            is("2015-01-01 00:00:00"));
+        assertThat(
+            printer.format(PlainTimestamp.of(2014, 12, 31, 23, 59, 59)),
+            is("2014-12-31 23:59:59"));
+        assertThat(
+            printer.format(PlainTimestamp.of(2014, 12, 31, 23, 59, 59)),
+            is("2014-12-31 23:59:59"));
+        printer.reset();
+        assertThat(
+            printer.format(PlainTimestamp.of(2014, 12, 31, 23, 59, 58)),
+            is("2014-12-31 23:59:58"));
+    }
+
+    @Test
+    public void offsetChangeAtEnd() throws IOException {
+        ChronoFormatter<Moment> f =
+            Moment.formatter(
+                "uuuu-MM-dd HH:mm:ssXXX",
+                PatternType.CLDR,
+                Locale.ROOT,
+                Timezone.of("Europe/Berlin").getID());
+        IncrementalPrinter<Moment> printer = f.incremental();
+        Moment m = PlainTimestamp.of(2012, 10, 28, 0, 59, 59).atUTC();
+        StringBuilder buffer = new StringBuilder();
+        printer.print(m, buffer);
+        buffer.append('\n');
+        printer.print(m.plus(1, SI.SECONDS), buffer);
+        buffer.append('\n');
+        printer.print(m.minus(3600, SI.SECONDS), buffer);
+        assertThat(
+            buffer.toString(),
+            is(
+                "2012-10-28 02:59:59+02:00\n"
+                + "2012-10-28 02:00:00+01:00\n"
+                + "2012-10-28 01:59:59+02:00"));
+    }
+
+    @Test
+    public void offsetChangeAtStart() {
+        ChronoFormatter<Moment> f =
+            Moment.formatter(
+                "XXX uuuu-MM-dd HH:mm",
+                PatternType.CLDR,
+                Locale.ROOT,
+                Timezone.of("Europe/Berlin").getID());
+        IncrementalPrinter<Moment> printer = f.incremental();
+        Moment m = PlainTimestamp.of(2012, 10, 28, 0, 30).atUTC();
+        assertThat(printer.format(m), is("+02:00 2012-10-28 02:30"));
+        assertThat(
+            printer.format(m.plus(3600, SI.SECONDS)),
+            is("+01:00 2012-10-28 02:30"));
+    }
+
+}
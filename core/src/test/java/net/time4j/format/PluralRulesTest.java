@@ -129,4 +129,45 @@ public class PluralRulesTest {
         assertThat(rules.getCategory(77), is(PluralCategory.OTHER));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void russianCardinalsBeyondTable() {
+        PluralRules rules =
+            PluralRules.of(new Locale("ru"), NumberType.CARDINALS);
+        assertThat(rules.getCategory(999), is(PluralCategory.MANY));
+        assertThat(rules.getCategory(1001), is(PluralCategory.ONE));
+        assertThat(rules.getCategory(1022), is(PluralCategory.FEW));
+        assertThat(rules.getCategory(1011), is(PluralCategory.MANY));
+    }
+
+    @Test
+    public void registerOverridesCachedRules() {
+        // privat reservierter Sprachcode, den kein anderer Test benutzt
+        Locale locale = new Locale("qaa", "ZZ");
+        PluralRules std = PluralRules.of(locale, NumberType.CARDINALS);
+        assertThat(std.getCategory(1), is(PluralCategory.ONE));
+
+        PluralRules custom =
+            new PluralRules() {
+                @Override
+                public PluralCategory getCategory(long count) {
+                    return PluralCategory.FEW;
+                }
+                @Override
+                public NumberType getNumberType() {
+                    return NumberType.CARDINALS;
+                }
+            };
+        PluralRules.register(locale, custom);
+        try {
+            assertThat(
+                PluralRules.of(locale, NumberType.CARDINALS).getCategory(1),
+                is(PluralCategory.FEW));
+        } finally {
+            PluralRules.register(locale, std); // globale Registrierung
+        }
+        assertThat(
+            PluralRules.of(locale, NumberType.CARDINALS),
+            is(std));
+    }
+
+}
@@ -0,0 +1,188 @@
+package net.time4j.scale;
+
+import net.time4j.PlainDate;
+import net.time4j.base.GregorianDate;
+import net.time4j.engine.EpochDays;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class LeapSecondFileWatcherTest {
+
+    private static final String HEADER =
+        "# Auszug aus leap-seconds.list\n#$\t 3676924800\n";
+    private static final String DATA =
+        "2272060800\t10\t# 1 Jan 1972\n"
+        + "2287785600\t11\t# 1 Jul 1972\n"
+        + "2303683200\t12\t# 1 Jan 1973\n";
+
+    private File file;
+
+    @Before
+    public void createFile() throws IOException {
+        this.file = File.createTempFile("leap-seconds", ".list");
+    }
+
+    @After
+    public void deleteFile() {
+        this.file.delete();
+    }
+
+    @Test
+    public void readFile() throws IOException {
+        write(expiry(2015, 12, 28) + DATA);
+        LeapSecondFileWatcher watcher = new LeapSecondFileWatcher(this.file);
+        Map<GregorianDate, Integer> table = watcher.getLeapSecondTable();
+        assertThat(table.size(), is(2));
+        assertThat(
+            table.get(new LeapSeconds.IsoDate(1972, 6, 30)),
+            is(Integer.valueOf(1)));
+        assertThat(
+            table.get(new LeapSeconds.IsoDate(1972, 12, 31)),
+            is(Integer.valueOf(1)));
+        assertThat(
+            toPlainDate(watcher.getExpirationDate()),
+            is(PlainDate.of(2015, 12, 28)));
+        assertThat(watcher.isExpired(), is(true));
+        assertThat(watcher.toString(), is(this.file.getPath()));
+    }
+
+    @Test
+    public void reloadOnlyIfModified() throws IOException {
+        write(expiry(2015, 12, 28) + DATA);
+        LeapSecondFileWatcher watcher = new LeapSecondFileWatcher(this.file);
+        assertThat(watcher.reload(), is(false));
+        write(expiry(2016, 6, 28) + DATA + "2335219200\t13\t# 1 Jan 1974\n");
+        assertThat(watcher.reload(), is(true));
+        assertThat(watcher.getLeapSecondTable().size(), is(3));
+        assertThat(
+            watcher.getLeapSecondTable().get(
+                new LeapSeconds.IsoDate(1973, 12, 31)),
+            is(Integer.valueOf(1)));
+        assertThat(
+            toPlainDate(watcher.getExpirationDate()),
+            is(PlainDate.of(2016, 6, 28)));
+    }
+
+    @Test
+    public void ignoreFileWithEarlierExpiration() throws IOException {
+        write(expiry(2016, 6, 28) + DATA);
+        LeapSecondFileWatcher watcher = new LeapSecondFileWatcher(this.file);
+        write(expiry(2015, 12, 28) + DATA + "2335219200\t13\t# 1 Jan 1974\n");
+        assertThat(watcher.reload(), is(false));
+        assertThat(watcher.getLeapSecondTable().size(), is(2));
+    }
+
+    @Test
+    public void publishKnownLeapSeconds() throws IOException {
+        write(expiry(2015, 12, 28) + DATA);
+        LeapSecondFileWatcher watcher = new LeapSecondFileWatcher(this.file);
+        assertThat(watcher.publish(), is(0));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void publishConflictingLeapSecond() throws IOException {
+        write(
+            expiry(2015, 12, 28)
+            + "2272060800\t10\n2287785600\t9\n2303683200\t10\n");
+        LeapSecondFileWatcher watcher = new LeapSecondFileWatcher(this.file);
+        if (LeapSeconds.getInstance().isExtensible()) {
+            watcher.publish();
+        } else {
+            throw new IllegalStateException("Not extensible.");
+        }
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void missingExpiration() throws IOException {
+        write(DATA);
+        new LeapSecondFileWatcher(this.file);
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void inconsistentOffset() throws IOException {
+        write(expiry(2015, 12, 28) + "2272060800\t10\n2287785600\t12\n");
+        new LeapSecondFileWatcher(this.file);
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void changedLeapSecond() throws IOException {
+        write(expiry(2015, 12, 28) + DATA);
+        LeapSecondFileWatcher watcher = new LeapSecondFileWatcher(this.file);
+        write(expiry(2016, 6, 28) + DATA.replace("\t12", "\t10"));
+        watcher.reload();
+    }
+
+    @Test
+    public void invalidVersionReportedOnlyOnce() throws IOException {
+        write(expiry(2015, 12, 28) + DATA);
+        LeapSecondFileWatcher watcher = new LeapSecondFileWatcher(this.file);
+        write(expiry(2016, 6, 28) + DATA + "invalid\n");
+        try {
+            watcher.reload();
+            fail("Invalid file accepted.");
+        } catch (IllegalStateException ise) {
+            // erwartet
+        }
+        assertThat(watcher.reload(), is(false));
+        write(expiry(2016, 6, 28) + DATA + "2335219200\t13\t# 1 Jan 1974\n");
+        assertThat(watcher.reload(), is(true));
+        assertThat(watcher.getLeapSecondTable().size(), is(3));
+    }
+
+    @Test
+    public void noFile() {
+        LeapSecondFileWatcher watcher = new LeapSecondFileWatcher(null);
+        assertThat(watcher.getLeapSecondTable().isEmpty(), is(true));
+        assertThat(watcher.getExpirationDate(), nullValue());
+        assertThat(watcher.isExpired(), is(true));
+    }
+
+    private void write(String content) throws IOException {
+        long modified = this.file.lastModified();
+        Writer writer =
+            new OutputStreamWriter(new FileOutputStream(this.file), "US-ASCII");
+        try {
+            writer.write(HEADER);
+            writer.write(content);
+        } finally {
+            writer.close();
+        }
+        // Zeitstempel der Datei garantiert ändern
+        this.file.setLastModified(modified + 2000);
+    }
+
+    private static String expiry(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+        long days =
+            PlainDate.of(year, month, dayOfMonth).get(EpochDays.UNIX)
+            + 25567;
+        return "#@\t" + (days * 86400) + "\n";
+    }
+
+    private static PlainDate toPlainDate(GregorianDate date) {
+        return PlainDate.of(
+            date.getYear(), date.getMonth(), date.getDayOfMonth());
+    }
+
+}
@@ -1,7 +1,9 @@
 package net.time4j.scale;
 
+import net.time4j.CalendarUnit;
 import net.time4j.PlainDate;
 import net.time4j.base.GregorianDate;
+import net.time4j.engine.EpochDays;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -255,6 +257,68 @@ public class LeapSecondTest {
             is(1341100801L + NLS_OFFSET));
     }
 
+    @Test
+    public void versionAfterRegistration() {
+        LeapSeconds instance = LeapSeconds.getInstance();
+        long version = instance.getVersion();
+        if (instance.isExtensible()) {
+            assertThat(version >= 1, is(true)); // see @Before-Initialisierung
+            try {
+                instance.registerPositiveLS(2012, 6, 30);
+            } catch (IllegalArgumentException iae) {
+                // erwartet, weil nicht nach der letzten Schaltsekunde
+            }
+        } else {
+            assertThat(version, is(0L));
+        }
+        assertThat(instance.getVersion(), is(version));
+    }
+
+    @Test
+    public void enhanceAndStripBatch() {
+        LeapSeconds instance = LeapSeconds.getInstance();
+        long[] unix = new long[1000];
+        long[] utc = new long[unix.length];
+        for (int i = 0; i < unix.length; i++) {
+            // unsortiert und über alle Schaltsekunden verteilt
+            unix[i] = ((i * 7919L) % unix.length) * 5000000L - 1000;
+            utc[i] = instance.enhance(unix[i]);
+        }
+        long[] batch = unix.clone();
+        instance.enhance(batch);
+        assertThat(batch, is(utc));
+        for (int i = 0; i < unix.length; i++) {
+            unix[i] = instance.strip(utc[i]);
+        }
+        instance.strip(batch);
+        assertThat(batch, is(unix));
+    }
+
+    @Test
+    public void lookupAroundAllEvents() {
+        LeapSeconds instance = LeapSeconds.getInstance();
+        for (LeapSecondEvent event : instance) {
+            GregorianDate date = event.getDate();
+            long unix =
+                toPlainDate(date).plus(1, CalendarUnit.DAYS).get(
+                    EpochDays.UNIX) * 86400L;
+            long utc = instance.enhance(unix - 1);
+            int shift = event.getShift();
+            assertThat(instance.getShift(date), is(shift));
+            assertThat(instance.getShift(utc + shift), is(shift > 0 ? 1 : 0));
+            assertThat(instance.isPositiveLS(utc + 1), is(shift > 0));
+            assertThat(instance.getShift(utc), is(0));
+            assertThat(instance.enhance(unix), is(utc + 1 + shift));
+            assertThat(
+                instance.strip(utc),
+                is(shift > 0 ? unix - 1 : unix));
+            assertThat(instance.strip(utc + 1 + shift), is(unix));
+            assertThat(
+                instance.getNextEvent(utc - 86400).getDate(),
+                is(date));
+        }
+    }
+
     private static PlainDate toPlainDate(GregorianDate date) {
         return PlainDate.of(
             date.getYear(), date.getMonth(), date.getDayOfMonth());
@@ -9,6 +9,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses(
     {
+        LeapSecondFileWatcherTest.class,
         LeapSecondTest.class,
         MomentArithmeticTest.class,
         MomentCreationTest.class,
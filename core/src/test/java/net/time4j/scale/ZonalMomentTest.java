@@ -5,6 +5,7 @@ import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.SI;
 import net.time4j.ZonalMoment;
 import net.time4j.format.ChronoFormatter;
 import net.time4j.tz.Timezone;
@@ -127,4 +128,18 @@ public class ZonalMomentTest {
             is(60));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void decomposedViewInUTC() {
+        Moment ls =
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(
+                1, SI.SECONDS);
+        ZonalMoment zm = ls.inZonalView(ZonalOffset.UTC);
+        assertThat(zm.toTimestamp() == zm.toTimestamp(), is(true));
+        assertThat(zm.get(PlainDate.YEAR), is(2012));
+        assertThat(zm.get(PlainTime.DIGITAL_HOUR_OF_DAY), is(23));
+        assertThat(zm.get(PlainTime.SECOND_OF_MINUTE), is(60));
+        assertThat(zm.isLeapSecond(), is(true));
+        assertThat(zm.getOffset(), is(ZonalOffset.UTC));
+    }
+
+}
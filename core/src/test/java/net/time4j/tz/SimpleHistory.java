@@ -0,0 +1,190 @@
+package net.time4j.tz;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.UnixTime;
+import net.time4j.base.WallTime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Einfache Zeitzonenhistorie auf Basis einer festen Liste von
+ * &Uuml;berg&auml;ngen (nur f&uuml;r Tests).
+ */
+public class SimpleHistory
+    implements TransitionHistory {
+
+    private final List<ZonalTransition> transitions;
+
+    private SimpleHistory(ZonalTransition... transitions) {
+        super();
+
+        this.transitions = Arrays.asList(transitions);
+
+    }
+
+    public static Timezone zone(
+        final String id,
+        ZonalTransition... transitions
+    ) {
+
+        TZID tzid =
+            new TZID() {
+                @Override
+                public String canonical() {
+                    return id;
+                }
+            };
+
+        return new HistorizedTimezone(tzid, new SimpleHistory(transitions));
+
+    }
+
+    @Override
+    public ZonalOffset getInitialOffset() {
+
+        return ZonalOffset.ofTotalSeconds(
+            this.transitions.get(0).getPreviousOffset());
+
+    }
+
+    @Override
+    public ZonalTransition getStartTransition(UnixTime ut) {
+
+        ZonalTransition result = null;
+
+        for (ZonalTransition t : this.transitions) {
+            if (t.getPosixTime() <= ut.getPosixTime()) {
+                result = t;
+            }
+        }
+
+        return result;
+
+    }
+
+    @Override
+    public ZonalTransition getConflictTransition(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        long local = toLocalSeconds(localDate, localTime);
+
+        for (ZonalTransition t : this.transitions) {
+            long start =
+                t.getPosixTime()
+                + Math.min(t.getPreviousOffset(), t.getTotalOffset());
+            long end =
+                t.getPosixTime()
+                + Math.max(t.getPreviousOffset(), t.getTotalOffset());
+            if ((local >= start) && (local < end)) {
+                return t;
+            }
+        }
+
+        return null;
+
+    }
+
+    @Override
+    public List<ZonalOffset> getValidOffsets(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        ZonalTransition conflict =
+            this.getConflictTransition(localDate, localTime);
+
+        if (conflict != null) {
+            if (conflict.isGap()) {
+                return Collections.emptyList();
+            }
+            return Arrays.asList(
+                ZonalOffset.ofTotalSeconds(conflict.getTotalOffset()),
+                ZonalOffset.ofTotalSeconds(conflict.getPreviousOffset()));
+        }
+
+        long local = toLocalSeconds(localDate, localTime);
+        int offset = this.transitions.get(0).getPreviousOffset();
+
+        for (ZonalTransition t : this.transitions) {
+            if (local - t.getTotalOffset() >= t.getPosixTime()) {
+                offset = t.getTotalOffset();
+            }
+        }
+
+        return Collections.singletonList(ZonalOffset.ofTotalSeconds(offset));
+
+    }
+
+    @Override
+    public List<ZonalTransition> getStdTransitions() {
+
+        return Collections.emptyList();
+
+    }
+
+    @Override
+    public List<ZonalTransition> getTransitions(
+        UnixTime startInclusive,
+        UnixTime endExclusive
+    ) {
+
+        List<ZonalTransition> result = new ArrayList<ZonalTransition>();
+
+        for (ZonalTransition t : this.transitions) {
+            if (
+                (t.getPosixTime() >= startInclusive.getPosixTime())
+                && (t.getPosixTime() < endExclusive.getPosixTime())
+            ) {
+                result.add(t);
+            }
+        }
+
+        return result;
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return this.transitions.isEmpty();
+
+    }
+
+    @Deprecated
+    @Override
+    public List<ZonalTransition> getStdTransitionsBefore(UnixTime ut) {
+
+        return Collections.emptyList();
+
+    }
+
+    @Deprecated
+    @Override
+    public List<ZonalTransition> getStdTransitionsAfter(UnixTime ut) {
+
+        return Collections.emptyList();
+
+    }
+
+    private static long toLocalSeconds(
+        GregorianDate date,
+        WallTime time
+    ) {
+
+        long days = GregorianMath.toMJD(date) - 40587;
+        return (
+            days * 86400
+            + time.getHour() * 3600
+            + time.getMinute() * 60
+            + time.getSecond());
+
+    }
+
+}
@@ -649,6 +649,73 @@ public class PrettyTimeTest {
             is("4 weeks and 10 days"));
     }
 
+    @Test
+    public void printRelativeIntoBuffer() throws IOException {
+        TimeSource<?> clock = new TimeSource<Moment>() {
+            @Override
+            public Moment currentTime() {
+                return PlainTimestamp.of(2014, 9, 1, 14, 30).atUTC();
+            }
+        };
+
+        StringBuilder sb = new StringBuilder("> ");
+        PrettyTime.of(Locale.GERMANY)
+            .withReferenceClock(clock)
+            .printRelative(
+                PlainTimestamp.of(2014, 9, 1, 11, 30).atUTC(),
+                ZonalOffset.UTC,
+                sb);
+        assertThat(sb.toString(), is("> vor 3 Stunden"));
+    }
+
+    @Test
+    public void printDurationIntoBuffer() throws IOException {
+        Duration<?> duration =
+            Duration.ofCalendarUnits(15, 3, 2).plus(1, WEEKS);
+        StringBuilder sb = new StringBuilder();
+        PrettyTime.of(Locale.GERMANY).print(duration, TextWidth.WIDE, sb);
+        assertThat(
+            sb.toString(),
+            is("15 Jahre, 3 Monate, 1 Woche und 2 Tage"));
+    }
+
+    @Test
+    public void printLargeAmountArabicU0660() {
+        assertThat(
+            PrettyTime.of(new Locale("ar", "DZ"))
+                .withZeroDigit('\u0660')
+                .print(1234, MINUTES, TextWidth.SHORT),
+            is(PrettyTime.of(new Locale("ar", "DZ"))
+                .withZeroDigit('0')
+                .print(1234, MINUTES, TextWidth.SHORT)
+                .replace('1', '\u0661')
+                .replace('2', '\u0662')
+                .replace('3', '\u0663')
+                .replace('4', '\u0664')));
+    }
+
+    @Test
+    public void printSmallAmountsWithDifferentZeroDigits() {
+        PrettyTime std = PrettyTime.of(new Locale("ar", "DZ"));
+        PrettyTime ascii = std.withZeroDigit('0');
+        String s1 = std.withZeroDigit('\u0660').print(3, MONTHS, TextWidth.SHORT);
+        String s2 = ascii.print(3, MONTHS, TextWidth.SHORT);
+        assertThat(s1, is('\u0663' + " أشهر"));
+        assertThat(s2, is("3 أشهر"));
+        assertThat(ascii.print(3, MONTHS, TextWidth.SHORT), is(s2));
+    }
+
+    @Test
+    public void printNegativeAmountEnglish() {
+        assertThat(
+            PrettyTime.of(Locale.ENGLISH).print(-61, MINUTES, TextWidth.WIDE),
+            is("-61 minutes"));
+        assertThat(
+            PrettyTime.of(Locale.ENGLISH).print(
+                Long.MIN_VALUE, MINUTES, TextWidth.WIDE),
+            is("-9223372036854775808 minutes"));
+    }
+
     private static class FortnightPlusOneDay
         extends BasicUnit
         implements IsoUnit {
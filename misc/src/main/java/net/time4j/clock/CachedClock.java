@@ -0,0 +1,357 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CachedClock.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.TimeSource;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Represents a coarse clock which caches the current time of another
+ * time source and is updated by a background ticker in a configurable
+ * resolution. </p>
+ *
+ * <p>Suitable for hot paths which query the current time very often but
+ * only need for example millisecond or second precision. Every tick
+ * publishes the current moment and the local timestamps of all
+ * timezones given at construction as immutable shared instances. Reading
+ * them only needs one volatile access and does not create any objects. </p>
+ *
+ * <pre>
+ *  CachedClock clock =
+ *      CachedClock.start(
+ *          SystemClock.INSTANCE, 1, TimeUnit.MILLISECONDS,
+ *          Timezone.ofSystem().getID());
+ *  Moment now = clock.currentTime();
+ *  PlainTimestamp local =
+ *      clock.currentTimestamp(Timezone.ofSystem().getID());
+ *  ...
+ *  clock.stop();
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <threadsafe>
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert eine grobe Uhr, die die aktuelle Zeit einer anderen
+ * Zeitquelle zwischenspeichert und von einem Hintergrund-Taktgeber in einer
+ * konfigurierbaren Aufl&ouml;sung aktualisiert wird. </p>
+ *
+ * <p>Geeignet f&uuml;r zeitkritische Programmteile, die sehr oft die
+ * aktuelle Zeit abfragen, aber zum Beispiel nur Millisekunden- oder
+ * Sekundengenauigkeit ben&ouml;tigen. Jeder Takt ver&ouml;ffentlicht den
+ * aktuellen Moment und die lokalen Zeitstempel aller bei der Konstruktion
+ * angegebenen Zeitzonen als unver&auml;nderliche gemeinsame Instanzen.
+ * Das Lesen erfordert nur einen volatile-Zugriff und erzeugt keine
+ * Objekte. </p>
+ *
+ * <pre>
+ *  CachedClock clock =
+ *      CachedClock.start(
+ *          SystemClock.INSTANCE, 1, TimeUnit.MILLISECONDS,
+ *          Timezone.ofSystem().getID());
+ *  Moment now = clock.currentTime();
+ *  PlainTimestamp local =
+ *      clock.currentTimestamp(Timezone.ofSystem().getID());
+ *  ...
+ *  clock.stop();
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   2.2
+ * @concurrency <threadsafe>
+ */
+public final class CachedClock
+    extends AbstractClock {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final TimeSource<?> source;
+    private final long resolution; // in Millisekunden
+    private final Timezone[] zones;
+    private final Timer timer;
+
+    private volatile Tick tick;
+    private boolean stopped = false; // synchronisiert über this
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CachedClock(
+        TimeSource<?> source,
+        long resolution,
+        Timezone[] zones
+    ) {
+        super();
+
+        this.source = source;
+        this.resolution = resolution;
+        this.zones = zones;
+        this.tick = this.createTick();
+        this.timer = new Timer("Time4J-CachedClock", true);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new cached clock and starts its background ticker. </p>
+     *
+     * @param   source      time source to be cached
+     * @param   resolution  amount of update period
+     * @param   unit        unit of update period
+     * @param   tzids       timezones whose local timestamps shall be cached
+     * @return  new running clock
+     * @throws  IllegalArgumentException if the update period is shorter
+     *          than one millisecond or any timezone cannot be loaded
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine neue zwischenspeichernde Uhr und startet ihren
+     * Hintergrund-Taktgeber. </p>
+     *
+     * @param   source      time source to be cached
+     * @param   resolution  amount of update period
+     * @param   unit        unit of update period
+     * @param   tzids       timezones whose local timestamps shall be cached
+     * @return  new running clock
+     * @throws  IllegalArgumentException if the update period is shorter
+     *          than one millisecond or any timezone cannot be loaded
+     * @since   2.2
+     */
+    public static CachedClock start(
+        TimeSource<?> source,
+        int resolution,
+        TimeUnit unit,
+        TZID... tzids
+    ) {
+
+        if (source == null) {
+            throw new NullPointerException("Missing time source.");
+        }
+
+        long millis = unit.toMillis(resolution);
+
+        if (millis < 1) {
+            throw new IllegalArgumentException(
+                "Resolution must be at least one millisecond: "
+                + resolution + " " + unit);
+        }
+
+        Timezone[] zones = new Timezone[tzids.length];
+
+        for (int i = 0; i < tzids.length; i++) {
+            zones[i] = Timezone.of(tzids[i]);
+        }
+
+        final CachedClock clock = new CachedClock(source, millis, zones);
+
+        clock.timer.scheduleAtFixedRate(
+            new TimerTask() {
+                @Override
+                public void run() {
+                    clock.update();
+                }
+            },
+            millis,
+            millis
+        );
+
+        return clock;
+
+    }
+
+    /**
+     * <p>Stops the background ticker so that this clock will always
+     * display the last cached time. </p>
+     *
+     * <p>After return of this method the underlying time source will
+     * not be queried any longer, even if a tick was just running. </p>
+     *
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Stoppt den Hintergrund-Taktgeber, so da&szlig; diese Uhr danach
+     * immer die zuletzt zwischengespeicherte Zeit anzeigt. </p>
+     *
+     * <p>Nach der R&uuml;ckkehr dieser Methode wird die zugrundeliegende
+     * Zeitquelle nicht mehr abgefragt, auch wenn gerade ein Takt lief. </p>
+     *
+     * @since   2.2
+     */
+    public void stop() {
+
+        synchronized (this) {
+            this.stopped = true;
+        }
+
+        this.timer.cancel();
+
+    }
+
+    /**
+     * <p>Yields the moment cached at the last tick. </p>
+     *
+     * @return  shared moment of last tick
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Liefert den beim letzten Takt zwischengespeicherten Moment. </p>
+     *
+     * @return  shared moment of last tick
+     * @since   2.2
+     */
+    @Override
+    public Moment currentTime() {
+
+        return this.tick.moment;
+
+    }
+
+    /**
+     * <p>Yields the local timestamp of the last tick in given
+     * timezone. </p>
+     *
+     * <p>For timezones not given at construction the timestamp will be
+     * calculated on the fly. </p>
+     *
+     * @param   tzid        timezone id
+     * @return  local timestamp of last tick
+     * @throws  IllegalArgumentException if given timezone cannot be loaded
+     * @since   2.2
+     */
+    /*[deutsch]
+     * <p>Liefert den lokalen Zeitstempel des letzten Takts in der
+     * angegebenen Zeitzone. </p>
+     *
+     * <p>F&uuml;r nicht bei der Konstruktion angegebene Zeitzonen wird
+     * der Zeitstempel jeweils neu berechnet. </p>
+     *
+     * @param   tzid        timezone id
+     * @return  local timestamp of last tick
+     * @throws  IllegalArgumentException if given timezone cannot be loaded
+     * @since   2.2
+     */
+    public PlainTimestamp currentTimestamp(TZID tzid) {
+
+        Tick current = this.tick;
+        String id = tzid.canonical();
+
+        for (int i = 0; i < this.zones.length; i++) {
+            if (this.zones[i].getID().canonical().equals(id)) {
+                return current.timestamps[i];
+            }
+        }
+
+        return toTimestamp(current.moment, Timezone.of(tzid));
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  description of clock state
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  description of clock state
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("CachedClock[");
+        sb.append("source=");
+        sb.append(this.source);
+        sb.append(",resolution=");
+        sb.append(this.resolution);
+        sb.append("ms,moment=");
+        sb.append(this.tick.moment);
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    // vom Taktgeber aufgerufen
+    private synchronized void update() {
+
+        if (!this.stopped) {
+            this.tick = this.createTick();
+        }
+
+    }
+
+    private Tick createTick() {
+
+        Moment moment = Moment.from(this.source.currentTime());
+        PlainTimestamp[] timestamps = new PlainTimestamp[this.zones.length];
+
+        for (int i = 0; i < this.zones.length; i++) {
+            timestamps[i] = toTimestamp(moment, this.zones[i]);
+        }
+
+        return new Tick(moment, timestamps);
+
+    }
+
+    private static PlainTimestamp toTimestamp(
+        Moment moment,
+        Timezone tz
+    ) {
+
+        return moment.toZonalTimestamp(tz.getOffset(moment));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Tick {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Moment moment;
+        private final PlainTimestamp[] timestamps;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Tick(
+            Moment moment,
+            PlainTimestamp[] timestamps
+        ) {
+            super();
+
+            this.moment = moment;
+            this.timestamps = timestamps;
+
+        }
+
+    }
+
+}
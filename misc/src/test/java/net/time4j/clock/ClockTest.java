@@ -3,8 +3,13 @@ package net.time4j.clock;
 import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
 import net.time4j.SystemClock;
 import net.time4j.base.TimeSource;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -17,6 +22,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 
@@ -92,4 +98,84 @@ public class ClockTest {
         assertThat(clock.currentTime().getPosixTime() % 86400, is(0L));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void cachedTimestampOfTick() {
+        TZID berlin = Timezone.of("Europe/Berlin").getID();
+        Moment m = Moment.of(1427760000L, TimeScale.POSIX);
+        CachedClock clock =
+            CachedClock.start(FixedClock.of(m), 1, HOURS, berlin);
+        try {
+            Moment current = clock.currentTime();
+            PlainTimestamp local = clock.currentTimestamp(berlin);
+            assertThat(current, is(m));
+            assertThat(local, is(current.toZonalTimestamp(berlin)));
+            assertThat(local, is(PlainTimestamp.of(2015, 3, 31, 2, 0)));
+            assertThat(clock.currentTimestamp(berlin), sameInstance(local));
+            assertThat(
+                clock.currentTimestamp(ZonalOffset.UTC),
+                is(m.toZonalTimestamp(ZonalOffset.UTC)));
+        } finally {
+            clock.stop();
+        }
+    }
+
+    @Test(timeout=10000)
+    public void cachedTicksUntilStopped() throws InterruptedException {
+        Moment start = Moment.of(1427760000L, TimeScale.POSIX);
+        CountingSource source = new CountingSource(start);
+        CachedClock clock = CachedClock.start(source, 1, MILLISECONDS);
+        source.awaitCalls(3); // Konstruktion und mindestens zwei Takte
+        clock.stop();
+        int calls = source.getCalls();
+        Moment last = clock.currentTime();
+        assertThat(last, is(start.plus(calls - 1, SECONDS)));
+
+        // weitere Takte eines Referenzgebers abwarten
+        CountingSource reference = new CountingSource(start);
+        CachedClock other = CachedClock.start(reference, 1, MILLISECONDS);
+        try {
+            reference.awaitCalls(5);
+        } finally {
+            other.stop();
+        }
+        assertThat(source.getCalls(), is(calls));
+        assertThat(clock.currentTime(), sameInstance(last));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void cachedWithTooFineResolution() {
+        CachedClock.start(SystemClock.INSTANCE, 999, MICROSECONDS);
+    }
+
+    private static class CountingSource
+        implements TimeSource<Moment> {
+
+        private final Moment start;
+        private int calls = 0;
+
+        CountingSource(Moment start) {
+            super();
+            this.start = start;
+        }
+
+        @Override
+        public synchronized Moment currentTime() {
+            Moment m = this.start.plus(this.calls, SECONDS);
+            this.calls++;
+            this.notifyAll();
+            return m;
+        }
+
+        synchronized int getCalls() {
+            return this.calls;
+        }
+
+        synchronized void awaitCalls(int count) throws InterruptedException {
+            while (this.calls < count) {
+                this.wait();
+            }
+        }
+
+    }
+
+}